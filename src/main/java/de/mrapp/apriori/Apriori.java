@@ -14,9 +14,11 @@
 package de.mrapp.apriori;
 
 import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import de.mrapp.apriori.modules.MiningResult;
 import de.mrapp.apriori.tasks.AssociationRuleGeneratorTask;
 import de.mrapp.apriori.tasks.FrequentItemSetMinerTask;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +26,7 @@ import java.io.Serializable;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
 
 import static de.mrapp.util.Condition.*;
 
@@ -71,6 +74,22 @@ public class Apriori<ItemType extends Item> {
          */
         private int frequentItemSetCount;
 
+        /**
+         * True, if only closed frequent item sets should be found, false otherwise.
+         */
+        private boolean mineClosedItemSets;
+
+        /**
+         * True, if only maximal frequent item sets should be found, false otherwise.
+         */
+        private boolean mineMaximalItemSets;
+
+        /**
+         * True, if the frequent item sets should be found using the classic, level-wise Apriori
+         * algorithm, false otherwise.
+         */
+        private boolean useClassicApriori;
+
         /**
          * True, if association rules should be generated, false otherwise.
          */
@@ -98,6 +117,17 @@ public class Apriori<ItemType extends Item> {
          */
         private int ruleCount;
 
+        /**
+         * The operator, which should be used to rate association rules, when trying to generate a
+         * specific number of association rules, or null, if the confidence should be used.
+         */
+        private Operator ruleOperator;
+
+        /**
+         * The number of threads, which should be used by the Apriori algorithm.
+         */
+        private int parallelism;
+
         /**
          * Creates a new configuration of the Apriori algorithm with default values.
          */
@@ -106,11 +136,16 @@ public class Apriori<ItemType extends Item> {
             setMaxSupport(1);
             setSupportDelta(0.1);
             setFrequentItemSetCount(0);
+            setMineClosedItemSets(false);
+            setMineMaximalItemSets(false);
+            setUseClassicApriori(false);
             setGenerateRules(false);
             setMinConfidence(0);
             setMaxConfidence(1);
             setConfidenceDelta(0.1);
             setRuleCount(0);
+            setRuleOperator(null);
+            setParallelism(1);
         }
 
         /**
@@ -209,6 +244,70 @@ public class Apriori<ItemType extends Item> {
             this.frequentItemSetCount = frequentItemSetCount;
         }
 
+        /**
+         * Returns, whether only closed frequent item sets should be found, or not. A frequent item
+         * set is closed, if none of its supersets has the same support.
+         *
+         * @return True, if only closed frequent item sets should be found, false otherwise
+         */
+        public boolean isMiningClosedItemSets() {
+            return mineClosedItemSets;
+        }
+
+        /**
+         * Sets, whether only closed frequent item sets should be found, or not.
+         *
+         * @param mineClosedItemSets True, if only closed frequent item sets should be found, false
+         *                           otherwise
+         */
+        protected void setMineClosedItemSets(final boolean mineClosedItemSets) {
+            this.mineClosedItemSets = mineClosedItemSets;
+        }
+
+        /**
+         * Returns, whether only maximal frequent item sets should be found, or not. A frequent item
+         * set is maximal, if none of its supersets is frequent. If both, closed and maximal item
+         * sets should be found, only the maximal ones are found.
+         *
+         * @return True, if only maximal frequent item sets should be found, false otherwise
+         */
+        public boolean isMiningMaximalItemSets() {
+            return mineMaximalItemSets;
+        }
+
+        /**
+         * Sets, whether only maximal frequent item sets should be found, or not.
+         *
+         * @param mineMaximalItemSets True, if only maximal frequent item sets should be found,
+         *                            false otherwise
+         */
+        protected void setMineMaximalItemSets(final boolean mineMaximalItemSets) {
+            this.mineMaximalItemSets = mineMaximalItemSets;
+        }
+
+        /**
+         * Returns, whether the frequent item sets should be found using the classic, level-wise
+         * Apriori algorithm instead of the FP-Growth algorithm, or not. This does not apply, if
+         * only closed or maximal frequent item sets should be found.
+         *
+         * @return True, if the frequent item sets should be found using the classic Apriori
+         * algorithm, false otherwise
+         */
+        public boolean isUsingClassicApriori() {
+            return useClassicApriori;
+        }
+
+        /**
+         * Sets, whether the frequent item sets should be found using the classic, level-wise
+         * Apriori algorithm instead of the FP-Growth algorithm, or not.
+         *
+         * @param useClassicApriori True, if the frequent item sets should be found using the
+         *                          classic Apriori algorithm, false otherwise
+         */
+        protected void setUseClassicApriori(final boolean useClassicApriori) {
+            this.useClassicApriori = useClassicApriori;
+        }
+
         /**
          * Returns, whether association rules should be generated, or not.
          *
@@ -321,6 +420,52 @@ public class Apriori<ItemType extends Item> {
             this.ruleCount = ruleCount;
         }
 
+        /**
+         * Returns the operator, which is used to rate association rules, when trying to generate a
+         * specific number of association rules.
+         *
+         * @return The operator, which is used to rate association rules, when trying to generate a
+         * specific number of association rules, as an instance of the type {@link Operator} or
+         * null, if the confidence is used
+         */
+        @Nullable
+        public Operator getRuleOperator() {
+            return ruleOperator;
+        }
+
+        /**
+         * Sets the operator, which should be used to rate association rules, when trying to
+         * generate a specific number of association rules.
+         *
+         * @param ruleOperator The operator, which should be set, as an instance of the type {@link
+         *                     Operator} or null, if the confidence should be used
+         */
+        protected void setRuleOperator(@Nullable final Operator ruleOperator) {
+            this.ruleOperator = ruleOperator;
+        }
+
+        /**
+         * Returns the number of threads, which are used by the Apriori algorithm.
+         *
+         * @return The number of threads, which are used by the Apriori algorithm, as an {@link
+         * Integer} value or 0, if all available processors are used
+         */
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Sets the number of threads, which should be used by the Apriori algorithm.
+         *
+         * @param parallelism The number of threads, which should be set, as an {@link Integer}
+         *                    value or 0, if all available processors should be used. The number
+         *                    must be at least 0
+         */
+        protected void setParallelism(final int parallelism) {
+            ensureAtLeast(parallelism, 0, "The parallelism must be at least 0");
+            this.parallelism = parallelism;
+        }
+
         @SuppressWarnings("MethodDoesntCallSuperMethod")
         @Override
         public final Configuration clone() {
@@ -329,11 +474,16 @@ public class Apriori<ItemType extends Item> {
             clone.maxSupport = maxSupport;
             clone.supportDelta = supportDelta;
             clone.frequentItemSetCount = frequentItemSetCount;
+            clone.mineClosedItemSets = mineClosedItemSets;
+            clone.mineMaximalItemSets = mineMaximalItemSets;
+            clone.useClassicApriori = useClassicApriori;
             clone.generateRules = generateRules;
             clone.minConfidence = minConfidence;
             clone.maxConfidence = maxConfidence;
             clone.confidenceDelta = confidenceDelta;
             clone.ruleCount = ruleCount;
+            clone.ruleOperator = ruleOperator;
+            clone.parallelism = parallelism;
             return clone;
         }
 
@@ -341,9 +491,13 @@ public class Apriori<ItemType extends Item> {
         public final String toString() {
             return "[minSupport=" + minSupport + ", maxSupport=" + maxSupport +
                     ", supportDelta=" + supportDelta + ", frequentItemSetCount=" +
-                    frequentItemSetCount + ", generateRules=" + generateRules + ", minConfidence=" +
-                    minConfidence + ", maxConfidence=" + maxConfidence + ", confidenceDelta=" +
-                    confidenceDelta + ", ruleCount=" + ruleCount + "]";
+                    frequentItemSetCount + ", mineClosedItemSets=" + mineClosedItemSets +
+                    ", mineMaximalItemSets=" + mineMaximalItemSets +
+                    ", useClassicApriori=" + useClassicApriori +
+                    ", generateRules=" + generateRules + ", minConfidence=" + minConfidence +
+                    ", maxConfidence=" + maxConfidence + ", confidenceDelta=" + confidenceDelta +
+                    ", ruleCount=" + ruleCount + ", ruleOperator=" + ruleOperator +
+                    ", parallelism=" + parallelism + "]";
         }
 
         @Override
@@ -357,6 +511,9 @@ public class Apriori<ItemType extends Item> {
             long tempSupportDelta = Double.doubleToLongBits(supportDelta);
             result = prime * result + (int) (tempSupportDelta ^ (tempSupportDelta >>> 32));
             result = prime * result + frequentItemSetCount;
+            result = prime * result + (mineClosedItemSets ? 1231 : 1237);
+            result = prime * result + (mineMaximalItemSets ? 1231 : 1237);
+            result = prime * result + (useClassicApriori ? 1231 : 1237);
             result = prime * result + (generateRules ? 1231 : 1237);
             long tempMinConfidence = Double.doubleToLongBits(minConfidence);
             result = prime * result + (int) (tempMinConfidence ^ (tempMinConfidence >>> 32));
@@ -365,6 +522,8 @@ public class Apriori<ItemType extends Item> {
             long tempConfidenceDelta = Double.doubleToLongBits(confidenceDelta);
             result = prime * result + (int) (tempConfidenceDelta ^ (tempConfidenceDelta >>> 32));
             result = prime * result + ruleCount;
+            result = prime * result + Objects.hashCode(ruleOperator);
+            result = prime * result + parallelism;
             return result;
         }
 
@@ -380,9 +539,14 @@ public class Apriori<ItemType extends Item> {
             return minSupport == other.minSupport && maxSupport == other.maxSupport &&
                     supportDelta == other.supportDelta &&
                     frequentItemSetCount == other.frequentItemSetCount &&
+                    mineClosedItemSets == other.mineClosedItemSets &&
+                    mineMaximalItemSets == other.mineMaximalItemSets &&
+                    useClassicApriori == other.useClassicApriori &&
                     generateRules == other.generateRules && minConfidence == other.minConfidence &&
                     maxConfidence == other.maxConfidence &&
-                    confidenceDelta == other.confidenceDelta && ruleCount == other.ruleCount;
+                    confidenceDelta == other.confidenceDelta && ruleCount == other.ruleCount &&
+                    Objects.equals(ruleOperator, other.ruleOperator) &&
+                    parallelism == other.parallelism;
         }
 
     }
@@ -546,7 +710,72 @@ public class Apriori<ItemType extends Item> {
         }
 
         /**
-         * Enables to generate association rules.
+         * Sets the number of threads, which should be used by the Apriori algorithm.
+         *
+         * @param parallelism The number of threads, which should be set, as an {@link Integer}
+         *                    value or 0, if all available processors should be used. The number
+         *                    must be at least 0
+         * @return The builder, this method has been called upon, as an instance of the class {@link
+         * Builder}. The builder may not be null
+         */
+        @NotNull
+        public final Builder<ItemType> parallelism(final int parallelism) {
+            configuration.setParallelism(parallelism);
+            return this;
+        }
+
+        /**
+         * Sets, whether the frequent item sets should be found using the classic, level-wise
+         * Apriori algorithm instead of the FP-Growth algorithm, or not. The candidates of each
+         * level are counted using the number of threads, which is specified by the method {@link
+         * #parallelism(int)}.
+         *
+         * @param useClassicApriori True, if the frequent item sets should be found using the
+         *                          classic Apriori algorithm, false otherwise
+         * @return The builder, this method has been called upon, as an instance of the class {@link
+         * Builder}. The builder may not be null
+         */
+        @NotNull
+        public final Builder<ItemType> useClassicApriori(final boolean useClassicApriori) {
+            configuration.setUseClassicApriori(useClassicApriori);
+            return this;
+        }
+
+        /**
+         * Sets, whether only closed frequent item sets should be found, or not. A frequent item
+         * set is closed, if none of its supersets has the same support. The supports of all
+         * frequent item sets can be derived from the closed ones.
+         *
+         * @param mineClosedItemSets True, if only closed frequent item sets should be found, false
+         *                           otherwise
+         * @return The builder, this method has been called upon, as an instance of the class {@link
+         * Builder}. The builder may not be null
+         */
+        @NotNull
+        public final Builder<ItemType> mineClosedItemSets(final boolean mineClosedItemSets) {
+            configuration.setMineClosedItemSets(mineClosedItemSets);
+            return this;
+        }
+
+        /**
+         * Sets, whether only maximal frequent item sets should be found, or not. A frequent item
+         * set is maximal, if none of its supersets is frequent. As the supports of the subsets of
+         * maximal item sets are not known, association rules cannot be generated from them.
+         *
+         * @param mineMaximalItemSets True, if only maximal frequent item sets should be found,
+         *                            false otherwise
+         * @return The builder, this method has been called upon, as an instance of the class {@link
+         * Builder}. The builder may not be null
+         */
+        @NotNull
+        public final Builder<ItemType> mineMaximalItemSets(final boolean mineMaximalItemSets) {
+            configuration.setMineMaximalItemSets(mineMaximalItemSets);
+            return this;
+        }
+
+        /**
+         * Enables to generate association rules. Mining only maximal frequent item sets is
+         * disabled, as the supports of their subsets are required to generate rules.
          *
          * @param minConfidence The minimum confidence, which must at least be reached by
          *                      association rules, as a {@link Double} value. The confidence must at
@@ -560,7 +789,8 @@ public class Apriori<ItemType extends Item> {
         }
 
         /**
-         * Enables to generate association rules.
+         * Enables to generate association rules. Mining only maximal frequent item sets is
+         * disabled, as the supports of their subsets are required to generate rules.
          *
          * @param ruleCount The number of association rules, the Apriori algorithm should try to
          *                  generate, as an {@link Integer} value or 0, if the algorithm should not
@@ -598,6 +828,7 @@ public class Apriori<ItemType extends Item> {
         private RuleGeneratorBuilder(@NotNull final AbstractBuilder<ItemType> builder,
                                      final double minConfidence) {
             super(builder);
+            configuration.setMineMaximalItemSets(false);
             configuration.setGenerateRules(true);
             minConfidence(minConfidence);
         }
@@ -616,6 +847,7 @@ public class Apriori<ItemType extends Item> {
         private RuleGeneratorBuilder(@NotNull final AbstractBuilder<ItemType> builder,
                                      final int ruleCount) {
             super(builder);
+            configuration.setMineMaximalItemSets(false);
             configuration.setGenerateRules(true);
             ruleCount(ruleCount);
         }
@@ -740,6 +972,74 @@ public class Apriori<ItemType extends Item> {
             return this;
         }
 
+        /**
+         * Sets the operator, which should be used to rate association rules, when trying to
+         * generate a specific number of association rules. The best rules according to the
+         * operator are then generated in a single run instead of decreasing the minimum confidence
+         * step by step.
+         *
+         * @param ruleOperator The operator, which should be set, as an instance of the type {@link
+         *                     Operator} or null, if the confidence should be used
+         * @return The builder, this method has been called upon, as an instance of the class {@link
+         * RuleGeneratorBuilder}. The builder may not be null
+         */
+        @NotNull
+        public final RuleGeneratorBuilder<ItemType> ruleOperator(
+                @Nullable final Operator ruleOperator) {
+            configuration.setRuleOperator(ruleOperator);
+            return this;
+        }
+
+        /**
+         * Sets the number of threads, which should be used by the Apriori algorithm.
+         *
+         * @param parallelism The number of threads, which should be set, as an {@link Integer}
+         *                    value or 0, if all available processors should be used. The number
+         *                    must be at least 0
+         * @return The builder, this method has been called upon, as an instance of the class {@link
+         * RuleGeneratorBuilder}. The builder may not be null
+         */
+        @NotNull
+        public final RuleGeneratorBuilder<ItemType> parallelism(final int parallelism) {
+            configuration.setParallelism(parallelism);
+            return this;
+        }
+
+        /**
+         * Sets, whether the frequent item sets should be found using the classic, level-wise
+         * Apriori algorithm instead of the FP-Growth algorithm, or not. The candidates of each
+         * level are counted using the number of threads, which is specified by the method {@link
+         * #parallelism(int)}.
+         *
+         * @param useClassicApriori True, if the frequent item sets should be found using the
+         *                          classic Apriori algorithm, false otherwise
+         * @return The builder, this method has been called upon, as an instance of the class {@link
+         * RuleGeneratorBuilder}. The builder may not be null
+         */
+        @NotNull
+        public final RuleGeneratorBuilder<ItemType> useClassicApriori(
+                final boolean useClassicApriori) {
+            configuration.setUseClassicApriori(useClassicApriori);
+            return this;
+        }
+
+        /**
+         * Sets, whether only closed frequent item sets should be found, or not. If only closed
+         * frequent item sets are found, only association rules, whose items form a closed item
+         * set, are generated.
+         *
+         * @param mineClosedItemSets True, if only closed frequent item sets should be found, false
+         *                           otherwise
+         * @return The builder, this method has been called upon, as an instance of the class {@link
+         * RuleGeneratorBuilder}. The builder may not be null
+         */
+        @NotNull
+        public final RuleGeneratorBuilder<ItemType> mineClosedItemSets(
+                final boolean mineClosedItemSets) {
+            configuration.setMineClosedItemSets(mineClosedItemSets);
+            return this;
+        }
+
     }
 
     /**
@@ -826,10 +1126,147 @@ public class Apriori<ItemType extends Item> {
     public final Output<ItemType> execute(
             @NotNull final Iterator<Transaction<ItemType>> iterator) {
         ensureNotNull(iterator, "The iterator may not be null");
+        return execute(TransactionSource.of(iterator));
+    }
+
+    /**
+     * Executes the Apriori algorithm on the transactions, which are provided by a specific source,
+     * in order to learn association rules, which specify frequent item sets. Unlike an iterator,
+     * the source can be traversed as many times as required by the algorithm.
+     *
+     * @param source The source, which provides the transactions, as an instance of the type {@link
+     *               TransactionSource}. The source may not be null
+     * @return The rule set, which contains the association rules, which have been learned by the
+     * algorithm, as an instance of the class {@link RuleSet} or an empty rule set, if no
+     * association rules have been learned
+     */
+    @NotNull
+    public final Output<ItemType> execute(@NotNull final TransactionSource<ItemType> source) {
+        ensureNotNull(source, "The source may not be null");
         LOGGER.info("Starting Apriori algorithm");
         long startTime = System.currentTimeMillis();
-        Map<Integer, TransactionalItemSet<ItemType>> frequentItemSets = frequentItemSetMinerTask
-                .findFrequentItemSets(iterator);
+        MiningResult<ItemType> result = frequentItemSetMinerTask.mineFrequentItemSets(source);
+        int transactionCount = result.getTransactionCount();
+        Output<ItemType> output = createOutput(startTime, result.getFrequentItemSets(),
+                transactionCount >= 0 ? transactionCount : countTransactions(source));
+        LOGGER.info("Apriori algorithm terminated after {} milliseconds", output.getRuntime());
+        return output;
+    }
+
+    /**
+     * Updates the output of a previous execution of the Apriori algorithm, when new transactions
+     * are added to the data set, which has been processed by the algorithm, according to the FUP
+     * algorithm. The numbers of transactions, the frequent item sets occur in, are obtained from
+     * the given output. The frequent item sets are updated by counting candidates in the new
+     * transactions. The original transactions are only traversed in order to count item sets,
+     * which have not been frequent before, but may have become frequent.
+     *
+     * The frequent item sets of the given output must not be restricted to closed or maximal ones
+     * or to a specific number of item sets and its minimum support must not be greater than the
+     * minimum support of this algorithm. The same applies to the configuration of this
+     * algorithm.
+     *
+     * @param output The output of the previous execution of the algorithm as an instance of the
+     *               class {@link Output}. The number of transactions, which have been processed,
+     *               must be known. The output may not be null
+     * @param source The source, which provides the transactions, which have been processed by the
+     *               previous execution, as an instance of the type {@link TransactionSource}. The
+     *               source may not be null
+     * @param delta  The source, which provides the new transactions, as an instance of the type
+     *               {@link TransactionSource}. The source may not be null
+     * @return The output, which corresponds to the updated data set, as an instance of the class
+     * {@link Output}. The output may not be null
+     */
+    @NotNull
+    public final Output<ItemType> update(@NotNull final Output<ItemType> output,
+                                         @NotNull final TransactionSource<ItemType> source,
+                                         @NotNull final TransactionSource<ItemType> delta) {
+        ensureNotNull(output, "The output may not be null");
+        ensureNotNull(source, "The source may not be null");
+        ensureNotNull(delta, "The delta may not be null");
+        ensureAtLeast(output.getTransactionCount(), 0,
+                "The number of transactions of the output must be known");
+        Configuration previousConfiguration = output.getConfiguration();
+        ensureAtMaximum(previousConfiguration.getMinSupport(), configuration.getMinSupport(),
+                "The minimum support of the output must be at maximum " +
+                        configuration.getMinSupport());
+
+        if (isRestrictingItemSets(previousConfiguration)) {
+            throw new IllegalArgumentException(
+                    "The frequent item sets of the output must not be restricted");
+        }
+
+        if (isRestrictingItemSets(configuration)) {
+            throw new IllegalStateException(
+                    "The frequent item sets of the algorithm must not be restricted");
+        }
+
+        LOGGER.info("Starting incremental update of the Apriori algorithm's output");
+        long startTime = System.currentTimeMillis();
+        MiningResult<ItemType> result = frequentItemSetMinerTask.mineUpdatedFrequentItemSets(
+                output.getFrequentItemSets(), output.getTransactionCount(), source, delta);
+        Output<ItemType> updatedOutput = createOutput(startTime, result.getFrequentItemSets(),
+                result.getTransactionCount());
+        LOGGER.info("Incremental update terminated after {} milliseconds",
+                updatedOutput.getRuntime());
+        return updatedOutput;
+    }
+
+    /**
+     * Returns, whether a specific configuration restricts the frequent item sets, which are found
+     * by the algorithm, to closed or maximal ones or to a specific number of item sets, or not.
+     *
+     * @param configuration The configuration as an instance of the class {@link Configuration}.
+     *                      The configuration may not be null
+     * @return True, if the configuration restricts the frequent item sets, false otherwise
+     */
+    private static boolean isRestrictingItemSets(@NotNull final Configuration configuration) {
+        return configuration.isMiningClosedItemSets() || configuration.isMiningMaximalItemSets() ||
+                configuration.getFrequentItemSetCount() > 0;
+    }
+
+    /**
+     * Returns the number of transactions, which are provided by a specific source. If the number
+     * is not known in advance, the source is traversed once. This is only necessary, if the
+     * miner, which has been used, does not report the number of transactions it has processed.
+     *
+     * @param source The source as an instance of the type {@link TransactionSource}. The source
+     *               may not be null
+     * @return The number of transactions as an {@link Integer} value
+     */
+    private static int countTransactions(@NotNull final TransactionSource<?> source) {
+        int transactionCount = source.sizeHint();
+
+        if (transactionCount < 0) {
+            Iterator<? extends Transaction<?>> iterator = source.open();
+            transactionCount = 0;
+
+            while (iterator.next() != null) {
+                transactionCount++;
+            }
+        }
+
+        return transactionCount;
+    }
+
+    /**
+     * Generates association rules from frequent item sets, if configured, and creates the output
+     * of the algorithm.
+     *
+     * @param startTime        The time, the algorithm has been started, in milliseconds as a
+     *                         {@link Long} value
+     * @param frequentItemSets A map, which contains the frequent item sets, which have been found,
+     *                         as an instance of the type {@link Map}. The map may not be null
+     * @param transactionCount The number of transactions, which have been processed, as an {@link
+     *                         Integer} value
+     * @return The output, which has been created, as an instance of the class {@link Output}. The
+     * output may not be null
+     */
+    @NotNull
+    private Output<ItemType> createOutput(final long startTime,
+                                          @NotNull final Map<ItemSet<ItemType>,
+                                                  TransactionalItemSet<ItemType>> frequentItemSets,
+                                          final int transactionCount) {
         RuleSet<ItemType> ruleSet = null;
 
         if (configuration.isGeneratingRules()) {
@@ -840,10 +1277,8 @@ public class Apriori<ItemType extends Item> {
                 Comparator.reverseOrder());
         frequentItemSets.values().forEach(x -> sortedItemSets.add(new ItemSet<>(x)));
         long endTime = System.currentTimeMillis();
-        Output<ItemType> output = new Output<>(configuration, startTime, endTime, sortedItemSets,
-                ruleSet);
-        LOGGER.info("Apriori algorithm terminated after {} milliseconds", output.getRuntime());
-        return output;
+        return new Output<>(configuration, startTime, endTime, sortedItemSets, ruleSet,
+                transactionCount);
     }
 
 }
\ No newline at end of file
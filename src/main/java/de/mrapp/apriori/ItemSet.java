@@ -48,12 +48,18 @@ public class ItemSet<ItemType> implements SortedSet<ItemType>, Comparable<ItemSe
      */
     private double support;
 
+    /**
+     * The maximum error of the item set's support, if the support has been approximated.
+     */
+    private double error;
+
     /**
      * Creates an empty item set.
      */
     public ItemSet() {
         this.items = new TreeSet<>();
         setSupport(0);
+        setError(0);
     }
 
     /**
@@ -66,6 +72,7 @@ public class ItemSet<ItemType> implements SortedSet<ItemType>, Comparable<ItemSe
         ensureNotNull(itemSet, "The item set may not be null");
         this.items = new TreeSet<>(itemSet.items);
         setSupport(itemSet.support);
+        setError(itemSet.error);
     }
 
     /**
@@ -90,6 +97,30 @@ public class ItemSet<ItemType> implements SortedSet<ItemType>, Comparable<ItemSe
         this.support = support;
     }
 
+    /**
+     * Returns the maximum error of the item set's support. If the support has been approximated,
+     * the actual support of the item set is at least the support, which is returned by the method
+     * {@link #getSupport()}, and at maximum the sum of the support and the error.
+     *
+     * @return The maximum error of the item set's support as a {@link Double} value or 0, if the
+     * support is exact. The error must be at least 0 and at maximum 1
+     */
+    public final double getError() {
+        return error;
+    }
+
+    /**
+     * Sets the maximum error of the item set's support.
+     *
+     * @param error The maximum error, which should be set, as a {@link Double} value or 0, if the
+     *              support is exact. The error must be at least 0 and at maximum 1
+     */
+    public final void setError(final double error) {
+        ensureAtLeast(error, 0, "The error must be at least 0");
+        ensureAtMaximum(error, 1, "The error must be at maximum 1");
+        this.error = error;
+    }
+
     @Nullable
     @Override
     public final Comparator<? super ItemType> comparator() {
@@ -222,7 +253,7 @@ public class ItemSet<ItemType> implements SortedSet<ItemType>, Comparable<ItemSe
             return true;
         if (obj == null)
             return false;
-        if (getClass() != obj.getClass())
+        if (!(obj instanceof ItemSet))
             return false;
         ItemSet<?> other = (ItemSet<?>) obj;
         return items.equals(other.items);
@@ -17,6 +17,7 @@ package de.mrapp.apriori;
  * Defines the interface, a class, which allows to measure the "interestingly" of association
  * rules according to a certain metric, must implement.
  */
+@SuppressWarnings("serial")
 public interface Metric extends Operator {
 
     /**
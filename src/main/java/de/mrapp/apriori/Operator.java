@@ -15,15 +15,19 @@ package de.mrapp.apriori;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.io.Serializable;
+
 /**
  * Defines the interface, a class, which allows to calculate heuristic values of association rules,
  * must implement. This applies to metrics, which measure the "interestingly" of rules, as well as
- * to meta-heuristics, which average the results of multiple metrics.
+ * to meta-heuristics, which average the results of multiple metrics. As operators are part of the
+ * configuration of the algorithm, they must be serializable.
  *
  * @author Michael Rapp
  * @since 1.0.0
  */
-public interface Operator {
+@SuppressWarnings("serial")
+public interface Operator extends Serializable {
 
     /**
      * Calculates the heuristic value of a specific association rule.
@@ -34,4 +38,19 @@ public interface Operator {
      */
     double evaluate(@NotNull AssociationRule rule);
 
+    /**
+     * Returns, whether the heuristic values, which are calculated by the operator, never increase,
+     * if the support of a rule's body or head increases, while the support of the rule itself
+     * remains unchanged. In this case, the heuristic value of a rule, whose head is assigned the
+     * support of the rule itself, is an upper bound to the heuristic values of all rules, which can
+     * be obtained by moving items from the rule's body to its head. This allows to prune the search
+     * for the best rules.
+     *
+     * @return True, if the heuristic values, which are calculated by the operator, never increase,
+     * if the support of a rule's body or head increases, false otherwise
+     */
+    default boolean isAntiMonotone() {
+        return false;
+    }
+
 }
\ No newline at end of file
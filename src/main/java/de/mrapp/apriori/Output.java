@@ -64,7 +64,14 @@ public class Output<ItemType extends Item> implements Serializable, Cloneable {
     private final RuleSet<ItemType> ruleSet;
 
     /**
-     * Creates a new output of the Apriori algorithm.
+     * The number of transactions, which have been processed by the Apriori algorithm, or -1, if
+     * the number is not known.
+     */
+    private final int transactionCount;
+
+    /**
+     * Creates a new output of the Apriori algorithm. The number of transactions, which have been
+     * processed by the algorithm, is not known.
      *
      * @param configuration    The configuration of the Apriori algorithm as an instance of the
      *                         class {@link Configuration}. The configuration may not be null
@@ -84,15 +91,44 @@ public class Output<ItemType extends Item> implements Serializable, Cloneable {
                   final long endTime,
                   @NotNull final FrequentItemSets<ItemType> frequentItemSets,
                   @Nullable final RuleSet<ItemType> ruleSet) {
+        this(configuration, startTime, endTime, frequentItemSets, ruleSet, -1);
+    }
+
+    /**
+     * Creates a new output of the Apriori algorithm.
+     *
+     * @param configuration    The configuration of the Apriori algorithm as an instance of the
+     *                         class {@link Configuration}. The configuration may not be null
+     * @param startTime        The time, the Apriori algorithm has been started, in milliseconds as
+     *                         a {@link Long} value. The time must be at least 0
+     * @param endTime          The time, the Apriori algorithm has been ended, in milliseconds as a
+     *                         {@link Long} value. The time must be at least the start time
+     * @param frequentItemSets The frequent item sets, which have been found by the Apriori
+     *                         algorithm as an instance of the type {@link SortedSet} or an empty
+     *                         set, if no frequent item sets have been found
+     * @param ruleSet          The rule set, which contains the association rules, which have been
+     *                         generated by the Apriori algorithm, as an instance of the class
+     *                         {@link RuleSet} or null, if the algorithm has not been configured to
+     *                         generate any rules
+     * @param transactionCount The number of transactions, which have been processed by the Apriori
+     *                         algorithm, as an {@link Integer} value or -1, if the number is not
+     *                         known
+     */
+    public Output(@NotNull final Configuration configuration, final long startTime,
+                  final long endTime,
+                  @NotNull final FrequentItemSets<ItemType> frequentItemSets,
+                  @Nullable final RuleSet<ItemType> ruleSet, final int transactionCount) {
         ensureNotNull(configuration, "The configuration may not be null");
         ensureAtLeast(startTime, 0, "The start time must be at least 0");
         ensureAtLeast(endTime, startTime, "The end time must be at least " + startTime);
         ensureNotNull(frequentItemSets, "The frequent item sets may not be null");
+        ensureAtLeast(transactionCount, -1, "The transaction count must be at least -1");
         this.configuration = configuration;
         this.startTime = startTime;
         this.endTime = endTime;
         this.frequentItemSets = frequentItemSets;
         this.ruleSet = ruleSet;
+        this.transactionCount = transactionCount;
     }
 
     /**
@@ -158,10 +194,23 @@ public class Output<ItemType extends Item> implements Serializable, Cloneable {
         return ruleSet;
     }
 
+    /**
+     * Returns the number of transactions, which have been processed by the Apriori algorithm. The
+     * number of transactions, each frequent item set occurs in, can be obtained by multiplying its
+     * support with this number, which allows to update the output incrementally, when new
+     * transactions become available.
+     *
+     * @return The number of transactions, which have been processed by the Apriori algorithm, as
+     * an {@link Integer} value or -1, if the number is not known
+     */
+    public final int getTransactionCount() {
+        return transactionCount;
+    }
+
     @Override
     public final Output<ItemType> clone() {
         return new Output<>(configuration.clone(), startTime, endTime, frequentItemSets.clone(),
-                ruleSet.clone());
+                ruleSet.clone(), transactionCount);
     }
 
     @Override
@@ -180,6 +229,7 @@ public class Output<ItemType extends Item> implements Serializable, Cloneable {
         result = prime * result + (int) (endTime ^ (endTime >>> 32));
         result = prime * result + frequentItemSets.hashCode();
         result = prime * result + (ruleSet == null ? 0 : ruleSet.hashCode());
+        result = prime * result + transactionCount;
         return result;
     }
 
@@ -198,6 +248,8 @@ public class Output<ItemType extends Item> implements Serializable, Cloneable {
             return false;
         if (endTime != other.endTime)
             return false;
+        if (transactionCount != other.transactionCount)
+            return false;
         if (!frequentItemSets.equals(other.frequentItemSets))
             return false;
         if (ruleSet == null) {
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori;
+
+import de.mrapp.apriori.datastructure.BufferedTransactionSource;
+import de.mrapp.apriori.datastructure.IterableTransactionSource;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Defines the interface, a class, which provides the transactions of a data set, must implement.
+ * Unlike an {@link Iterator}, a source can be traversed multiple times, which allows algorithms to
+ * perform as many passes over the data set as they need. Each call of the method {@link #open()}
+ * rewinds the source, i.e. it starts a new pass, which begins with the first transaction.
+ *
+ * @param <ItemType> The type of the items, the transactions consist of
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public interface TransactionSource<ItemType extends Item> {
+
+    /**
+     * Starts a new pass over the transactions of the data set. In accordance with the iterators,
+     * which are processed by the Apriori algorithm, the returned iterator's <code>next</code>
+     * method returns null, once all transactions have been traversed.
+     *
+     * @return An iterator, which allows to iterate the transactions, starting with the first one,
+     * as an instance of the type {@link Iterator}. The iterator may not be null
+     */
+    @NotNull
+    Iterator<Transaction<ItemType>> open();
+
+    /**
+     * Returns the number of transactions, which are provided by the source, if it is known in
+     * advance. The number may be used to allocate data structures with a suitable size.
+     *
+     * @return The number of transactions, which are provided by the source, as an {@link Integer}
+     * value or -1, if the number is not known
+     */
+    default int sizeHint() {
+        return -1;
+    }
+
+    /**
+     * Splits the source into several disjoint sources, which provide the transactions of the data
+     * set together and can be traversed in parallel. Sources, which cannot be split, return a list,
+     * which only contains the source itself.
+     *
+     * @param parts The maximum number of sources, the source should be split into, as an {@link
+     *              Integer} value. The number must be at least 1
+     * @return A list, which contains the sources, the source has been split into, as an instance of
+     * the type {@link List}. The list may not be null
+     */
+    @NotNull
+    default List<TransactionSource<ItemType>> split(final int parts) {
+        return Collections.singletonList(this);
+    }
+
+    /**
+     * Creates and returns a source, which provides the transactions, which are contained by an
+     * iterable. The source is split into sub lists, if the iterable is a {@link List}.
+     *
+     * @param <T>          The type of the items, the transactions consist of
+     * @param transactions The iterable, which contains the transactions, as an instance of the type
+     *                     {@link Iterable}. The iterable may not be null
+     * @return The source, which has been created, as an instance of the type {@link
+     * TransactionSource}. The source may not be null
+     */
+    @NotNull
+    static <T extends Item> TransactionSource<T> of(
+            @NotNull final Iterable<? extends Transaction<T>> transactions) {
+        return new IterableTransactionSource<>(transactions);
+    }
+
+    /**
+     * Creates and returns a source, which provides the transactions of an iterator, which can only
+     * be traversed once. The transactions are buffered during the first pass, which allows to
+     * replay them during all further passes.
+     *
+     * @param <T>      The type of the items, the transactions consist of
+     * @param iterator The iterator, which allows to iterate the transactions, as an instance of the
+     *                 type {@link Iterator}. The iterator may not be null
+     * @return The source, which has been created, as an instance of the type {@link
+     * TransactionSource}. The source may not be null
+     */
+    @NotNull
+    static <T extends Item> TransactionSource<T> of(
+            @NotNull final Iterator<Transaction<T>> iterator) {
+        return new BufferedTransactionSource<>(iterator);
+    }
+
+}
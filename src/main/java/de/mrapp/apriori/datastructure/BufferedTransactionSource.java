@@ -0,0 +1,174 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.datastructure;
+
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static de.mrapp.util.Condition.ensureAtLeast;
+import static de.mrapp.util.Condition.ensureNotNull;
+
+/**
+ * A source, which provides the transactions of an iterator, which can only be traversed once. The
+ * transactions are buffered while the first pass reads them from the iterator. All further passes
+ * replay the buffered transactions. A new pass must not be started before the previous one has
+ * been completed.
+ *
+ * @param <ItemType> The type of the items, the transactions consist of
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public class BufferedTransactionSource<ItemType extends Item> implements
+        TransactionSource<ItemType> {
+
+    /**
+     * An iterator, which reads the transactions from the iterator, the source has been created
+     * from, and adds them to the buffer.
+     */
+    private class BufferingIterator implements Iterator<Transaction<ItemType>> {
+
+        /**
+         * The transaction, which has been read by the method <code>hasNext</code>, but not
+         * returned by the method <code>next</code> yet, or null, if no such transaction exists.
+         */
+        private Transaction<ItemType> nextTransaction;
+
+        /**
+         * Reads the next transaction from the iterator, the source has been created from.
+         *
+         * @return The transaction, which has been read, as an instance of the type {@link
+         * Transaction} or null, if all transactions have been read
+         */
+        private Transaction<ItemType> read() {
+            Transaction<ItemType> transaction = iterator.next();
+
+            if (transaction != null) {
+                buffer.add(transaction);
+            } else {
+                exhausted = true;
+            }
+
+            return transaction;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextTransaction == null && !exhausted) {
+                nextTransaction = read();
+            }
+
+            return nextTransaction != null;
+        }
+
+        @Override
+        public Transaction<ItemType> next() {
+            if (nextTransaction != null) {
+                Transaction<ItemType> transaction = nextTransaction;
+                nextTransaction = null;
+                return transaction;
+            }
+
+            return exhausted ? null : read();
+        }
+
+    }
+
+    /**
+     * The iterator, the source has been created from.
+     */
+    private final Iterator<Transaction<ItemType>> iterator;
+
+    /**
+     * A list, which contains the transactions, which have already been read from the iterator.
+     */
+    private final List<Transaction<ItemType>> buffer;
+
+    /**
+     * True, if all transactions have been read from the iterator, false otherwise.
+     */
+    private boolean exhausted;
+
+    /**
+     * True, if the first pass has been started, false otherwise.
+     */
+    private boolean opened;
+
+    /**
+     * Creates a new source, which provides the transactions of an iterator.
+     *
+     * @param iterator The iterator, which allows to iterate the transactions, as an instance of the
+     *                 type {@link Iterator}. The iterator's <code>next</code> method must return
+     *                 null, once all transactions have been traversed. The iterator may not be
+     *                 null
+     */
+    public BufferedTransactionSource(@NotNull final Iterator<Transaction<ItemType>> iterator) {
+        ensureNotNull(iterator, "The iterator may not be null");
+        this.iterator = iterator;
+        this.buffer = new ArrayList<>();
+        this.exhausted = false;
+        this.opened = false;
+    }
+
+    /**
+     * Reads all remaining transactions from the iterator, the source has been created from.
+     */
+    private void readRemaining() {
+        while (!exhausted) {
+            Transaction<ItemType> transaction = iterator.next();
+
+            if (transaction != null) {
+                buffer.add(transaction);
+            } else {
+                exhausted = true;
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public final Iterator<Transaction<ItemType>> open() {
+        if (!opened) {
+            opened = true;
+            return new BufferingIterator();
+        }
+
+        readRemaining();
+        return new IterableTransactionSource<>(buffer).open();
+    }
+
+    @Override
+    public final int sizeHint() {
+        return exhausted ? buffer.size() : -1;
+    }
+
+    @NotNull
+    @Override
+    public final List<TransactionSource<ItemType>> split(final int parts) {
+        ensureAtLeast(parts, 1, "The number of parts must be at least 1");
+
+        if (!exhausted) {
+            return Collections.singletonList(this);
+        }
+
+        return new IterableTransactionSource<>(buffer).split(parts);
+    }
+
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.datastructure;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+import static de.mrapp.util.Condition.*;
+
+/**
+ * An immutable item set, which consists of the ids of its items, as they have been assigned by an
+ * {@link ItemDictionary}. The ids are stored in a sorted {@link Integer} array. Compared to the
+ * class {@link de.mrapp.apriori.ItemSet}, which is backed by a tree, this allows to store item sets
+ * in a compact form and to test for subsets and common prefixes by merging the arrays linearly.
+ * Item sets are compared lexicographically according to their ids.
+ *
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public final class EncodedItemSet implements Comparable<EncodedItemSet> {
+
+    /**
+     * An empty item set.
+     */
+    public static final EncodedItemSet EMPTY = new EncodedItemSet(new int[0], 1);
+
+    /**
+     * An array, which contains the ids of the items, which are contained by the item set, in
+     * ascending order.
+     */
+    private final int[] items;
+
+    /**
+     * The hash code of the item set.
+     */
+    private final int hashCode;
+
+    /**
+     * Creates a new item set from an array, which is not copied.
+     *
+     * @param items    An array, which contains the ids of the items in ascending order, as an
+     *                 {@link Integer} array. The array may not be null
+     * @param hashCode The hash code of the item set as an {@link Integer} value
+     */
+    private EncodedItemSet(@NotNull final int[] items, final int hashCode) {
+        this.items = items;
+        this.hashCode = hashCode;
+    }
+
+    /**
+     * Creates a new item set, which contains specific items.
+     *
+     * @param items The ids of the items, which should be contained by the item set, as an {@link
+     *              Integer} array. The ids must be at least 0. Duplicates are removed
+     */
+    public EncodedItemSet(@NotNull final int... items) {
+        ensureNotNull(items, "The array may not be null");
+        int[] sortedItems = items.clone();
+        Arrays.sort(sortedItems);
+        int size = 0;
+
+        for (int item : sortedItems) {
+            ensureAtLeast(item, 0, "The ids must be at least 0");
+
+            if (size == 0 || sortedItems[size - 1] != item) {
+                sortedItems[size++] = item;
+            }
+        }
+
+        this.items = size < sortedItems.length ? Arrays.copyOf(sortedItems, size) : sortedItems;
+        this.hashCode = Arrays.hashCode(this.items);
+    }
+
+    /**
+     * Creates a new item set from an array, which is not copied.
+     *
+     * @param items An array, which contains the ids of the items in ascending order, as an {@link
+     *              Integer} array. The array may not be null
+     * @return The item set, which has been created, as an instance of the class {@link
+     * EncodedItemSet}. The item set may not be null
+     */
+    @NotNull
+    private static EncodedItemSet wrap(@NotNull final int[] items) {
+        return new EncodedItemSet(items, Arrays.hashCode(items));
+    }
+
+    /**
+     * Returns the number of items, which are contained by the item set.
+     *
+     * @return The number of items, which are contained by the item set, as an {@link Integer}
+     * value
+     */
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * Returns, whether the item set is empty, or not.
+     *
+     * @return True, if the item set is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return items.length == 0;
+    }
+
+    /**
+     * Returns the id of the item at a specific position.
+     *
+     * @param index The position of the item, whose id should be returned, as an {@link Integer}
+     *              value. The position must be at least 0 and less than the size of the item set
+     * @return The id of the item at the given position as an {@link Integer} value
+     */
+    public int get(final int index) {
+        return items[index];
+    }
+
+    /**
+     * Returns the id of the last item, i.e. the item with the greatest id.
+     *
+     * @return The id of the last item as an {@link Integer} value
+     */
+    public int last() {
+        ensureFalse(isEmpty(), "The item set is empty");
+        return items[items.length - 1];
+    }
+
+    /**
+     * Returns an array, which contains the ids of the items, which are contained by the item set.
+     *
+     * @return An array, which contains the ids of the items in ascending order, as an {@link
+     * Integer} array. The array may not be null
+     */
+    @NotNull
+    public int[] toArray() {
+        return items.clone();
+    }
+
+    /**
+     * Returns, whether the item set contains a specific item.
+     *
+     * @param item The id of the item as an {@link Integer} value
+     * @return True, if the item set contains the given item, false otherwise
+     */
+    public boolean contains(final int item) {
+        return Arrays.binarySearch(items, item) >= 0;
+    }
+
+    /**
+     * Returns, whether the item set is a subset of another item set. Both item sets are merged
+     * linearly.
+     *
+     * @param other The other item set as an instance of the class {@link EncodedItemSet}. The item
+     *              set may not be null
+     * @return True, if the item set is a subset of the given item set, false otherwise
+     */
+    public boolean isSubsetOf(@NotNull final EncodedItemSet other) {
+        ensureNotNull(other, "The item set may not be null");
+        return isSubsetOf(other.items, other.items.length);
+    }
+
+    /**
+     * Returns, whether the item set is a subset of the items, which are contained by a sorted
+     * array, e.g. an encoded transaction. Both arrays are merged linearly.
+     *
+     * @param other  An array, which contains the ids of the items in ascending order, as an {@link
+     *               Integer} array. The array may not be null
+     * @param length The number of items, which should be taken into account, as an {@link
+     *               Integer} value
+     * @return True, if the item set is a subset of the given items, false otherwise
+     */
+    public boolean isSubsetOf(@NotNull final int[] other, final int length) {
+        if (items.length > length) {
+            return false;
+        }
+
+        int j = 0;
+
+        for (int item : items) {
+            while (j < length && other[j] < item) {
+                j++;
+            }
+
+            if (j == length || other[j] != item) {
+                return false;
+            }
+
+            j++;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns, whether the item set shares a common prefix of a specific length with another item
+     * set.
+     *
+     * @param other  The other item set as an instance of the class {@link EncodedItemSet}. The
+     *               item set may not be null
+     * @param length The length of the prefix as an {@link Integer} value. The length must not
+     *               exceed the size of any of both item sets
+     * @return True, if both item sets share a common prefix of the given length, false otherwise
+     */
+    public boolean hasCommonPrefix(@NotNull final EncodedItemSet other, final int length) {
+        for (int i = 0; i < length; i++) {
+            if (items[i] != other.items[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates and returns a new item set, which contains all items of this item set, as well as
+     * an additional one.
+     *
+     * @param item The id of the item, which should be added, as an {@link Integer} value. The id
+     *             must be at least 0
+     * @return The item set, which has been created, as an instance of the class {@link
+     * EncodedItemSet}. The item set may not be null
+     */
+    @NotNull
+    public EncodedItemSet add(final int item) {
+        ensureAtLeast(item, 0, "The id must be at least 0");
+        int index = Arrays.binarySearch(items, item);
+
+        if (index >= 0) {
+            return this;
+        }
+
+        index = -(index + 1);
+        int[] result = new int[items.length + 1];
+        System.arraycopy(items, 0, result, 0, index);
+        result[index] = item;
+        System.arraycopy(items, index, result, index + 1, items.length - index);
+        return wrap(result);
+    }
+
+    /**
+     * Creates and returns a new item set, which contains all items of this item set, except for a
+     * specific one.
+     *
+     * @param item The id of the item, which should be removed, as an {@link Integer} value
+     * @return The item set, which has been created, as an instance of the class {@link
+     * EncodedItemSet}. The item set may not be null
+     */
+    @NotNull
+    public EncodedItemSet remove(final int item) {
+        int index = Arrays.binarySearch(items, item);
+
+        if (index < 0) {
+            return this;
+        }
+
+        int[] result = new int[items.length - 1];
+        System.arraycopy(items, 0, result, 0, index);
+        System.arraycopy(items, index + 1, result, index, items.length - index - 1);
+        return wrap(result);
+    }
+
+    /**
+     * Creates and returns a new item set, which contains all items of this item set, except for
+     * those, which are contained by another item set. Both item sets are merged linearly.
+     *
+     * @param other The item set, which contains the items, which should be removed, as an instance
+     *              of the class {@link EncodedItemSet}. The item set may not be null
+     * @return The item set, which has been created, as an instance of the class {@link
+     * EncodedItemSet}. The item set may not be null
+     */
+    @NotNull
+    public EncodedItemSet removeAll(@NotNull final EncodedItemSet other) {
+        ensureNotNull(other, "The item set may not be null");
+        int[] result = new int[items.length];
+        int size = 0;
+        int j = 0;
+
+        for (int item : items) {
+            while (j < other.items.length && other.items[j] < item) {
+                j++;
+            }
+
+            if (j == other.items.length || other.items[j] != item) {
+                result[size++] = item;
+            }
+        }
+
+        return size == items.length ? this : wrap(Arrays.copyOf(result, size));
+    }
+
+    @Override
+    public int compareTo(@NotNull final EncodedItemSet o) {
+        int length = Math.min(items.length, o.items.length);
+
+        for (int i = 0; i < length; i++) {
+            int result = Integer.compare(items[i], o.items[i]);
+
+            if (result != 0) {
+                return result;
+            }
+        }
+
+        return Integer.compare(items.length, o.items.length);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(items);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        EncodedItemSet other = (EncodedItemSet) obj;
+        return hashCode == other.hashCode && Arrays.equals(items, other.items);
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.datastructure;
+
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.TransactionSource;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Defines the interface, a source, which stores its transactions as integer ids rather than as
+ * items, must implement. Such a source allows to encode the transactions by using an {@link
+ * ItemDictionary} without creating and hashing any items, as it is done by the method {@link
+ * EncodedTransactions#encode(TransactionSource, double, int)}. The sources, such a source is split
+ * into, must implement this interface as well.
+ *
+ * @param <ItemType> The type of the items, the transactions consist of
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public interface EncodedTransactionSource<ItemType extends Item> extends
+        TransactionSource<ItemType> {
+
+    /**
+     * Returns the items, which may be contained by the transactions. The index of an item
+     * corresponds to its id.
+     *
+     * @return A list, which contains the items, which may be contained by the transactions, as an
+     * instance of the type {@link List}. The list may not be null
+     */
+    @NotNull
+    List<ItemType> getItems();
+
+    /**
+     * Returns the number of transactions, which are provided by the source.
+     *
+     * @return The number of transactions, which are provided by the source, as an {@link Integer}
+     * value
+     */
+    int getTransactionCount();
+
+    /**
+     * Returns the number of transactions, which contain the individual items. Depending on the
+     * implementation, this may require a pass over the transactions.
+     *
+     * @return An {@link Integer} array, which contains the number of transactions, which contain
+     * the individual items. The index of a frequency corresponds to the id of the corresponding
+     * item. The array may not be null
+     */
+    @NotNull
+    int[] countFrequencies();
+
+    /**
+     * Starts a new pass over the transactions, which are provided as sorted arrays, which contain
+     * the distinct ids of their items. The returned iterator's <code>next</code> method returns
+     * null, once all transactions have been traversed.
+     *
+     * @return An iterator, which allows to iterate the transactions, starting with the first one,
+     * as an instance of the type {@link Iterator}. Each array is only returned once and may
+     * therefore be modified by the caller. The iterator may not be null
+     */
+    @NotNull
+    Iterator<int[]> openEncoded();
+
+}
@@ -0,0 +1,740 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.datastructure;
+
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static de.mrapp.util.Condition.*;
+
+/**
+ * A data set, whose transactions have been encoded by using an {@link ItemDictionary}. Each
+ * transaction is stored as a sorted array, which contains the distinct ids of its items. Items,
+ * which are not frequent, are not contained by the dictionary and therefore omitted. Transactions,
+ * which do not contain any frequent items, are omitted as well, but they are still taken into
+ * account by the total number of transactions. Identical transactions are only stored once,
+ * together with their weight, i.e. the number of times they occur in the data set.
+ *
+ * @param <ItemType> The type of the items, the transactions consist of
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public class EncodedTransactions<ItemType extends Item> {
+
+    /**
+     * A hash table, which collapses identical encoded transactions into a single entry, whose
+     * weight corresponds to the number of times the transaction has been added. The entries retain
+     * the order, in which they have been added first.
+     */
+    private static final class TransactionTable {
+
+        /**
+         * The distinct transactions, which have been added.
+         */
+        private int[][] transactions;
+
+        /**
+         * The weights of the distinct transactions.
+         */
+        private int[] weights;
+
+        /**
+         * The hashes of the distinct transactions.
+         */
+        private int[] hashes;
+
+        /**
+         * The slots of the table, which contain the indices of the transactions, increased by 1,
+         * or 0, if a slot is empty.
+         */
+        private int[] slots;
+
+        /**
+         * The number of distinct transactions, which have been added.
+         */
+        private int size;
+
+        /**
+         * Creates a new, empty hash table.
+         */
+        TransactionTable() {
+            this.transactions = new int[16][];
+            this.weights = new int[16];
+            this.hashes = new int[16];
+            this.slots = new int[32];
+            this.size = 0;
+        }
+
+        /**
+         * Adds a transaction to the table.
+         *
+         * @param transaction The transaction, which should be added, as an {@link Integer} array.
+         *                    The array may not be null
+         * @param weight      The weight of the transaction as an {@link Integer} value
+         */
+        void add(@NotNull final int[] transaction, final int weight) {
+            int hash = Arrays.hashCode(transaction);
+            int mask = slots.length - 1;
+            int i = (hash ^ (hash >>> 16)) & mask;
+
+            while (slots[i] != 0) {
+                int index = slots[i] - 1;
+
+                if (hashes[index] == hash && Arrays.equals(transactions[index], transaction)) {
+                    weights[index] += weight;
+                    return;
+                }
+
+                i = (i + 1) & mask;
+            }
+
+            if (size == transactions.length) {
+                transactions = Arrays.copyOf(transactions, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+                hashes = Arrays.copyOf(hashes, size * 2);
+            }
+
+            transactions[size] = transaction;
+            weights[size] = weight;
+            hashes[size] = hash;
+            size++;
+            slots[i] = size;
+
+            if (2 * size > slots.length) {
+                slots = new int[slots.length * 2];
+                mask = slots.length - 1;
+
+                for (int index = 0; index < size; index++) {
+                    int j = (hashes[index] ^ (hashes[index] >>> 16)) & mask;
+
+                    while (slots[j] != 0) {
+                        j = (j + 1) & mask;
+                    }
+
+                    slots[j] = index + 1;
+                }
+            }
+        }
+
+        /**
+         * Adds all transactions, which are contained by another table, to this table.
+         *
+         * @param other The other table as an instance of the class {@link TransactionTable}. The
+         *              table may not be null
+         */
+        void addAll(@NotNull final TransactionTable other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.transactions[i], other.weights[i]);
+            }
+        }
+
+        /**
+         * Returns the distinct transactions, which have been added.
+         *
+         * @return A two-dimensional {@link Integer} array, which contains the distinct
+         * transactions. The array may not be null
+         */
+        @NotNull
+        int[][] getTransactions() {
+            return Arrays.copyOf(transactions, size);
+        }
+
+        /**
+         * Returns the weights of the distinct transactions, which have been added.
+         *
+         * @return An {@link Integer} array, which contains the weights of the distinct
+         * transactions. The array may not be null
+         */
+        @NotNull
+        int[] getWeights() {
+            return Arrays.copyOf(weights, size);
+        }
+
+    }
+
+    /**
+     * The dictionary, which has been used to encode the transactions.
+     */
+    private final ItemDictionary<ItemType> dictionary;
+
+    /**
+     * An array, which contains the encoded transactions.
+     */
+    private final int[][] transactions;
+
+    /**
+     * An array, which contains the weights of the encoded transactions.
+     */
+    private final int[] weights;
+
+    /**
+     * True, if any transaction has a weight greater than 1, false otherwise.
+     */
+    private final boolean weighted;
+
+    /**
+     * The total number of transactions, including those, which have been omitted.
+     */
+    private final int transactionCount;
+
+    /**
+     * Creates a new data set, whose transactions have been encoded. Each transaction has a weight
+     * of 1.
+     *
+     * @param dictionary       The dictionary, which has been used to encode the transactions, as an
+     *                         instance of the class {@link ItemDictionary}. The dictionary may not
+     *                         be null
+     * @param transactions     An array, which contains the encoded transactions, as a
+     *                         two-dimensional {@link Integer} array. The array may not be null
+     * @param transactionCount The total number of transactions, including those, which have been
+     *                         omitted, as an {@link Integer} value. The number of transactions must
+     *                         be at least the number of encoded transactions
+     */
+    public EncodedTransactions(@NotNull final ItemDictionary<ItemType> dictionary,
+                               @NotNull final int[][] transactions, final int transactionCount) {
+        this(dictionary, transactions, createWeights(transactions), transactionCount);
+    }
+
+    /**
+     * Creates a new data set, whose transactions have been encoded and are weighted.
+     *
+     * @param dictionary       The dictionary, which has been used to encode the transactions, as an
+     *                         instance of the class {@link ItemDictionary}. The dictionary may not
+     *                         be null
+     * @param transactions     An array, which contains the encoded transactions, as a
+     *                         two-dimensional {@link Integer} array. The array may not be null
+     * @param weights          An array, which contains the weights of the encoded transactions,
+     *                         i.e. the number of times they occur in the data set, as an {@link
+     *                         Integer} array. The array must have the same length as the array,
+     *                         which contains the transactions, and each weight must be at least 1
+     * @param transactionCount The total number of transactions, including those, which have been
+     *                         omitted, as an {@link Integer} value. The number of transactions must
+     *                         be at least the sum of the weights
+     */
+    public EncodedTransactions(@NotNull final ItemDictionary<ItemType> dictionary,
+                               @NotNull final int[][] transactions, @NotNull final int[] weights,
+                               final int transactionCount) {
+        ensureNotNull(dictionary, "The dictionary may not be null");
+        ensureNotNull(transactions, "The array may not be null");
+        ensureNotNull(weights, "The weights may not be null");
+
+        if (weights.length != transactions.length) {
+            throw new IllegalArgumentException(
+                    "The number of weights must be " + transactions.length);
+        }
+
+        long weightSum = 0;
+        boolean weighted = false;
+
+        for (int weight : weights) {
+            ensureAtLeast(weight, 1, "The weights must be at least 1");
+            weightSum += weight;
+            weighted |= weight > 1;
+        }
+
+        ensureAtLeast(transactionCount, weightSum,
+                "The transaction count must be at least " + weightSum);
+        this.dictionary = dictionary;
+        this.transactions = transactions;
+        this.weights = weights;
+        this.weighted = weighted;
+        this.transactionCount = transactionCount;
+    }
+
+    /**
+     * Creates and returns an array, which assigns a weight of 1 to each transaction.
+     *
+     * @param transactions An array, which contains the encoded transactions, as a two-dimensional
+     *                     {@link Integer} array. The array may not be null
+     * @return An {@link Integer} array, which contains the weights. The array may not be null
+     */
+    @NotNull
+    private static int[] createWeights(@NotNull final int[][] transactions) {
+        ensureNotNull(transactions, "The array may not be null");
+        int[] weights = new int[transactions.length];
+        Arrays.fill(weights, 1);
+        return weights;
+    }
+
+    /**
+     * Creates a new data set, whose transactions have been encoded, from a hash table, which
+     * contains the distinct transactions.
+     *
+     * @param dictionary       The dictionary, which has been used to encode the transactions, as an
+     *                         instance of the class {@link ItemDictionary}. The dictionary may not
+     *                         be null
+     * @param table            The hash table, which contains the distinct transactions, as an
+     *                         instance of the class {@link TransactionTable}. The table may not be
+     *                         null
+     * @param transactionCount The total number of transactions, including those, which have been
+     *                         omitted, as an {@link Integer} value
+     */
+    private EncodedTransactions(@NotNull final ItemDictionary<ItemType> dictionary,
+                                @NotNull final TransactionTable table, final int transactionCount) {
+        this(dictionary, table.getTransactions(), table.getWeights(), transactionCount);
+    }
+
+    /**
+     * Encodes the transactions of a data set. All items, which do not reach a specific minimum
+     * support, are omitted.
+     *
+     * @param <T>        The type of the items, the transactions consist of
+     * @param iterator   An iterator, which allows to iterate the transactions of the data set, as
+     *                   an instance of the type {@link Iterator}. The iterator may not be null
+     * @param minSupport The minimum support, which must at least be reached by an item in order to
+     *                   be added to the dictionary, as a {@link Double} value. The support must be
+     *                   at least 0 and at maximum 1
+     * @return The encoded data set as an instance of the class {@link EncodedTransactions}. The
+     * data set may not be null
+     */
+    @NotNull
+    public static <T extends Item> EncodedTransactions<T> encode(
+            @NotNull final Iterator<Transaction<T>> iterator, final double minSupport) {
+        ensureNotNull(iterator, "The iterator may not be null");
+        return encode(TransactionSource.of(iterator), minSupport);
+    }
+
+    /**
+     * Counts the number of transactions, which contain the individual items of a data set.
+     *
+     * @param <T>         The type of the items, the transactions consist of
+     * @param source      The source, which provides the transactions of the data set, as an
+     *                    instance of the type {@link TransactionSource}. The source may not be null
+     * @param frequencies The map, the frequencies of the items should be added to, as an instance
+     *                    of the type {@link Map}. The map may not be null
+     * @return The number of transactions, which have been traversed, as an {@link Integer} value
+     */
+    private static <T extends Item> int countFrequencies(
+            @NotNull final TransactionSource<T> source,
+            @NotNull final Map<T, Integer> frequencies) {
+        Set<T> distinctItems = new HashSet<>();
+        Iterator<Transaction<T>> iterator = source.open();
+        Transaction<T> transaction;
+        int transactionCount = 0;
+
+        while ((transaction = iterator.next()) != null) {
+            transactionCount++;
+
+            for (T item : transaction) {
+                if (distinctItems.add(item)) {
+                    frequencies.merge(item, 1, Integer::sum);
+                }
+            }
+
+            distinctItems.clear();
+        }
+
+        return transactionCount;
+    }
+
+    /**
+     * Encodes the transactions, which are provided by a source, by using a specific dictionary.
+     * Transactions, which do not contain any items of the dictionary, are omitted.
+     *
+     * @param <T>              The type of the items, the transactions consist of
+     * @param source           The source, which provides the transactions, as an instance of the
+     *                         type {@link TransactionSource}. The source may not be null
+     * @param dictionary       The dictionary, which should be used, as an instance of the class
+     *                         {@link ItemDictionary}. The dictionary may not be null
+     * @param transactionCount The number of transactions, which are provided by the source, as an
+     *                         {@link Integer} value
+     * @return A hash table, which contains the distinct encoded transactions, as an instance of
+     * the class {@link TransactionTable}. The table may not be null
+     */
+    @NotNull
+    private static <T extends Item> TransactionTable encodeTransactions(
+            @NotNull final TransactionSource<T> source,
+            @NotNull final ItemDictionary<T> dictionary, final int transactionCount) {
+        TransactionTable table = new TransactionTable();
+        Iterator<Transaction<T>> iterator = source.open();
+        Transaction<T> transaction;
+        int index = 0;
+
+        while ((transaction = iterator.next()) != null && index < transactionCount) {
+            int[] encodedTransaction = dictionary.encode(transaction);
+            index++;
+
+            if (encodedTransaction.length > 0) {
+                table.add(encodedTransaction, 1);
+            }
+        }
+
+        return table;
+    }
+
+    /**
+     * Encodes the transactions, which are provided by a source, which stores them as integer ids,
+     * by mapping the ids to the ones of a specific dictionary. Transactions, which do not contain
+     * any items of the dictionary, are omitted.
+     *
+     * @param <T>    The type of the items, the transactions consist of
+     * @param source The source, which provides the transactions, as an instance of the type {@link
+     *               EncodedTransactionSource}. The source may not be null
+     * @param ids    An {@link Integer} array, which contains the ids of the dictionary, the ids of
+     *               the source correspond to, or -1, if an item is not contained by the
+     *               dictionary. The array may not be null
+     * @param sorted True, if mapping the ids retains their order, false otherwise
+     * @return A hash table, which contains the distinct encoded transactions, as an instance of
+     * the class {@link TransactionTable}. The table may not be null
+     */
+    @NotNull
+    private static <T extends Item> TransactionTable encodeTransactions(
+            @NotNull final EncodedTransactionSource<T> source, @NotNull final int[] ids,
+            final boolean sorted) {
+        TransactionTable table = new TransactionTable();
+        Iterator<int[]> iterator = source.openEncoded();
+        int transactionCount = source.getTransactionCount();
+        int[] transaction;
+        int index = 0;
+
+        while ((transaction = iterator.next()) != null && index < transactionCount) {
+            int size = 0;
+            index++;
+
+            for (int id : transaction) {
+                int mappedId = ids[id];
+
+                if (mappedId >= 0) {
+                    transaction[size++] = mappedId;
+                }
+            }
+
+            if (size > 0) {
+                if (!sorted) {
+                    Arrays.sort(transaction, 0, size);
+                }
+
+                table.add(size < transaction.length ? Arrays.copyOf(transaction, size) :
+                        transaction, 1);
+            }
+        }
+
+        return table;
+    }
+
+    /**
+     * Encodes the transactions, which are provided by a source, which stores them as integer ids.
+     * Neither the items of the transactions must be created, nor must they be hashed. If the
+     * source knows the frequencies of its items, it is only traversed once.
+     *
+     * @param <T>         The type of the items, the transactions consist of
+     * @param source      The source, which provides the transactions of the data set, as an
+     *                    instance of the type {@link EncodedTransactionSource}. The source may not
+     *                    be null
+     * @param minSupport  The minimum support, which must at least be reached by an item in order
+     *                    to be added to the dictionary, as a {@link Double} value
+     * @param parallelism The number of threads, which should be used, as an {@link Integer} value
+     * @return The encoded data set as an instance of the class {@link EncodedTransactions}. The
+     * data set may not be null
+     */
+    @NotNull
+    private static <T extends Item> EncodedTransactions<T> encode(
+            @NotNull final EncodedTransactionSource<T> source, final double minSupport,
+            final int parallelism) {
+        List<T> items = source.getItems();
+        int[] frequencies = source.countFrequencies();
+        int transactionCount = source.getTransactionCount();
+        int minOccurrences = calculateMinOccurrences(transactionCount, minSupport);
+        Map<T, Integer> frequentItems = new HashMap<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            if (frequencies[i] >= minOccurrences) {
+                frequentItems.put(items.get(i), frequencies[i]);
+            }
+        }
+
+        ItemDictionary<T> dictionary = new ItemDictionary<>(frequentItems);
+        int[] ids = new int[items.size()];
+        boolean sorted = true;
+        int previousId = -1;
+
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = frequencies[i] >= minOccurrences ? dictionary.getId(items.get(i)) : -1;
+
+            if (ids[i] >= 0) {
+                sorted &= ids[i] > previousId;
+                previousId = ids[i];
+            }
+        }
+
+        List<TransactionSource<T>> parts =
+                parallelism > 1 ? source.split(parallelism) : Collections.singletonList(source);
+
+        if (parts.size() <= 1) {
+            return new EncodedTransactions<>(dictionary, encodeTransactions(source, ids, sorted),
+                    transactionCount);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        try {
+            List<ForkJoinTask<TransactionTable>> encodingTasks = new ArrayList<>(parts.size());
+            boolean retainsOrder = sorted;
+
+            for (TransactionSource<T> part : parts) {
+                encodingTasks.add(pool.submit(() -> encodeTransactions(
+                        (EncodedTransactionSource<T>) part, ids, retainsOrder)));
+            }
+
+            TransactionTable table = new TransactionTable();
+
+            for (ForkJoinTask<TransactionTable> task : encodingTasks) {
+                table.addAll(task.join());
+            }
+
+            return new EncodedTransactions<>(dictionary, table, transactionCount);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Encodes the transactions, which are provided by a source. All items, which do not reach a
+     * specific minimum support, are omitted. The source is traversed twice. The first pass counts
+     * the frequencies of the items, while the second pass encodes the transactions.
+     *
+     * @param <T>        The type of the items, the transactions consist of
+     * @param source     The source, which provides the transactions of the data set, as an
+     *                   instance of the type {@link TransactionSource}. The source may not be null
+     * @param minSupport The minimum support, which must at least be reached by an item in order to
+     *                   be added to the dictionary, as a {@link Double} value. The support must be
+     *                   at least 0 and at maximum 1
+     * @return The encoded data set as an instance of the class {@link EncodedTransactions}. The
+     * data set may not be null
+     */
+    @NotNull
+    public static <T extends Item> EncodedTransactions<T> encode(
+            @NotNull final TransactionSource<T> source, final double minSupport) {
+        return encode(source, minSupport, 1);
+    }
+
+    /**
+     * Encodes the transactions, which are provided by a source, by using multiple threads. All
+     * items, which do not reach a specific minimum support, are omitted. The source is split into
+     * as many parts as threads are used and each part is traversed twice by one of the threads.
+     * The encoded transactions retain the order, in which they are provided by the source. If the
+     * source is an {@link EncodedTransactionSource}, the ids of its transactions are mapped to the
+     * ids of the dictionary without creating any items.
+     *
+     * @param <T>         The type of the items, the transactions consist of
+     * @param source      The source, which provides the transactions of the data set, as an
+     *                    instance of the type {@link TransactionSource}. The source may not be null
+     * @param minSupport  The minimum support, which must at least be reached by an item in order
+     *                    to be added to the dictionary, as a {@link Double} value. The support must
+     *                    be at least 0 and at maximum 1
+     * @param parallelism The number of threads, which should be used, as an {@link Integer} value.
+     *                    The number of threads must be at least 1
+     * @return The encoded data set as an instance of the class {@link EncodedTransactions}. The
+     * data set may not be null
+     */
+    @NotNull
+    public static <T extends Item> EncodedTransactions<T> encode(
+            @NotNull final TransactionSource<T> source, final double minSupport,
+            final int parallelism) {
+        ensureNotNull(source, "The source may not be null");
+        ensureAtLeast(minSupport, 0, "The minimum support must be at least 0");
+        ensureAtMaximum(minSupport, 1, "The minimum support must be at maximum 1");
+        ensureAtLeast(parallelism, 1, "The parallelism must be at least 1");
+
+        if (source instanceof EncodedTransactionSource) {
+            return encode((EncodedTransactionSource<T>) source, minSupport, parallelism);
+        }
+
+        List<TransactionSource<T>> parts =
+                parallelism > 1 ? source.split(parallelism) : Collections.singletonList(source);
+
+        if (parts.size() <= 1) {
+            Map<T, Integer> frequencies = new HashMap<>();
+            int transactionCount = countFrequencies(source, frequencies);
+            int minOccurrences = calculateMinOccurrences(transactionCount, minSupport);
+            frequencies.values().removeIf(frequency -> frequency < minOccurrences);
+            ItemDictionary<T> dictionary = new ItemDictionary<>(frequencies);
+            return new EncodedTransactions<>(dictionary,
+                    encodeTransactions(source, dictionary, transactionCount), transactionCount);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        try {
+            List<ForkJoinTask<Map<T, Integer>>> countingTasks = new ArrayList<>(parts.size());
+            int[] transactionCounts = new int[parts.size()];
+
+            for (int i = 0; i < parts.size(); i++) {
+                TransactionSource<T> part = parts.get(i);
+                int index = i;
+                countingTasks.add(pool.submit(() -> {
+                    Map<T, Integer> partialFrequencies = new HashMap<>();
+                    transactionCounts[index] = countFrequencies(part, partialFrequencies);
+                    return partialFrequencies;
+                }));
+            }
+
+            Map<T, Integer> frequencies = new HashMap<>();
+
+            for (ForkJoinTask<Map<T, Integer>> task : countingTasks) {
+                task.join().forEach((item, frequency) ->
+                        frequencies.merge(item, frequency, Integer::sum));
+            }
+
+            int transactionCount = Arrays.stream(transactionCounts).sum();
+            int minOccurrences = calculateMinOccurrences(transactionCount, minSupport);
+            frequencies.values().removeIf(frequency -> frequency < minOccurrences);
+            ItemDictionary<T> dictionary = new ItemDictionary<>(frequencies);
+            List<ForkJoinTask<TransactionTable>> encodingTasks = new ArrayList<>(parts.size());
+
+            for (int i = 0; i < parts.size(); i++) {
+                TransactionSource<T> part = parts.get(i);
+                int count = transactionCounts[i];
+                encodingTasks.add(pool.submit(() -> encodeTransactions(part, dictionary, count)));
+            }
+
+            TransactionTable table = new TransactionTable();
+
+            for (ForkJoinTask<TransactionTable> task : encodingTasks) {
+                table.addAll(task.join());
+            }
+
+            return new EncodedTransactions<>(dictionary, table, transactionCount);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Calculates and returns the minimum number of transactions, an item set must occur in to
+     * reach a specific minimum support.
+     *
+     * @param transactionCount The total number of transactions as an {@link Integer} value
+     * @param minSupport       The minimum support as a {@link Double} value
+     * @return The minimum number of transactions as an {@link Integer} value. The number of
+     * transactions is at least 1
+     */
+    public static int calculateMinOccurrences(final int transactionCount,
+                                              final double minSupport) {
+        int minOccurrences = (int) Math.ceil(minSupport * transactionCount);
+
+        while (minOccurrences > 1 &&
+                calculateSupport(transactionCount, minOccurrences - 1) >= minSupport) {
+            minOccurrences--;
+        }
+
+        while (minOccurrences <= transactionCount &&
+                calculateSupport(transactionCount, minOccurrences) < minSupport) {
+            minOccurrences++;
+        }
+
+        return Math.max(minOccurrences, 1);
+    }
+
+    /**
+     * Calculates and returns the support of an item set.
+     *
+     * @param transactionCount The total number of transactions as an {@link Integer} value
+     * @param occurrences      The number of transactions, the item set occurs in, as an {@link
+     *                         Integer} value
+     * @return The support, which has been calculated, as a {@link Double} value
+     */
+    private static double calculateSupport(final int transactionCount, final int occurrences) {
+        return transactionCount > 0 ? (double) occurrences / (double) transactionCount : 0;
+    }
+
+    /**
+     * Returns the dictionary, which has been used to encode the transactions.
+     *
+     * @return The dictionary, which has been used to encode the transactions, as an instance of
+     * the class {@link ItemDictionary}. The dictionary may not be null
+     */
+    @NotNull
+    public final ItemDictionary<ItemType> getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Returns the encoded transactions.
+     *
+     * @return An array, which contains the encoded transactions, as a two-dimensional {@link
+     * Integer} array. The array may not be null
+     */
+    @NotNull
+    public final int[][] getTransactions() {
+        return transactions;
+    }
+
+    /**
+     * Returns the weights of the encoded transactions, i.e. the number of times they occur in the
+     * data set. When counting the number of transactions, an item set occurs in, the weights of
+     * the transactions, which contain the item set, must be summed up.
+     *
+     * @return An array, which contains the weights of the encoded transactions in the same order
+     * as the transactions, as an {@link Integer} array. The array may not be null
+     */
+    @NotNull
+    public final int[] getWeights() {
+        return weights;
+    }
+
+    /**
+     * Returns, whether any encoded transaction has a weight greater than 1, i.e. whether the data
+     * set contains duplicate transactions, or not.
+     *
+     * @return True, if any encoded transaction has a weight greater than 1, false otherwise
+     */
+    public final boolean isWeighted() {
+        return weighted;
+    }
+
+    /**
+     * Returns the total number of transactions, including those, which have been omitted, because
+     * they do not contain any frequent items.
+     *
+     * @return The total number of transactions as an {@link Integer} value
+     */
+    public final int getTransactionCount() {
+        return transactionCount;
+    }
+
+    /**
+     * Calculates and returns the support of an item set, which occurs in a specific number of
+     * transactions.
+     *
+     * @param occurrences The number of transactions, the item set occurs in, as an {@link Integer}
+     *                    value. The number must be at least 0
+     * @return The support, which has been calculated, as a {@link Double} value
+     */
+    public final double calculateSupport(final int occurrences) {
+        return calculateSupport(transactionCount, occurrences);
+    }
+
+    /**
+     * Calculates and returns the minimum number of transactions, an item set must occur in to
+     * reach a specific minimum support.
+     *
+     * @param minSupport The minimum support, which must be reached, as a {@link Double} value. The
+     *                   support must be at least 0 and at maximum 1
+     * @return The minimum number of transactions, which has been calculated, as an {@link Integer}
+     * value. The number of transactions is at least 1
+     */
+    public final int calculateMinOccurrences(final double minSupport) {
+        ensureAtLeast(minSupport, 0, "The minimum support must be at least 0");
+        ensureAtMaximum(minSupport, 1, "The minimum support must be at maximum 1");
+        return calculateMinOccurrences(transactionCount, minSupport);
+    }
+
+}
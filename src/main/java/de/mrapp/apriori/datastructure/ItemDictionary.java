@@ -0,0 +1,242 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.datastructure;
+
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.ItemSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+import static de.mrapp.util.Condition.ensureAtLeast;
+import static de.mrapp.util.Condition.ensureNotNull;
+import static de.mrapp.util.Condition.ensureSmaller;
+
+/**
+ * A dictionary, which maps items to dense integer ids. The ids are assigned in descending order of
+ * the items' frequencies, i.e. the most frequent item is mapped to the id 0. Items with the same
+ * frequency are ordered according to their natural ordering. This allows to process transactions
+ * as sorted {@link Integer} arrays, while the items are only needed when decoding the final
+ * results.
+ *
+ * @param <ItemType> The type of the items, which are contained by the dictionary
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public class ItemDictionary<ItemType extends Item> {
+
+    /**
+     * A list, which contains the items, which are contained by the dictionary, in the order of
+     * their ids.
+     */
+    private final List<ItemType> items;
+
+    /**
+     * A map, which contains the ids of the items, which are contained by the dictionary.
+     */
+    private final Map<ItemType, Integer> ids;
+
+    /**
+     * An array, which contains the frequencies of the items, which are contained by the
+     * dictionary, in the order of their ids.
+     */
+    private final int[] frequencies;
+
+    /**
+     * Creates a new dictionary, which maps items to dense integer ids.
+     *
+     * @param frequencies A map, which contains the items, which should be added to the dictionary,
+     *                    as keys and their frequencies, i.e. the number of transactions they occur
+     *                    in, as values, as an instance of the type {@link Map}. The map may not be
+     *                    null
+     */
+    public ItemDictionary(@NotNull final Map<ItemType, Integer> frequencies) {
+        ensureNotNull(frequencies, "The map may not be null");
+        this.items = new ArrayList<>(frequencies.keySet());
+        this.items.sort((item1, item2) -> {
+            int result = Integer.compare(frequencies.get(item2), frequencies.get(item1));
+            return result != 0 ? result : item1.compareTo(item2);
+        });
+        this.ids = new HashMap<>(items.size() * 2);
+        this.frequencies = new int[items.size()];
+
+        for (int i = 0; i < items.size(); i++) {
+            ItemType item = items.get(i);
+            ids.put(item, i);
+            this.frequencies[i] = frequencies.get(item);
+        }
+    }
+
+    /**
+     * Creates a new dictionary, which maps items to dense integer ids. As no frequencies are
+     * known, the ids are assigned according to the natural ordering of the items and the
+     * frequencies of all items are 0.
+     *
+     * @param items A collection, which contains the items, which should be added to the
+     *              dictionary, as an instance of the type {@link Collection}. The collection may
+     *              not be null
+     */
+    public ItemDictionary(@NotNull final Collection<ItemType> items) {
+        this(createFrequencies(items));
+    }
+
+    /**
+     * Creates and returns a map, which assigns the same frequency to all items of a specific
+     * collection.
+     *
+     * @param <T>   The type of the items
+     * @param items A collection, which contains the items, as an instance of the type {@link
+     *              Collection}. The collection may not be null
+     * @return A map, which contains the given items as keys and the frequency 0 as values, as an
+     * instance of the type {@link Map}. The map may not be null
+     */
+    @NotNull
+    private static <T extends Item> Map<T, Integer> createFrequencies(
+            @NotNull final Collection<T> items) {
+        ensureNotNull(items, "The collection may not be null");
+        Map<T, Integer> frequencies = new HashMap<>(items.size() * 2);
+
+        for (T item : items) {
+            frequencies.put(item, 0);
+        }
+
+        return frequencies;
+    }
+
+    /**
+     * Returns the number of items, which are contained by the dictionary.
+     *
+     * @return The number of items, which are contained by the dictionary, as an {@link Integer}
+     * value
+     */
+    public final int size() {
+        return items.size();
+    }
+
+    /**
+     * Returns the id of a specific item.
+     *
+     * @param item The item, whose id should be returned, as an instance of the generic type
+     *             ItemType. The item may not be null
+     * @return The id of the given item as an {@link Integer} value or -1, if the item is not
+     * contained by the dictionary
+     */
+    public final int getId(@NotNull final ItemType item) {
+        Integer id = ids.get(item);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Returns the item, which corresponds to a specific id.
+     *
+     * @param id The id of the item, which should be returned, as an {@link Integer} value. The id
+     *           must be at least 0 and less than the size of the dictionary
+     * @return The item, which corresponds to the given id, as an instance of the generic type
+     * ItemType. The item may not be null
+     */
+    @NotNull
+    public final ItemType getItem(final int id) {
+        ensureAtLeast(id, 0, "The id must be at least 0");
+        ensureSmaller(id, items.size(), "The id must be less than " + items.size());
+        return items.get(id);
+    }
+
+    /**
+     * Returns the frequency of the item, which corresponds to a specific id.
+     *
+     * @param id The id of the item, whose frequency should be returned, as an {@link Integer}
+     *           value. The id must be at least 0 and less than the size of the dictionary
+     * @return The frequency of the item, which corresponds to the given id, i.e. the number of
+     * transactions it occurs in, as an {@link Integer} value
+     */
+    public final int getFrequency(final int id) {
+        ensureAtLeast(id, 0, "The id must be at least 0");
+        ensureSmaller(id, items.size(), "The id must be less than " + items.size());
+        return frequencies[id];
+    }
+
+    /**
+     * Encodes several items by mapping them to their ids. Items, which are not contained by the
+     * dictionary, are omitted.
+     *
+     * @param items An iterable, which allows to iterate the items, which should be encoded, as an
+     *              instance of the type {@link Iterable}. The iterable may not be null
+     * @return An array, which contains the distinct ids of the given items in ascending order, as
+     * an {@link Integer} array. The array may not be null
+     */
+    @NotNull
+    public final int[] encode(@NotNull final Iterable<? extends ItemType> items) {
+        ensureNotNull(items, "The iterable may not be null");
+        int[] result = new int[8];
+        int size = 0;
+
+        for (ItemType item : items) {
+            Integer id = ids.get(item);
+
+            if (id != null) {
+                if (size == result.length) {
+                    result = Arrays.copyOf(result, size * 2);
+                }
+
+                result[size++] = id;
+            }
+        }
+
+        Arrays.sort(result, 0, size);
+        int distinct = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || result[distinct - 1] != result[i]) {
+                result[distinct++] = result[i];
+            }
+        }
+
+        return Arrays.copyOf(result, distinct);
+    }
+
+    /**
+     * Encodes the items of a specific item set by mapping them to their ids. Items, which are not
+     * contained by the dictionary, are omitted.
+     *
+     * @param itemSet The item set, which should be encoded, as an instance of the class {@link
+     *                ItemSet}. The item set may not be null
+     * @return The encoded item set as an instance of the class {@link EncodedItemSet}. The item set
+     * may not be null
+     */
+    @NotNull
+    public final EncodedItemSet encodeItemSet(@NotNull final ItemSet<ItemType> itemSet) {
+        return new EncodedItemSet(encode(itemSet));
+    }
+
+    /**
+     * Decodes an encoded item set by mapping the ids of its items to the corresponding items.
+     *
+     * @param itemSet The item set, which should be decoded, as an instance of the class {@link
+     *                EncodedItemSet}. The item set may not be null
+     * @return An item set, which contains the items, which correspond to the given ids, as an
+     * instance of the class {@link TransactionalItemSet}. The item set may not be null
+     */
+    @NotNull
+    public final TransactionalItemSet<ItemType> decode(@NotNull final EncodedItemSet itemSet) {
+        ensureNotNull(itemSet, "The item set may not be null");
+        TransactionalItemSet<ItemType> result = new TransactionalItemSet<>();
+
+        for (int i = 0; i < itemSet.size(); i++) {
+            result.add(getItem(itemSet.get(i)));
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.datastructure;
+
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+import static de.mrapp.util.Condition.ensureAtLeast;
+import static de.mrapp.util.Condition.ensureNotNull;
+
+/**
+ * A source, which provides the transactions, which are contained by an {@link Iterable}. Each pass
+ * obtains a new iterator from the iterable. If the iterable is a {@link List}, the source can be
+ * split into sub lists.
+ *
+ * @param <ItemType> The type of the items, the transactions consist of
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public class IterableTransactionSource<ItemType extends Item> implements
+        TransactionSource<ItemType> {
+
+    /**
+     * An iterator, which adapts a standard iterator, so that its <code>next</code> method returns
+     * null, once all elements have been traversed.
+     *
+     * @param <T> The type of the items, the transactions consist of
+     */
+    private static class TransactionIterator<T extends Item> implements Iterator<Transaction<T>> {
+
+        /**
+         * The iterator, which is adapted.
+         */
+        private final Iterator<? extends Transaction<T>> iterator;
+
+        /**
+         * Creates a new iterator.
+         *
+         * @param iterator The iterator, which should be adapted, as an instance of the type {@link
+         *                 Iterator}. The iterator may not be null
+         */
+        TransactionIterator(@NotNull final Iterator<? extends Transaction<T>> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public Transaction<T> next() {
+            return iterator.hasNext() ? iterator.next() : null;
+        }
+
+    }
+
+    /**
+     * The iterable, which contains the transactions.
+     */
+    private final Iterable<? extends Transaction<ItemType>> transactions;
+
+    /**
+     * Creates a new source, which provides the transactions, which are contained by an iterable.
+     *
+     * @param transactions The iterable, which contains the transactions, as an instance of the type
+     *                     {@link Iterable}. The iterable may not be null
+     */
+    public IterableTransactionSource(
+            @NotNull final Iterable<? extends Transaction<ItemType>> transactions) {
+        ensureNotNull(transactions, "The iterable may not be null");
+        this.transactions = transactions;
+    }
+
+    @NotNull
+    @Override
+    public final Iterator<Transaction<ItemType>> open() {
+        return new TransactionIterator<>(transactions.iterator());
+    }
+
+    @Override
+    public final int sizeHint() {
+        return transactions instanceof Collection ? ((Collection<?>) transactions).size() : -1;
+    }
+
+    @NotNull
+    @Override
+    public final List<TransactionSource<ItemType>> split(final int parts) {
+        ensureAtLeast(parts, 1, "The number of parts must be at least 1");
+
+        if (!(transactions instanceof List) || parts == 1) {
+            return Collections.singletonList(this);
+        }
+
+        List<? extends Transaction<ItemType>> list = (List<? extends Transaction<ItemType>>)
+                transactions;
+        int count = Math.max(Math.min(parts, list.size()), 1);
+        List<TransactionSource<ItemType>> result = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            int from = (int) ((long) list.size() * i / count);
+            int to = (int) ((long) list.size() * (i + 1) / count);
+            result.add(new IterableTransactionSource<>(list.subList(from, to)));
+        }
+
+        return result;
+    }
+
+}
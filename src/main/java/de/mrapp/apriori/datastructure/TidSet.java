@@ -0,0 +1,951 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.datastructure;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+import static de.mrapp.util.Condition.ensureAtLeast;
+import static de.mrapp.util.Condition.ensureNotNull;
+
+/**
+ * An immutable set of transaction ids, which is stored as a compressed bitmap in the style of
+ * Roaring bitmaps. The ids are partitioned into chunks of 65536 consecutive values, which share the
+ * same 16 most significant bits. Depending on the number and distribution of the ids within a
+ * chunk, the remaining 16 bits are stored by using one of the following containers:
+ *
+ * <ul>
+ * <li>An array container, which stores up to 4096 values as a sorted array.</li>
+ * <li>A bitmap container, which stores more than 4096 values as a bitmap of 65536 bits.</li>
+ * <li>A run container, which stores sequences of consecutive values as pairs of start values and
+ * lengths.</li>
+ * </ul>
+ *
+ * This allows to efficiently store tid-sets of items, which occur in very few transactions, as
+ * well as of items, which occur in almost all transactions.
+ *
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public final class TidSet {
+
+    /**
+     * A builder, which allows to create a {@link TidSet} by adding transaction ids in ascending
+     * order.
+     */
+    public static class Builder {
+
+        /**
+         * The keys of the containers, which have already been created.
+         */
+        private char[] keys = new char[4];
+
+        /**
+         * The containers, which have already been created.
+         */
+        private Container[] containers = new Container[4];
+
+        /**
+         * The number of containers, which have already been created.
+         */
+        private int size = 0;
+
+        /**
+         * The values of the current chunk, which have not been stored in a container yet.
+         */
+        private char[] values = new char[16];
+
+        /**
+         * The number of values of the current chunk.
+         */
+        private int valueCount = 0;
+
+        /**
+         * The key of the current chunk or -1, if no values have been added yet.
+         */
+        private int currentKey = -1;
+
+        /**
+         * The value, which has been added last, or -1, if no values have been added yet.
+         */
+        private int lastTid = -1;
+
+        /**
+         * Stores the values of the current chunk in a container.
+         */
+        private void flush() {
+            if (valueCount > 0) {
+                if (size == keys.length) {
+                    keys = Arrays.copyOf(keys, size * 2);
+                    containers = Arrays.copyOf(containers, size * 2);
+                }
+
+                keys[size] = (char) currentKey;
+                containers[size] = createContainer(values, valueCount);
+                size++;
+                valueCount = 0;
+            }
+        }
+
+        /**
+         * Adds a transaction id. The ids must be added in ascending order.
+         *
+         * @param tid The transaction id, which should be added, as an {@link Integer} value. The
+         *            id must be greater than the id, which has been added last
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NotNull
+        public final Builder add(final int tid) {
+            ensureAtLeast(tid, lastTid + 1, "The ids must be added in ascending order");
+            int key = tid >>> 16;
+
+            if (key != currentKey) {
+                flush();
+                currentKey = key;
+            }
+
+            if (valueCount == values.length) {
+                values = Arrays.copyOf(values, valueCount * 2);
+            }
+
+            values[valueCount++] = (char) tid;
+            lastTid = tid;
+            return this;
+        }
+
+        /**
+         * Creates the tid-set, which contains all transaction ids, which have been added so far.
+         *
+         * @return The tid-set, which has been created, as an instance of the class {@link TidSet}.
+         * The tid-set may not be null
+         */
+        @NotNull
+        public final TidSet build() {
+            flush();
+            return new TidSet(Arrays.copyOf(keys, size), Arrays.copyOf(containers, size));
+        }
+
+    }
+
+    /**
+     * An abstract base class for all containers, which store the 16 least significant bits of the
+     * transaction ids of a single chunk.
+     */
+    private abstract static class Container {
+
+        /**
+         * Returns the number of values, which are stored by the container.
+         *
+         * @return The number of values, which are stored by the container, as an {@link Integer}
+         * value
+         */
+        abstract int cardinality();
+
+        /**
+         * Returns, whether the container contains a specific value.
+         *
+         * @param value The value as a {@link Character} value
+         * @return True, if the container contains the given value, false otherwise
+         */
+        abstract boolean contains(char value);
+
+        /**
+         * Returns the intersection of this container and another one.
+         *
+         * @param other The other container as an instance of the class {@link Container}. The
+         *              container may not be null
+         * @return The intersection as an instance of the class {@link Container} or null, if the
+         * intersection is empty
+         */
+        abstract Container and(@NotNull Container other);
+
+        /**
+         * Returns the values of this container, which are not contained by another container.
+         *
+         * @param other The other container as an instance of the class {@link Container}. The
+         *              container may not be null
+         * @return The difference as an instance of the class {@link Container} or null, if the
+         * difference is empty
+         */
+        abstract Container andNot(@NotNull Container other);
+
+        /**
+         * Returns the number of values, which are contained by this container, as well as by
+         * another one.
+         *
+         * @param other The other container as an instance of the class {@link Container}. The
+         *              container may not be null
+         * @return The number of values, which are contained by both containers, as an {@link
+         * Integer} value
+         */
+        abstract int andCardinality(@NotNull Container other);
+
+        /**
+         * Writes the values of the container to an array.
+         *
+         * @param array  The array, the values should be written to, as an {@link Integer} array.
+         *               The array may not be null
+         * @param offset The index, the first value should be written to, as an {@link Integer}
+         *               value
+         * @param high   The 16 most significant bits, which should be added to each value, as an
+         *               {@link Integer} value
+         * @return The index, which follows the value, which has been written last, as an {@link
+         * Integer} value
+         */
+        abstract int toArray(@NotNull int[] array, int offset, int high);
+
+    }
+
+    /**
+     * A container, which stores up to 4096 values as a sorted array.
+     */
+    private static final class ArrayContainer extends Container {
+
+        /**
+         * The sorted values.
+         */
+        private final char[] values;
+
+        /**
+         * Creates a new array container.
+         *
+         * @param values The sorted values as a {@link Character} array. The array may not be null
+         */
+        ArrayContainer(@NotNull final char[] values) {
+            this.values = values;
+        }
+
+        @Override
+        int cardinality() {
+            return values.length;
+        }
+
+        @Override
+        boolean contains(final char value) {
+            return Arrays.binarySearch(values, value) >= 0;
+        }
+
+        @Override
+        Container and(@NotNull final Container other) {
+            char[] result = new char[values.length];
+            int count = 0;
+
+            if (other instanceof ArrayContainer) {
+                char[] otherValues = ((ArrayContainer) other).values;
+                int i = 0;
+                int j = 0;
+
+                while (i < values.length && j < otherValues.length) {
+                    char value1 = values[i];
+                    char value2 = otherValues[j];
+
+                    if (value1 == value2) {
+                        result[count++] = value1;
+                        i++;
+                        j++;
+                    } else if (value1 < value2) {
+                        i++;
+                    } else {
+                        j++;
+                    }
+                }
+            } else {
+                for (char value : values) {
+                    if (other.contains(value)) {
+                        result[count++] = value;
+                    }
+                }
+            }
+
+            return count > 0 ? new ArrayContainer(Arrays.copyOf(result, count)) : null;
+        }
+
+        @Override
+        Container andNot(@NotNull final Container other) {
+            char[] result = new char[values.length];
+            int count = 0;
+
+            if (other instanceof ArrayContainer) {
+                char[] otherValues = ((ArrayContainer) other).values;
+                int j = 0;
+
+                for (char value : values) {
+                    while (j < otherValues.length && otherValues[j] < value) {
+                        j++;
+                    }
+
+                    if (j == otherValues.length || otherValues[j] != value) {
+                        result[count++] = value;
+                    }
+                }
+            } else {
+                for (char value : values) {
+                    if (!other.contains(value)) {
+                        result[count++] = value;
+                    }
+                }
+            }
+
+            return count > 0 ? new ArrayContainer(Arrays.copyOf(result, count)) : null;
+        }
+
+        @Override
+        int andCardinality(@NotNull final Container other) {
+            int count = 0;
+
+            if (other instanceof ArrayContainer) {
+                char[] otherValues = ((ArrayContainer) other).values;
+                int i = 0;
+                int j = 0;
+
+                while (i < values.length && j < otherValues.length) {
+                    char value1 = values[i];
+                    char value2 = otherValues[j];
+
+                    if (value1 == value2) {
+                        count++;
+                        i++;
+                        j++;
+                    } else if (value1 < value2) {
+                        i++;
+                    } else {
+                        j++;
+                    }
+                }
+            } else {
+                for (char value : values) {
+                    if (other.contains(value)) {
+                        count++;
+                    }
+                }
+            }
+
+            return count;
+        }
+
+        @Override
+        int toArray(@NotNull final int[] array, final int offset, final int high) {
+            int index = offset;
+
+            for (char value : values) {
+                array[index++] = high | value;
+            }
+
+            return index;
+        }
+
+    }
+
+    /**
+     * A container, which stores more than 4096 values as a bitmap of 65536 bits.
+     */
+    private static final class BitmapContainer extends Container {
+
+        /**
+         * The bitmap.
+         */
+        private final long[] bits;
+
+        /**
+         * The number of bits, which are set.
+         */
+        private final int cardinality;
+
+        /**
+         * Creates a new bitmap container.
+         *
+         * @param bits        The bitmap as a {@link Long} array of length 1024. The array may not
+         *                    be null
+         * @param cardinality The number of bits, which are set, as an {@link Integer} value
+         */
+        BitmapContainer(@NotNull final long[] bits, final int cardinality) {
+            this.bits = bits;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(final char value) {
+            return (bits[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        Container and(@NotNull final Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+
+            long[] otherBits = toBitmap(other);
+            long[] result = new long[BITMAP_WORDS];
+            int count = 0;
+
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = bits[i] & otherBits[i];
+                result[i] = word;
+                count += Long.bitCount(word);
+            }
+
+            return createContainer(result, count);
+        }
+
+        @Override
+        Container andNot(@NotNull final Container other) {
+            long[] result = bits.clone();
+            int count = cardinality;
+
+            if (other instanceof ArrayContainer) {
+                for (char value : ((ArrayContainer) other).values) {
+                    long mask = 1L << value;
+                    int index = value >>> 6;
+
+                    if ((result[index] & mask) != 0) {
+                        result[index] &= ~mask;
+                        count--;
+                    }
+                }
+            } else {
+                long[] otherBits = toBitmap(other);
+                count = 0;
+
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    long word = result[i] & ~otherBits[i];
+                    result[i] = word;
+                    count += Long.bitCount(word);
+                }
+            }
+
+            return createContainer(result, count);
+        }
+
+        @Override
+        int andCardinality(@NotNull final Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.andCardinality(this);
+            }
+
+            long[] otherBits = toBitmap(other);
+            int count = 0;
+
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                count += Long.bitCount(bits[i] & otherBits[i]);
+            }
+
+            return count;
+        }
+
+        @Override
+        int toArray(@NotNull final int[] array, final int offset, final int high) {
+            int index = offset;
+
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = bits[i];
+
+                while (word != 0) {
+                    array[index++] = high | (i << 6) | Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+
+            return index;
+        }
+
+    }
+
+    /**
+     * A container, which stores sequences of consecutive values as pairs of start values and
+     * lengths.
+     */
+    private static final class RunContainer extends Container {
+
+        /**
+         * The start values and the lengths minus one of the runs in an alternating order.
+         */
+        private final char[] runs;
+
+        /**
+         * The number of values, which are stored by the container.
+         */
+        private final int cardinality;
+
+        /**
+         * Creates a new run container.
+         *
+         * @param runs        The start values and the lengths minus one of the runs in an
+         *                    alternating order as a {@link Character} array. The array may not be
+         *                    null
+         * @param cardinality The number of values, which are stored by the container, as an {@link
+         *                    Integer} value
+         */
+        RunContainer(@NotNull final char[] runs, final int cardinality) {
+            this.runs = runs;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Converts the container into an array or bitmap container, depending on its cardinality.
+         *
+         * @return The container, which has been created, as an instance of the class {@link
+         * Container}. The container may not be null
+         */
+        @NotNull
+        private Container convert() {
+            if (cardinality <= ARRAY_MAX_SIZE) {
+                int[] values = new int[cardinality];
+                toArray(values, 0, 0);
+                char[] result = new char[cardinality];
+
+                for (int i = 0; i < cardinality; i++) {
+                    result[i] = (char) values[i];
+                }
+
+                return new ArrayContainer(result);
+            }
+
+            return new BitmapContainer(toBitmap(this), cardinality);
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(final char value) {
+            int low = 0;
+            int high = runs.length / 2 - 1;
+
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int start = runs[2 * mid];
+
+                if (value < start) {
+                    high = mid - 1;
+                } else if (value > start + runs[2 * mid + 1]) {
+                    low = mid + 1;
+                } else {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        Container and(@NotNull final Container other) {
+            return other instanceof ArrayContainer ? other.and(this) : convert().and(other);
+        }
+
+        @Override
+        Container andNot(@NotNull final Container other) {
+            return convert().andNot(other);
+        }
+
+        @Override
+        int andCardinality(@NotNull final Container other) {
+            return other instanceof ArrayContainer ? other.andCardinality(this) :
+                    convert().andCardinality(other);
+        }
+
+        @Override
+        int toArray(@NotNull final int[] array, final int offset, final int high) {
+            int index = offset;
+
+            for (int i = 0; i < runs.length; i += 2) {
+                int start = runs[i];
+                int end = start + runs[i + 1];
+
+                for (int value = start; value <= end; value++) {
+                    array[index++] = high | value;
+                }
+            }
+
+            return index;
+        }
+
+    }
+
+    /**
+     * The maximum number of values, which are stored by an array container.
+     */
+    private static final int ARRAY_MAX_SIZE = 4096;
+
+    /**
+     * The number of words of a bitmap container.
+     */
+    private static final int BITMAP_WORDS = 1024;
+
+    /**
+     * An empty tid-set.
+     */
+    public static final TidSet EMPTY = new TidSet(new char[0], new Container[0]);
+
+    /**
+     * The 16 most significant bits of the transaction ids, which are stored by the containers, in
+     * ascending order.
+     */
+    private final char[] keys;
+
+    /**
+     * The containers, which correspond to the keys.
+     */
+    private final Container[] containers;
+
+    /**
+     * The number of transaction ids, which are contained by the tid-set.
+     */
+    private final int cardinality;
+
+    /**
+     * Creates a new tid-set.
+     *
+     * @param keys       The 16 most significant bits of the transaction ids, which are stored by
+     *                   the given containers, in ascending order, as a {@link Character} array.
+     *                   The array may not be null
+     * @param containers The containers, which correspond to the given keys, as an array of the
+     *                   type {@link Container}. The array may not be null
+     */
+    private TidSet(@NotNull final char[] keys, @NotNull final Container[] containers) {
+        this.keys = keys;
+        this.containers = containers;
+        int cardinality = 0;
+
+        for (Container container : containers) {
+            cardinality += container.cardinality();
+        }
+
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Creates and returns a container, which stores specific values. Depending on the number of
+     * values and the number of runs they form, the smallest representation is chosen.
+     *
+     * @param values An array, which contains the values in ascending order, as a {@link
+     *               Character} array. The array may not be null
+     * @param count  The number of values as an {@link Integer} value
+     * @return The container, which has been created, as an instance of the class {@link
+     * Container}. The container may not be null
+     */
+    @NotNull
+    private static Container createContainer(@NotNull final char[] values, final int count) {
+        int runCount = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || values[i] != values[i - 1] + 1) {
+                runCount++;
+            }
+        }
+
+        int runSize = 4 * runCount;
+        int otherSize = count <= ARRAY_MAX_SIZE ? 2 * count : 8 * BITMAP_WORDS;
+
+        if (runSize < otherSize) {
+            char[] runs = new char[2 * runCount];
+            int run = -1;
+
+            for (int i = 0; i < count; i++) {
+                if (i == 0 || values[i] != values[i - 1] + 1) {
+                    run++;
+                    runs[2 * run] = values[i];
+                } else {
+                    runs[2 * run + 1]++;
+                }
+            }
+
+            return new RunContainer(runs, count);
+        } else if (count <= ARRAY_MAX_SIZE) {
+            return new ArrayContainer(Arrays.copyOf(values, count));
+        }
+
+        long[] bits = new long[BITMAP_WORDS];
+
+        for (int i = 0; i < count; i++) {
+            bits[values[i] >>> 6] |= 1L << values[i];
+        }
+
+        return new BitmapContainer(bits, count);
+    }
+
+    /**
+     * Creates and returns a container from a bitmap. If the bitmap contains only a few values, an
+     * array container is created instead of a bitmap container.
+     *
+     * @param bits        The bitmap as a {@link Long} array. The array may not be null
+     * @param cardinality The number of bits, which are set, as an {@link Integer} value
+     * @return The container, which has been created, as an instance of the class {@link Container}
+     * or null, if the bitmap is empty
+     */
+    private static Container createContainer(@NotNull final long[] bits, final int cardinality) {
+        if (cardinality == 0) {
+            return null;
+        } else if (cardinality > ARRAY_MAX_SIZE) {
+            return new BitmapContainer(bits, cardinality);
+        }
+
+        int[] values = new int[cardinality];
+        new BitmapContainer(bits, cardinality).toArray(values, 0, 0);
+        char[] result = new char[cardinality];
+
+        for (int i = 0; i < cardinality; i++) {
+            result[i] = (char) values[i];
+        }
+
+        return new ArrayContainer(result);
+    }
+
+    /**
+     * Returns the bitmap, which corresponds to a specific container.
+     *
+     * @param container The container as an instance of the class {@link Container}. The container
+     *                  may not be null
+     * @return The bitmap as a {@link Long} array of length 1024. The array may not be null
+     */
+    @NotNull
+    private static long[] toBitmap(@NotNull final Container container) {
+        if (container instanceof BitmapContainer) {
+            return ((BitmapContainer) container).bits;
+        }
+
+        long[] bits = new long[BITMAP_WORDS];
+        int[] values = new int[container.cardinality()];
+        container.toArray(values, 0, 0);
+
+        for (int value : values) {
+            bits[value >>> 6] |= 1L << value;
+        }
+
+        return bits;
+    }
+
+    /**
+     * Creates and returns a tid-set, which contains specific transaction ids.
+     *
+     * @param tids The transaction ids, which should be contained by the tid-set, as an {@link
+     *             Integer} array. The ids must be at least 0. Duplicates are removed
+     * @return The tid-set, which has been created, as an instance of the class {@link TidSet}. The
+     * tid-set may not be null
+     */
+    @NotNull
+    public static TidSet of(@NotNull final int... tids) {
+        ensureNotNull(tids, "The array may not be null");
+        int[] sortedTids = tids.clone();
+        Arrays.sort(sortedTids);
+        Builder builder = new Builder();
+        int previous = -1;
+
+        for (int tid : sortedTids) {
+            if (tid != previous) {
+                builder.add(tid);
+                previous = tid;
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns the number of transaction ids, which are contained by the tid-set.
+     *
+     * @return The number of transaction ids, which are contained by the tid-set, as an {@link
+     * Integer} value
+     */
+    public int getCardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Returns, whether the tid-set is empty, or not.
+     *
+     * @return True, if the tid-set is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Returns, whether the tid-set contains a specific transaction id.
+     *
+     * @param tid The transaction id as an {@link Integer} value
+     * @return True, if the tid-set contains the given transaction id, false otherwise
+     */
+    public boolean contains(final int tid) {
+        if (tid < 0) {
+            return false;
+        }
+
+        int index = Arrays.binarySearch(keys, (char) (tid >>> 16));
+        return index >= 0 && containers[index].contains((char) tid);
+    }
+
+    /**
+     * Returns the intersection of this tid-set and another one.
+     *
+     * @param other The other tid-set as an instance of the class {@link TidSet}. The tid-set may
+     *              not be null
+     * @return The intersection of both tid-sets as an instance of the class {@link TidSet}. The
+     * tid-set may not be null
+     */
+    @NotNull
+    public TidSet and(@NotNull final TidSet other) {
+        ensureNotNull(other, "The tid-set may not be null");
+        int maxSize = Math.min(keys.length, other.keys.length);
+        char[] resultKeys = new char[maxSize];
+        Container[] resultContainers = new Container[maxSize];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+
+        while (i < keys.length && j < other.keys.length) {
+            char key1 = keys[i];
+            char key2 = other.keys[j];
+
+            if (key1 == key2) {
+                Container container = containers[i].and(other.containers[j]);
+
+                if (container != null) {
+                    resultKeys[size] = key1;
+                    resultContainers[size] = container;
+                    size++;
+                }
+
+                i++;
+                j++;
+            } else if (key1 < key2) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+
+        return new TidSet(Arrays.copyOf(resultKeys, size),
+                Arrays.copyOf(resultContainers, size));
+    }
+
+    /**
+     * Returns the transaction ids of this tid-set, which are not contained by another tid-set.
+     *
+     * @param other The other tid-set as an instance of the class {@link TidSet}. The tid-set may
+     *              not be null
+     * @return The difference of both tid-sets as an instance of the class {@link TidSet}. The
+     * tid-set may not be null
+     */
+    @NotNull
+    public TidSet andNot(@NotNull final TidSet other) {
+        ensureNotNull(other, "The tid-set may not be null");
+        char[] resultKeys = new char[keys.length];
+        Container[] resultContainers = new Container[keys.length];
+        int size = 0;
+        int j = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            char key = keys[i];
+
+            while (j < other.keys.length && other.keys[j] < key) {
+                j++;
+            }
+
+            Container container = j < other.keys.length && other.keys[j] == key ?
+                    containers[i].andNot(other.containers[j]) : containers[i];
+
+            if (container != null) {
+                resultKeys[size] = key;
+                resultContainers[size] = container;
+                size++;
+            }
+        }
+
+        return new TidSet(Arrays.copyOf(resultKeys, size),
+                Arrays.copyOf(resultContainers, size));
+    }
+
+    /**
+     * Returns the number of transaction ids, which are contained by this tid-set, as well as by
+     * another one, without creating their intersection.
+     *
+     * @param other The other tid-set as an instance of the class {@link TidSet}. The tid-set may
+     *              not be null
+     * @return The number of transaction ids, which are contained by both tid-sets, as an {@link
+     * Integer} value
+     */
+    public int andCardinality(@NotNull final TidSet other) {
+        ensureNotNull(other, "The tid-set may not be null");
+        int count = 0;
+        int i = 0;
+        int j = 0;
+
+        while (i < keys.length && j < other.keys.length) {
+            char key1 = keys[i];
+            char key2 = other.keys[j];
+
+            if (key1 == key2) {
+                count += containers[i].andCardinality(other.containers[j]);
+                i++;
+                j++;
+            } else if (key1 < key2) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns an array, which contains all transaction ids, which are contained by the tid-set.
+     *
+     * @return An array, which contains the transaction ids in ascending order, as an {@link
+     * Integer} array. The array may not be null
+     */
+    @NotNull
+    public int[] toArray() {
+        int[] result = new int[cardinality];
+        int offset = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            offset = containers[i].toArray(result, offset, keys[i] << 16);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        TidSet other = (TidSet) obj;
+        return cardinality == other.cardinality && Arrays.equals(toArray(), other.toArray());
+    }
+
+}
@@ -25,7 +25,9 @@ import static de.mrapp.util.Condition.ensureNotNull;
 
 /**
  * An extension of the class {@link ItemSet}, which allows to store the transactions, the item
- * set occurs in.
+ * set occurs in. Since version 1.3.0, the transactions are encoded once and the frequent item set
+ * miners only keep track of the number of transactions, an item set occurs in. The transactions of
+ * the item sets, which are found by the miners, are therefore not stored anymore.
  *
  * @param <ItemType> The type of the items, which are contained by the item set
  * @author Michael Rapp
@@ -59,11 +61,15 @@ public class TransactionalItemSet<ItemType extends Item> extends ItemSet<ItemTyp
     }
 
     /**
-     * Returns the transactions, the item set occurs in.
+     * Returns the transactions, the item set occurs in, if they have been set explicitly.
      *
      * @return A map, which contains the transactions, the item set occurs in, as an instance of the
-     * type {@link Map}. The map may not be null
+     * type {@link Map}. The map may not be null. It is empty for the item sets, which are found by
+     * the frequent item set miners
+     * @deprecated The transactions are not stored by the frequent item set miners anymore. The
+     * number of transactions, an item set occurs in, can be derived from its support
      */
+    @Deprecated
     @NotNull
     public final Map<Integer, Transaction<ItemType>> getTransactions() {
         return transactions;
@@ -74,7 +80,9 @@ public class TransactionalItemSet<ItemType extends Item> extends ItemSet<ItemTyp
      *
      * @param transactions A map, which contains the transactions, which should be set, as an
      *                     instance of the type {@link Map}. The map may not be null
+     * @deprecated The transactions are not stored by the frequent item set miners anymore
      */
+    @Deprecated
     public final void setTransactions(
             @NotNull final Map<Integer, Transaction<ItemType>> transactions) {
         ensureNotNull(transactions, "The map may not be null");
@@ -0,0 +1,562 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.io;
+
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.EncodedTransactionSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import static de.mrapp.util.Condition.ensureAtLeast;
+import static de.mrapp.util.Condition.ensureNotNull;
+
+/**
+ * A source, which reads transactions from a binary file, which has been written by a {@link
+ * BinaryTransactionWriter}. The header, the item dictionary and the index are read, when the source
+ * is created. The tokens of the item dictionary are converted to items by using an {@link
+ * ItemCodec}. The transactions are read from memory-mapped segments of the file, which consist of
+ * complete blocks. As the transactions are stored as integer ids, the items are only created once
+ * and no items must be created or hashed, when traversing the transactions. The source can be split
+ * into parts, which consist of complete blocks.
+ *
+ * @param <ItemType> The type of the items, the transactions consist of
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public class BinaryTransactionSource<ItemType extends Item> implements
+        EncodedTransactionSource<ItemType> {
+
+    /**
+     * A reader, which decodes the transactions of the source one after another.
+     */
+    private class BlockReader {
+
+        /**
+         * The mapped segment of the file, or null, if no segment has been mapped yet.
+         */
+        private MappedByteBuffer buffer;
+
+        /**
+         * The index of the first block, which has not been mapped yet.
+         */
+        private int block;
+
+        /**
+         * The number of transactions of the mapped segment, which have not been read yet.
+         */
+        private int remaining;
+
+        /**
+         * Maps the next segment of the file, which consists of as many blocks as possible.
+         */
+        private void map() {
+            int to = block + 1;
+
+            while (to < lastBlock && index[to + 1] - index[block] <= segmentSize) {
+                to++;
+            }
+
+            long size = index[to] - index[block];
+
+            if (size > Integer.MAX_VALUE) {
+                String message = "Block " + block + " of file " + file + " exceeds " +
+                        Integer.MAX_VALUE + " bytes";
+                LOGGER.error(message);
+                throw new RuntimeException(message);
+            }
+
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, index[block], size);
+            } catch (IOException e) {
+                String message = "Failed to map file " + file;
+                LOGGER.error(message, e);
+                throw new RuntimeException(message, e);
+            }
+
+            remaining = (int) (Math.min((long) to * blockSize, totalTransactionCount) -
+                    (long) block * blockSize);
+            block = to;
+        }
+
+        /**
+         * Reads a variable-length integer from the mapped segment.
+         *
+         * @return The integer, which has been read, as an {@link Integer} value
+         */
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+
+            do {
+                b = buffer.get();
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            return value;
+        }
+
+        /**
+         * Creates a new reader, which starts at the first block of the source.
+         */
+        BlockReader() {
+            this.buffer = null;
+            this.block = firstBlock;
+            this.remaining = 0;
+        }
+
+        /**
+         * Reads the next transaction.
+         *
+         * @return An {@link Integer} array, which contains the sorted ids of the items of the
+         * transaction, which has been read, or null, if all transactions have been read
+         */
+        @Nullable
+        int[] read() {
+            while (remaining == 0) {
+                if (block >= lastBlock) {
+                    buffer = null;
+                    return null;
+                }
+
+                map();
+            }
+
+            remaining--;
+            int[] ids = new int[readVarInt()];
+            int id = -1;
+
+            for (int i = 0; i < ids.length; i++) {
+                id += readVarInt() + 1;
+                ids[i] = id;
+            }
+
+            return ids;
+        }
+
+    }
+
+    /**
+     * A transaction, which consists of the items, which correspond to specific ids.
+     */
+    private class EncodedTransaction implements Transaction<ItemType> {
+
+        /**
+         * The ids of the items, the transaction consists of.
+         */
+        private final int[] ids;
+
+        /**
+         * Creates a new transaction.
+         *
+         * @param ids The ids of the items, the transaction consists of, as an {@link Integer}
+         *            array. The array may not be null
+         */
+        EncodedTransaction(@NotNull final int[] ids) {
+            this.ids = ids;
+        }
+
+        @NotNull
+        @Override
+        public Iterator<ItemType> iterator() {
+            return new Iterator<ItemType>() {
+
+                private int i = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return i < ids.length;
+                }
+
+                @Override
+                public ItemType next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+
+                    return items.get(ids[i++]);
+                }
+
+            };
+        }
+
+    }
+
+    /**
+     * The maximum size of the segments, the file is mapped in, in bytes.
+     */
+    static final int MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+
+    /**
+     * The SLF4J logger, which is used by the class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinaryTransactionSource.class);
+
+    /**
+     * The file, the transactions are read from.
+     */
+    private final File file;
+
+    /**
+     * A list, which contains the items, which are contained by the file. The index of an item
+     * corresponds to its id.
+     */
+    private final List<ItemType> items;
+
+    /**
+     * The number of transactions, which contain the individual items.
+     */
+    private final int[] frequencies;
+
+    /**
+     * The positions of the blocks of transactions within the file, followed by the position after
+     * the last transaction.
+     */
+    private final long[] index;
+
+    /**
+     * The number of transactions per block.
+     */
+    private final int blockSize;
+
+    /**
+     * The number of transactions, which are contained by the file.
+     */
+    private final int totalTransactionCount;
+
+    /**
+     * The index of the first block of the source.
+     */
+    private final int firstBlock;
+
+    /**
+     * The index of the block after the last block of the source.
+     */
+    private final int lastBlock;
+
+    /**
+     * The maximum size of the segments, the file is mapped in, in bytes.
+     */
+    private final int segmentSize;
+
+    /**
+     * Reads a specific number of bytes from a file channel.
+     *
+     * @param channel  The file channel as an instance of the class {@link FileChannel}. The channel
+     *                 may not be null
+     * @param position The position, the bytes should be read from, as a {@link Long} value
+     * @param length   The number of bytes, which should be read, as an {@link Integer} value
+     * @return A buffer, which contains the bytes, which have been read, as an instance of the
+     * class {@link ByteBuffer}. The buffer may not be null
+     * @throws IOException The exception, which is thrown, if the bytes could not be read
+     */
+    @NotNull
+    private static ByteBuffer read(@NotNull final FileChannel channel, final long position,
+                                   final int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of file");
+            }
+        }
+
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Creates a new source, which reads the transactions, which are contained by specific blocks of
+     * a file.
+     *
+     * @param source     The source, which reads all transactions of the file, as an instance of
+     *                   the class {@link BinaryTransactionSource}. The source may not be null
+     * @param firstBlock The index of the first block as an {@link Integer} value
+     * @param lastBlock  The index of the block after the last block as an {@link Integer} value
+     */
+    private BinaryTransactionSource(@NotNull final BinaryTransactionSource<ItemType> source,
+                                    final int firstBlock, final int lastBlock) {
+        this.file = source.file;
+        this.items = source.items;
+        this.frequencies = null;
+        this.index = source.index;
+        this.blockSize = source.blockSize;
+        this.totalTransactionCount = source.totalTransactionCount;
+        this.firstBlock = firstBlock;
+        this.lastBlock = lastBlock;
+        this.segmentSize = source.segmentSize;
+    }
+
+    /**
+     * Reads the tokens of the item dictionary and converts them to items.
+     *
+     * @param <T>       The type of the items
+     * @param buffer    The buffer, which contains the tokens, as an instance of the class {@link
+     *                  ByteBuffer}. The buffer may not be null
+     * @param itemCount The number of items as an {@link Integer} value
+     * @param codec     The codec, which should be used to convert the tokens to items, as an
+     *                  instance of the type {@link ItemCodec}. The codec may not be null
+     * @return A list, which contains the items, as an instance of the type {@link List}. The list
+     * may not be null
+     * @throws IOException The exception, which is thrown, if the tokens are corrupt
+     */
+    @NotNull
+    private static <T extends Item> List<T> readItems(@NotNull final ByteBuffer buffer,
+                                                      final int itemCount,
+                                                      @NotNull final ItemCodec<T> codec)
+            throws IOException {
+        List<T> result = new ArrayList<>(itemCount);
+
+        for (int i = 0; i < itemCount; i++) {
+            int length = buffer.remaining() >= 4 ? buffer.getInt() : -1;
+
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IOException("Corrupt item dictionary");
+            }
+
+            byte[] token = new byte[length];
+            buffer.get(token);
+            result.add(codec.decode(new String(token, StandardCharsets.UTF_8)));
+        }
+
+        if (buffer.hasRemaining()) {
+            throw new IOException("Corrupt item dictionary");
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Creates a new source, which reads the transactions, which are contained by a file, and maps
+     * the file in segments of a specific size.
+     *
+     * @param file        The file, the transactions should be read from, as an instance of the
+     *                    class {@link File}. The file may not be null
+     * @param codec       The codec, which should be used to convert the tokens of the item
+     *                    dictionary to items, as an instance of the type {@link ItemCodec}. The
+     *                    codec may not be null
+     * @param segmentSize The maximum size of the segments, the file should be mapped in, in bytes,
+     *                    as an {@link Integer} value. The size must be at least 1
+     */
+    BinaryTransactionSource(@NotNull final File file, @NotNull final ItemCodec<ItemType> codec,
+                            final int segmentSize) {
+        ensureNotNull(file, "The file may not be null");
+        ensureNotNull(codec, "The codec may not be null");
+        ensureAtLeast(segmentSize, 1, "The segment size must be at least 1");
+        this.file = file;
+        this.segmentSize = segmentSize;
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer header = read(channel, 0, BinaryTransactionWriter.HEADER_SIZE);
+
+            if (header.getInt() != BinaryTransactionWriter.MAGIC) {
+                throw new IOException("Not a binary transaction file");
+            }
+
+            int version = header.getInt();
+
+            if (version != BinaryTransactionWriter.VERSION) {
+                throw new IOException("Unsupported version " + version);
+            }
+
+            int itemCount = header.getInt();
+            this.totalTransactionCount = header.getInt();
+            this.blockSize = header.getInt();
+            long dataOffset = header.getLong();
+            long indexOffset = header.getLong();
+            this.frequencies = new int[itemCount];
+            read(channel, BinaryTransactionWriter.HEADER_SIZE, 4 * itemCount).asIntBuffer()
+                    .get(frequencies);
+            long itemOffset = BinaryTransactionWriter.HEADER_SIZE + 4L * itemCount;
+
+            if (dataOffset < itemOffset || dataOffset - itemOffset > Integer.MAX_VALUE) {
+                throw new IOException("Corrupt binary transaction file");
+            }
+
+            this.items = readItems(read(channel, itemOffset, (int) (dataOffset - itemOffset)),
+                    itemCount, codec);
+            int blockCount = (totalTransactionCount + blockSize - 1) / blockSize;
+            this.index = new long[blockCount + 1];
+            read(channel, indexOffset, 8 * index.length).asLongBuffer().get(index);
+            this.firstBlock = 0;
+            this.lastBlock = blockCount;
+
+            if (index[0] != dataOffset) {
+                throw new IOException("Corrupt binary transaction file");
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            String message = "Failed to read file " + file;
+            LOGGER.error(message, e);
+            throw new RuntimeException(message, e);
+        }
+    }
+
+    /**
+     * Creates a new source, which reads the transactions, which are contained by a file.
+     *
+     * @param file  The file, the transactions should be read from, as an instance of the class
+     *              {@link File}. The file may not be null
+     * @param codec The codec, which should be used to convert the tokens of the item dictionary to
+     *              items, as an instance of the type {@link ItemCodec}. The codec may not be null
+     */
+    public BinaryTransactionSource(@NotNull final File file,
+                                   @NotNull final ItemCodec<ItemType> codec) {
+        this(file, codec, MAX_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a new source, which reads the transactions, which are contained by a file, as
+     * instances of the class {@link TokenItem}.
+     *
+     * @param file The file, the transactions should be read from, as an instance of the class
+     *             {@link File}. The file may not be null
+     * @return The source, which has been created, as an instance of the class {@link
+     * BinaryTransactionSource}. The source may not be null
+     */
+    @NotNull
+    public static BinaryTransactionSource<TokenItem> of(@NotNull final File file) {
+        return new BinaryTransactionSource<>(file, ItemCodec.TOKEN_ITEMS);
+    }
+
+    /**
+     * Returns the file, the transactions are read from.
+     *
+     * @return The file, the transactions are read from, as an instance of the class {@link File}.
+     * The file may not be null
+     */
+    @NotNull
+    public final File getFile() {
+        return file;
+    }
+
+    @NotNull
+    @Override
+    public final Iterator<Transaction<ItemType>> open() {
+        BlockReader reader = new BlockReader();
+        return new Iterator<Transaction<ItemType>>() {
+
+            private int[] next = reader.read();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Transaction<ItemType> next() {
+                Transaction<ItemType> transaction =
+                        next != null ? new EncodedTransaction(next) : null;
+                next = next != null ? reader.read() : null;
+                return transaction;
+            }
+
+        };
+    }
+
+    @NotNull
+    @Override
+    public final Iterator<int[]> openEncoded() {
+        BlockReader reader = new BlockReader();
+        return new Iterator<int[]>() {
+
+            private int[] next = reader.read();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public int[] next() {
+                int[] transaction = next;
+                next = next != null ? reader.read() : null;
+                return transaction;
+            }
+
+        };
+    }
+
+    @NotNull
+    @Override
+    public final List<ItemType> getItems() {
+        return items;
+    }
+
+    @Override
+    public final int getTransactionCount() {
+        return (int) (Math.min((long) lastBlock * blockSize, totalTransactionCount) -
+                (long) firstBlock * blockSize);
+    }
+
+    @NotNull
+    @Override
+    public final int[] countFrequencies() {
+        if (frequencies != null) {
+            return frequencies.clone();
+        }
+
+        int[] result = new int[items.size()];
+        BlockReader reader = new BlockReader();
+        int[] transaction;
+
+        while ((transaction = reader.read()) != null) {
+            for (int id : transaction) {
+                result[id]++;
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public final int sizeHint() {
+        return getTransactionCount();
+    }
+
+    @NotNull
+    @Override
+    public final List<TransactionSource<ItemType>> split(final int parts) {
+        ensureAtLeast(parts, 1, "The number of parts must be at least 1");
+        int blockCount = lastBlock - firstBlock;
+
+        if (parts == 1 || blockCount < 2) {
+            return Collections.singletonList(this);
+        }
+
+        int count = Math.min(parts, blockCount);
+        List<TransactionSource<ItemType>> result = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            int from = firstBlock + (int) ((long) blockCount * i / count);
+            int to = firstBlock + (int) ((long) blockCount * (i + 1) / count);
+            result.add(new BinaryTransactionSource<>(this, from, to));
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.io;
+
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.ItemDictionary;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+
+import static de.mrapp.util.Condition.ensureAtLeast;
+import static de.mrapp.util.Condition.ensureNotNull;
+
+/**
+ * A writer, which converts the transactions of a data set into a compact binary file, which can be
+ * read by a {@link BinaryTransactionSource}. The file consists of the following sections:
+ * <ul>
+ * <li>A header, which contains a magic number, the version of the format, the number of distinct
+ * items, the number of transactions, the number of transactions per block, as well as the
+ * positions of the transactions and of the index.</li>
+ * <li>The item dictionary, which contains the number of transactions, which contain the individual
+ * items, followed by the tokens of the items. Each token is stored as its length in bytes, followed
+ * by its UTF-8 encoding. The tokens are obtained via an {@link ItemCodec}. The ids of the items are
+ * assigned in descending order of their frequency.</li>
+ * <li>The transactions. Each transaction is stored as the number of its distinct items, followed by
+ * the gaps between their sorted ids. All numbers are stored as variable-length integers.</li>
+ * <li>The index, which contains the positions of the blocks of transactions within the file,
+ * followed by the position after the last transaction.</li>
+ * </ul>
+ * Writing a file requires two passes over the data set.
+ *
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public class BinaryTransactionWriter {
+
+    /**
+     * The magic number, a binary transaction file starts with.
+     */
+    static final int MAGIC = 0x41505249;
+
+    /**
+     * The version of the file format.
+     */
+    static final int VERSION = 2;
+
+    /**
+     * The size of the header in bytes.
+     */
+    static final int HEADER_SIZE = 36;
+
+    /**
+     * The default number of transactions per block.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    /**
+     * The SLF4J logger, which is used by the class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinaryTransactionWriter.class);
+
+    /**
+     * The number of transactions per block.
+     */
+    private final int blockSize;
+
+    /**
+     * Writes a non-negative integer as a variable-length integer, which uses 7 bits per byte.
+     *
+     * @param stream The stream, the integer should be written to, as an instance of the class
+     *               {@link OutputStream}. The stream may not be null
+     * @param value  The integer, which should be written, as an {@link Integer} value
+     * @return The number of bytes, which have been written, as an {@link Integer} value
+     * @throws IOException The exception, which is thrown, if the integer could not be written
+     */
+    private static int writeVarInt(@NotNull final OutputStream stream, final int value)
+            throws IOException {
+        int remainder = value;
+        int count = 1;
+
+        while ((remainder & ~0x7F) != 0) {
+            stream.write((remainder & 0x7F) | 0x80);
+            remainder >>>= 7;
+            count++;
+        }
+
+        stream.write(remainder);
+        return count;
+    }
+
+    /**
+     * Creates a new writer, which uses the default number of transactions per block.
+     */
+    public BinaryTransactionWriter() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Creates a new writer.
+     *
+     * @param blockSize The number of transactions per block as an {@link Integer} value. The index
+     *                  contains the position of each block. The number must be at least 1
+     */
+    public BinaryTransactionWriter(final int blockSize) {
+        ensureAtLeast(blockSize, 1, "The block size must be at least 1");
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Returns the number of transactions per block.
+     *
+     * @return The number of transactions per block as an {@link Integer} value
+     */
+    public final int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Writes the transactions, which are provided by a source, to a binary file. An existing file
+     * is overwritten.
+     *
+     * @param <T>     The type of the items, the transactions consist of
+     * @param source  The source, which provides the transactions, as an instance of the type {@link
+     *                TransactionSource}. The source may not be null
+     * @param file    The file, the transactions should be written to, as an instance of the class
+     *                {@link File}. The file may not be null
+     * @param encoder The function, which should be used to convert the items to tokens, as an
+     *                instance of the type {@link Function}. The function may not be null
+     */
+    private <T extends Item> void writeTokens(@NotNull final TransactionSource<T> source,
+                                              @NotNull final File file,
+                                              @NotNull final Function<T, String> encoder) {
+        Map<T, Integer> frequencies = new HashMap<>();
+        Set<T> distinctItems = new HashSet<>();
+        Iterator<Transaction<T>> iterator = source.open();
+        Transaction<T> transaction;
+        int transactionCount = 0;
+
+        while ((transaction = iterator.next()) != null) {
+            transactionCount++;
+
+            for (T item : transaction) {
+                if (distinctItems.add(item)) {
+                    frequencies.merge(item, 1, Integer::sum);
+                }
+            }
+
+            distinctItems.clear();
+        }
+
+        ItemDictionary<T> dictionary = new ItemDictionary<>(frequencies);
+        List<T> items = new ArrayList<>(dictionary.size());
+
+        for (int i = 0; i < dictionary.size(); i++) {
+            items.add(dictionary.getItem(i));
+        }
+
+        try {
+            ByteArrayOutputStream tokens = new ByteArrayOutputStream();
+
+            try (DataOutputStream tokenStream = new DataOutputStream(tokens)) {
+                for (T item : items) {
+                    byte[] token = encoder.apply(item).getBytes(StandardCharsets.UTF_8);
+                    tokenStream.writeInt(token.length);
+                    tokenStream.write(token);
+                }
+            }
+
+            long dataOffset = HEADER_SIZE + 4L * items.size() + tokens.size();
+            long[] index = new long[(transactionCount + blockSize - 1) / blockSize + 1];
+            long position = dataOffset;
+            int count = 0;
+
+            try (DataOutputStream stream = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(file), 1 << 16))) {
+                stream.write(new byte[HEADER_SIZE]);
+
+                for (int i = 0; i < items.size(); i++) {
+                    stream.writeInt(dictionary.getFrequency(i));
+                }
+
+                tokens.writeTo(stream);
+                iterator = source.open();
+
+                while ((transaction = iterator.next()) != null && count < transactionCount) {
+                    if (count % blockSize == 0) {
+                        index[count / blockSize] = position;
+                    }
+
+                    int[] ids = dictionary.encode(transaction);
+                    int previousId = -1;
+                    position += writeVarInt(stream, ids.length);
+
+                    for (int id : ids) {
+                        position += writeVarInt(stream, id - previousId - 1);
+                        previousId = id;
+                    }
+
+                    count++;
+                }
+
+                index[index.length - 1] = position;
+
+                for (long offset : index) {
+                    stream.writeLong(offset);
+                }
+            }
+
+            if (count < transactionCount) {
+                throw new IOException("The source provided " + count + " instead of " +
+                        transactionCount + " transactions during the second pass");
+            }
+
+            try (RandomAccessFile header = new RandomAccessFile(file, "rw")) {
+                header.writeInt(MAGIC);
+                header.writeInt(VERSION);
+                header.writeInt(items.size());
+                header.writeInt(transactionCount);
+                header.writeInt(blockSize);
+                header.writeLong(dataOffset);
+                header.writeLong(position);
+            }
+
+            LOGGER.debug("Wrote {} transactions with {} distinct items to file {}",
+                    transactionCount, items.size(), file);
+        } catch (IOException e) {
+            String message = "Failed to write file " + file;
+            LOGGER.error(message, e);
+            throw new RuntimeException(message, e);
+        }
+    }
+
+    /**
+     * Writes the transactions, which are provided by a source, to a binary file. An existing file
+     * is overwritten. The string representations of the items are used as their tokens.
+     *
+     * @param <T>    The type of the items, the transactions consist of
+     * @param source The source, which provides the transactions, as an instance of the type {@link
+     *               TransactionSource}. The source may not be null
+     * @param file   The file, the transactions should be written to, as an instance of the class
+     *               {@link File}. The file may not be null
+     */
+    public final <T extends Item> void write(@NotNull final TransactionSource<T> source,
+                                             @NotNull final File file) {
+        ensureNotNull(source, "The source may not be null");
+        ensureNotNull(file, "The file may not be null");
+        writeTokens(source, file, Object::toString);
+    }
+
+    /**
+     * Writes the transactions, which are provided by a source, to a binary file. An existing file
+     * is overwritten. The items are converted to tokens by using a specific codec.
+     *
+     * @param <T>    The type of the items, the transactions consist of
+     * @param source The source, which provides the transactions, as an instance of the type {@link
+     *               TransactionSource}. The source may not be null
+     * @param file   The file, the transactions should be written to, as an instance of the class
+     *               {@link File}. The file may not be null
+     * @param codec  The codec, which should be used to convert the items to tokens, as an instance
+     *               of the type {@link ItemCodec}. The codec may not be null
+     */
+    public final <T extends Item> void write(@NotNull final TransactionSource<T> source,
+                                             @NotNull final File file,
+                                             @NotNull final ItemCodec<T> codec) {
+        ensureNotNull(source, "The source may not be null");
+        ensureNotNull(file, "The file may not be null");
+        ensureNotNull(codec, "The codec may not be null");
+        writeTokens(source, file, codec::encode);
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.io;
+
+import de.mrapp.apriori.Item;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Defines the interface, a class, which converts items to tokens and vice versa, must implement.
+ * Codecs are used to store the item dictionary of binary transaction files as UTF-8 tokens, instead
+ * of serializing the items. By default, the token of an item is given by its string
+ * representation.
+ *
+ * @param <ItemType> The type of the items, which are converted
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+@FunctionalInterface
+public interface ItemCodec<ItemType extends Item> {
+
+    /**
+     * A codec, which converts tokens to instances of the class {@link TokenItem}.
+     */
+    ItemCodec<TokenItem> TOKEN_ITEMS = TokenItem::new;
+
+    /**
+     * Converts a specific item to a token.
+     *
+     * @param item The item, which should be converted, as an instance of the generic type
+     *             ItemType. The item may not be null
+     * @return The token, which corresponds to the given item, as a {@link String}. The token may
+     * not be null
+     */
+    @NotNull
+    default String encode(@NotNull final ItemType item) {
+        return item.toString();
+    }
+
+    /**
+     * Converts a specific token to an item.
+     *
+     * @param token The token, which should be converted, as a {@link String}. The token may not be
+     *              null
+     * @return The item, which corresponds to the given token, as an instance of the generic type
+     * ItemType. The item may not be null
+     */
+    @NotNull
+    ItemType decode(@NotNull String token);
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.io;
+
+import de.mrapp.apriori.Item;
+import org.jetbrains.annotations.NotNull;
+
+import static de.mrapp.util.Condition.ensureNotEmpty;
+import static de.mrapp.util.Condition.ensureNotNull;
+
+/**
+ * An item, which corresponds to a token of a transaction file, e.g. an integer id of the FIMI
+ * format or a word. Items are identified via their token. When reading a file, only one item is
+ * created per distinct token, regardless of how often the token occurs.
+ *
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public class TokenItem implements Item {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The token, which corresponds to the item.
+     */
+    private final String token;
+
+    /**
+     * Creates a new item.
+     *
+     * @param token The token, which corresponds to the item, as a {@link String}. The token may
+     *              neither be null, nor empty
+     */
+    public TokenItem(@NotNull final String token) {
+        ensureNotNull(token, "The token may not be null");
+        ensureNotEmpty(token, "The token may not be empty");
+        this.token = token;
+    }
+
+    /**
+     * Returns the token, which corresponds to the item.
+     *
+     * @return The token, which corresponds to the item, as a {@link String}. The token may neither
+     * be null, nor empty
+     */
+    @NotNull
+    public final String getToken() {
+        return token;
+    }
+
+    @Override
+    public final int compareTo(@NotNull final Item o) {
+        return toString().compareTo(o.toString());
+    }
+
+    @Override
+    public final String toString() {
+        return token;
+    }
+
+    @Override
+    public final int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + token.hashCode();
+        return result;
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        TokenItem other = (TokenItem) obj;
+        return token.equals(other.token);
+    }
+
+}
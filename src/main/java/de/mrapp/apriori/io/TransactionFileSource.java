@@ -0,0 +1,684 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.io;
+
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.EncodedTransactions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import static de.mrapp.util.Condition.ensureAtLeast;
+import static de.mrapp.util.Condition.ensureNotNull;
+
+/**
+ * A source, which reads transactions from a text file in the FIMI or SPMF format. Each line of
+ * such a file corresponds to a transaction, whose items are given as tokens, which are separated by
+ * whitespaces. Typically, the tokens are integer ids, but arbitrary words are supported as well.
+ * Blank lines, as well as lines starting with "#", "%" or "@", which are used for comments and
+ * meta data, are skipped.
+ * <p>
+ * The file is memory-mapped in segments and the tokens are parsed directly from the mapped bytes.
+ * Only one {@link TokenItem} is created per distinct token. Canonical integer tokens are looked up
+ * via their numeric value, other tokens via a hash table, which compares the mapped bytes. The
+ * source can be split into parts, which consist of complete lines, in order to parse the file by
+ * using multiple threads, e.g. by using the method
+ * {@link EncodedTransactions#encode(TransactionSource, double, int)}.
+ *
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public class TransactionFileSource implements TransactionSource<TokenItem> {
+
+    /**
+     * A hash table, which maps the bytes of tokens to the corresponding items.
+     */
+    private static class TokenTable {
+
+        /**
+         * The bytes of the tokens, which are contained by the table.
+         */
+        private byte[][] tokens;
+
+        /**
+         * The hashes of the tokens, which are contained by the table.
+         */
+        private int[] hashes;
+
+        /**
+         * The items, which correspond to the tokens, which are contained by the table.
+         */
+        private TokenItem[] items;
+
+        /**
+         * The number of tokens, which are contained by the table.
+         */
+        private int size;
+
+        /**
+         * Returns the slot of the table, which corresponds to a specific hash.
+         *
+         * @param hash The hash as an {@link Integer} value
+         * @return The slot as an {@link Integer} value
+         */
+        private int slot(final int hash) {
+            return (hash ^ (hash >>> 16)) & (tokens.length - 1);
+        }
+
+        /**
+         * Creates a new, empty hash table.
+         */
+        TokenTable() {
+            this.tokens = new byte[64][];
+            this.hashes = new int[64];
+            this.items = new TokenItem[64];
+            this.size = 0;
+        }
+
+        /**
+         * Returns the item, which corresponds to the token, which is stored by a specific region of
+         * a buffer.
+         *
+         * @param buffer The buffer as an instance of the class {@link ByteBuffer}. The buffer may
+         *               not be null
+         * @param from   The index of the first byte of the token as an {@link Integer} value
+         * @param to     The index of the byte after the last byte of the token as an {@link
+         *               Integer} value
+         * @param hash   The hash of the token as an {@link Integer} value
+         * @return The item, which corresponds to the token, as an instance of the class {@link
+         * TokenItem} or null, if the table does not contain the token
+         */
+        @Nullable
+        TokenItem get(@NotNull final ByteBuffer buffer, final int from, final int to,
+                      final int hash) {
+            int mask = tokens.length - 1;
+
+            for (int i = slot(hash); tokens[i] != null; i = (i + 1) & mask) {
+                byte[] token = tokens[i];
+
+                if (hashes[i] == hash && token.length == to - from) {
+                    int j = 0;
+
+                    while (j < token.length && token[j] == buffer.get(from + j)) {
+                        j++;
+                    }
+
+                    if (j == token.length) {
+                        return items[i];
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Adds a token, which is not contained by the table yet, to the table.
+         *
+         * @param token The bytes of the token as a {@link Byte} array. The array may not be null
+         * @param hash  The hash of the token as an {@link Integer} value
+         * @param item  The item, which corresponds to the token, as an instance of the class {@link
+         *              TokenItem}. The item may not be null
+         */
+        void put(@NotNull final byte[] token, final int hash, @NotNull final TokenItem item) {
+            if (2 * (size + 1) > tokens.length) {
+                byte[][] oldTokens = tokens;
+                int[] oldHashes = hashes;
+                TokenItem[] oldItems = items;
+                tokens = new byte[oldTokens.length * 2][];
+                hashes = new int[oldTokens.length * 2];
+                items = new TokenItem[oldTokens.length * 2];
+
+                for (int i = 0; i < oldTokens.length; i++) {
+                    if (oldTokens[i] != null) {
+                        insert(oldTokens[i], oldHashes[i], oldItems[i]);
+                    }
+                }
+            }
+
+            insert(token, hash, item);
+            size++;
+        }
+
+        /**
+         * Inserts a token into the first free slot, which corresponds to its hash.
+         *
+         * @param token The bytes of the token as a {@link Byte} array. The array may not be null
+         * @param hash  The hash of the token as an {@link Integer} value
+         * @param item  The item, which corresponds to the token, as an instance of the class {@link
+         *              TokenItem}. The item may not be null
+         */
+        private void insert(@NotNull final byte[] token, final int hash,
+                            @NotNull final TokenItem item) {
+            int mask = tokens.length - 1;
+            int i = slot(hash);
+
+            while (tokens[i] != null) {
+                i = (i + 1) & mask;
+            }
+
+            tokens[i] = token;
+            hashes[i] = hash;
+            items[i] = item;
+        }
+
+    }
+
+    /**
+     * A transaction, which consists of the items, which are contained by an array.
+     */
+    private static class ArrayTransaction implements Transaction<TokenItem> {
+
+        /**
+         * The items, the transaction consists of.
+         */
+        private final TokenItem[] items;
+
+        /**
+         * Creates a new transaction.
+         *
+         * @param items The items, the transaction consists of, as an array of the type {@link
+         *              TokenItem}. The array may not be null
+         */
+        ArrayTransaction(@NotNull final TokenItem[] items) {
+            this.items = items;
+        }
+
+        @NotNull
+        @Override
+        public Iterator<TokenItem> iterator() {
+            return Arrays.asList(items).iterator();
+        }
+
+    }
+
+    /**
+     * An iterator, which parses the lines of the mapped file one after another.
+     */
+    private class ParsingIterator implements Iterator<Transaction<TokenItem>> {
+
+        /**
+         * The items, which are cached for canonical integer tokens, indexed by their values.
+         */
+        private TokenItem[] numbers;
+
+        /**
+         * A hash table, which caches the items of other tokens without synchronization.
+         */
+        private final TokenTable cache;
+
+        /**
+         * An array, which is used to collect the items of the current line.
+         */
+        private TokenItem[] lineItems;
+
+        /**
+         * The mapped segment of the file, or null, if no segment has been mapped yet.
+         */
+        private MappedByteBuffer buffer;
+
+        /**
+         * The position of the mapped segment within the file.
+         */
+        private long bufferOffset;
+
+        /**
+         * The position of the next line, which has not been read yet, within the file.
+         */
+        private long position;
+
+        /**
+         * The number of transactions, which have been read.
+         */
+        private int transactionCount;
+
+        /**
+         * The transaction, which has been read by the method <code>hasNext</code>, but not
+         * returned by the method <code>next</code> yet, or null, if no such transaction exists.
+         */
+        private Transaction<TokenItem> nextTransaction;
+
+        /**
+         * Maps the segment of the file, which starts at a specific position.
+         *
+         * @param offset The position, the segment should start at, as a {@link Long} value
+         */
+        private void map(final long offset) {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                long size = Math.min(end - offset, segmentSize);
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+                bufferOffset = offset;
+            } catch (IOException e) {
+                String message = "Failed to map file " + file;
+                LOGGER.error(message, e);
+                throw new RuntimeException(message, e);
+            }
+        }
+
+        /**
+         * Returns, whether a specific byte is a whitespace, which separates tokens, or not.
+         *
+         * @param b The byte as a {@link Byte} value
+         * @return True, if the byte is a whitespace, false otherwise
+         */
+        private boolean isWhitespace(final byte b) {
+            return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == '\n';
+        }
+
+        /**
+         * Returns the item, which corresponds to the token, which is stored by a specific region of
+         * the mapped segment. If the token has not been encountered before, a new item is created.
+         *
+         * @param from The index of the first byte of the token as an {@link Integer} value
+         * @param to   The index of the byte after the last byte of the token as an {@link Integer}
+         *             value
+         * @param hash The hash of the token as an {@link Integer} value
+         * @return The item, which corresponds to the token, as an instance of the class {@link
+         * TokenItem}. The item may not be null
+         */
+        @NotNull
+        private TokenItem lookup(final int from, final int to, final int hash) {
+            TokenItem item = cache.get(buffer, from, to, hash);
+
+            if (item == null) {
+                byte[] token = new byte[to - from];
+
+                for (int i = 0; i < token.length; i++) {
+                    token[i] = buffer.get(from + i);
+                }
+
+                synchronized (tokenTable) {
+                    item = tokenTable.get(buffer, from, to, hash);
+
+                    if (item == null) {
+                        item = new TokenItem(new String(token, StandardCharsets.UTF_8));
+                        tokenTable.put(token, hash, item);
+                    }
+                }
+
+                cache.put(token, hash, item);
+            }
+
+            return item;
+        }
+
+        /**
+         * Returns the item, which corresponds to a canonical integer token.
+         *
+         * @param number The value of the token as an {@link Integer} value
+         * @param from   The index of the first byte of the token as an {@link Integer} value
+         * @param to     The index of the byte after the last byte of the token as an {@link
+         *               Integer} value
+         * @param hash   The hash of the token as an {@link Integer} value
+         * @return The item, which corresponds to the token, as an instance of the class {@link
+         * TokenItem}. The item may not be null
+         */
+        @NotNull
+        private TokenItem lookupNumber(final int number, final int from, final int to,
+                                       final int hash) {
+            if (number >= numbers.length) {
+                numbers = Arrays.copyOf(numbers,
+                        Math.min(Math.max(number + 1, numbers.length * 2), MAX_CACHED_NUMBER));
+            }
+
+            TokenItem item = numbers[number];
+
+            if (item == null) {
+                item = lookup(from, to, hash);
+                numbers[number] = item;
+            }
+
+            return item;
+        }
+
+        /**
+         * Parses a line of the mapped segment.
+         *
+         * @param from The index of the first byte of the line as an {@link Integer} value
+         * @param to   The index of the byte after the last byte of the line as an {@link Integer}
+         *             value
+         * @return The transaction, which corresponds to the line, as an instance of the type {@link
+         * Transaction} or null, if the line is blank or a comment
+         */
+        @Nullable
+        private Transaction<TokenItem> parseLine(final int from, final int to) {
+            int i = from;
+
+            while (i < to && isWhitespace(buffer.get(i))) {
+                i++;
+            }
+
+            if (i == to || buffer.get(i) == '#' || buffer.get(i) == '%' || buffer.get(i) == '@') {
+                return null;
+            }
+
+            int count = 0;
+
+            while (i < to) {
+                byte b = buffer.get(i);
+
+                if (isWhitespace(b)) {
+                    i++;
+                } else {
+                    int start = i;
+                    int hash = 0;
+                    int number = 0;
+                    boolean numeric = b != '0' || i + 1 == to || isWhitespace(buffer.get(i + 1));
+
+                    while (i < to && !isWhitespace(b = buffer.get(i))) {
+                        hash = 31 * hash + b;
+
+                        if (numeric && b >= '0' && b <= '9' && number < MAX_CACHED_NUMBER) {
+                            number = number * 10 + (b - '0');
+                        } else {
+                            numeric = false;
+                        }
+
+                        i++;
+                    }
+
+                    TokenItem item = numeric && number < MAX_CACHED_NUMBER ?
+                            lookupNumber(number, start, i, hash) : lookup(start, i, hash);
+
+                    if (count == lineItems.length) {
+                        lineItems = Arrays.copyOf(lineItems, count * 2);
+                    }
+
+                    lineItems[count++] = item;
+                }
+            }
+
+            return new ArrayTransaction(Arrays.copyOf(lineItems, count));
+        }
+
+        /**
+         * Reads the next transaction from the file.
+         *
+         * @return The transaction, which has been read, as an instance of the type {@link
+         * Transaction} or null, if all transactions have been read
+         */
+        @Nullable
+        private Transaction<TokenItem> read() {
+            while (position < end) {
+                if (buffer == null || position >= bufferOffset + buffer.limit()) {
+                    map(position);
+                }
+
+                int from = (int) (position - bufferOffset);
+                int limit = buffer.limit();
+                int to = from;
+
+                while (to < limit && buffer.get(to) != '\n') {
+                    to++;
+                }
+
+                if (to == limit && bufferOffset + limit < end) {
+                    if (from == 0) {
+                        String message = "Line at position " + position + " of file " + file +
+                                " exceeds the maximum segment size of " + segmentSize + " bytes";
+                        LOGGER.error(message);
+                        throw new RuntimeException(message);
+                    }
+
+                    map(position);
+                } else {
+                    position = bufferOffset + to + 1;
+                    Transaction<TokenItem> transaction = parseLine(from, to);
+
+                    if (transaction != null) {
+                        transactionCount++;
+                        return transaction;
+                    }
+                }
+            }
+
+            buffer = null;
+            size = transactionCount;
+            return null;
+        }
+
+        /**
+         * Creates a new iterator, which starts at the first line of the source.
+         */
+        ParsingIterator() {
+            this.numbers = new TokenItem[1024];
+            this.cache = new TokenTable();
+            this.lineItems = new TokenItem[16];
+            this.buffer = null;
+            this.bufferOffset = start;
+            this.position = start;
+            this.transactionCount = 0;
+            this.nextTransaction = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextTransaction == null) {
+                nextTransaction = read();
+            }
+
+            return nextTransaction != null;
+        }
+
+        @Override
+        public Transaction<TokenItem> next() {
+            Transaction<TokenItem> transaction = hasNext() ? nextTransaction : null;
+            nextTransaction = null;
+            return transaction;
+        }
+
+    }
+
+    /**
+     * The maximum size of the segments, the file is mapped in, in bytes.
+     */
+    static final int MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+
+    /**
+     * The exclusive upper bound of the values of integer tokens, whose items are looked up via
+     * their value rather than via a hash table.
+     */
+    private static final int MAX_CACHED_NUMBER = 1 << 20;
+
+    /**
+     * The SLF4J logger, which is used by the class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransactionFileSource.class);
+
+    /**
+     * The file, the transactions are read from.
+     */
+    private final File file;
+
+    /**
+     * The position of the first line of the source within the file.
+     */
+    private final long start;
+
+    /**
+     * The position after the last line of the source within the file.
+     */
+    private final long end;
+
+    /**
+     * The maximum size of the segments, the file is mapped in, in bytes.
+     */
+    private final int segmentSize;
+
+    /**
+     * The hash table, which contains the items, which have been created so far. It is shared by
+     * all parts of a split source, which ensures that only one item is created per token.
+     */
+    private final TokenTable tokenTable;
+
+    /**
+     * The number of transactions, which are provided by the source, or -1, if the source has not
+     * been traversed completely yet.
+     */
+    private volatile int size;
+
+    /**
+     * Returns the position of the first line, which starts at or after a specific position within
+     * the file.
+     *
+     * @param offset The position as a {@link Long} value
+     * @return The position of the line as a {@link Long} value
+     */
+    private long alignToLine(final long offset) {
+        if (offset <= start) {
+            return start;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(8192);
+            long position = offset - 1;
+
+            while (position < end) {
+                buffer.clear();
+                int count = channel.read(buffer, position);
+
+                if (count <= 0) {
+                    break;
+                }
+
+                for (int i = 0; i < count && position + i < end; i++) {
+                    if (buffer.get(i) == '\n') {
+                        return position + i + 1;
+                    }
+                }
+
+                position += count;
+            }
+
+            return end;
+        } catch (IOException e) {
+            String message = "Failed to read file " + file;
+            LOGGER.error(message, e);
+            throw new RuntimeException(message, e);
+        }
+    }
+
+    /**
+     * Creates a new source, which reads the transactions, which are contained by a specific region
+     * of a file.
+     *
+     * @param file        The file, the transactions should be read from, as an instance of the
+     *                    class {@link File}. The file may not be null
+     * @param start       The position of the first line of the region as a {@link Long} value
+     * @param end         The position after the last line of the region as a {@link Long} value
+     * @param segmentSize The maximum size of the segments, the file should be mapped in, in bytes,
+     *                    as an {@link Integer} value
+     * @param tokenTable  The hash table, which should be used to look up the items, which have
+     *                    already been created, as an instance of the class {@link TokenTable}. The
+     *                    hash table may not be null
+     */
+    private TransactionFileSource(@NotNull final File file, final long start, final long end,
+                                  final int segmentSize, @NotNull final TokenTable tokenTable) {
+        this.file = file;
+        this.start = start;
+        this.end = end;
+        this.segmentSize = segmentSize;
+        this.tokenTable = tokenTable;
+        this.size = -1;
+    }
+
+    /**
+     * Creates a new source, which reads the transactions, which are contained by a file, and maps
+     * the file in segments of a specific size.
+     *
+     * @param file        The file, the transactions should be read from, as an instance of the
+     *                    class {@link File}. The file may not be null
+     * @param segmentSize The maximum size of the segments, the file should be mapped in, in bytes,
+     *                    as an {@link Integer} value. The size must be at least 1
+     */
+    TransactionFileSource(@NotNull final File file, final int segmentSize) {
+        ensureNotNull(file, "The file may not be null");
+        ensureAtLeast(segmentSize, 1, "The segment size must be at least 1");
+        this.file = file;
+        this.start = 0;
+        this.end = file.length();
+        this.segmentSize = segmentSize;
+        this.tokenTable = new TokenTable();
+        this.size = -1;
+    }
+
+    /**
+     * Creates a new source, which reads the transactions, which are contained by a file. The size
+     * of the file is determined, when the source is created.
+     *
+     * @param file The file, the transactions should be read from, as an instance of the class
+     *             {@link File}. The file may not be null
+     */
+    public TransactionFileSource(@NotNull final File file) {
+        this(file, MAX_SEGMENT_SIZE);
+    }
+
+    /**
+     * Returns the file, the transactions are read from.
+     *
+     * @return The file, the transactions are read from, as an instance of the class {@link File}.
+     * The file may not be null
+     */
+    @NotNull
+    public final File getFile() {
+        return file;
+    }
+
+    @NotNull
+    @Override
+    public final Iterator<Transaction<TokenItem>> open() {
+        return new ParsingIterator();
+    }
+
+    @Override
+    public final int sizeHint() {
+        return size;
+    }
+
+    @NotNull
+    @Override
+    public final List<TransactionSource<TokenItem>> split(final int parts) {
+        ensureAtLeast(parts, 1, "The number of parts must be at least 1");
+
+        if (parts == 1 || end - start < 2) {
+            return Collections.singletonList(this);
+        }
+
+        List<TransactionSource<TokenItem>> result = new ArrayList<>(parts);
+        long from = start;
+
+        for (int i = 1; i <= parts; i++) {
+            long to = i == parts ? end : alignToLine(start + (end - start) * i / parts);
+
+            if (to > from) {
+                result.add(new TransactionFileSource(file, from, to, segmentSize, tokenTable));
+                from = to;
+            }
+        }
+
+        return result;
+    }
+
+}
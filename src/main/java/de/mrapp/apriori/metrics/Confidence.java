@@ -29,6 +29,11 @@ import static de.mrapp.util.Condition.ensureNotNull;
  */
 public class Confidence implements Metric {
 
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
     @Override
     public final double evaluate(@NotNull final AssociationRule rule) {
         ensureNotNull(rule, "The rule may not be null");
@@ -36,6 +41,11 @@ public class Confidence implements Metric {
         return bodySupport > 0 ? rule.getSupport() / bodySupport : 0;
     }
 
+    @Override
+    public final boolean isAntiMonotone() {
+        return true;
+    }
+
     @Override
     public final double minValue() {
         return 0;
@@ -46,4 +56,18 @@ public class Confidence implements Metric {
         return 1;
     }
 
-}
\ No newline at end of file
+    @Override
+    public final int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        return getClass() == obj.getClass();
+    }
+
+}
@@ -31,6 +31,11 @@ import static de.mrapp.util.Condition.ensureNotNull;
  */
 public class Conviction implements Metric {
 
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
     @Override
     public final double evaluate(@NotNull final AssociationRule rule) {
         ensureNotNull(rule, "The rule may not be null");
@@ -49,4 +54,18 @@ public class Conviction implements Metric {
         return Double.MAX_VALUE;
     }
 
-}
\ No newline at end of file
+    @Override
+    public final int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        return getClass() == obj.getClass();
+    }
+
+}
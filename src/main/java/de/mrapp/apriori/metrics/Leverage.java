@@ -31,6 +31,11 @@ import static de.mrapp.util.Condition.ensureNotNull;
  */
 public class Leverage implements Metric {
 
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
     @Override
     public final double evaluate(@NotNull final AssociationRule rule) {
         ensureNotNull(rule, "The rule may not be null");
@@ -39,6 +44,11 @@ public class Leverage implements Metric {
         return rule.getSupport() - (bodySupport * headSupport);
     }
 
+    @Override
+    public final boolean isAntiMonotone() {
+        return true;
+    }
+
     @Override
     public final double minValue() {
         return -Double.MAX_VALUE;
@@ -49,4 +59,18 @@ public class Leverage implements Metric {
         return 1;
     }
 
-}
\ No newline at end of file
+    @Override
+    public final int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        return getClass() == obj.getClass();
+    }
+
+}
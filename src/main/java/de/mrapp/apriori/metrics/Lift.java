@@ -29,6 +29,11 @@ import static de.mrapp.util.Condition.ensureNotNull;
  */
 public class Lift implements Metric {
 
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
     @Override
     public final double evaluate(@NotNull final AssociationRule rule) {
         ensureNotNull(rule, "The rule may not be null");
@@ -38,6 +43,11 @@ public class Lift implements Metric {
         return product > 0 ? rule.getSupport() / product : 0;
     }
 
+    @Override
+    public final boolean isAntiMonotone() {
+        return true;
+    }
+
     @Override
     public final double minValue() {
         return 0;
@@ -48,4 +58,18 @@ public class Lift implements Metric {
         return Double.MAX_VALUE;
     }
 
-}
\ No newline at end of file
+    @Override
+    public final int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        return getClass() == obj.getClass();
+    }
+
+}
@@ -28,12 +28,22 @@ import static de.mrapp.util.Condition.ensureNotNull;
  */
 public class Support implements Metric {
 
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
     @Override
     public final double evaluate(@NotNull final AssociationRule rule) {
         ensureNotNull(rule, "The rule may not be null");
         return rule.getSupport();
     }
 
+    @Override
+    public final boolean isAntiMonotone() {
+        return true;
+    }
+
     @Override
     public final double minValue() {
         return 0;
@@ -44,4 +54,18 @@ public class Support implements Metric {
         return 1;
     }
 
-}
\ No newline at end of file
+    @Override
+    public final int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        return getClass() == obj.getClass();
+    }
+
+}
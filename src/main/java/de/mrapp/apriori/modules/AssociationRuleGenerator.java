@@ -35,7 +35,7 @@ public interface AssociationRuleGenerator<ItemType extends Item> {
      * @param frequentItemSets A map, which contains all available frequent item sets, as an
      *                         instance of the type {@link Map} or an empty map, if no frequent item
      *                         sets are available. The map must store the frequent item sets as
-     *                         values and their hash codes as the corresponding keys
+     *                         values and equal item sets as the corresponding keys
      * @param minConfidence    The minimum confidence, which must at least be reached by association
      *                         rules, as a {@link Double} value. The confidence must be at least 0
      *                         and at maximum 1
@@ -45,7 +45,7 @@ public interface AssociationRuleGenerator<ItemType extends Item> {
      */
     @NotNull
     RuleSet<ItemType> generateAssociationRules(
-            @NotNull Map<Integer, ? extends ItemSet<ItemType>> frequentItemSets,
+            @NotNull Map<? extends ItemSet<ItemType>, ? extends ItemSet<ItemType>> frequentItemSets,
             double minConfidence);
 
 }
\ No newline at end of file
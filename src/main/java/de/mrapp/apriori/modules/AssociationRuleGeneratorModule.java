@@ -14,13 +14,15 @@
 package de.mrapp.apriori.modules;
 
 import de.mrapp.apriori.*;
-import de.mrapp.apriori.metrics.Confidence;
+import de.mrapp.apriori.datastructure.EncodedItemSet;
+import de.mrapp.apriori.datastructure.ItemDictionary;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import static de.mrapp.util.Condition.*;
 
@@ -35,16 +37,39 @@ import static de.mrapp.util.Condition.*;
  * property of the confidence metric, which states, that the confidence of the rule A,B -&gt; C is
  * an upper bound to the confidence of a rule A -&gt; B,C. Consequently, the algorithm starts by
  * generating rules, which contain a single item in there heads. Based on those rules, which reach
- * the minimum confidence, additional rules are created by moving items from their bodies to the
- * heads. For each rule said process is continued until the minimum threshold cannot be reached
- * anymore.
+ * the minimum confidence, additional rules are created level-wise: Heads of size m + 1 are created
+ * by combining heads of size m, which share a common prefix, and only if all of their subsets of
+ * size m reached the minimum confidence. This ensures, that each rule is only considered once. Said
+ * process is continued until no more heads reach the minimum confidence. Internally, the item
+ * sets are encoded as sorted {@link Integer} arrays, whose supports are looked up by using a hash
+ * map.
+ *
+ * Rules can also be generated from closed item sets only, e.g. as found by the {@link LcmModule}.
+ * In such case, the supports of bodies and heads, which are not closed, are derived from their
+ * closed supersets and only rules, whose items form a closed item set, are generated. This omits
+ * rules, which are redundant, because they have the same support and confidence as a rule, whose
+ * head has been extended to the closure of its items.
+ *
+ * As the rules, which result from different frequent item sets, are independent of each other,
+ * the module allows to generate them in parallel. For this purpose, the frequent item sets are
+ * processed by a {@link ForkJoinPool}, whose tasks are split recursively, such that idle threads
+ * are able to steal work from busy ones. Each task collects the rules it generates in a buffer of
+ * its own and the buffers are merged when joining the tasks.
+ *
+ * The module also allows to generate the k rules, which are rated best by an arbitrary {@link
+ * Operator}, in a single run. For this purpose, the rules are kept in a bounded heap. Each rule is
+ * only generated once by moving only those items to its head, which are greater than the items,
+ * which are already contained by the head. If the operator is anti-monotone (see {@link
+ * Operator#isAntiMonotone()}), the heuristic value of a rule, whose head is assigned the support of
+ * the rule itself, is an upper bound to the heuristic values of all rules, which can be derived
+ * from it. Branches of the search, whose upper bound cannot enter the heap, are pruned.
  *
  * @param <ItemType> The type of the items, which are processed by the algorithm
  * @author Michael Rapp
  * @since 1.0.0
  */
 public class AssociationRuleGeneratorModule<ItemType extends Item> implements
-        AssociationRuleGenerator<ItemType> {
+        AssociationRuleGenerator<ItemType>, TopKAssociationRuleGenerator<ItemType> {
 
     /**
      * The SLF4J logger, which is used by the module.
@@ -53,98 +78,604 @@ public class AssociationRuleGeneratorModule<ItemType extends Item> implements
             .getLogger(AssociationRuleGeneratorModule.class);
 
     /**
-     * Generates association rules from a specific item set.
+     * The maximum number of frequent item sets, which are processed by a single task, when
+     * generating association rules in parallel.
+     */
+    private static final int GRANULARITY = 16;
+
+    /**
+     * A table, which allows to look up the supports of encoded item sets. If the support of an item
+     * set is not contained by the table, e.g. because only closed item sets are available, it is
+     * derived from the item sets, which are contained by the table. As an item set occurs in each
+     * transaction, any of its supersets occurs in, its support is the maximum support of the
+     * available supersets. If the available item sets are closed, the derived support is exact.
+     */
+    private static final class SupportTable {
+
+        /**
+         * A map, which contains the supports of the available item sets.
+         */
+        private final Map<EncodedItemSet, Double> supports;
+
+        /**
+         * A list, which contains the available item sets.
+         */
+        private final List<EncodedItemSet> itemSets;
+
+        /**
+         * An array, which contains the indices of the available item sets, which contain the
+         * individual items. The index of an array corresponds to the id of the corresponding
+         * item.
+         */
+        private final int[][] itemSetsByItem;
+
+        /**
+         * Creates a new table, which allows to look up the supports of encoded item sets.
+         *
+         * @param itemCount The number of distinct items as an {@link Integer} value
+         * @param itemSets  A list, which contains the available item sets, as an instance of the
+         *                  type {@link List}. The list may not be null
+         * @param supports  A map, which contains the supports of the available item sets, as an
+         *                  instance of the type {@link Map}. The map may not be null
+         */
+        SupportTable(final int itemCount, @NotNull final List<EncodedItemSet> itemSets,
+                     @NotNull final Map<EncodedItemSet, Double> supports) {
+            this.supports = supports;
+            this.itemSets = itemSets;
+            this.itemSetsByItem = new int[itemCount][];
+            int[] counts = new int[itemCount];
+
+            for (EncodedItemSet itemSet : itemSets) {
+                for (int i = 0; i < itemSet.size(); i++) {
+                    counts[itemSet.get(i)]++;
+                }
+            }
+
+            for (int i = 0; i < itemCount; i++) {
+                itemSetsByItem[i] = new int[counts[i]];
+                counts[i] = 0;
+            }
+
+            for (int index = 0; index < itemSets.size(); index++) {
+                EncodedItemSet itemSet = itemSets.get(index);
+
+                for (int i = 0; i < itemSet.size(); i++) {
+                    int item = itemSet.get(i);
+                    itemSetsByItem[item][counts[item]++] = index;
+                }
+            }
+        }
+
+        /**
+         * Returns the support of a specific item set. If the support is not contained by the
+         * table, it is derived from the available supersets of the item set.
+         *
+         * @param itemSet The item set, whose support should be returned, as an instance of the
+         *                class {@link EncodedItemSet}. The item set may neither be null, nor empty
+         * @return The support of the given item set as a {@link Double} value or 0, if no superset
+         * of the item set is available
+         */
+        double getSupport(@NotNull final EncodedItemSet itemSet) {
+            Double support = supports.get(itemSet);
+
+            if (support != null) {
+                return support;
+            }
+
+            int[] candidates = itemSetsByItem[itemSet.get(0)];
+
+            for (int i = 1; i < itemSet.size(); i++) {
+                int[] indices = itemSetsByItem[itemSet.get(i)];
+
+                if (indices.length < candidates.length) {
+                    candidates = indices;
+                }
+            }
+
+            double result = 0;
+
+            for (int index : candidates) {
+                EncodedItemSet superset = itemSets.get(index);
+
+                if (itemSet.isSubsetOf(superset)) {
+                    result = Math.max(result, supports.get(superset));
+                }
+            }
+
+            return result;
+        }
+
+    }
+
+    /**
+     * A task, which generates the association rules, which result from a range of frequent item
+     * sets. If the range is too large, it is split into two halves, which are processed by
+     * separate tasks.
+     */
+    private class RuleGenerationTask extends RecursiveTask<List<AssociationRule<ItemType>>> {
+
+        /**
+         * The constant serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The dictionary, which has been used to encode the item sets.
+         */
+        private final ItemDictionary<ItemType> dictionary;
+
+        /**
+         * The table, which allows to look up the supports of the frequent item sets.
+         */
+        private final SupportTable supports;
+
+        /**
+         * A list, which contains all encoded frequent item sets.
+         */
+        private final List<EncodedItemSet> itemSets;
+
+        /**
+         * The index of the first item set, which is processed by the task.
+         */
+        private final int from;
+
+        /**
+         * The index of the item set, which follows the last item set, which is processed by the
+         * task.
+         */
+        private final int to;
+
+        /**
+         * The minimum confidence, which must at least be reached by association rules.
+         */
+        private final double minConfidence;
+
+        /**
+         * Creates a new task, which generates the association rules, which result from a range of
+         * frequent item sets.
+         *
+         * @param dictionary    The dictionary, which has been used to encode the item sets, as an
+         *                      instance of the class {@link ItemDictionary}. The dictionary may
+         *                      not be null
+         * @param supports      The table, which allows to look up the supports of the frequent
+         *                      item sets, as an instance of the class {@link SupportTable}. The
+         *                      table may not be null
+         * @param itemSets      A list, which contains all encoded frequent item sets, as an
+         *                      instance of the type {@link List}. The list may not be null
+         * @param from          The index of the first item set, which should be processed by the
+         *                      task, as an {@link Integer} value
+         * @param to            The index of the item set, which follows the last item set, which
+         *                      should be processed by the task, as an {@link Integer} value
+         * @param minConfidence The minimum confidence, which must at least be reached by
+         *                      association rules, as a {@link Double} value
+         */
+        RuleGenerationTask(@NotNull final ItemDictionary<ItemType> dictionary,
+                           @NotNull final SupportTable supports,
+                           @NotNull final List<EncodedItemSet> itemSets, final int from,
+                           final int to, final double minConfidence) {
+            this.dictionary = dictionary;
+            this.supports = supports;
+            this.itemSets = itemSets;
+            this.from = from;
+            this.to = to;
+            this.minConfidence = minConfidence;
+        }
+
+        @Override
+        protected List<AssociationRule<ItemType>> compute() {
+            if (to - from > GRANULARITY) {
+                int middle = (from + to) >>> 1;
+                RuleGenerationTask left = new RuleGenerationTask(dictionary, supports, itemSets,
+                        from, middle, minConfidence);
+                RuleGenerationTask right = new RuleGenerationTask(dictionary, supports, itemSets,
+                        middle, to, minConfidence);
+                left.fork();
+                List<AssociationRule<ItemType>> rules = right.compute();
+                rules.addAll(left.join());
+                return rules;
+            }
+
+            List<AssociationRule<ItemType>> rules = new ArrayList<>();
+
+            for (int i = from; i < to; i++) {
+                EncodedItemSet itemSet = itemSets.get(i);
+
+                if (itemSet.size() > 1) {
+                    generateRules(dictionary, supports, rules, itemSet, minConfidence);
+                }
+            }
+
+            return rules;
+        }
+
+    }
+
+    /**
+     * The number of threads, which are used to generate association rules.
+     */
+    private final int parallelism;
+
+    /**
+     * Creates a new module, which generates association rules by using a single thread.
+     */
+    public AssociationRuleGeneratorModule() {
+        this(1);
+    }
+
+    /**
+     * Creates a new module, which allows to generate association rules by using multiple threads.
+     *
+     * @param parallelism The number of threads, which should be used to generate association
+     *                    rules, as an {@link Integer} value. The number must be at least 1
+     */
+    public AssociationRuleGeneratorModule(final int parallelism) {
+        ensureAtLeast(parallelism, 1, "The parallelism must be at least 1");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the number of threads, which are used to generate association rules.
+     *
+     * @return The number of threads, which are used to generate association rules, as an {@link
+     * Integer} value
+     */
+    public final int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Creates and returns an item set, which corresponds to an encoded item set.
      *
-     * @param itemSet          The item set, the association rules should be created from, as an
-     *                         instance of the class {@link ItemSet}. The item set may not be null
-     * @param frequentItemSets A map, which contains all available frequent item sets, as an
-     *                         instance of the type {@link Map} or an empty map, if no frequent item
-     *                         sets are available. The map must store the frequent item sets as
-     *                         values and their hash codes as the corresponding keys
-     * @param ruleSet          The rule set, the generated rules should be added to, as an instance
-     *                         of the class {@link RuleSet}. The rule set may not be null
-     * @param minConfidence    The minimum confidence, which must at least be reached by association
-     *                         rules, as a {@link Double} value. The confidence must be at least 0
-     *                         and at maximum 1
+     * @param dictionary The dictionary, which has been used to encode the item set, as an
+     *                   instance of the class {@link ItemDictionary}. The dictionary may not be
+     *                   null
+     * @param itemSet    The encoded item set as an instance of the class {@link EncodedItemSet}.
+     *                   The item set may not be null
+     * @param support    The support of the item set as a {@link Double} value
+     * @return The item set, which has been created, as an instance of the class {@link ItemSet}.
+     * The item set may not be null
      */
-    private void generateRules(@NotNull final ItemSet<ItemType> itemSet,
-                               @NotNull final Map<Integer, ? extends ItemSet<ItemType>> frequentItemSets,
-                               @NotNull final RuleSet<ItemType> ruleSet,
-                               final double minConfidence) {
-        generateRules(itemSet, frequentItemSets, ruleSet, itemSet, null, minConfidence);
+    @NotNull
+    private ItemSet<ItemType> decode(@NotNull final ItemDictionary<ItemType> dictionary,
+                                     @NotNull final EncodedItemSet itemSet, final double support) {
+        ItemSet<ItemType> result = new ItemSet<>();
+
+        for (int i = 0; i < itemSet.size(); i++) {
+            result.add(dictionary.getItem(itemSet.get(i)));
+        }
+
+        result.setSupport(support);
+        return result;
+    }
+
+    /**
+     * Adds the association rule with a specific head, which results from an item set, to a rule
+     * set, if it reaches the minimum confidence.
+     *
+     * @param dictionary    The dictionary, which has been used to encode the item sets, as an
+     *                      instance of the class {@link ItemDictionary}. The dictionary may not be
+     *                      null
+     * @param supports      The table, which allows to look up the supports of the frequent item
+     *                      sets, as an instance of the class {@link SupportTable}. The table may
+     *                      not be null
+     * @param rules         The collection, the rule should be added to, as an instance of the type
+     *                      {@link Collection}. The collection may not be null
+     * @param itemSet       The item set, the rule results from, as an instance of the class {@link
+     *                      EncodedItemSet}. The item set may not be null
+     * @param support       The support of the given item set as a {@link Double} value
+     * @param head          The head of the rule as an instance of the class {@link
+     *                      EncodedItemSet}. The head may not be null
+     * @param minConfidence The minimum confidence, which must at least be reached by association
+     *                      rules, as a {@link Double} value. The confidence must be at least 0 and
+     *                      at maximum 1
+     * @return True, if the rule reaches the minimum confidence and has been added to the rule set,
+     * false otherwise
+     */
+    private boolean addRule(@NotNull final ItemDictionary<ItemType> dictionary,
+                            @NotNull final SupportTable supports,
+                            @NotNull final Collection<AssociationRule<ItemType>> rules,
+                            @NotNull final EncodedItemSet itemSet, final double support,
+                            @NotNull final EncodedItemSet head, final double minConfidence) {
+        EncodedItemSet body = itemSet.removeAll(head);
+        double bodySupport = supports.getSupport(body);
+        double confidence = bodySupport > 0 ? support / bodySupport : 0;
+
+        if (confidence >= minConfidence) {
+            rules.add(new AssociationRule<>(decode(dictionary, body, bodySupport),
+                    decode(dictionary, head, supports.getSupport(head)), support));
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Creates the candidate heads of size m + 1 by combining all pairs of heads of size m, which
+     * share a common prefix of size m - 1. Candidates, which contain a head of size m, which did
+     * not reach the minimum confidence, are omitted, because the confidence of a rule cannot
+     * increase, if items are moved from its body to its head.
+     *
+     * @param heads The heads of size m, which reached the minimum confidence, as an instance of
+     *              the type {@link List}. The heads must be sorted lexicographically. The list may
+     *              not be null
+     * @param m     The size of the given heads as an {@link Integer} value
+     * @return A list, which contains the candidate heads, which have been created, in
+     * lexicographical order, as an instance of the type {@link List}. The list may not be null
+     */
+    @NotNull
+    private List<EncodedItemSet> generateHeads(@NotNull final List<EncodedItemSet> heads,
+                                               final int m) {
+        Set<EncodedItemSet> confidentHeads = m > 1 ? new HashSet<>(heads) : null;
+        List<EncodedItemSet> candidates = new ArrayList<>();
+
+        for (int i = 0; i < heads.size(); i++) {
+            EncodedItemSet first = heads.get(i);
+
+            for (int j = i + 1; j < heads.size(); j++) {
+                EncodedItemSet second = heads.get(j);
+
+                if (!first.hasCommonPrefix(second, m - 1)) {
+                    break;
+                }
+
+                EncodedItemSet candidate = first.add(second.last());
+                boolean confident = true;
+
+                for (int k = 0; k < m - 1 && confident; k++) {
+                    confident = confidentHeads.contains(candidate.remove(candidate.get(k)));
+                }
+
+                if (confident) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Generates association rules from a specific item set. The heads of the rules are grown
+     * level-wise, i.e., heads of size m + 1 are only built from heads of size m, whose rules
+     * reached the minimum confidence. This ensures, that each rule is only considered once. The
+     * item sets are encoded in order to avoid creating instances of the class {@link ItemSet} for
+     * rules, which do not reach the minimum confidence.
+     *
+     * @param dictionary    The dictionary, which has been used to encode the item sets, as an
+     *                      instance of the class {@link ItemDictionary}. The dictionary may not be
+     *                      null
+     * @param supports      The table, which allows to look up the supports of the frequent item
+     *                      sets, as an instance of the class {@link SupportTable}. The table may
+     *                      not be null
+     * @param rules         The collection, the generated rules should be added to, as an instance
+     *                      of the type {@link Collection}. The collection may not be null
+     * @param itemSet       The item set, the association rules should be created from, as an
+     *                      instance of the class {@link EncodedItemSet}. The item set may not be
+     *                      null
+     * @param minConfidence The minimum confidence, which must at least be reached by association
+     *                      rules, as a {@link Double} value. The confidence must be at least 0 and
+     *                      at maximum 1
+     */
+    private void generateRules(@NotNull final ItemDictionary<ItemType> dictionary,
+                               @NotNull final SupportTable supports,
+                               @NotNull final Collection<AssociationRule<ItemType>> rules,
+                               @NotNull final EncodedItemSet itemSet, final double minConfidence) {
+        double support = supports.getSupport(itemSet);
+        List<EncodedItemSet> heads = new ArrayList<>(itemSet.size());
+
+        for (int i = 0; i < itemSet.size(); i++) {
+            EncodedItemSet head = new EncodedItemSet(itemSet.get(i));
+
+            if (addRule(dictionary, supports, rules, itemSet, support, head, minConfidence)) {
+                heads.add(head);
+            }
+        }
+
+        for (int m = 1; m + 1 < itemSet.size() && heads.size() > 1; m++) {
+            List<EncodedItemSet> candidates = generateHeads(heads, m);
+            heads = new ArrayList<>(candidates.size());
+
+            for (EncodedItemSet head : candidates) {
+                if (addRule(dictionary, supports, rules, itemSet, support, head,
+                        minConfidence)) {
+                    heads.add(head);
+                }
+            }
+        }
     }
 
     /**
      * Generates association rules from a specific item set by moving items from a rule's body to
-     * its head. This method is executed recursively until the resulting rule does not reach the
-     * minimum confidence anymore.
+     * its head, while retaining the k rules, which are rated best by a specific operator. In order
+     * to generate each rule only once, only those items of the body, which are greater than the
+     * last item of the head, are moved to the head. This method is executed recursively until the
+     * resulting rule does not reach the minimum confidence anymore or until the upper bound of the
+     * rules, which can be derived from the resulting rule, cannot enter the heap.
      *
-     * @param itemSet          The item set, the association rules should be created from, as an
-     *                         instance of the class {@link ItemSet}. The item set may not be null
-     * @param frequentItemSets A map, which contains all available frequent item sets, as an
-     *                         instance of the type {@link Map} or an empty map, if no frequent item
-     *                         sets are available. The map must store the frequent item sets as
-     *                         values and their hash codes as the corresponding keys
-     * @param ruleSet          The rule set, the generated rules should be added to, as an instance
-     *                         of the class {@link RuleSet}. The rule set may not be null
-     * @param body             The body, the items, which should be moved to the head, should be
-     *                         taken from, as an instance of the class {@link ItemSet}. The body may
-     *                         not be null
-     * @param head             The head, the items, which are taken from the given body, should be
-     *                         moved to, as an instance of the class {@link ItemSet} or null, if an
-     *                         empty head should be created
-     * @param minConfidence    The minimum confidence, which must at least be reached by association
-     *                         rules, as a {@link Double} value. The confidence must be at least 0
-     *                         and at maximum 1
+     * @param dictionary    The dictionary, which has been used to encode the item sets, as an
+     *                      instance of the class {@link ItemDictionary}. The dictionary may not be
+     *                      null
+     * @param supports      The table, which allows to look up the supports of the frequent item
+     *                      sets, as an instance of the class {@link SupportTable}. The table may
+     *                      not be null
+     * @param heap          The heap, which contains the best rules, which have been generated so
+     *                      far, together with their heuristic values, as an instance of the class
+     *                      {@link PriorityQueue}. The heap may not be null
+     * @param k             The maximum number of rules, which should be kept in the heap, as an
+     *                      {@link Integer} value
+     * @param operator      The operator, which is used to rate the rules, as an instance of the
+     *                      type {@link Operator}. The operator may not be null
+     * @param support       The support of the item set, the association rules should be created
+     *                      from, as a {@link Double} value
+     * @param body          The body, the items, which should be moved to the head, should be
+     *                      taken from, as an instance of the class {@link EncodedItemSet}. The body
+     *                      may not be null
+     * @param head          The head, the items, which are taken from the given body, should be
+     *                      moved to, as an instance of the class {@link EncodedItemSet}. The head
+     *                      may not be null
+     * @param minConfidence The minimum confidence, which must at least be reached by association
+     *                      rules, as a {@link Double} value. The confidence must be at least 0 and
+     *                      at maximum 1
      */
-    private void generateRules(@NotNull final ItemSet<ItemType> itemSet,
-                               @NotNull final Map<Integer, ? extends ItemSet<ItemType>> frequentItemSets,
-                               @NotNull final RuleSet<ItemType> ruleSet,
-                               @NotNull final ItemSet<ItemType> body,
-                               @Nullable final ItemSet<ItemType> head, final double minConfidence) {
-        for (ItemType item : body) {
-            ItemSet<ItemType> headItemSet = head != null ? head.clone() : new ItemSet<>();
-            headItemSet.add(item);
-            ItemSet<ItemType> bodyItemSet = body.clone();
-            bodyItemSet.remove(item);
-            bodyItemSet.setSupport(frequentItemSets.get(bodyItemSet.hashCode()).getSupport());
-            headItemSet.setSupport(frequentItemSets.get(headItemSet.hashCode()).getSupport());
-            double support = itemSet.getSupport();
-            AssociationRule<ItemType> rule = new AssociationRule<>(bodyItemSet,
-                    headItemSet, support);
-            double confidence = new Confidence().evaluate(rule);
-
-            if (confidence >= minConfidence) {
-                ruleSet.add(rule);
-
-                if (bodyItemSet.size() > 1) {
-                    generateRules(itemSet, frequentItemSets, ruleSet, bodyItemSet, headItemSet,
-                            minConfidence);
+    private void generateTopKRules(@NotNull final ItemDictionary<ItemType> dictionary,
+                                   @NotNull final SupportTable supports,
+                                   @NotNull final PriorityQueue<Map.Entry<AssociationRule<ItemType>,
+                                           Double>> heap, final int k,
+                                   @NotNull final Operator operator, final double support,
+                                   @NotNull final EncodedItemSet body,
+                                   @NotNull final EncodedItemSet head, final double minConfidence) {
+        int lastItem = head.isEmpty() ? -1 : head.last();
+
+        for (int i = 0; i < body.size(); i++) {
+            int item = body.get(i);
+
+            if (item > lastItem) {
+                EncodedItemSet headItemSet = head.add(item);
+                EncodedItemSet bodyItemSet = body.remove(item);
+                double bodySupport = supports.getSupport(bodyItemSet);
+                double confidence = bodySupport > 0 ? support / bodySupport : 0;
+
+                if (confidence >= minConfidence) {
+                    ItemSet<ItemType> decodedBody = decode(dictionary, bodyItemSet, bodySupport);
+                    ItemSet<ItemType> decodedHead =
+                            decode(dictionary, headItemSet, supports.getSupport(headItemSet));
+                    AssociationRule<ItemType> rule =
+                            new AssociationRule<>(decodedBody, decodedHead, support);
+                    double value = operator.evaluate(rule);
+
+                    if (heap.size() < k) {
+                        heap.add(new AbstractMap.SimpleImmutableEntry<>(rule, value));
+                    } else if (value > heap.peek().getValue()) {
+                        heap.poll();
+                        heap.add(new AbstractMap.SimpleImmutableEntry<>(rule, value));
+                    }
+
+                    if (bodyItemSet.size() > 1 && headItemSet.last() < bodyItemSet.last()) {
+                        if (operator.isAntiMonotone() && heap.size() >= k) {
+                            ItemSet<ItemType> optimisticHead = decodedHead.clone();
+                            optimisticHead.setSupport(support);
+                            double upperBound = operator.evaluate(
+                                    new AssociationRule<>(decodedBody, optimisticHead, support));
+
+                            if (upperBound <= heap.peek().getValue()) {
+                                continue;
+                            }
+                        }
+
+                        generateTopKRules(dictionary, supports, heap, k, operator, support,
+                                bodyItemSet, headItemSet, minConfidence);
+                    }
                 }
             }
         }
     }
 
+    /**
+     * Encodes frequent item sets by using a specific dictionary.
+     *
+     * @param dictionary       The dictionary, which should be used to encode the item sets, as an
+     *                         instance of the class {@link ItemDictionary}. The dictionary may not
+     *                         be null
+     * @param frequentItemSets A collection, which contains the frequent item sets, which should be
+     *                         encoded, as an instance of the type {@link Collection}. The
+     *                         collection may not be null
+     * @param supports         The map, the supports of the encoded item sets should be added to,
+     *                         as an instance of the type {@link Map}. The map may not be null
+     * @return A list, which contains the encoded item sets, as an instance of the type {@link
+     * List}. The list may not be null
+     */
+    @NotNull
+    private List<EncodedItemSet> encode(@NotNull final ItemDictionary<ItemType> dictionary,
+                                        @NotNull final Collection<? extends ItemSet<ItemType>>
+                                                frequentItemSets,
+                                        @NotNull final Map<EncodedItemSet, Double> supports) {
+        List<EncodedItemSet> encodedItemSets = new ArrayList<>(frequentItemSets.size());
+
+        for (ItemSet<ItemType> itemSet : frequentItemSets) {
+            EncodedItemSet encodedItemSet = dictionary.encodeItemSet(itemSet);
+            supports.put(encodedItemSet, itemSet.getSupport());
+            encodedItemSets.add(encodedItemSet);
+        }
+
+        return encodedItemSets;
+    }
+
     @NotNull
     @Override
     public final RuleSet<ItemType> generateAssociationRules(
-            @NotNull final Map<Integer, ? extends ItemSet<ItemType>> frequentItemSets,
-            final double minConfidence) {
+            @NotNull final Map<? extends ItemSet<ItemType>, ? extends ItemSet<ItemType>>
+                    frequentItemSets, final double minConfidence) {
         ensureNotNull(frequentItemSets, "The frequent item sets may not be null");
         ensureAtLeast(minConfidence, 0, "The minimum confidence must be at least 0");
         ensureAtMaximum(minConfidence, 1, "The minimum confidence must be at maximum 1");
         LOGGER.debug("Generating association rules");
         RuleSet<ItemType> ruleSet = new RuleSet<>(Sorting.forAssociationRules());
+        Set<ItemType> items = new HashSet<>();
+        frequentItemSets.values().forEach(items::addAll);
+        ItemDictionary<ItemType> dictionary = new ItemDictionary<>(items);
+        Map<EncodedItemSet, Double> supportMap = new HashMap<>(frequentItemSets.size() * 2);
+        List<EncodedItemSet> encodedItemSets =
+                encode(dictionary, frequentItemSets.values(), supportMap);
+        SupportTable supports = new SupportTable(dictionary.size(), encodedItemSets, supportMap);
+
+        if (parallelism > 1 && encodedItemSets.size() > GRANULARITY) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+            try {
+                ruleSet.addAll(pool.invoke(new RuleGenerationTask(dictionary, supports,
+                        encodedItemSets, 0, encodedItemSets.size(), minConfidence)));
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            for (EncodedItemSet itemSet : encodedItemSets) {
+                if (itemSet.size() > 1) {
+                    generateRules(dictionary, supports, ruleSet, itemSet, minConfidence);
+                }
+            }
+        }
+
+        LOGGER.debug("Generated {} association rules", ruleSet.size());
+        LOGGER.debug("Rule set = {}", ruleSet);
+        return ruleSet;
+    }
+
+    @NotNull
+    @Override
+    public final RuleSet<ItemType> generateAssociationRules(
+            @NotNull final Map<? extends ItemSet<ItemType>, ? extends ItemSet<ItemType>>
+                    frequentItemSets, final int k, @NotNull final Operator operator,
+            final double minConfidence) {
+        ensureNotNull(frequentItemSets, "The frequent item sets may not be null");
+        ensureAtLeast(k, 1, "The number of rules must be at least 1");
+        ensureNotNull(operator, "The operator may not be null");
+        ensureAtLeast(minConfidence, 0, "The minimum confidence must be at least 0");
+        ensureAtMaximum(minConfidence, 1, "The minimum confidence must be at maximum 1");
+        LOGGER.debug("Generating {} best association rules", k);
+        Set<ItemType> items = new HashSet<>();
+        frequentItemSets.values().forEach(items::addAll);
+        ItemDictionary<ItemType> dictionary = new ItemDictionary<>(items);
+        Map<EncodedItemSet, Double> supportMap = new HashMap<>(frequentItemSets.size() * 2);
+        List<EncodedItemSet> encodedItemSets =
+                encode(dictionary, frequentItemSets.values(), supportMap);
+        SupportTable supports = new SupportTable(dictionary.size(), encodedItemSets, supportMap);
+        PriorityQueue<Map.Entry<AssociationRule<ItemType>, Double>> heap =
+                new PriorityQueue<>(k, Comparator.comparingDouble(Map.Entry::getValue));
 
-        for (ItemSet<ItemType> itemSet : frequentItemSets.values()) {
+        for (EncodedItemSet itemSet : encodedItemSets) {
             if (itemSet.size() > 1) {
-                generateRules(itemSet, frequentItemSets, ruleSet, minConfidence);
+                generateTopKRules(dictionary, supports, heap, k, operator,
+                        supports.getSupport(itemSet), itemSet, EncodedItemSet.EMPTY,
+                        minConfidence);
             }
         }
 
+        RuleSet<ItemType> ruleSet =
+                new RuleSet<>(Sorting.forAssociationRules().byOperator(operator));
+        heap.forEach(entry -> ruleSet.add(entry.getKey()));
         LOGGER.debug("Generated {} association rules", ruleSet.size());
         LOGGER.debug("Rule set = {}", ruleSet);
         return ruleSet;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.modules;
+
+import de.mrapp.apriori.FrequentItemSets;
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.EncodedItemSet;
+import de.mrapp.apriori.datastructure.EncodedTransactions;
+import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+import static de.mrapp.util.Condition.*;
+
+/**
+ * A module, which allows to find all frequent item sets, which occur in a data set, by using a
+ * vertical layout, where the transactions, each item occurs in, are represented by a bitset. The
+ * bitset of an item set is obtained by combining the bitsets of two of its subsets, which share a
+ * common prefix, using a bitwise AND operation. The support of the item set is then given by the
+ * number of bits, which are set. As these operations do not require any branches, they can be
+ * executed very efficiently. The search space is traversed depth-first, one prefix equivalence
+ * class at a time, as in the Eclat algorithm.
+ *
+ * As the size of a bitset depends on the total number of transactions, rather than on the number
+ * of transactions an item occurs in, this module is best suited for small to medium sized data
+ * sets with a considerable density. For large, sparse data sets, the {@link EclatModule} should be
+ * preferred.
+ *
+ * @param <ItemType> The type of the items, which are processed by the algorithm
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public class BitSetEclatModule<ItemType extends Item> implements FrequentItemSetMiner<ItemType> {
+
+    /**
+     * A member of a prefix equivalence class, i.e. an item, which extends the common prefix of the
+     * class, together with the bitset of the resulting item set.
+     */
+    private static class Member {
+
+        /**
+         * The id of the item, which extends the prefix.
+         */
+        private final int item;
+
+        /**
+         * The bitset, which specifies the transactions, the item set occurs in.
+         */
+        private final long[] bits;
+
+        /**
+         * The number of transactions, the item set occurs in.
+         */
+        private final int support;
+
+        /**
+         * Creates a new member of a prefix equivalence class.
+         *
+         * @param item    The id of the item, which extends the prefix, as an {@link Integer}
+         *                value
+         * @param bits    The bitset, which specifies the transactions, the item set occurs in, as
+         *                a {@link Long} array. The array may not be null
+         * @param support The number of transactions, the item set occurs in, as an {@link
+         *                Integer} value
+         */
+        Member(final int item, @NotNull final long[] bits, final int support) {
+            this.item = item;
+            this.bits = bits;
+            this.support = support;
+        }
+
+    }
+
+    /**
+     * The SLF4J logger, which is used by the module.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BitSetEclatModule.class);
+
+    /**
+     * Creates and returns the bitsets of all items, which are contained by an encoded data set.
+     *
+     * @param data The encoded data set as an instance of the class {@link EncodedTransactions}.
+     *             The data set may not be null
+     * @return A list, which contains the items, together with their bitsets, in descending order
+     * of the items' ids, as an instance of the type {@link List}. The list may not be null
+     */
+    @NotNull
+    private List<Member> createBitSets(@NotNull final EncodedTransactions<ItemType> data) {
+        int itemCount = data.getDictionary().size();
+        int[][] transactions = data.getTransactions();
+        int words = (transactions.length + 63) >>> 6;
+        long[][] bitSets = new long[itemCount][words];
+
+        for (int tid = 0; tid < transactions.length; tid++) {
+            for (int item : transactions[tid]) {
+                bitSets[item][tid >>> 6] |= 1L << tid;
+            }
+        }
+
+        List<Member> members = new ArrayList<>(itemCount);
+
+        for (int i = itemCount - 1; i >= 0; i--) {
+            members.add(new Member(i, bitSets[i], data.getDictionary().getFrequency(i)));
+        }
+
+        return members;
+    }
+
+    /**
+     * Calculates the intersection of two bitsets.
+     *
+     * @param bits1   The first bitset as a {@link Long} array. The array may not be null
+     * @param bits2   The second bitset as a {@link Long} array. The array may not be null
+     * @param result  The array, the intersection should be written to, as a {@link Long} array.
+     *                The array may not be null
+     * @param weights An array, which contains the weights of the transactions, as an {@link
+     *                Integer} array or null, if each transaction has a weight of 1
+     * @return The number of transactions, which are contained by the intersection, as an {@link
+     * Integer} value
+     */
+    private int intersect(@NotNull final long[] bits1, @NotNull final long[] bits2,
+                          @NotNull final long[] result, @Nullable final int[] weights) {
+        int count = 0;
+
+        for (int i = 0; i < bits1.length; i++) {
+            long word = bits1[i] & bits2[i];
+            result[i] = word;
+
+            if (weights == null) {
+                count += Long.bitCount(word);
+            } else {
+                while (word != 0) {
+                    count += weights[(i << 6) + Long.numberOfTrailingZeros(word)];
+                    word &= word - 1;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Recursively processes a prefix equivalence class in order to find all frequent item sets,
+     * which start with the class' prefix.
+     *
+     * @param data             The encoded data set as an instance of the class {@link
+     *                         EncodedTransactions}. The data set may not be null
+     * @param prefix           The prefix of the equivalence class as an instance of the class
+     *                         {@link EncodedItemSet}. The prefix may not be null
+     * @param members          A list, which contains the members of the equivalence class, as an
+     *                         instance of the type {@link List}. The list may not be null
+     * @param minOccurrences   The minimum number of transactions, an item set must occur in to be
+     *                         considered frequent, as an {@link Integer} value
+     * @param frequentItemSets The map, the frequent item sets, which are found, should be added
+     *                         to, as an instance of the type {@link Map}. The map may not be null
+     */
+    private void processEquivalenceClass(@NotNull final EncodedTransactions<ItemType> data,
+                                         @NotNull final EncodedItemSet prefix,
+                                         @NotNull final List<Member> members,
+                                         final int minOccurrences,
+                                         @NotNull final Map<ItemSet<ItemType>,
+                                                 TransactionalItemSet<ItemType>> frequentItemSets) {
+        for (int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            EncodedItemSet itemSet = prefix.add(member.item);
+            TransactionalItemSet<ItemType> frequentItemSet = data.getDictionary().decode(itemSet);
+            frequentItemSet.setSupport(data.calculateSupport(member.support));
+            frequentItemSets.put(frequentItemSet, frequentItemSet);
+            List<Member> extensions = new ArrayList<>(members.size() - i - 1);
+            long[] bits = new long[member.bits.length];
+            int[] weights = data.isWeighted() ? data.getWeights() : null;
+
+            for (int j = i + 1; j < members.size(); j++) {
+                Member other = members.get(j);
+                int support = intersect(member.bits, other.bits, bits, weights);
+
+                if (support >= minOccurrences) {
+                    extensions.add(new Member(other.item, bits, support));
+                    bits = new long[member.bits.length];
+                }
+            }
+
+            if (!extensions.isEmpty()) {
+                processEquivalenceClass(data, itemSet, extensions, minOccurrences,
+                        frequentItemSets);
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
+            @NotNull final Iterator<Transaction<ItemType>> iterator, final double minSupport) {
+        ensureNotNull(iterator, "The iterator may not be null");
+        return findFrequentItemSets(TransactionSource.of(iterator), minSupport);
+    }
+
+    @NotNull
+    @Override
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source, final double minSupport) {
+        return mineFrequentItemSets(source, minSupport).getFrequentItemSets();
+    }
+
+    @NotNull
+    @Override
+    public final MiningResult<ItemType> mineFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source, final double minSupport) {
+        ensureNotNull(source, "The source may not be null");
+        ensureAtLeast(minSupport, 0, "The minimum support must be at least 0");
+        ensureAtMaximum(minSupport, 1, "The minimum support must be at maximum 1");
+        LOGGER.debug("Searching for frequent item sets using bitsets");
+        EncodedTransactions<ItemType> data = EncodedTransactions.encode(source, minSupport);
+        int minOccurrences = data.calculateMinOccurrences(minSupport);
+        List<Member> members = createBitSets(data);
+        Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> frequentItemSets = new HashMap<>();
+        processEquivalenceClass(data, EncodedItemSet.EMPTY, members, minOccurrences,
+                frequentItemSets);
+        LOGGER.debug("Found {} frequent item sets", frequentItemSets.size());
+        LOGGER.debug("Frequent item sets = {}",
+                FrequentItemSets.formatFrequentItemSets(frequentItemSets.values()));
+        return new MiningResult<>(frequentItemSets, data.getTransactionCount());
+    }
+
+}
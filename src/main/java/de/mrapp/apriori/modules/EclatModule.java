@@ -0,0 +1,322 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.modules;
+
+import de.mrapp.apriori.FrequentItemSets;
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.EncodedItemSet;
+import de.mrapp.apriori.datastructure.EncodedTransactions;
+import de.mrapp.apriori.datastructure.TidSet;
+import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+import static de.mrapp.util.Condition.*;
+
+/**
+ * A module, which allows to find all frequent item sets, which occur in a data set, by using the
+ * Eclat algorithm. The data set is converted into a vertical layout, where each item is associated
+ * with the ids of the transactions it occurs in (tid-list). The support of an item set is obtained
+ * by intersecting the tid-lists of two of its subsets, which share a common prefix, while the
+ * search space is traversed depth-first, one prefix equivalence class at a time. Tid-lists are
+ * stored as compressed bitmaps by using the class {@link TidSet}, which chooses a suitable
+ * representation for rare, as well as for very frequent items.
+ *
+ * For dense data sets, where most items occur in most transactions, tid-lists become almost as
+ * large as the data set itself. Therefore, the module switches to diffsets (dEclat) as soon as the
+ * density of an equivalence class, i.e. the average support of its members relative to the support
+ * of its prefix, exceeds a certain threshold. Instead of the transactions an item set occurs in, a
+ * diffset stores the transactions, which contain the item set's prefix, but not the item set
+ * itself. The support of an item set is then obtained by subtracting the size of its diffset from
+ * the support of its prefix.
+ *
+ * The items are encoded as dense integer ids by using an {@link
+ * de.mrapp.apriori.datastructure.ItemDictionary}. As the ids are assigned in descending order of
+ * the items' frequencies, the members of each equivalence class are processed in descending order
+ * of their ids, i.e. starting with the least frequent item.
+ *
+ * @param <ItemType> The type of the items, which are processed by the algorithm
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public class EclatModule<ItemType extends Item> implements FrequentItemSetMiner<ItemType> {
+
+    /**
+     * A member of a prefix equivalence class, i.e. an item, which extends the common prefix of the
+     * class, together with the tid-list or diffset of the resulting item set.
+     */
+    private static class Member {
+
+        /**
+         * The id of the item, which extends the prefix.
+         */
+        private final int item;
+
+        /**
+         * The ids of the transactions, the item set occurs in, if the member is represented by a
+         * tid-list, or the ids of the transactions, which contain the prefix, but not the item
+         * set, if the member is represented by a diffset.
+         */
+        private final TidSet tids;
+
+        /**
+         * The number of transactions, the item set occurs in.
+         */
+        private final int support;
+
+        /**
+         * Creates a new member of a prefix equivalence class.
+         *
+         * @param item    The id of the item, which extends the prefix, as an {@link Integer}
+         *                value
+         * @param tids    The transaction ids of the member's tid-list or diffset as an instance
+         *                of the class {@link TidSet}. The tid-set may not be null
+         * @param support The number of transactions, the item set occurs in, as an {@link
+         *                Integer} value
+         */
+        Member(final int item, @NotNull final TidSet tids, final int support) {
+            this.item = item;
+            this.tids = tids;
+            this.support = support;
+        }
+
+    }
+
+    /**
+     * The SLF4J logger, which is used by the module.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(EclatModule.class);
+
+    /**
+     * The density, an equivalence class must at least reach for the tid-lists of its children to
+     * be replaced by diffsets.
+     */
+    private final double densityThreshold;
+
+    /**
+     * Creates a new module, which allows to find all frequent item sets by using the Eclat
+     * algorithm. Diffsets are used for equivalence classes, whose density is at least 0.5.
+     */
+    public EclatModule() {
+        this(0.5);
+    }
+
+    /**
+     * Creates a new module, which allows to find all frequent item sets by using the Eclat
+     * algorithm.
+     *
+     * @param densityThreshold The density, an equivalence class must at least reach for its
+     *                         children to be represented by diffsets instead of tid-lists, as a
+     *                         {@link Double} value. The density must be at least 0. A value
+     *                         greater than 1 disables the use of diffsets
+     */
+    public EclatModule(final double densityThreshold) {
+        ensureAtLeast(densityThreshold, 0, "The density threshold must be at least 0");
+        this.densityThreshold = densityThreshold;
+    }
+
+    /**
+     * Returns, whether the children of a specific equivalence class should be represented by
+     * diffsets, because the density of the class reaches the threshold.
+     *
+     * @param members       A list, which contains the members of the equivalence class, as an
+     *                      instance of the type {@link List}. The list may not be null
+     * @param prefixSupport The number of transactions, the prefix of the equivalence class occurs
+     *                      in, as an {@link Integer} value
+     * @return True, if the children of the equivalence class should be represented by diffsets,
+     * false otherwise
+     */
+    private boolean isDense(@NotNull final List<Member> members,
+                            final int prefixSupport) {
+        if (densityThreshold > 1 || members.size() < 2 || prefixSupport == 0) {
+            return false;
+        }
+
+        long totalSupport = 0;
+
+        for (Member member : members) {
+            totalSupport += member.support;
+        }
+
+        return (double) totalSupport / ((double) members.size() * prefixSupport) >=
+                densityThreshold;
+    }
+
+    /**
+     * Creates and returns the tid-lists of all items, which are contained by an encoded data set.
+     *
+     * @param data The encoded data set as an instance of the class {@link EncodedTransactions}.
+     *             The data set may not be null
+     * @return A list, which contains the items, together with their tid-lists, in descending order
+     * of the items' ids, as an instance of the type {@link List}. The list may not be null
+     */
+    @NotNull
+    private List<Member> createTidLists(@NotNull final EncodedTransactions<ItemType> data) {
+        int itemCount = data.getDictionary().size();
+        TidSet.Builder[] builders = new TidSet.Builder[itemCount];
+
+        for (int i = 0; i < itemCount; i++) {
+            builders[i] = new TidSet.Builder();
+        }
+
+        int[][] transactions = data.getTransactions();
+
+        for (int tid = 0; tid < transactions.length; tid++) {
+            for (int item : transactions[tid]) {
+                builders[item].add(tid);
+            }
+        }
+
+        List<Member> members = new ArrayList<>(itemCount);
+
+        for (int i = itemCount - 1; i >= 0; i--) {
+            members.add(new Member(i, builders[i].build(), data.getDictionary().getFrequency(i)));
+        }
+
+        return members;
+    }
+
+    /**
+     * Returns the number of transactions, which are contained by a tid-set, taking the weights of
+     * the transactions into account.
+     *
+     * @param data The encoded data set as an instance of the class {@link EncodedTransactions}.
+     *             The data set may not be null
+     * @param tids The tid-set as an instance of the class {@link TidSet}. The tid-set may not be
+     *             null
+     * @return The number of transactions, which are contained by the tid-set, as an {@link
+     * Integer} value
+     */
+    private int getSupport(@NotNull final EncodedTransactions<ItemType> data,
+                           @NotNull final TidSet tids) {
+        if (!data.isWeighted()) {
+            return tids.getCardinality();
+        }
+
+        int[] weights = data.getWeights();
+        int support = 0;
+
+        for (int tid : tids.toArray()) {
+            support += weights[tid];
+        }
+
+        return support;
+    }
+
+    /**
+     * Recursively processes a prefix equivalence class in order to find all frequent item sets,
+     * which start with the class' prefix.
+     *
+     * @param data             The encoded data set as an instance of the class {@link
+     *                         EncodedTransactions}. The data set may not be null
+     * @param prefix           The prefix of the equivalence class as an instance of the class
+     *                         {@link EncodedItemSet}. The prefix may not be null
+     * @param prefixSupport    The number of transactions, the prefix occurs in, as an {@link
+     *                         Integer} value
+     * @param members          A list, which contains the members of the equivalence class, as an
+     *                         instance of the type {@link List}. The list may not be null
+     * @param diffsets         True, if the members of the equivalence class are represented by
+     *                         diffsets, false, if they are represented by tid-lists
+     * @param minOccurrences   The minimum number of transactions, an item set must occur in to be
+     *                         considered frequent, as an {@link Integer} value
+     * @param frequentItemSets The map, the frequent item sets, which are found, should be added
+     *                         to, as an instance of the type {@link Map}. The map may not be null
+     */
+    private void processEquivalenceClass(@NotNull final EncodedTransactions<ItemType> data,
+                                         @NotNull final EncodedItemSet prefix,
+                                         final int prefixSupport,
+                                         @NotNull final List<Member> members,
+                                         final boolean diffsets, final int minOccurrences,
+                                         @NotNull final Map<ItemSet<ItemType>,
+                                                 TransactionalItemSet<ItemType>> frequentItemSets) {
+        boolean childDiffsets = diffsets || isDense(members, prefixSupport);
+
+        for (int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            EncodedItemSet itemSet = prefix.add(member.item);
+            TransactionalItemSet<ItemType> frequentItemSet = data.getDictionary().decode(itemSet);
+            frequentItemSet.setSupport(data.calculateSupport(member.support));
+            frequentItemSets.put(frequentItemSet, frequentItemSet);
+            List<Member> extensions = new ArrayList<>(members.size() - i - 1);
+
+            for (int j = i + 1; j < members.size(); j++) {
+                Member other = members.get(j);
+
+                if (childDiffsets) {
+                    TidSet tids = diffsets ? other.tids.andNot(member.tids) :
+                            member.tids.andNot(other.tids);
+                    int support = member.support - getSupport(data, tids);
+
+                    if (support >= minOccurrences) {
+                        extensions.add(new Member(other.item, tids, support));
+                    }
+                } else {
+                    TidSet tids = member.tids.and(other.tids);
+                    int support = getSupport(data, tids);
+
+                    if (support >= minOccurrences) {
+                        extensions.add(new Member(other.item, tids, support));
+                    }
+                }
+            }
+
+            if (!extensions.isEmpty()) {
+                processEquivalenceClass(data, itemSet, member.support, extensions, childDiffsets,
+                        minOccurrences, frequentItemSets);
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
+            @NotNull final Iterator<Transaction<ItemType>> iterator, final double minSupport) {
+        ensureNotNull(iterator, "The iterator may not be null");
+        return findFrequentItemSets(TransactionSource.of(iterator), minSupport);
+    }
+
+    @NotNull
+    @Override
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source, final double minSupport) {
+        return mineFrequentItemSets(source, minSupport).getFrequentItemSets();
+    }
+
+    @NotNull
+    @Override
+    public final MiningResult<ItemType> mineFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source, final double minSupport) {
+        ensureNotNull(source, "The source may not be null");
+        ensureAtLeast(minSupport, 0, "The minimum support must be at least 0");
+        ensureAtMaximum(minSupport, 1, "The minimum support must be at maximum 1");
+        LOGGER.debug("Searching for frequent item sets using Eclat");
+        EncodedTransactions<ItemType> data = EncodedTransactions.encode(source, minSupport);
+        int minOccurrences = data.calculateMinOccurrences(minSupport);
+        List<Member> members = createTidLists(data);
+        Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> frequentItemSets = new HashMap<>();
+        processEquivalenceClass(data, EncodedItemSet.EMPTY, data.getTransactionCount(), members,
+                false, minOccurrences, frequentItemSets);
+        LOGGER.debug("Found {} frequent item sets", frequentItemSets.size());
+        LOGGER.debug("Frequent item sets = {}",
+                FrequentItemSets.formatFrequentItemSets(frequentItemSets.values()));
+        return new MiningResult<>(frequentItemSets, data.getTransactionCount());
+    }
+
+}
@@ -0,0 +1,717 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.modules;
+
+import de.mrapp.apriori.FrequentItemSets;
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.EncodedItemSet;
+import de.mrapp.apriori.datastructure.EncodedTransactions;
+import de.mrapp.apriori.datastructure.ItemDictionary;
+import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static de.mrapp.util.Condition.*;
+
+/**
+ * A module, which allows to find all frequent item sets, which occur in a data set, by using the
+ * FP-Growth algorithm. Instead of generating candidates level by level, the transactions are
+ * compressed into a prefix tree (FP-tree), which stores the frequent items of each transaction in
+ * descending order of their frequency. Frequent item sets are then obtained by recursively mining
+ * conditional FP-trees, which only requires two passes over the data set. The items are encoded as
+ * dense integer ids, which are assigned in descending order of the items' frequencies, by using an
+ * {@link ItemDictionary}.
+ *
+ * The module is also able to find the k most frequent item sets in a single run. In this case, the
+ * minimum number of occurrences is initialized with the frequency of the k-th most frequent item
+ * and raised whenever the least frequent of the k best item sets, which have been found so far,
+ * improves. Branches of the search space, which cannot reach this threshold anymore, are skipped.
+ *
+ * As the conditional FP-trees of different items are independent of each other, all frequent item
+ * sets can also be found by using multiple threads. In this case, the items of the FP-tree and of
+ * the conditional FP-trees of short item sets are partitioned recursively into tasks of a {@link
+ * ForkJoinPool}. Work-stealing balances the load between items with large and small conditional
+ * FP-trees. Each task collects the frequent item sets it finds in a map of its own and the maps are
+ * merged when joining the tasks.
+ *
+ * @param <ItemType> The type of the items, which are processed by the algorithm
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public class FpGrowthModule<ItemType extends Item> implements FrequentItemSetMiner<ItemType>,
+        TopKFrequentItemSetMiner<ItemType> {
+
+    /**
+     * A node of a FP-tree.
+     */
+    private static class Node {
+
+        /**
+         * The tree-local id of the item, which is stored by the node, or -1, if the node is the
+         * root of the tree.
+         */
+        private final int item;
+
+        /**
+         * The parent of the node or null, if the node is the root of the tree.
+         */
+        private final Node parent;
+
+        /**
+         * The first child of the node or null, if the node does not have any children.
+         */
+        private Node child;
+
+        /**
+         * The next sibling of the node or null, if the node does not have any further siblings.
+         */
+        private Node sibling;
+
+        /**
+         * The next node in the tree, which stores the same item or null, if no such node exists.
+         */
+        private Node next;
+
+        /**
+         * The number of transactions, which share the path from the root to this node.
+         */
+        private int count;
+
+        /**
+         * Creates a new node of a FP-tree.
+         *
+         * @param item   The tree-local id of the item, which should be stored by the node, as an
+         *               {@link Integer} value or -1, if the node is the root of the tree
+         * @param parent The parent of the node or null, if the node is the root of the tree
+         */
+        Node(final int item, @Nullable final Node parent) {
+            this.item = item;
+            this.parent = parent;
+            this.child = null;
+            this.sibling = null;
+            this.next = null;
+            this.count = 0;
+        }
+
+    }
+
+    /**
+     * A FP-tree, which stores the frequent items of multiple transactions in a compressed form.
+     * Each tree uses its own, dense item ids, which are ordered in the same way as the ids of the
+     * item dictionary, i.e. in descending order of the items' frequencies.
+     */
+    private static class FpTree {
+
+        /**
+         * An array, which contains the ids of the items in the item dictionary, mapped to the
+         * tree-local ids.
+         */
+        private final int[] items;
+
+        /**
+         * An array, which contains the first node of each item's node-link, mapped to the
+         * tree-local ids.
+         */
+        private final Node[] headerTable;
+
+        /**
+         * An array, which contains the number of transactions, each item occurs in, mapped to the
+         * tree-local ids.
+         */
+        private final int[] counts;
+
+        /**
+         * The root of the tree.
+         */
+        private final Node root;
+
+        /**
+         * Creates a new, empty FP-tree.
+         *
+         * @param items An array, which contains the ids of the items in the item dictionary, mapped
+         *              to the tree-local ids, as an {@link Integer} array. The array may not be
+         *              null
+         */
+        FpTree(@NotNull final int[] items) {
+            this.items = items;
+            this.headerTable = new Node[items.length];
+            this.counts = new int[items.length];
+            this.root = new Node(-1, null);
+        }
+
+        /**
+         * Inserts a path into the tree.
+         *
+         * @param path   An array, which contains the tree-local ids of the items of the path in
+         *               ascending order, as an {@link Integer} array. The array may not be null
+         * @param length The number of items of the path as an {@link Integer} value
+         * @param count  The number of transactions, the path corresponds to, as an {@link Integer}
+         *               value
+         */
+        void insert(@NotNull final int[] path, final int length, final int count) {
+            Node node = root;
+
+            for (int i = 0; i < length; i++) {
+                int item = path[i];
+                Node child = node.child;
+
+                while (child != null && child.item != item) {
+                    child = child.sibling;
+                }
+
+                if (child == null) {
+                    child = new Node(item, node);
+                    child.sibling = node.child;
+                    node.child = child;
+                    child.next = headerTable[item];
+                    headerTable[item] = child;
+                }
+
+                child.count += count;
+                counts[item] += count;
+                node = child;
+            }
+        }
+
+    }
+
+    /**
+     * An abstract base class for all classes, which collect the frequent item sets, which are found
+     * while mining FP-trees.
+     */
+    private abstract static class Collector {
+
+        /**
+         * The minimum number of transactions, an item set must occur in to be collected.
+         */
+        int minOccurrences;
+
+        /**
+         * Creates a new collector.
+         *
+         * @param minOccurrences The initial minimum number of transactions, an item set must occur
+         *                       in to be collected, as an {@link Integer} value
+         */
+        Collector(final int minOccurrences) {
+            this.minOccurrences = minOccurrences;
+        }
+
+        /**
+         * Collects a frequent item set.
+         *
+         * @param itemSet     The item set as an instance of the class {@link EncodedItemSet}. The
+         *                    item set may not be null
+         * @param occurrences The number of transactions, the item set occurs in, as an {@link
+         *                    Integer} value
+         */
+        abstract void collect(@NotNull EncodedItemSet itemSet, int occurrences);
+
+    }
+
+    /**
+     * A collector, which decodes all item sets, which reach a fixed minimum number of occurrences,
+     * and adds them to a map.
+     *
+     * @param <T> The type of the items, which are processed by the algorithm
+     */
+    private static class MapCollector<T extends Item> extends Collector {
+
+        /**
+         * The encoded data set.
+         */
+        private final EncodedTransactions<T> data;
+
+        /**
+         * The map, the frequent item sets are added to.
+         */
+        private final Map<ItemSet<T>, TransactionalItemSet<T>> frequentItemSets;
+
+        /**
+         * Creates a new collector.
+         *
+         * @param data           The encoded data set as an instance of the class {@link
+         *                       EncodedTransactions}. The data set may not be null
+         * @param minOccurrences The minimum number of transactions, an item set must occur in to be
+         *                       considered frequent, as an {@link Integer} value
+         */
+        MapCollector(@NotNull final EncodedTransactions<T> data, final int minOccurrences) {
+            super(minOccurrences);
+            this.data = data;
+            this.frequentItemSets = new HashMap<>();
+        }
+
+        @Override
+        void collect(@NotNull final EncodedItemSet itemSet, final int occurrences) {
+            TransactionalItemSet<T> frequentItemSet = data.getDictionary().decode(itemSet);
+            frequentItemSet.setSupport(data.calculateSupport(occurrences));
+            frequentItemSets.put(frequentItemSet, frequentItemSet);
+        }
+
+    }
+
+    /**
+     * A collector, which keeps the k item sets, which occur in the most transactions, by using a
+     * min-heap. As soon as the heap contains k item sets, the minimum number of occurrences is
+     * raised, such that only item sets, which occur in more transactions than the least frequent
+     * item set of the heap, are collected. If multiple item sets occur in the same number of
+     * transactions, the ones, which have been found first, are kept.
+     */
+    private static class TopKCollector extends Collector {
+
+        /**
+         * The maximum number of item sets, which are kept.
+         */
+        private final int k;
+
+        /**
+         * A min-heap, which contains the item sets, which have been collected, together with the
+         * number of transactions they occur in.
+         */
+        private final PriorityQueue<Map.Entry<EncodedItemSet, Integer>> heap;
+
+        /**
+         * Creates a new collector.
+         *
+         * @param k              The maximum number of item sets, which should be kept, as an
+         *                       {@link Integer} value
+         * @param minOccurrences The initial minimum number of transactions, an item set must occur
+         *                       in to be collected, as an {@link Integer} value
+         */
+        TopKCollector(final int k, final int minOccurrences) {
+            super(minOccurrences);
+            this.k = k;
+            this.heap = new PriorityQueue<>(k + 1, Map.Entry.comparingByValue());
+        }
+
+        @Override
+        void collect(@NotNull final EncodedItemSet itemSet, final int occurrences) {
+            if (occurrences >= minOccurrences) {
+                heap.add(new AbstractMap.SimpleImmutableEntry<>(itemSet, occurrences));
+
+                if (heap.size() > k) {
+                    heap.poll();
+                }
+
+                if (heap.size() == k) {
+                    minOccurrences = Math.max(minOccurrences, heap.peek().getValue() + 1);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * The SLF4J logger, which is used by the module.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(FpGrowthModule.class);
+
+    /**
+     * The number of items, an item set must contain at most, for the mining of its conditional
+     * FP-tree to be split into separate tasks, when searching for frequent item sets in parallel.
+     * Conditional FP-trees of larger item sets are mined by a single task.
+     */
+    private static final int FORK_DEPTH = 2;
+
+    /**
+     * A task, which mines a range of the items of a FP-tree in order to find all frequent item
+     * sets, which end with one of these items followed by a specific suffix. If the range contains
+     * more than one item, it is split into two halves, which are processed by separate tasks.
+     */
+    private class MiningTask extends
+            RecursiveTask<Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>>> {
+
+        /**
+         * The constant serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The encoded data set.
+         */
+        private final EncodedTransactions<ItemType> data;
+
+        /**
+         * The FP-tree, which is mined by the task.
+         */
+        private final FpTree tree;
+
+        /**
+         * The item set, all item sets, which are found by the task, are extended with.
+         */
+        private final EncodedItemSet suffix;
+
+        /**
+         * The tree-local id of the first item, which is mined by the task.
+         */
+        private final int from;
+
+        /**
+         * The tree-local id of the item, which follows the last item, which is mined by the task.
+         */
+        private final int to;
+
+        /**
+         * The minimum number of transactions, an item set must occur in to be considered frequent.
+         */
+        private final int minOccurrences;
+
+        /**
+         * Creates a new task, which mines a range of the items of a FP-tree.
+         *
+         * @param data           The encoded data set as an instance of the class {@link
+         *                       EncodedTransactions}. The data set may not be null
+         * @param tree           The FP-tree, which should be mined, as an instance of the class
+         *                       {@link FpTree}. The tree may not be null
+         * @param suffix         The item set, all item sets, which are found by the task, are
+         *                       extended with, as an instance of the class {@link EncodedItemSet}.
+         *                       The item set may not be null
+         * @param from           The tree-local id of the first item, which should be mined by the
+         *                       task, as an {@link Integer} value
+         * @param to             The tree-local id of the item, which follows the last item, which
+         *                       should be mined by the task, as an {@link Integer} value
+         * @param minOccurrences The minimum number of transactions, an item set must occur in to be
+         *                       considered frequent, as an {@link Integer} value
+         */
+        MiningTask(@NotNull final EncodedTransactions<ItemType> data, @NotNull final FpTree tree,
+                   @NotNull final EncodedItemSet suffix, final int from, final int to,
+                   final int minOccurrences) {
+            this.data = data;
+            this.tree = tree;
+            this.suffix = suffix;
+            this.from = from;
+            this.to = to;
+            this.minOccurrences = minOccurrences;
+        }
+
+        @Override
+        protected Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                MiningTask left = new MiningTask(data, tree, suffix, from, middle, minOccurrences);
+                MiningTask right = new MiningTask(data, tree, suffix, middle, to, minOccurrences);
+                left.fork();
+                Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> frequentItemSets =
+                        right.compute();
+                frequentItemSets.putAll(left.join());
+                return frequentItemSets;
+            }
+
+            MapCollector<ItemType> collector = new MapCollector<>(data, minOccurrences);
+
+            if (from < to && tree.counts[from] >= minOccurrences) {
+                EncodedItemSet itemSet = suffix.add(tree.items[from]);
+                collector.collect(itemSet, tree.counts[from]);
+                FpTree conditionalTree = buildConditionalTree(tree, from, minOccurrences);
+
+                if (conditionalTree != null) {
+                    if (itemSet.size() < FORK_DEPTH) {
+                        collector.frequentItemSets.putAll(new MiningTask(data, conditionalTree,
+                                itemSet, 0, conditionalTree.items.length, minOccurrences)
+                                .compute());
+                    } else {
+                        mineTree(conditionalTree, itemSet, collector);
+                    }
+                }
+            }
+
+            return collector.frequentItemSets;
+        }
+
+    }
+
+    /**
+     * The number of threads, which are used to find frequent item sets.
+     */
+    private final int parallelism;
+
+    /**
+     * Creates a new module, which finds frequent item sets by using a single thread.
+     */
+    public FpGrowthModule() {
+        this(1);
+    }
+
+    /**
+     * Creates a new module, which allows to find frequent item sets by using multiple threads. The
+     * conditional FP-trees of different items are mined by separate tasks of a {@link
+     * ForkJoinPool}, which allows idle threads to steal work from busy ones.
+     *
+     * @param parallelism The number of threads, which should be used to find frequent item sets,
+     *                    as an {@link Integer} value. The number must be at least 1
+     */
+    public FpGrowthModule(final int parallelism) {
+        ensureAtLeast(parallelism, 1, "The parallelism must be at least 1");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the number of threads, which are used to find frequent item sets.
+     *
+     * @return The number of threads, which are used to find frequent item sets, as an {@link
+     * Integer} value
+     */
+    public final int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Builds the initial FP-tree from the transactions of an encoded data set.
+     *
+     * @param data      The encoded data set as an instance of the class {@link
+     *                  EncodedTransactions}. The data set may not be null
+     * @param itemCount The number of the most frequent items, which should be taken into account,
+     *                  as an {@link Integer} value. All items with greater ids are omitted
+     * @return The FP-tree, which has been built, as an instance of the class {@link FpTree}. The
+     * tree may not be null
+     */
+    @NotNull
+    private FpTree buildTree(@NotNull final EncodedTransactions<ItemType> data,
+                             final int itemCount) {
+        int[] items = new int[itemCount];
+
+        for (int i = 0; i < items.length; i++) {
+            items[i] = i;
+        }
+
+        FpTree tree = new FpTree(items);
+        int[][] transactions = data.getTransactions();
+        int[] weights = data.getWeights();
+
+        for (int i = 0; i < transactions.length; i++) {
+            int[] transaction = transactions[i];
+            int length = 0;
+
+            while (length < transaction.length && transaction[length] < itemCount) {
+                length++;
+            }
+
+            if (length > 0) {
+                tree.insert(transaction, length, weights[i]);
+            }
+        }
+
+        return tree;
+    }
+
+    /**
+     * Builds the conditional FP-tree of a specific item, i.e. the tree, which results from the
+     * prefix paths of all nodes, which store the item.
+     *
+     * @param tree           The FP-tree, which contains the item, as an instance of the class
+     *                       {@link FpTree}. The tree may not be null
+     * @param item           The tree-local id of the item as an {@link Integer} value
+     * @param minOccurrences The minimum number of transactions, an item set must occur in to be
+     *                       considered frequent, as an {@link Integer} value
+     * @return The conditional FP-tree, which has been built, as an instance of the class {@link
+     * FpTree} or null, if the conditional FP-tree does not contain any frequent items
+     */
+    @Nullable
+    private FpTree buildConditionalTree(@NotNull final FpTree tree, final int item,
+                                        final int minOccurrences) {
+        int[] counts = new int[item];
+
+        for (Node node = tree.headerTable[item]; node != null; node = node.next) {
+            for (Node parent = node.parent; parent.item != -1; parent = parent.parent) {
+                counts[parent.item] += node.count;
+            }
+        }
+
+        int[] mapping = new int[item];
+        int frequentItems = 0;
+
+        for (int i = 0; i < item; i++) {
+            mapping[i] = counts[i] >= minOccurrences ? frequentItems++ : -1;
+        }
+
+        if (frequentItems == 0) {
+            return null;
+        }
+
+        int[] items = new int[frequentItems];
+
+        for (int i = 0; i < item; i++) {
+            if (mapping[i] != -1) {
+                items[mapping[i]] = tree.items[i];
+            }
+        }
+
+        FpTree conditionalTree = new FpTree(items);
+        int[] path = new int[frequentItems];
+
+        for (Node node = tree.headerTable[item]; node != null; node = node.next) {
+            int length = 0;
+
+            for (Node parent = node.parent; parent.item != -1; parent = parent.parent) {
+                int mappedItem = mapping[parent.item];
+
+                if (mappedItem != -1) {
+                    path[length++] = mappedItem;
+                }
+            }
+
+            if (length > 0) {
+                for (int i = 0, j = length - 1; i < j; i++, j--) {
+                    int swap = path[i];
+                    path[i] = path[j];
+                    path[j] = swap;
+                }
+
+                conditionalTree.insert(path, length, node.count);
+            }
+        }
+
+        return conditionalTree;
+    }
+
+    /**
+     * Recursively mines a FP-tree in order to find all frequent item sets, which end with a
+     * specific suffix.
+     *
+     * @param tree      The FP-tree, which should be mined, as an instance of the class {@link
+     *                  FpTree}. The tree may not be null
+     * @param suffix    The item set, all item sets, which are found in the tree, are extended with,
+     *                  as an instance of the class {@link EncodedItemSet}. The item set may not be
+     *                  null
+     * @param collector The collector, the frequent item sets, which are found, should be passed
+     *                  to, as an instance of the class {@link Collector}. The collector may not be
+     *                  null
+     */
+    private void mineTree(@NotNull final FpTree tree, @NotNull final EncodedItemSet suffix,
+                          @NotNull final Collector collector) {
+        for (int item = tree.items.length - 1; item >= 0; item--) {
+            if (tree.counts[item] >= collector.minOccurrences) {
+                EncodedItemSet itemSet = suffix.add(tree.items[item]);
+                collector.collect(itemSet, tree.counts[item]);
+                FpTree conditionalTree =
+                        buildConditionalTree(tree, item, collector.minOccurrences);
+
+                if (conditionalTree != null) {
+                    mineTree(conditionalTree, itemSet, collector);
+                }
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
+            @NotNull final Iterator<Transaction<ItemType>> iterator, final double minSupport) {
+        ensureNotNull(iterator, "The iterator may not be null");
+        return findFrequentItemSets(TransactionSource.of(iterator), minSupport);
+    }
+
+    @NotNull
+    @Override
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source, final double minSupport) {
+        return mineFrequentItemSets(source, minSupport).getFrequentItemSets();
+    }
+
+    @NotNull
+    @Override
+    public final MiningResult<ItemType> mineFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source, final double minSupport) {
+        ensureNotNull(source, "The source may not be null");
+        ensureAtLeast(minSupport, 0, "The minimum support must be at least 0");
+        ensureAtMaximum(minSupport, 1, "The minimum support must be at maximum 1");
+        LOGGER.debug("Searching for frequent item sets using FP-Growth");
+        EncodedTransactions<ItemType> data = EncodedTransactions.encode(source, minSupport,
+                parallelism);
+        int minOccurrences = data.calculateMinOccurrences(minSupport);
+        FpTree tree = buildTree(data, data.getDictionary().size());
+        Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> frequentItemSets;
+
+        if (parallelism > 1) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+            try {
+                frequentItemSets = pool.invoke(new MiningTask(data, tree, EncodedItemSet.EMPTY, 0,
+                        tree.items.length, minOccurrences));
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            MapCollector<ItemType> collector = new MapCollector<>(data, minOccurrences);
+            mineTree(tree, EncodedItemSet.EMPTY, collector);
+            frequentItemSets = collector.frequentItemSets;
+        }
+
+        LOGGER.debug("Found {} frequent item sets", frequentItemSets.size());
+        LOGGER.debug("Frequent item sets = {}",
+                FrequentItemSets.formatFrequentItemSets(frequentItemSets.values()));
+        return new MiningResult<>(frequentItemSets, data.getTransactionCount());
+    }
+
+    @NotNull
+    @Override
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source, final int k,
+            final double minSupport) {
+        return mineFrequentItemSets(source, k, minSupport).getFrequentItemSets();
+    }
+
+    @NotNull
+    @Override
+    public final MiningResult<ItemType> mineFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source, final int k,
+            final double minSupport) {
+        ensureNotNull(source, "The source may not be null");
+        ensureAtLeast(k, 1, "k must be at least 1");
+        ensureAtLeast(minSupport, 0, "The minimum support must be at least 0");
+        ensureAtMaximum(minSupport, 1, "The minimum support must be at maximum 1");
+        LOGGER.debug("Searching for the {} most frequent item sets using FP-Growth", k);
+        EncodedTransactions<ItemType> data = EncodedTransactions.encode(source, minSupport,
+                parallelism);
+        ItemDictionary<ItemType> dictionary = data.getDictionary();
+        int minOccurrences = data.calculateMinOccurrences(minSupport);
+
+        if (dictionary.size() >= k) {
+            minOccurrences = Math.max(minOccurrences, dictionary.getFrequency(k - 1));
+        }
+
+        int itemCount = 0;
+
+        while (itemCount < dictionary.size() &&
+                dictionary.getFrequency(itemCount) >= minOccurrences) {
+            itemCount++;
+        }
+
+        LOGGER.trace("Initial minimum number of occurrences = {}", minOccurrences);
+        FpTree tree = buildTree(data, itemCount);
+        TopKCollector collector = new TopKCollector(k, minOccurrences);
+        mineTree(tree, EncodedItemSet.EMPTY, collector);
+        Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> frequentItemSets = new HashMap<>();
+
+        for (Map.Entry<EncodedItemSet, Integer> entry : collector.heap) {
+            TransactionalItemSet<ItemType> frequentItemSet = dictionary.decode(entry.getKey());
+            frequentItemSet.setSupport(data.calculateSupport(entry.getValue()));
+            frequentItemSets.put(frequentItemSet, frequentItemSet);
+        }
+
+        LOGGER.debug("Found {} frequent item sets", frequentItemSets.size());
+        LOGGER.debug("Frequent item sets = {}",
+                FrequentItemSets.formatFrequentItemSets(frequentItemSets.values()));
+        return new MiningResult<>(frequentItemSets, data.getTransactionCount());
+    }
+
+}
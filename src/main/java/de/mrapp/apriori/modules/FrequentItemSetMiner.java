@@ -16,12 +16,15 @@ package de.mrapp.apriori.modules;
 import de.mrapp.apriori.Item;
 import de.mrapp.apriori.ItemSet;
 import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
 import de.mrapp.apriori.datastructure.TransactionalItemSet;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Iterator;
 import java.util.Map;
 
+import static de.mrapp.util.Condition.ensureNotNull;
+
 /**
  * Defines the interface, a class, which allows to find frequent item sets, must implement.
  *
@@ -42,11 +45,54 @@ public interface FrequentItemSetMiner<ItemType extends Item> {
      *                   least 0 and at maximum 1
      * @return A map, which contains the frequent item sets, which have been found, as an instance
      * of the type {@link Map} or an empty map, if no frequent item sets have been found. The map
-     * stores instances of the class {@link ItemSet} as values and their hash codes as the
+     * stores instances of the class {@link ItemSet} as values and uses the same item sets as the
      * corresponding keys
      */
     @NotNull
-    Map<Integer, TransactionalItemSet<ItemType>> findFrequentItemSets(
+    Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
             @NotNull Iterator<Transaction<ItemType>> iterator, double minSupport);
 
+    /**
+     * Searches for frequent item sets. Unlike an iterator, the given source can be traversed
+     * multiple times. By default, a single pass over the source is performed.
+     *
+     * @param source     The source, which provides the transactions of the data set, which should
+     *                   be processed by the algorithm, as an instance of the type {@link
+     *                   TransactionSource}. The source may not be null
+     * @param minSupport The minimum support, which must at least be reached by an item set to be
+     *                   considered frequent, as a {@link Double} value. The support must be at
+     *                   least 0 and at maximum 1
+     * @return A map, which contains the frequent item sets, which have been found, as an instance
+     * of the type {@link Map} or an empty map, if no frequent item sets have been found. The map
+     * stores instances of the class {@link ItemSet} as values and uses the same item sets as the
+     * corresponding keys
+     */
+    @NotNull
+    default Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source, final double minSupport) {
+        ensureNotNull(source, "The source may not be null");
+        return findFrequentItemSets(source.open(), minSupport);
+    }
+
+    /**
+     * Searches for frequent item sets and returns them together with the number of transactions,
+     * which have been processed. By default, the frequent item sets are searched by using the
+     * method {@link #findFrequentItemSets(TransactionSource, double)} and the number of
+     * transactions is not known.
+     *
+     * @param source     The source, which provides the transactions of the data set, which should
+     *                   be processed by the algorithm, as an instance of the type {@link
+     *                   TransactionSource}. The source may not be null
+     * @param minSupport The minimum support, which must at least be reached by an item set to be
+     *                   considered frequent, as a {@link Double} value. The support must be at
+     *                   least 0 and at maximum 1
+     * @return The result of the search as an instance of the class {@link MiningResult}. The
+     * result may not be null
+     */
+    @NotNull
+    default MiningResult<ItemType> mineFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source, final double minSupport) {
+        return new MiningResult<>(findFrequentItemSets(source, minSupport), -1);
+    }
+
 }
\ No newline at end of file
@@ -15,15 +15,20 @@ package de.mrapp.apriori.modules;
 
 import de.mrapp.apriori.FrequentItemSets;
 import de.mrapp.apriori.Item;
+import de.mrapp.apriori.ItemSet;
 import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.EncodedItemSet;
+import de.mrapp.apriori.datastructure.EncodedTransactions;
 import de.mrapp.apriori.datastructure.TransactionalItemSet;
-import de.mrapp.util.datastructure.Pair;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.stream.IntStream;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import static de.mrapp.util.Condition.*;
 
@@ -38,6 +43,18 @@ import static de.mrapp.util.Condition.*;
  * infrequent item set are also infrequent. Furthermore, the items must be sortable (e.g. by their
  * names) in order to generate possible candidates in an efficient way.
  *
+ * The items are encoded as dense integer ids by using an {@link
+ * de.mrapp.apriori.datastructure.ItemDictionary}, which only contains the frequent items. The
+ * candidates of each level are stored in a prefix trie, which allows to count all candidates, which
+ * are contained by a transaction, in a single traversal. Consequently, the transactions are passed
+ * once per level.
+ *
+ * The counting of each level can be performed by multiple threads. In this case, the transactions
+ * are partitioned into chunks, which are processed by the tasks of a {@link ForkJoinPool}. As the
+ * trie is not modified while counting, it is shared by all tasks, whereas each task counts the
+ * occurrences of the candidates in an array of its own. The arrays are summed up when joining the
+ * tasks.
+ *
  * @param <ItemType> The type of the items, which are processed by the algorithm
  * @author Michael Rapp
  * @since 1.0.0
@@ -45,103 +62,543 @@ import static de.mrapp.util.Condition.*;
 public class FrequentItemSetMinerModule<ItemType extends Item> implements
         FrequentItemSetMiner<ItemType> {
 
+    /**
+     * A frequent item set, together with the number of transactions it occurs in.
+     */
+    private static class Candidate {
+
+        /**
+         * The item set.
+         */
+        private final EncodedItemSet items;
+
+        /**
+         * The number of transactions, the item set occurs in.
+         */
+        private final int occurrences;
+
+        /**
+         * Creates a new candidate.
+         *
+         * @param items       The item set as an instance of the class {@link EncodedItemSet}. The
+         *                    item set may not be null
+         * @param occurrences The number of transactions, the item set occurs in, as an {@link
+         *                    Integer} value
+         */
+        Candidate(@NotNull final EncodedItemSet items, final int occurrences) {
+            this.items = items;
+            this.occurrences = occurrences;
+        }
+
+    }
+
+    /**
+     * A prefix trie, which stores candidates of the same length in order to count their
+     * occurrences in the transactions of a data set. Each transaction is passed through the trie
+     * once, whereby all candidates, which are contained by the transaction, are counted in a single
+     * traversal. The counts are stored in arrays, which are provided by the caller, which allows to
+     * share the trie between multiple threads.
+     */
+    static class CandidateTrie {
+
+        /**
+         * A node of the trie.
+         */
+        private static class Node {
+
+            /**
+             * The ids of the items, which are stored by the node's edges, in ascending order.
+             */
+            private final int[] items;
+
+            /**
+             * The children, the node's edges lead to, or null, if the node is located at the
+             * deepest level of the trie.
+             */
+            private final Node[] children;
+
+            /**
+             * The indices of the candidates, the node's edges correspond to, or null, if the node
+             * is not located at the deepest level of the trie.
+             */
+            private final int[] candidates;
+
+            /**
+             * Creates a new node.
+             *
+             * @param items      An array, which contains the ids of the items, which are stored by
+             *                   the node's edges, in ascending order, as an {@link Integer} array.
+             *                   The array may not be null
+             * @param children   An array, which contains the children, the node's edges lead to,
+             *                   as a {@link Node} array or null, if the node is located at the
+             *                   deepest level of the trie
+             * @param candidates An array, which contains the indices of the candidates, the node's
+             *                   edges correspond to, as an {@link Integer} array or null, if the
+             *                   node is not located at the deepest level of the trie
+             */
+            Node(@NotNull final int[] items, @Nullable final Node[] children,
+                 @Nullable final int[] candidates) {
+                this.items = items;
+                this.children = children;
+                this.candidates = candidates;
+            }
+
+        }
+
+        /**
+         * The length of the candidates, which are stored by the trie.
+         */
+        private final int length;
+
+        /**
+         * The root node of the trie.
+         */
+        private final Node root;
+
+        /**
+         * The number of candidates, which are stored by the trie.
+         */
+        private final int size;
+
+        /**
+         * Creates a new trie.
+         *
+         * @param candidates A list, which contains the candidates, which should be stored by the
+         *                   trie, in lexicographic order, as an instance of the type {@link List}.
+         *                   The list may not be null
+         * @param length     The length of the candidates as an {@link Integer} value. The length
+         *                   must be at least 1
+         */
+        CandidateTrie(@NotNull final List<EncodedItemSet> candidates, final int length) {
+            this.length = length;
+            this.size = candidates.size();
+            this.root = createNode(candidates, 0, candidates.size(), 0);
+        }
+
+        /**
+         * Creates the node, which stores a specific range of candidates at a specific depth.
+         *
+         * @param candidates A list, which contains all candidates in lexicographic order, as an
+         *                   instance of the type {@link List}. The list may not be null
+         * @param from       The index of the first candidate, which should be stored by the node,
+         *                   as an {@link Integer} value
+         * @param to         The index of the candidate, which follows the last candidate, which
+         *                   should be stored by the node, as an {@link Integer} value
+         * @param depth      The depth of the node as an {@link Integer} value
+         * @return The node, which has been created, as an instance of the class {@link Node}. The
+         * node may not be null
+         */
+        @NotNull
+        private Node createNode(@NotNull final List<EncodedItemSet> candidates, final int from,
+                                final int to, final int depth) {
+            int[] items = new int[to - from];
+            int[] bounds = new int[to - from + 1];
+            int edges = 0;
+
+            for (int i = from; i < to; i++) {
+                int item = candidates.get(i).get(depth);
+
+                if (edges == 0 || items[edges - 1] != item) {
+                    items[edges] = item;
+                    bounds[edges] = i;
+                    edges++;
+                }
+            }
+
+            bounds[edges] = to;
+            items = Arrays.copyOf(items, edges);
+
+            if (depth == length - 1) {
+                return new Node(items, null, Arrays.copyOf(bounds, edges));
+            }
+
+            Node[] children = new Node[edges];
+
+            for (int i = 0; i < edges; i++) {
+                children[i] = createNode(candidates, bounds[i], bounds[i + 1], depth + 1);
+            }
+
+            return new Node(items, children, null);
+        }
+
+        /**
+         * Counts all candidates, which are contained by a specific transaction.
+         *
+         * @param transaction An array, which contains the ids of the transaction's items in
+         *                    ascending order, as an {@link Integer} array. The array may not be
+         *                    null
+         * @param weight      The weight of the transaction, i.e. the number of times it occurs in
+         *                    the data set, as an {@link Integer} value
+         * @param counts      An array, which contains the number of transactions, each candidate
+         *                    occurs in, as an {@link Integer} array. The array may not be null
+         */
+        void count(@NotNull final int[] transaction, final int weight,
+                   @NotNull final int[] counts) {
+            if (transaction.length >= length) {
+                count(root, transaction, weight, 0, 0, counts);
+            }
+        }
+
+        /**
+         * Recursively counts all candidates, which are stored in the subtree of a specific node
+         * and are contained by a specific transaction. The items of the node's edges and the
+         * remaining items of the transaction are merged linearly.
+         *
+         * @param node        The node as an instance of the class {@link Node}. The node may not
+         *                    be null
+         * @param transaction An array, which contains the ids of the transaction's items in
+         *                    ascending order, as an {@link Integer} array. The array may not be
+         *                    null
+         * @param weight      The weight of the transaction as an {@link Integer} value
+         * @param start       The index of the first item of the transaction, which should be
+         *                    taken into account, as an {@link Integer} value
+         * @param depth       The depth of the node as an {@link Integer} value
+         * @param counts      An array, which contains the number of transactions, each candidate
+         *                    occurs in, as an {@link Integer} array. The array may not be null
+         */
+        private void count(@NotNull final Node node, @NotNull final int[] transaction,
+                           final int weight, final int start, final int depth,
+                           @NotNull final int[] counts) {
+            int end = transaction.length - (length - depth - 1);
+            int i = start;
+            int j = 0;
+
+            while (i < end && j < node.items.length) {
+                int item = transaction[i];
+                int edge = node.items[j];
+
+                if (item == edge) {
+                    if (node.candidates != null) {
+                        counts[node.candidates[j]] += weight;
+                    } else {
+                        count(node.children[j], transaction, weight, i + 1, depth + 1, counts);
+                    }
+
+                    i++;
+                    j++;
+                } else if (item < edge) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+        }
+
+        /**
+         * Returns the number of candidates, which are stored by the trie.
+         *
+         * @return The number of candidates, which are stored by the trie, as an {@link Integer}
+         * value
+         */
+        int size() {
+            return size;
+        }
+
+    }
+
+    /**
+     * A task, which counts the occurrences of the candidates, which are stored by a {@link
+     * CandidateTrie}, in a range of transactions. If the range is too large, it is split into two
+     * halves, which are processed by separate tasks.
+     */
+    private static class CountingTask extends RecursiveTask<int[]> {
+
+        /**
+         * The constant serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The trie, which stores the candidates.
+         */
+        private final CandidateTrie trie;
+
+        /**
+         * An array, which contains all transactions of the data set.
+         */
+        private final int[][] transactions;
+
+        /**
+         * An array, which contains the weights of the transactions.
+         */
+        private final int[] weights;
+
+        /**
+         * The index of the first transaction, which is processed by the task.
+         */
+        private final int from;
+
+        /**
+         * The index of the transaction, which follows the last transaction, which is processed by
+         * the task.
+         */
+        private final int to;
+
+        /**
+         * The maximum number of transactions, which are processed by a single task.
+         */
+        private final int chunkSize;
+
+        /**
+         * Creates a new task, which counts the occurrences of candidates in a range of
+         * transactions.
+         *
+         * @param trie         The trie, which stores the candidates, as an instance of the class
+         *                     {@link CandidateTrie}. The trie may not be null
+         * @param transactions An array, which contains all transactions of the data set, as a
+         *                     two-dimensional {@link Integer} array. The array may not be null
+         * @param weights      An array, which contains the weights of the transactions, as an
+         *                     {@link Integer} array. The array may not be null
+         * @param from         The index of the first transaction, which should be processed by the
+         *                     task, as an {@link Integer} value
+         * @param to           The index of the transaction, which follows the last transaction,
+         *                     which should be processed by the task, as an {@link Integer} value
+         * @param chunkSize    The maximum number of transactions, which should be processed by a
+         *                     single task, as an {@link Integer} value
+         */
+        CountingTask(@NotNull final CandidateTrie trie, @NotNull final int[][] transactions,
+                     @NotNull final int[] weights, final int from, final int to,
+                     final int chunkSize) {
+            this.trie = trie;
+            this.transactions = transactions;
+            this.weights = weights;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from > chunkSize) {
+                int middle = (from + to) >>> 1;
+                CountingTask left =
+                        new CountingTask(trie, transactions, weights, from, middle, chunkSize);
+                CountingTask right =
+                        new CountingTask(trie, transactions, weights, middle, to, chunkSize);
+                left.fork();
+                int[] counts = right.compute();
+                int[] leftCounts = left.join();
+
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += leftCounts[i];
+                }
+
+                return counts;
+            }
+
+            int[] counts = new int[trie.size()];
+
+            for (int i = from; i < to; i++) {
+                trie.count(transactions[i], weights[i], counts);
+            }
+
+            return counts;
+        }
+
+    }
+
     /**
      * The SLF4J logger, which is used by the module.
      */
     private static final Logger LOGGER = LoggerFactory.getLogger(FrequentItemSetMinerModule.class);
 
     /**
-     * Generates and returns item sets, which contain only one item.
+     * The minimum number of transactions, which are processed by a single task, when counting the
+     * occurrences of candidates in parallel.
+     */
+    private static final int MIN_CHUNK_SIZE = 1024;
+
+    /**
+     * The number of threads, which are used to count the occurrences of candidates.
+     */
+    private final int parallelism;
+
+    /**
+     * Creates item sets of the length k + 1 by combining frequent item sets of the length k. As the
+     * given item sets are sorted lexicographically, item sets, which share the same k - 1 items,
+     * form contiguous groups and only item sets of the same group are combined. This enables to
+     * efficiently generate all possible candidates, without generating any duplicates. Due to the
+     * anti-monotonicity of the support metric, candidates, which have an infrequent subset of
+     * length k, cannot be frequent and are therefore pruned. The candidates are generated in the
+     * same way by all modules, which search for frequent item sets level-wise.
      *
-     * @param iterator An iterator, which allows to iterate the transactions of the data set, which
-     *                 should be processed by the algorithm, as an instance of the type {@link
-     *                 Iterator}. The iterator may not be null
-     * @return A pair, which contains the generated item sets, as well as the number of
-     * transactions, which have been iterated, as an instance of the class {@link Pair}. The pair
-     * may not be null
+     * @param itemSets A list, which contains the frequent item sets, which should be combined in
+     *                 order to create new item sets, in lexicographic order, as an instance of the
+     *                 type {@link List} or an empty list, if no item sets are available
+     * @param k        The length of the given item sets as an {@link Integer} value
+     * @return A list, which contains the item sets, which have been created, in lexicographic
+     * order, as an instance of the type {@link List} or an empty list, if no item sets have been
+     * created
      */
     @NotNull
-    private Pair<Collection<TransactionalItemSet<ItemType>>, Integer> generateInitialItemSets(
-            @NotNull final Iterator<Transaction<ItemType>> iterator) {
-        Map<Integer, TransactionalItemSet<ItemType>> itemSets = new HashMap<>();
-        int transactionCount = 0;
-        Transaction<ItemType> transaction;
-
-        while ((transaction = iterator.next()) != null) {
-            for (ItemType item : transaction) {
-                TransactionalItemSet<ItemType> itemSet = new TransactionalItemSet<>();
-                itemSet.add(item);
-                TransactionalItemSet<ItemType> previous = itemSets
-                        .putIfAbsent(itemSet.hashCode(), itemSet);
-
-                if (previous != null) {
-                    previous.getTransactions().put(transactionCount, transaction);
-                } else {
-                    itemSet.getTransactions().put(transactionCount, transaction);
+    static List<EncodedItemSet> combineItemSets(@NotNull final List<EncodedItemSet> itemSets,
+                                                final int k) {
+        Set<EncodedItemSet> frequentItemSets =
+                k > 1 ? new HashSet<>(itemSets) : Collections.emptySet();
+
+        List<EncodedItemSet> candidates = new ArrayList<>();
+        int groupStart = 0;
+        int prunedCandidates = 0;
+
+        while (groupStart < itemSets.size()) {
+            EncodedItemSet first = itemSets.get(groupStart);
+            int groupEnd = groupStart + 1;
+
+            while (groupEnd < itemSets.size() &&
+                    first.hasCommonPrefix(itemSets.get(groupEnd), k - 1)) {
+                groupEnd++;
+            }
+
+            for (int i = groupStart; i < groupEnd; i++) {
+                EncodedItemSet itemSet1 = itemSets.get(i);
+
+                for (int j = i + 1; j < groupEnd; j++) {
+                    EncodedItemSet candidate = itemSet1.add(itemSets.get(j).last());
+
+                    if (hasFrequentSubsets(candidate, frequentItemSets)) {
+                        candidates.add(candidate);
+                    } else {
+                        prunedCandidates++;
+                    }
                 }
             }
 
-            transactionCount++;
+            groupStart = groupEnd;
+        }
+
+        LOGGER.trace("Pruned {} candidates with infrequent subsets", prunedCandidates);
+        return candidates;
+    }
+
+    /**
+     * Returns, whether all subsets of a candidate, which contain one item less than the candidate,
+     * are frequent. The two subsets, which result from omitting one of the last two items, are not
+     * checked, because the candidate has been created by combining them.
+     *
+     * @param candidate        The candidate as an instance of the class {@link EncodedItemSet}.
+     *                         The candidate may not be null
+     * @param frequentItemSets A set, which contains all frequent item sets, which contain one item
+     *                         less than the candidate, as an instance of the type {@link Set}. The
+     *                         set may not be null
+     * @return True, if all subsets of the candidate are frequent, false otherwise
+     */
+    private static boolean hasFrequentSubsets(@NotNull final EncodedItemSet candidate,
+                                              @NotNull final Set<EncodedItemSet> frequentItemSets) {
+        for (int i = 0; i < candidate.size() - 2; i++) {
+            if (!frequentItemSets.contains(candidate.remove(candidate.get(i)))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates a new module, which counts the occurrences of candidates by using a single thread.
+     */
+    public FrequentItemSetMinerModule() {
+        this(1);
+    }
+
+    /**
+     * Creates a new module, which allows to count the occurrences of candidates by using multiple
+     * threads.
+     *
+     * @param parallelism The number of threads, which should be used to count the occurrences of
+     *                    candidates, as an {@link Integer} value. The number must be at least 1
+     */
+    public FrequentItemSetMinerModule(final int parallelism) {
+        ensureAtLeast(parallelism, 1, "The parallelism must be at least 1");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the number of threads, which are used to count the occurrences of candidates.
+     *
+     * @return The number of threads, which are used to count the occurrences of candidates, as an
+     * {@link Integer} value
+     */
+    public final int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Generates and returns item sets, which contain only one item. As the transactions have been
+     * encoded beforehand, all of these item sets are known to be frequent.
+     *
+     * @param data The encoded data set as an instance of the class {@link EncodedTransactions}.
+     *             The data set may not be null
+     * @return A list, which contains the generated item sets in ascending order of their items'
+     * ids, as an instance of the type {@link List}. The list may not be null
+     */
+    @NotNull
+    private List<Candidate> generateInitialItemSets(
+            @NotNull final EncodedTransactions<ItemType> data) {
+        int itemCount = data.getDictionary().size();
+        List<Candidate> itemSets = new ArrayList<>(itemCount);
+
+        for (int i = 0; i < itemCount; i++) {
+            int occurrences = data.getDictionary().getFrequency(i);
+            itemSets.add(new Candidate(new EncodedItemSet(i), occurrences));
         }
 
-        return Pair.create(itemSets.values(), transactionCount);
+        return itemSets;
     }
 
     /**
-     * Removes the item sets, which are not frequent, from a specific collection. Calculating the
-     * support of the item sets requires to access the data set.
+     * Removes the candidates, which are not frequent, from a specific list. The occurrences of all
+     * candidates are counted by passing each transaction of the data set through a {@link
+     * CandidateTrie} once. If a thread pool is given and the data set is large enough, the
+     * transactions are partitioned into chunks, which are counted in parallel.
      *
-     * @param itemSets         A collection, which contains the item sets, which should be filtered,
-     *                         as an instance of the type {@link Collection} or an empty collection,
-     *                         if no item sets are available
-     * @param transactionCount The total number of transactions, which are contained in the data
-     *                         set, as an {@link Integer} value
-     * @param k                The length of the item sets, which should be filtered, as an {@link
-     *                         Integer} value
-     * @param minSupport       The minimum support, which must at least be reached by an item set to
-     *                         be considered frequent, as a {@link Double} value. The support must
-     *                         be at least 0 and at maximum 1
-     * @return A list, which contains the item sets, which are frequent, as an instance of the type
-     * {@link List} or an empty list, if no item sets are frequent
+     * @param data           The encoded data set as an instance of the class {@link
+     *                       EncodedTransactions}. The data set may not be null
+     * @param candidates     A list, which contains the candidates, which should be filtered, in
+     *                       lexicographic order, as an instance of the type {@link List}. The list
+     *                       may not be null
+     * @param k              The length of the candidates as an {@link Integer} value
+     * @param minOccurrences The minimum number of transactions, an item set must occur in to be
+     *                       considered frequent, as an {@link Integer} value
+     * @param pool           The thread pool, which should be used to count the occurrences of
+     *                       the candidates, as an instance of the class {@link ForkJoinPool} or
+     *                       null, if a single thread should be used
+     * @return A list, which contains the candidates, which are frequent, in lexicographic order,
+     * as an instance of the type {@link List} or an empty list, if no candidates are frequent
      */
     @NotNull
-    private List<TransactionalItemSet<ItemType>> filterFrequentItemSets(
-            @NotNull final Collection<TransactionalItemSet<ItemType>> itemSets,
-            final int transactionCount, final int k, final double minSupport) {
-        List<TransactionalItemSet<ItemType>> frequentCandidates = new ArrayList<>(itemSets.size());
-
-        for (TransactionalItemSet<ItemType> candidate : itemSets) {
-            if (k > 1) {
-                Set<Map.Entry<Integer, Transaction<ItemType>>> transactionSet = candidate
-                        .getTransactions()
-                        .entrySet();
-                Map<Integer, Transaction<ItemType>> transactions = new HashMap<>(
-                        transactionSet.size());
-
-                for (Map.Entry<Integer, Transaction<ItemType>> entry : transactionSet) {
-                    Transaction<ItemType> transaction = entry.getValue();
-                    Set<Integer> containedItemHashes = new HashSet<>();
-
-                    for (ItemType item : transaction) {
-                        if (candidate.contains(item)) {
-                            containedItemHashes.add(item.hashCode());
-                        }
-                    }
+    private List<Candidate> filterFrequentItemSets(
+            @NotNull final EncodedTransactions<ItemType> data,
+            @NotNull final List<EncodedItemSet> candidates, final int k,
+            final int minOccurrences, @Nullable final ForkJoinPool pool) {
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-                    if (containedItemHashes.size() >= candidate.size()) {
-                        transactions.put(entry.getKey(), transaction);
-                    }
-                }
+        CandidateTrie trie = new CandidateTrie(candidates, k);
+        int[][] transactions = data.getTransactions();
+        int[] weights = data.getWeights();
+        int[] counts;
+
+        if (pool != null && transactions.length > MIN_CHUNK_SIZE) {
+            int chunkSize = Math.max(MIN_CHUNK_SIZE,
+                    (transactions.length + parallelism * 4 - 1) / (parallelism * 4));
+            counts = pool.invoke(new CountingTask(trie, transactions, weights, 0,
+                    transactions.length, chunkSize));
+        } else {
+            counts = new int[candidates.size()];
 
-                candidate.setTransactions(transactions);
+            for (int i = 0; i < transactions.length; i++) {
+                trie.count(transactions[i], weights[i], counts);
             }
+        }
 
-            int occurrences = candidate.getTransactions().size();
-            double support = calculateSupport(transactionCount, occurrences);
-            candidate.setSupport(support);
+        List<Candidate> frequentCandidates = new ArrayList<>();
 
-            if (support >= minSupport) {
-                frequentCandidates.add(candidate);
+        for (int i = 0; i < candidates.size(); i++) {
+            int occurrences = counts[i];
+
+            if (occurrences >= minOccurrences) {
+                frequentCandidates.add(new Candidate(candidates.get(i), occurrences));
             }
         }
 
@@ -149,105 +606,115 @@ public class FrequentItemSetMinerModule<ItemType extends Item> implements
     }
 
     /**
-     * Creates item sets of the length k + 1 by combining item sets of the length k. Two item sets
-     * are only combined, if the first k - 1 items of both item sets are equal. Because the items,
-     * which are contained by item sets, are sorted, this enables to efficiently generate all
-     * possible candidates, without generating any duplicates.
+     * Compares two item sets of the same length lexicographically, according to the natural
+     * ordering of their items.
      *
-     * @param itemSets A list, which contains the item sets, which should be combined in order to
-     *                 create new item sets, as an instance of the type {@link List} or an empty
-     *                 list, if no item sets are available
-     * @param k        The length of the given item sets as an {@link Integer} value
-     * @return A collection, which contains the item sets, which have been created, as an instance
-     * of the type {@link Collection} or an empty collection, if no item sets have been created
+     * @param itemSet1 The first item set as an instance of the class {@link
+     *                 TransactionalItemSet}. The item set may not be null
+     * @param itemSet2 The second item set as an instance of the class {@link
+     *                 TransactionalItemSet}. The item set may not be null
+     * @return A negative integer, zero or a positive integer as the first item set is less than,
+     * equal to or greater than the second one
      */
-    @NotNull
-    private Collection<TransactionalItemSet<ItemType>> combineItemSets(
-            @NotNull final List<TransactionalItemSet<ItemType>> itemSets,
-            final int k) {
-        Set<TransactionalItemSet<ItemType>> combinedItemSets = new HashSet<>(
-                IntStream.range(1, itemSets.size()).reduce(0, (x, y) -> (x + y)), 1);
-
-        for (int i = 0; i < itemSets.size(); i++) {
-            for (int j = i + 1; j < itemSets.size(); j++) {
-                TransactionalItemSet<ItemType> itemSet1 = itemSets.get(i);
-                TransactionalItemSet<ItemType> itemSet2 = itemSets.get(j);
-                Iterator<ItemType> iterator1 = itemSet1.iterator();
-                Iterator<ItemType> iterator2 = itemSet2.iterator();
-                ItemType itemToAdd = null;
-                int index = 0;
-
-                while (iterator1.hasNext() && iterator2.hasNext()) {
-                    ItemType item2 = iterator2.next();
-
-                    if (index < k - 1) {
-                        if (!item2.equals(iterator1.next())) {
-                            itemToAdd = null;
-                            break;
-                        }
-                    } else {
-                        itemToAdd = item2;
-                    }
+    private int compareLexicographically(@NotNull final TransactionalItemSet<ItemType> itemSet1,
+                                         @NotNull final TransactionalItemSet<ItemType> itemSet2) {
+        Iterator<ItemType> iterator1 = itemSet1.iterator();
+        Iterator<ItemType> iterator2 = itemSet2.iterator();
 
-                    index++;
-                }
+        while (iterator1.hasNext() && iterator2.hasNext()) {
+            int result = iterator1.next().compareTo(iterator2.next());
 
-                if (itemToAdd != null) {
-                    TransactionalItemSet<ItemType> combinedItemSet = new TransactionalItemSet<>(
-                            itemSet1);
-                    combinedItemSet.add(itemToAdd);
-                    combinedItemSet.getTransactions().putAll(itemSet2.getTransactions());
-                    combinedItemSets.add(combinedItemSet);
-                }
+            if (result != 0) {
+                return result;
             }
         }
 
-        return combinedItemSets;
+        return 0;
     }
 
     /**
-     * Calculates and returns the support of an item.
+     * Decodes frequent item sets and adds them to a map. The item sets are added in lexicographic
+     * order of their items, which makes the iteration order of the map independent of the ids,
+     * which have been assigned to the items.
      *
-     * @param transactions The total number of available transactions as an {@link Integer} value.
-     *                     The number of transactions must be at least 0
-     * @param occurrences  The number of transactions, the item occurs in, as an {@link Integer}
-     *                     value. The number of transactions must be at least 0
-     * @return The support, which has been calculated, as a {@link Double} value
+     * @param data             The encoded data set as an instance of the class {@link
+     *                         EncodedTransactions}. The data set may not be null
+     * @param itemSets         A list, which contains the frequent item sets, which should be
+     *                         decoded, as an instance of the type {@link List}. The list may not be
+     *                         null
+     * @param frequentItemSets The map, the decoded item sets should be added to, as an instance of
+     *                         the type {@link Map}. The map may not be null
      */
-    private double calculateSupport(final int transactions, final int occurrences) {
-        return transactions > 0 ? (double) occurrences / (double) transactions : 0;
+    private void addFrequentItemSets(@NotNull final EncodedTransactions<ItemType> data,
+                                     @NotNull final List<Candidate> itemSets,
+                                     @NotNull final Map<ItemSet<ItemType>,
+                                             TransactionalItemSet<ItemType>> frequentItemSets) {
+        List<TransactionalItemSet<ItemType>> decodedItemSets = new ArrayList<>(itemSets.size());
+
+        for (Candidate candidate : itemSets) {
+            TransactionalItemSet<ItemType> itemSet = data.getDictionary().decode(candidate.items);
+            itemSet.setSupport(data.calculateSupport(candidate.occurrences));
+            decodedItemSets.add(itemSet);
+        }
+
+        decodedItemSets.sort(this::compareLexicographically);
+        decodedItemSets.forEach(x -> frequentItemSets.put(x, x));
     }
 
     @NotNull
     @Override
-    public final Map<Integer, TransactionalItemSet<ItemType>> findFrequentItemSets(
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
             @NotNull final Iterator<Transaction<ItemType>> iterator, final double minSupport) {
         ensureNotNull(iterator, "The iterator may not be null");
+        return findFrequentItemSets(TransactionSource.of(iterator), minSupport);
+    }
+
+    @NotNull
+    @Override
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source, final double minSupport) {
+        return mineFrequentItemSets(source, minSupport).getFrequentItemSets();
+    }
+
+    @NotNull
+    @Override
+    public final MiningResult<ItemType> mineFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source, final double minSupport) {
+        ensureNotNull(source, "The source may not be null");
         ensureAtLeast(minSupport, 0, "The minimum support must be at least 0");
         ensureAtMaximum(minSupport, 1, "The minimum support must be at maximum 1");
         LOGGER.debug("Searching for frequent item sets");
-        Map<Integer, TransactionalItemSet<ItemType>> frequentItemSets = new HashMap<>();
+        Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> frequentItemSets = new HashMap<>();
+        EncodedTransactions<ItemType> data = EncodedTransactions.encode(source, minSupport,
+                parallelism);
+        int minOccurrences = data.calculateMinOccurrences(minSupport);
+        List<Candidate> frequentCandidates = generateInitialItemSets(data);
+        ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
         int k = 1;
-        Pair<Collection<TransactionalItemSet<ItemType>>, Integer> pair = generateInitialItemSets(
-                iterator);
-        Collection<TransactionalItemSet<ItemType>> candidates = pair.first;
-        int transactionCount = pair.second;
-
-        while (!candidates.isEmpty()) {
-            LOGGER.trace("k = {}", k);
-            LOGGER.trace("C_{} = {}", k, candidates);
-            List<TransactionalItemSet<ItemType>> frequentCandidates = filterFrequentItemSets(
-                    candidates, transactionCount, k, minSupport);
-            LOGGER.trace("S_{} = {}", k, frequentCandidates);
-            candidates = combineItemSets(frequentCandidates, k);
-            frequentCandidates.forEach(x -> frequentItemSets.put(x.hashCode(), x));
-            k++;
+
+        try {
+            while (!frequentCandidates.isEmpty()) {
+                LOGGER.trace("k = {}", k);
+                LOGGER.trace("S_{} contains {} item sets", k, frequentCandidates.size());
+                addFrequentItemSets(data, frequentCandidates, frequentItemSets);
+                List<EncodedItemSet> itemSets = new ArrayList<>(frequentCandidates.size());
+                frequentCandidates.forEach(x -> itemSets.add(x.items));
+                List<EncodedItemSet> candidates = combineItemSets(itemSets, k);
+                LOGGER.trace("C_{} contains {} item sets", k + 1, candidates.size());
+                frequentCandidates =
+                        filterFrequentItemSets(data, candidates, k + 1, minOccurrences, pool);
+                k++;
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
         }
 
         LOGGER.debug("Found {} frequent item sets", frequentItemSets.size());
         LOGGER.debug("Frequent item sets = {}",
                 FrequentItemSets.formatFrequentItemSets(frequentItemSets.values()));
-        return frequentItemSets;
+        return new MiningResult<>(frequentItemSets, data.getTransactionCount());
     }
 
 }
\ No newline at end of file
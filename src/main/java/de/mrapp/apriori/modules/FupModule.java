@@ -0,0 +1,288 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.modules;
+
+import de.mrapp.apriori.FrequentItemSets;
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.EncodedItemSet;
+import de.mrapp.apriori.datastructure.EncodedTransactions;
+import de.mrapp.apriori.datastructure.ItemDictionary;
+import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import de.mrapp.apriori.modules.FrequentItemSetMinerModule.CandidateTrie;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+import static de.mrapp.util.Condition.*;
+
+/**
+ * A module, which allows to update the frequent item sets, which have previously been found in a
+ * data set, when new transactions are added to the data set, according to the FUP algorithm.
+ * Instead of mining the whole data set again, the frequent item sets are updated level-wise by
+ * using the number of transactions, the previous frequent item sets occur in, and only counting
+ * the candidates of each level in the new transactions.
+ *
+ * An item set, which has not been frequent before, can only become frequent, if it occurs in a
+ * sufficient number of the new transactions, as it occurs in less transactions of the original
+ * data set than required to be frequent. Only the candidates, which fulfill this condition, must
+ * be counted in the original data set, which is therefore traversed at most once per level. If
+ * no such candidates exist, the original data set is not traversed at all.
+ *
+ * @param <ItemType> The type of the items, which are processed by the algorithm
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public class FupModule<ItemType extends Item> {
+
+    /**
+     * The SLF4J logger, which is used by the module.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(FupModule.class);
+
+    /**
+     * Encodes the transactions, which are provided by a specific source, by using a dictionary.
+     *
+     * @param source     The source, which provides the transactions, as an instance of the type
+     *                   {@link TransactionSource}. The source may not be null
+     * @param dictionary The dictionary, which should be used to encode the transactions, as an
+     *                   instance of the class {@link ItemDictionary}. The dictionary may not be
+     *                   null
+     * @return An array, which contains the encoded transactions, as a two-dimensional {@link
+     * Integer} array. The array may not be null
+     */
+    @NotNull
+    private int[][] encode(@NotNull final TransactionSource<ItemType> source,
+                           @NotNull final ItemDictionary<ItemType> dictionary) {
+        List<int[]> transactions = new ArrayList<>();
+        Iterator<Transaction<ItemType>> iterator = source.open();
+        Transaction<ItemType> transaction;
+
+        while ((transaction = iterator.next()) != null) {
+            int[] encodedTransaction = dictionary.encode(transaction);
+
+            if (encodedTransaction.length > 0) {
+                transactions.add(encodedTransaction);
+            }
+        }
+
+        return transactions.toArray(new int[transactions.size()][]);
+    }
+
+    /**
+     * Counts the occurrences of candidates in the transactions of the original data set.
+     *
+     * @param source     The source, which provides the transactions of the original data set, as
+     *                   an instance of the type {@link TransactionSource}. The source may not be
+     *                   null
+     * @param dictionary The dictionary, which should be used to encode the transactions, as an
+     *                   instance of the class {@link ItemDictionary}. The dictionary may not be
+     *                   null
+     * @param candidates A list, which contains the candidates, in lexicographic order, as an
+     *                   instance of the type {@link List}. The list may not be null
+     * @param k          The length of the candidates as an {@link Integer} value
+     * @return An array, which contains the number of transactions, each candidate occurs in, as
+     * an {@link Integer} array. The array may not be null
+     */
+    @NotNull
+    private int[] countInOriginalData(@NotNull final TransactionSource<ItemType> source,
+                                      @NotNull final ItemDictionary<ItemType> dictionary,
+                                      @NotNull final List<EncodedItemSet> candidates,
+                                      final int k) {
+        CandidateTrie trie = new CandidateTrie(candidates, k);
+        int[] counts = new int[candidates.size()];
+        Iterator<Transaction<ItemType>> iterator = source.open();
+        Transaction<ItemType> transaction;
+
+        while ((transaction = iterator.next()) != null) {
+            trie.count(dictionary.encode(transaction), 1, counts);
+        }
+
+        return counts;
+    }
+
+    /**
+     * Updates the frequent item sets, which have previously been found in a data set, when new
+     * transactions are added to the data set.
+     *
+     * @param frequentItemSets The frequent item sets, which have previously been found in the
+     *                         original data set, as an instance of the type {@link Collection}.
+     *                         The collection must contain all item sets, which reach the given
+     *                         minimum support in the original data set. It may not be null
+     * @param transactionCount The number of transactions of the original data set as an {@link
+     *                         Integer} value. The number must be at least 0
+     * @param source           The source, which provides the transactions of the original data
+     *                         set, as an instance of the type {@link TransactionSource}. The source
+     *                         may not be null
+     * @param delta            The source, which provides the new transactions, as an instance of
+     *                         the type {@link TransactionSource}. The source may not be null
+     * @param minSupport       The minimum support, which must at least be reached by an item set
+     *                         to be considered frequent, as a {@link Double} value. The support
+     *                         must be at least 0 and at maximum 1
+     * @return A map, which contains the frequent item sets of the updated data set, as an instance
+     * of the type {@link Map} or an empty map, if no frequent item sets have been found. The map
+     * stores instances of the class {@link ItemSet} as values and uses the same item sets as the
+     * corresponding keys
+     */
+    @NotNull
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> updateFrequentItemSets(
+            @NotNull final Collection<? extends ItemSet<ItemType>> frequentItemSets,
+            final int transactionCount, @NotNull final TransactionSource<ItemType> source,
+            @NotNull final TransactionSource<ItemType> delta, final double minSupport) {
+        return mineUpdatedFrequentItemSets(frequentItemSets, transactionCount, source, delta,
+                minSupport).getFrequentItemSets();
+    }
+
+    /**
+     * Updates the frequent item sets, which have previously been found in a data set, when new
+     * transactions are added to the data set, and returns them together with the number of
+     * transactions of the updated data set.
+     *
+     * @param frequentItemSets The frequent item sets, which have previously been found in the
+     *                         original data set, as an instance of the type {@link Collection}.
+     *                         The collection must contain all item sets, which reach the given
+     *                         minimum support in the original data set. It may not be null
+     * @param transactionCount The number of transactions of the original data set as an {@link
+     *                         Integer} value. The number must be at least 0
+     * @param source           The source, which provides the transactions of the original data
+     *                         set, as an instance of the type {@link TransactionSource}. The source
+     *                         may not be null
+     * @param delta            The source, which provides the new transactions, as an instance of
+     *                         the type {@link TransactionSource}. The source may not be null
+     * @param minSupport       The minimum support, which must at least be reached by an item set
+     *                         to be considered frequent, as a {@link Double} value. The support
+     *                         must be at least 0 and at maximum 1
+     * @return The result of the update, which contains the frequent item sets of the updated data
+     * set and its number of transactions, as an instance of the class {@link MiningResult}. The
+     * result may not be null
+     */
+    @NotNull
+    public final MiningResult<ItemType> mineUpdatedFrequentItemSets(
+            @NotNull final Collection<? extends ItemSet<ItemType>> frequentItemSets,
+            final int transactionCount, @NotNull final TransactionSource<ItemType> source,
+            @NotNull final TransactionSource<ItemType> delta, final double minSupport) {
+        ensureNotNull(frequentItemSets, "The frequent item sets may not be null");
+        ensureAtLeast(transactionCount, 0, "The transaction count must be at least 0");
+        ensureNotNull(source, "The source may not be null");
+        ensureNotNull(delta, "The delta may not be null");
+        ensureAtLeast(minSupport, 0, "The minimum support must be at least 0");
+        ensureAtMaximum(minSupport, 1, "The minimum support must be at maximum 1");
+        LOGGER.debug("Updating {} frequent item sets using FUP", frequentItemSets.size());
+        Map<ItemType, Integer> frequencies = new HashMap<>();
+        Iterator<Transaction<ItemType>> iterator = delta.open();
+        Transaction<ItemType> transaction;
+        int deltaCount = 0;
+
+        while ((transaction = iterator.next()) != null) {
+            Set<ItemType> distinctItems = new HashSet<>();
+            transaction.forEach(distinctItems::add);
+            distinctItems.forEach(item -> frequencies.merge(item, 1, Integer::sum));
+            deltaCount++;
+        }
+
+        for (ItemSet<ItemType> itemSet : frequentItemSets) {
+            if (itemSet.size() == 1) {
+                frequencies.putIfAbsent(itemSet.first(), 0);
+            }
+        }
+
+        ItemDictionary<ItemType> dictionary = new ItemDictionary<>(frequencies);
+        EncodedTransactions<ItemType> originalData =
+                new EncodedTransactions<>(dictionary, new int[0][], transactionCount);
+        EncodedTransactions<ItemType> data = new EncodedTransactions<>(dictionary,
+                encode(delta, dictionary), transactionCount + deltaCount);
+        int minOccurrences = data.calculateMinOccurrences(minSupport);
+        int maxOriginalOccurrences = originalData.calculateMinOccurrences(minSupport) - 1;
+        Map<EncodedItemSet, Integer> originalOccurrences =
+                new HashMap<>(frequentItemSets.size() * 2);
+
+        for (ItemSet<ItemType> itemSet : frequentItemSets) {
+            EncodedItemSet encodedItemSet = dictionary.encodeItemSet(itemSet);
+
+            if (encodedItemSet.size() == itemSet.size()) {
+                originalOccurrences.put(encodedItemSet,
+                        (int) Math.round(itemSet.getSupport() * transactionCount));
+            }
+        }
+
+        Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> result = new HashMap<>();
+        List<EncodedItemSet> candidates = new ArrayList<>(dictionary.size());
+        int rescannedCandidates = 0;
+
+        for (int i = 0; i < dictionary.size(); i++) {
+            candidates.add(new EncodedItemSet(i));
+        }
+
+        for (int k = 1; !candidates.isEmpty(); k++) {
+            CandidateTrie trie = new CandidateTrie(candidates, k);
+            int[] counts = new int[candidates.size()];
+
+            for (int[] encodedTransaction : data.getTransactions()) {
+                trie.count(encodedTransaction, 1, counts);
+            }
+
+            List<EncodedItemSet> unknownCandidates = new ArrayList<>();
+            List<Integer> unknownIndices = new ArrayList<>();
+
+            for (int i = 0; i < candidates.size(); i++) {
+                Integer occurrences = originalOccurrences.get(candidates.get(i));
+
+                if (occurrences != null) {
+                    counts[i] += occurrences;
+                } else if (counts[i] + maxOriginalOccurrences >= minOccurrences &&
+                        maxOriginalOccurrences > 0) {
+                    unknownCandidates.add(candidates.get(i));
+                    unknownIndices.add(i);
+                }
+            }
+
+            if (!unknownCandidates.isEmpty()) {
+                LOGGER.trace("Counting {} candidates of length {} in the original data set",
+                        unknownCandidates.size(), k);
+                int[] originalCounts =
+                        countInOriginalData(source, dictionary, unknownCandidates, k);
+                rescannedCandidates += unknownCandidates.size();
+
+                for (int i = 0; i < originalCounts.length; i++) {
+                    counts[unknownIndices.get(i)] += originalCounts[i];
+                }
+            }
+
+            List<EncodedItemSet> frequentCandidates = new ArrayList<>();
+
+            for (int i = 0; i < candidates.size(); i++) {
+                if (counts[i] >= minOccurrences) {
+                    EncodedItemSet candidate = candidates.get(i);
+                    TransactionalItemSet<ItemType> itemSet = dictionary.decode(candidate);
+                    itemSet.setSupport(data.calculateSupport(counts[i]));
+                    result.put(itemSet, itemSet);
+                    frequentCandidates.add(candidate);
+                }
+            }
+
+            candidates = FrequentItemSetMinerModule.combineItemSets(frequentCandidates, k);
+        }
+
+        LOGGER.debug("Found {} frequent item sets after counting {} candidates in the original " +
+                "data set", result.size(), rescannedCandidates);
+        LOGGER.debug("Frequent item sets = {}",
+                FrequentItemSets.formatFrequentItemSets(result.values()));
+        return new MiningResult<>(result, data.getTransactionCount());
+    }
+
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.modules;
+
+import de.mrapp.apriori.FrequentItemSets;
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.EncodedItemSet;
+import de.mrapp.apriori.datastructure.EncodedTransactions;
+import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static de.mrapp.util.Condition.*;
+
+/**
+ * A module, which allows to find all closed frequent item sets, which occur in a data set, by using
+ * the LCM algorithm. A frequent item set is closed, if none of its supersets occurs in the same
+ * transactions. The closed item sets are a lossless representation of all frequent item sets, as
+ * the support of any frequent item set equals the maximum support of its closed supersets. For
+ * correlated data sets, the number of closed item sets is usually orders of magnitude smaller than
+ * the number of frequent item sets.
+ *
+ * The search starts with the closure of the empty item set, i.e. the items, which occur in all
+ * transactions. A closed item set P is extended by adding an item e, which is greater than the
+ * item, which has been added to obtain P (its core item), and by calculating the closure of the
+ * resulting item set, i.e. the items, which occur in all transactions the resulting item set
+ * occurs in. The closure is only taken into account, if it does not contain any items less than e,
+ * which are not already contained by P (prefix-preserving closure extension). This ensures, that
+ * each closed item set is generated exactly once, without having to compare it to the ones, which
+ * have already been found, and without generating any item sets, which are not closed.
+ *
+ * The transactions, an item set occurs in, are stored as lists of transaction ids. The lists of all
+ * extensions of an item set are obtained by a single pass over the transactions, the item set
+ * occurs in (occurrence deliver). Identical transactions are collapsed and weighted by the {@link
+ * EncodedTransactions}.
+ *
+ * @param <ItemType> The type of the items, which are processed by the algorithm
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public class LcmModule<ItemType extends Item> implements FrequentItemSetMiner<ItemType> {
+
+    /**
+     * A depth-first search for the closed frequent item sets, which occur in an encoded data set.
+     * The arrays, which are used to count the occurrences of items, are shared among all levels of
+     * the search and are reset, once they are not needed anymore.
+     */
+    private class Search {
+
+        /**
+         * The encoded data set.
+         */
+        private final EncodedTransactions<ItemType> data;
+
+        /**
+         * The encoded transactions of the data set.
+         */
+        private final int[][] transactions;
+
+        /**
+         * The weights of the transactions of the data set.
+         */
+        private final int[] weights;
+
+        /**
+         * The minimum number of transactions, an item set must occur in to be considered
+         * frequent.
+         */
+        private final int minOccurrences;
+
+        /**
+         * The map, the closed frequent item sets, which are found, are added to.
+         */
+        private final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> frequentItemSets;
+
+        /**
+         * An array, which specifies, whether the individual items are contained by the current
+         * closed item set.
+         */
+        private final boolean[] contained;
+
+        /**
+         * An array, which is used to count the number of transactions, the individual items occur
+         * in.
+         */
+        private final int[] counts;
+
+        /**
+         * An array, which is used to count the number of distinct transactions, the individual
+         * items occur in.
+         */
+        private final int[] sizes;
+
+        /**
+         * An array, which is used to store the items, whose counts have been modified.
+         */
+        private final int[] touched;
+
+        /**
+         * Creates a new search for the closed frequent item sets, which occur in an encoded data
+         * set.
+         *
+         * @param data             The encoded data set as an instance of the class {@link
+         *                         EncodedTransactions}. The data set may not be null
+         * @param minOccurrences   The minimum number of transactions, an item set must occur in to
+         *                         be considered frequent, as an {@link Integer} value
+         * @param frequentItemSets The map, the closed frequent item sets, which are found, should
+         *                         be added to, as an instance of the type {@link Map}. The map may
+         *                         not be null
+         */
+        Search(@NotNull final EncodedTransactions<ItemType> data, final int minOccurrences,
+               @NotNull final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>>
+                       frequentItemSets) {
+            int itemCount = data.getDictionary().size();
+            this.data = data;
+            this.transactions = data.getTransactions();
+            this.weights = data.getWeights();
+            this.minOccurrences = minOccurrences;
+            this.frequentItemSets = frequentItemSets;
+            this.contained = new boolean[itemCount];
+            this.counts = new int[itemCount];
+            this.sizes = new int[itemCount];
+            this.touched = new int[itemCount];
+        }
+
+        /**
+         * Adds a closed item set to the map of closed frequent item sets.
+         *
+         * @param itemSet The closed item set as an instance of the class {@link EncodedItemSet}.
+         *                The item set may not be null
+         * @param support The number of transactions, the item set occurs in, as an {@link
+         *                Integer} value
+         */
+        void addClosedItemSet(@NotNull final EncodedItemSet itemSet, final int support) {
+            TransactionalItemSet<ItemType> frequentItemSet = data.getDictionary().decode(itemSet);
+            frequentItemSet.setSupport(data.calculateSupport(support));
+            frequentItemSets.put(frequentItemSet, frequentItemSet);
+        }
+
+        /**
+         * Calculates the closure of the item set, which results from adding a specific item to the
+         * current closed item set. If the closure contains any items less than the added item,
+         * which are not contained by the current closed item set, null is returned.
+         *
+         * @param itemSet The current closed item set as an instance of the class {@link
+         *                EncodedItemSet}. The item set may not be null
+         * @param item    The id of the item, which is added to the closed item set, as an {@link
+         *                Integer} value
+         * @param tids    The ids of the transactions, the resulting item set occurs in, as an
+         *                {@link Integer} array. The array may not be null
+         * @param support The number of transactions, the resulting item set occurs in, as an
+         *                {@link Integer} value
+         * @return The closure as an instance of the class {@link EncodedItemSet} or null, if the
+         * closure is not a prefix-preserving extension of the current closed item set
+         */
+        private EncodedItemSet calculateClosure(@NotNull final EncodedItemSet itemSet,
+                                                final int item, @NotNull final int[] tids,
+                                                final int support) {
+            int touchedCount = 0;
+
+            for (int tid : tids) {
+                int weight = weights[tid];
+
+                for (int other : transactions[tid]) {
+                    if (other != item && !contained[other]) {
+                        if (counts[other] == 0) {
+                            touched[touchedCount++] = other;
+                        }
+
+                        counts[other] += weight;
+                    }
+                }
+            }
+
+            int[] closure = new int[itemSet.size() + 1 + touchedCount];
+            int size = 0;
+            boolean prefixPreserving = true;
+
+            for (int i = 0; i < itemSet.size(); i++) {
+                closure[size++] = itemSet.get(i);
+            }
+
+            closure[size++] = item;
+
+            for (int i = 0; i < touchedCount; i++) {
+                int other = touched[i];
+
+                if (counts[other] == support) {
+                    prefixPreserving &= other > item;
+                    closure[size++] = other;
+                }
+
+                counts[other] = 0;
+            }
+
+            return prefixPreserving ?
+                    new EncodedItemSet(Arrays.copyOf(closure, size)) :
+                    null;
+        }
+
+        /**
+         * Recursively extends a closed item set in order to find all closed frequent item sets,
+         * which are prefix-preserving closure extensions of the item set.
+         *
+         * @param itemSet The closed item set as an instance of the class {@link EncodedItemSet}.
+         *                The item set may not be null
+         * @param core    The id of the item, which has been added to obtain the closed item set,
+         *                as an {@link Integer} value or -1, if the item set is the closure of the
+         *                empty item set
+         * @param tids    The ids of the transactions, the closed item set occurs in, as an {@link
+         *                Integer} array. The array may not be null
+         */
+        void extend(@NotNull final EncodedItemSet itemSet, final int core,
+                    @NotNull final int[] tids) {
+            int touchedCount = 0;
+
+            for (int tid : tids) {
+                int weight = weights[tid];
+
+                for (int item : transactions[tid]) {
+                    if (item > core && !contained[item]) {
+                        if (sizes[item] == 0) {
+                            touched[touchedCount++] = item;
+                        }
+
+                        counts[item] += weight;
+                        sizes[item]++;
+                    }
+                }
+            }
+
+            Arrays.sort(touched, 0, touchedCount);
+            int[] items = new int[touchedCount];
+            int[] supports = new int[touchedCount];
+            int[][] occurrences = new int[touchedCount][];
+            int[] positions = new int[touchedCount];
+            int extensionCount = 0;
+
+            for (int i = 0; i < touchedCount; i++) {
+                int item = touched[i];
+
+                if (counts[item] >= minOccurrences) {
+                    items[extensionCount] = item;
+                    supports[extensionCount] = counts[item];
+                    occurrences[extensionCount] = new int[sizes[item]];
+                    sizes[item] = ~extensionCount;
+                    extensionCount++;
+                } else {
+                    sizes[item] = 0;
+                }
+
+                counts[item] = 0;
+            }
+
+            if (extensionCount > 0) {
+                for (int tid : tids) {
+                    for (int item : transactions[tid]) {
+                        if (sizes[item] < 0) {
+                            int index = ~sizes[item];
+                            occurrences[index][positions[index]++] = tid;
+                        }
+                    }
+                }
+
+                for (int i = 0; i < extensionCount; i++) {
+                    sizes[items[i]] = 0;
+                }
+            }
+
+            for (int i = 0; i < extensionCount; i++) {
+                EncodedItemSet closure =
+                        calculateClosure(itemSet, items[i], occurrences[i], supports[i]);
+
+                if (closure != null) {
+                    addClosedItemSet(closure, supports[i]);
+                    setContained(closure, true);
+                    extend(closure, items[i], occurrences[i]);
+                    setContained(closure, false);
+                    setContained(itemSet, true);
+                }
+
+                occurrences[i] = null;
+            }
+        }
+
+        /**
+         * Marks the items of an item set as contained or not contained by the current closed item
+         * set.
+         *
+         * @param itemSet   The item set as an instance of the class {@link EncodedItemSet}. The
+         *                  item set may not be null
+         * @param contained True, if the items should be marked as contained, false otherwise
+         */
+        void setContained(@NotNull final EncodedItemSet itemSet, final boolean contained) {
+            for (int i = 0; i < itemSet.size(); i++) {
+                this.contained[itemSet.get(i)] = contained;
+            }
+        }
+
+    }
+
+    /**
+     * The SLF4J logger, which is used by the module.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(LcmModule.class);
+
+    @NotNull
+    @Override
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
+            @NotNull final Iterator<Transaction<ItemType>> iterator, final double minSupport) {
+        ensureNotNull(iterator, "The iterator may not be null");
+        return findFrequentItemSets(TransactionSource.of(iterator), minSupport);
+    }
+
+    @NotNull
+    @Override
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source, final double minSupport) {
+        return mineFrequentItemSets(source, minSupport).getFrequentItemSets();
+    }
+
+    @NotNull
+    @Override
+    public final MiningResult<ItemType> mineFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source, final double minSupport) {
+        ensureNotNull(source, "The source may not be null");
+        ensureAtLeast(minSupport, 0, "The minimum support must be at least 0");
+        ensureAtMaximum(minSupport, 1, "The minimum support must be at maximum 1");
+        LOGGER.debug("Searching for closed frequent item sets using LCM");
+        EncodedTransactions<ItemType> data = EncodedTransactions.encode(source, minSupport);
+        int minOccurrences = data.calculateMinOccurrences(minSupport);
+        Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> frequentItemSets = new HashMap<>();
+        int transactionCount = data.getTransactionCount();
+
+        if (transactionCount >= minOccurrences) {
+            int itemCount = data.getDictionary().size();
+            int[] items = new int[itemCount];
+            int size = 0;
+
+            for (int i = 0; i < itemCount; i++) {
+                if (data.getDictionary().getFrequency(i) == transactionCount) {
+                    items[size++] = i;
+                }
+            }
+
+            EncodedItemSet closure = new EncodedItemSet(Arrays.copyOf(items, size));
+            int[] tids = new int[data.getTransactions().length];
+
+            for (int i = 0; i < tids.length; i++) {
+                tids[i] = i;
+            }
+
+            Search search = new Search(data, minOccurrences, frequentItemSets);
+
+            if (!closure.isEmpty()) {
+                search.addClosedItemSet(closure, transactionCount);
+            }
+
+            search.setContained(closure, true);
+            search.extend(closure, -1, tids);
+        }
+
+        LOGGER.debug("Found {} closed frequent item sets", frequentItemSets.size());
+        LOGGER.debug("Closed frequent item sets = {}",
+                FrequentItemSets.formatFrequentItemSets(frequentItemSets.values()));
+        return new MiningResult<>(frequentItemSets, data.getTransactionCount());
+    }
+
+}
@@ -0,0 +1,430 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.modules;
+
+import de.mrapp.apriori.FrequentItemSets;
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.EncodedItemSet;
+import de.mrapp.apriori.modules.FrequentItemSetMinerModule.CandidateTrie;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+import static de.mrapp.util.Condition.*;
+
+/**
+ * A module, which approximates the frequent item sets of a stream of transactions in a single
+ * pass, using the Lossy Counting algorithm by Manku and Motwani. Instead of counting all item sets
+ * exactly, the module only keeps track of the item sets, which might be frequent. The supports of
+ * these item sets may be underestimated by at most a specific error epsilon, i.e. by at most
+ * epsilon * N transactions, where N is the number of transactions, which have been added so far.
+ * In return, the memory, which is required by the module, does not depend on the length of the
+ * stream, but on the error.
+ *
+ * The transactions are buffered and processed in batches. For each item set, which is tracked by
+ * the module, the number of transactions of the processed batches, it has been counted in, and the
+ * maximum number of transactions, it might have occurred in before it has been tracked, are
+ * stored. After each batch, the item sets, whose maximum number of occurrences does not exceed
+ * epsilon * N anymore, are discarded. Item sets, which are not tracked yet, are only added, if
+ * they occur more often in the current batch than the error allows. Larger batches therefore
+ * reduce the number of item sets, which are tracked temporarily, at the expense of the memory,
+ * which is required for buffering the transactions.
+ *
+ * The module guarantees, that all item sets, which reach a minimum support s, are contained by
+ * the results, and that the results do not contain any item sets, whose support is less than s -
+ * epsilon. The maximum error of each item set's support is stored by the item set itself.
+ *
+ * The module is not thread-safe.
+ *
+ * @param <ItemType> The type of the items, which are processed by the algorithm
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public class LossyCountingModule<ItemType extends Item> {
+
+    /**
+     * An item set, which is tracked by the module.
+     */
+    private static class Entry {
+
+        /**
+         * The number of transactions, the item set has been counted in since it is tracked.
+         */
+        private long frequency;
+
+        /**
+         * The maximum number of transactions, the item set might have occurred in before it has
+         * been tracked.
+         */
+        private final long error;
+
+        /**
+         * Creates a new item set, which is tracked by the module.
+         *
+         * @param frequency The number of transactions, the item set has been counted in, as a
+         *                  {@link Long} value
+         * @param error     The maximum number of transactions, the item set might have occurred in
+         *                  before it has been tracked, as a {@link Long} value
+         */
+        Entry(final long frequency, final long error) {
+            this.frequency = frequency;
+            this.error = error;
+        }
+
+    }
+
+    /**
+     * The SLF4J logger, which is used by the module.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(LossyCountingModule.class);
+
+    /**
+     * The maximum error of the supports.
+     */
+    private final double maxError;
+
+    /**
+     * The number of transactions, which are buffered before they are processed.
+     */
+    private final int bufferSize;
+
+    /**
+     * A list, which contains the transactions, which have not been processed yet, encoded as the
+     * ids of their items in ascending order.
+     */
+    private final List<int[]> buffer;
+
+    /**
+     * A map, which contains the item sets, which are tracked by the module.
+     */
+    private final Map<EncodedItemSet, Entry> entries;
+
+    /**
+     * A map, which maps the items, which are contained by tracked item sets or buffered
+     * transactions, to their ids.
+     */
+    private final Map<ItemType, Integer> ids;
+
+    /**
+     * A map, which maps ids to the corresponding items.
+     */
+    private final Map<Integer, ItemType> items;
+
+    /**
+     * The id, which is assigned to the next item, which has not been encountered before.
+     */
+    private int nextId;
+
+    /**
+     * The number of transactions, which have been processed so far.
+     */
+    private long transactionCount;
+
+    /**
+     * Creates a new module, which approximates the frequent item sets of a stream of transactions.
+     * The transactions are processed in batches, which correspond to the number of transactions,
+     * which is given by the reciprocal of the error.
+     *
+     * @param maxError The maximum error of the supports as a {@link Double} value. The error must
+     *                 be greater than 0 and less than 1
+     */
+    public LossyCountingModule(final double maxError) {
+        this(maxError, (int) Math.min(Integer.MAX_VALUE, Math.ceil(1 / maxError)));
+    }
+
+    /**
+     * Creates a new module, which approximates the frequent item sets of a stream of transactions.
+     *
+     * @param maxError   The maximum error of the supports as a {@link Double} value. The error
+     *                   must be greater than 0 and less than 1
+     * @param bufferSize The number of transactions, which should be buffered before they are
+     *                   processed, as an {@link Integer} value. The number must be at least 1
+     */
+    public LossyCountingModule(final double maxError, final int bufferSize) {
+        ensureGreater(maxError, 0, "The maximum error must be greater than 0");
+
+        if (maxError >= 1) {
+            throw new IllegalArgumentException("The maximum error must be less than 1");
+        }
+
+        ensureAtLeast(bufferSize, 1, "The buffer size must be at least 1");
+        this.maxError = maxError;
+        this.bufferSize = bufferSize;
+        this.buffer = new ArrayList<>();
+        this.entries = new HashMap<>();
+        this.ids = new HashMap<>();
+        this.items = new HashMap<>();
+        this.nextId = 0;
+        this.transactionCount = 0;
+    }
+
+    /**
+     * Returns the maximum number of transactions, an item set, which is not tracked by the module,
+     * might occur in, after a specific number of transactions have been processed.
+     *
+     * @param transactionCount The number of transactions as a {@link Long} value
+     * @return The maximum number of transactions as a {@link Long} value
+     */
+    private long getMaxOccurrences(final long transactionCount) {
+        return (long) Math.floor(maxError * transactionCount);
+    }
+
+    /**
+     * Encodes a transaction by mapping its items to their ids. Items, which have not been
+     * encountered before, are assigned new ids.
+     *
+     * @param transaction The transaction as an instance of the type {@link Transaction}. The
+     *                    transaction may not be null
+     * @return The ids of the transaction's distinct items in ascending order as an {@link Integer}
+     * array. The array may not be null
+     */
+    @NotNull
+    private int[] encode(@NotNull final Transaction<ItemType> transaction) {
+        int[] result = new int[8];
+        int size = 0;
+
+        for (ItemType item : transaction) {
+            Integer id = ids.get(item);
+
+            if (id == null) {
+                id = nextId++;
+                ids.put(item, id);
+                items.put(id, item);
+            }
+
+            if (size == result.length) {
+                result = Arrays.copyOf(result, size * 2);
+            }
+
+            result[size++] = id;
+        }
+
+        Arrays.sort(result, 0, size);
+        int distinct = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || result[distinct - 1] != result[i]) {
+                result[distinct++] = result[i];
+            }
+        }
+
+        return Arrays.copyOf(result, distinct);
+    }
+
+    /**
+     * Processes the buffered transactions. The frequencies of the tracked item sets are updated
+     * and item sets, which cannot be frequent anymore, are discarded. Item sets, which occur more
+     * often in the buffered transactions than the error allows, start being tracked. They are
+     * found level-wise, as an item set can only occur more often than allowed, if all of its
+     * subsets either occur more often as well or are tracked already.
+     */
+    private void processBuffer() {
+        if (!buffer.isEmpty()) {
+            long previousMaxOccurrences = getMaxOccurrences(transactionCount);
+            transactionCount += buffer.size();
+            long maxOccurrences = getMaxOccurrences(transactionCount);
+            long minBatchOccurrences = maxOccurrences - previousMaxOccurrences + 1;
+            Map<Integer, List<EncodedItemSet>> entriesByLength = new HashMap<>();
+            int maxLength = 0;
+
+            for (EncodedItemSet itemSet : entries.keySet()) {
+                entriesByLength.computeIfAbsent(itemSet.size(), x -> new ArrayList<>())
+                        .add(itemSet);
+                maxLength = Math.max(maxLength, itemSet.size());
+            }
+
+            SortedSet<EncodedItemSet> candidates = new TreeSet<>();
+            buffer.forEach(transaction -> {
+                for (int item : transaction) {
+                    candidates.add(new EncodedItemSet(item));
+                }
+            });
+            int k = 1;
+
+            while (!candidates.isEmpty() || k <= maxLength) {
+                candidates.addAll(entriesByLength.getOrDefault(k, Collections.emptyList()));
+                List<EncodedItemSet> sortedCandidates = new ArrayList<>(candidates);
+                List<EncodedItemSet> retainedItemSets = new ArrayList<>();
+                CandidateTrie trie = new CandidateTrie(sortedCandidates, k);
+                int[] counts = new int[sortedCandidates.size()];
+                buffer.forEach(transaction -> trie.count(transaction, 1, counts));
+
+                for (int i = 0; i < sortedCandidates.size(); i++) {
+                    EncodedItemSet candidate = sortedCandidates.get(i);
+                    Entry entry = entries.get(candidate);
+
+                    if (entry != null) {
+                        entry.frequency += counts[i];
+
+                        if (entry.frequency + entry.error <= maxOccurrences) {
+                            entries.remove(candidate);
+                        } else {
+                            retainedItemSets.add(candidate);
+                        }
+                    } else if (counts[i] >= minBatchOccurrences) {
+                        entries.put(candidate, new Entry(counts[i], previousMaxOccurrences));
+                        retainedItemSets.add(candidate);
+                    }
+                }
+
+                candidates.clear();
+                candidates.addAll(FrequentItemSetMinerModule.combineItemSets(retainedItemSets, k));
+                k++;
+            }
+
+            buffer.clear();
+            removeUnusedItems();
+            LOGGER.debug("Processed batch, {} item sets are tracked after {} transactions",
+                    entries.size(), transactionCount);
+        }
+    }
+
+    /**
+     * Removes the ids of items, which are neither contained by tracked item sets, nor by buffered
+     * transactions.
+     */
+    private void removeUnusedItems() {
+        Set<Integer> usedIds = new HashSet<>();
+
+        for (EncodedItemSet itemSet : entries.keySet()) {
+            for (int i = 0; i < itemSet.size(); i++) {
+                usedIds.add(itemSet.get(i));
+            }
+        }
+
+        for (int[] transaction : buffer) {
+            for (int id : transaction) {
+                usedIds.add(id);
+            }
+        }
+
+        items.keySet().retainAll(usedIds);
+        ids.values().retainAll(usedIds);
+    }
+
+    /**
+     * Returns the maximum error of the supports.
+     *
+     * @return The maximum error of the supports as a {@link Double} value
+     */
+    public final double getMaxError() {
+        return maxError;
+    }
+
+    /**
+     * Returns the number of transactions, which are buffered before they are processed.
+     *
+     * @return The number of transactions as an {@link Integer} value
+     */
+    public final int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Returns the number of transactions, which have been added so far.
+     *
+     * @return The number of transactions as a {@link Long} value
+     */
+    public final long getTransactionCount() {
+        return transactionCount + buffer.size();
+    }
+
+    /**
+     * Returns the number of item sets, which are currently tracked by the module.
+     *
+     * @return The number of item sets as an {@link Integer} value
+     */
+    public final int getTrackedItemSetCount() {
+        return entries.size();
+    }
+
+    /**
+     * Adds a transaction. If the buffer is full afterwards, the buffered transactions are
+     * processed.
+     *
+     * @param transaction The transaction, which should be added, as an instance of the type {@link
+     *                    Transaction}. The transaction may not be null
+     */
+    public final void add(@NotNull final Transaction<ItemType> transaction) {
+        ensureNotNull(transaction, "The transaction may not be null");
+        buffer.add(encode(transaction));
+
+        if (buffer.size() >= bufferSize) {
+            processBuffer();
+        }
+    }
+
+    /**
+     * Adds all transactions, which are provided by a specific source.
+     *
+     * @param source The source, which provides the transactions, as an instance of the type {@link
+     *               TransactionSource}. The source may not be null
+     */
+    public final void addAll(@NotNull final TransactionSource<ItemType> source) {
+        ensureNotNull(source, "The source may not be null");
+        Iterator<Transaction<ItemType>> iterator = source.open();
+        Transaction<ItemType> transaction;
+
+        while ((transaction = iterator.next()) != null) {
+            add(transaction);
+        }
+    }
+
+    /**
+     * Returns the item sets, which might reach a specific minimum support, among the transactions,
+     * which have been added so far. All item sets, whose support is at least the minimum support,
+     * are contained by the result. Their supports are estimated from below and may be less than
+     * the actual supports by at most the maximum error, which is stored by the item sets. Buffered
+     * transactions are processed before the item sets are returned.
+     *
+     * @param minSupport The minimum support as a {@link Double} value. The support must be greater
+     *                   than the maximum error of the module and at maximum 1
+     * @return The item sets as an instance of the class {@link FrequentItemSets}. The item sets
+     * may not be null
+     */
+    @NotNull
+    public final FrequentItemSets<ItemType> getFrequentItemSets(final double minSupport) {
+        ensureGreater(minSupport, maxError,
+                "The minimum support must be greater than " + maxError);
+        ensureAtMaximum(minSupport, 1, "The minimum support must be at maximum 1");
+        processBuffer();
+        FrequentItemSets<ItemType> frequentItemSets =
+                new FrequentItemSets<>(Comparator.reverseOrder());
+
+        for (Map.Entry<EncodedItemSet, Entry> mapEntry : entries.entrySet()) {
+            EncodedItemSet encodedItemSet = mapEntry.getKey();
+            Entry entry = mapEntry.getValue();
+
+            if (entry.frequency + entry.error >= minSupport * transactionCount) {
+                ItemSet<ItemType> itemSet = new ItemSet<>();
+
+                for (int i = 0; i < encodedItemSet.size(); i++) {
+                    itemSet.add(items.get(encodedItemSet.get(i)));
+                }
+
+                itemSet.setSupport((double) entry.frequency / (double) transactionCount);
+                itemSet.setError((double) entry.error / (double) transactionCount);
+                frequentItemSets.add(itemSet);
+            }
+        }
+
+        return frequentItemSets;
+    }
+
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.modules;
+
+import de.mrapp.apriori.FrequentItemSets;
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.EncodedItemSet;
+import de.mrapp.apriori.datastructure.EncodedTransactions;
+import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+import static de.mrapp.util.Condition.*;
+
+/**
+ * A module, which allows to find all maximal frequent item sets, which occur in a data set, in the
+ * style of the MaxMiner algorithm. A frequent item set is maximal, if none of its supersets is
+ * frequent. The maximal item sets form the border of the frequent item sets, i.e. all frequent item
+ * sets are subsets of the maximal ones. Unlike the supports of closed item sets, the supports of
+ * their subsets cannot be derived from them.
+ *
+ * The search space is traversed depth-first as a set-enumeration tree. Each node consists of a
+ * head, i.e. the item set, which is represented by the node, and a tail, i.e. the items, the head
+ * may be extended with. The following techniques avoid to enumerate the exponentially many subsets
+ * of long maximal item sets:
+ * <ul>
+ * <li>Look-ahead: If the union of the head and the tail of a node is frequent, it is the only
+ * candidate for a maximal item set in the node's subtree, which is therefore not traversed.</li>
+ * <li>Superset pruning: If the union of the head and the tail of a node is a subset of a maximal
+ * item set, which has already been found, the node's subtree does not contain any maximal item
+ * sets.</li>
+ * <li>Items of the tail, which occur in all transactions the head occurs in, are moved to the head,
+ * as any maximal item set in the node's subtree must contain them.</li>
+ * <li>The items of each tail are ordered by increasing support. This makes the subtrees of the
+ * first items small, while the look-ahead is likely to succeed for the last ones.</li>
+ * </ul>
+ * The transactions, an item set occurs in, are stored as sorted lists of transaction ids, which
+ * are intersected in order to obtain the supports of the item sets.
+ *
+ * @param <ItemType> The type of the items, which are processed by the algorithm
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public class MaxMinerModule<ItemType extends Item> implements FrequentItemSetMiner<ItemType> {
+
+    /**
+     * An item of a tail, together with the ids of the transactions, the head of the tail, extended
+     * by the item, occurs in.
+     */
+    private static class Candidate {
+
+        /**
+         * The id of the item.
+         */
+        private final int item;
+
+        /**
+         * The ids of the transactions, the extended head occurs in, in ascending order.
+         */
+        private final int[] tids;
+
+        /**
+         * The number of transactions, the extended head occurs in.
+         */
+        private final int support;
+
+        /**
+         * Creates a new item of a tail.
+         *
+         * @param item    The id of the item as an {@link Integer} value
+         * @param tids    The ids of the transactions, the extended head occurs in, in ascending
+         *                order, as an {@link Integer} array. The array may not be null
+         * @param support The number of transactions, the extended head occurs in, as an {@link
+         *                Integer} value
+         */
+        Candidate(final int item, @NotNull final int[] tids, final int support) {
+            this.item = item;
+            this.tids = tids;
+            this.support = support;
+        }
+
+    }
+
+    /**
+     * A depth-first search for the maximal frequent item sets, which occur in an encoded data set.
+     */
+    private static class Search {
+
+        /**
+         * The weights of the transactions of the data set.
+         */
+        private final int[] weights;
+
+        /**
+         * The minimum number of transactions, an item set must occur in to be considered
+         * frequent.
+         */
+        private final int minOccurrences;
+
+        /**
+         * A list, which contains the maximal item sets, which have been found so far.
+         */
+        private final List<EncodedItemSet> maximalItemSets;
+
+        /**
+         * A list, which contains the number of transactions, the maximal item sets occur in.
+         */
+        private final List<Integer> supports;
+
+        /**
+         * A list, which contains the indices of the maximal item sets, which contain the individual
+         * items. The index of a list corresponds to the id of the corresponding item.
+         */
+        private final List<List<Integer>> maximalItemSetsByItem;
+
+        /**
+         * Creates a new search for the maximal frequent item sets, which occur in an encoded data
+         * set.
+         *
+         * @param itemCount      The number of distinct items as an {@link Integer} value
+         * @param weights        The weights of the transactions of the data set as an {@link
+         *                       Integer} array. The array may not be null
+         * @param minOccurrences The minimum number of transactions, an item set must occur in to
+         *                       be considered frequent, as an {@link Integer} value
+         */
+        Search(final int itemCount, @NotNull final int[] weights, final int minOccurrences) {
+            this.weights = weights;
+            this.minOccurrences = minOccurrences;
+            this.maximalItemSets = new ArrayList<>();
+            this.supports = new ArrayList<>();
+            this.maximalItemSetsByItem = new ArrayList<>(itemCount);
+
+            for (int i = 0; i < itemCount; i++) {
+                maximalItemSetsByItem.add(new ArrayList<>());
+            }
+        }
+
+        /**
+         * Returns, whether an item set is a subset of a maximal item set, which has already been
+         * found.
+         *
+         * @param itemSet The item set as an instance of the class {@link EncodedItemSet}. The item
+         *                set may neither be null, nor empty
+         * @return True, if the item set is a subset of a maximal item set, false otherwise
+         */
+        private boolean isSubsumed(@NotNull final EncodedItemSet itemSet) {
+            List<Integer> candidates = maximalItemSetsByItem.get(itemSet.get(0));
+
+            for (int i = 1; i < itemSet.size() && !candidates.isEmpty(); i++) {
+                List<Integer> indices = maximalItemSetsByItem.get(itemSet.get(i));
+
+                if (indices.size() < candidates.size()) {
+                    candidates = indices;
+                }
+            }
+
+            for (int index : candidates) {
+                if (itemSet.isSubsetOf(maximalItemSets.get(index))) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Adds an item set to the maximal item sets, unless it is a subset of a maximal item set,
+         * which has already been found.
+         *
+         * @param itemSet The item set as an instance of the class {@link EncodedItemSet}. The item
+         *                set may not be null
+         * @param support The number of transactions, the item set occurs in, as an {@link
+         *                Integer} value
+         */
+        private void addMaximalItemSet(@NotNull final EncodedItemSet itemSet, final int support) {
+            if (!itemSet.isEmpty() && !isSubsumed(itemSet)) {
+                int index = maximalItemSets.size();
+                maximalItemSets.add(itemSet);
+                supports.add(support);
+
+                for (int i = 0; i < itemSet.size(); i++) {
+                    maximalItemSetsByItem.get(itemSet.get(i)).add(index);
+                }
+            }
+        }
+
+        /**
+         * Intersects two sorted lists of transaction ids.
+         *
+         * @param tids1 The first list as an {@link Integer} array. The array may not be null
+         * @param tids2 The second list as an {@link Integer} array. The array may not be null
+         * @return An array, which contains the ids, which are contained by both lists, in
+         * ascending order, as an {@link Integer} array. The array may not be null
+         */
+        @NotNull
+        private int[] intersect(@NotNull final int[] tids1, @NotNull final int[] tids2) {
+            int[] result = new int[Math.min(tids1.length, tids2.length)];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+
+            while (i < tids1.length && j < tids2.length) {
+                if (tids1[i] < tids2[j]) {
+                    i++;
+                } else if (tids1[i] > tids2[j]) {
+                    j++;
+                } else {
+                    result[size++] = tids1[i];
+                    i++;
+                    j++;
+                }
+            }
+
+            return size < result.length ? Arrays.copyOf(result, size) : result;
+        }
+
+        /**
+         * Returns the number of transactions, which are contained by a list of transaction ids,
+         * taking the weights of the transactions into account.
+         *
+         * @param tids The list of transaction ids as an {@link Integer} array. The array may not
+         *             be null
+         * @return The number of transactions as an {@link Integer} value
+         */
+        private int getSupport(@NotNull final int[] tids) {
+            int support = 0;
+
+            for (int tid : tids) {
+                support += weights[tid];
+            }
+
+            return support;
+        }
+
+        /**
+         * Recursively traverses the subtree of a node of the set-enumeration tree in order to find
+         * the maximal frequent item sets it contains.
+         *
+         * @param head        The head of the node as an instance of the class {@link
+         *                    EncodedItemSet}. The item set may not be null
+         * @param headSupport The number of transactions, the head occurs in, as an {@link Integer}
+         *                    value
+         * @param tail        A list, which contains the items of the node's tail, which are
+         *                    frequent when being added to the head, as an instance of the type
+         *                    {@link List}. The list may not be null
+         */
+        void traverse(@NotNull final EncodedItemSet head, final int headSupport,
+                      @NotNull final List<Candidate> tail) {
+            EncodedItemSet extendedHead = head;
+            List<Candidate> remainingTail = new ArrayList<>(tail.size());
+
+            for (Candidate candidate : tail) {
+                if (candidate.support == headSupport) {
+                    extendedHead = extendedHead.add(candidate.item);
+                } else {
+                    remainingTail.add(candidate);
+                }
+            }
+
+            if (remainingTail.isEmpty()) {
+                addMaximalItemSet(extendedHead, headSupport);
+                return;
+            }
+
+            EncodedItemSet union = extendedHead;
+            int[] unionTids = null;
+
+            for (Candidate candidate : remainingTail) {
+                union = union.add(candidate.item);
+                unionTids = unionTids == null ? candidate.tids :
+                        intersect(unionTids, candidate.tids);
+            }
+
+            if (isSubsumed(union)) {
+                return;
+            }
+
+            int unionSupport = getSupport(unionTids);
+
+            if (unionSupport >= minOccurrences) {
+                addMaximalItemSet(union, unionSupport);
+                return;
+            }
+
+            remainingTail.sort(Comparator.comparingInt(candidate -> candidate.support));
+
+            for (int i = 0; i < remainingTail.size(); i++) {
+                Candidate candidate = remainingTail.get(i);
+                List<Candidate> childTail = new ArrayList<>(remainingTail.size() - i - 1);
+
+                for (int j = i + 1; j < remainingTail.size(); j++) {
+                    Candidate other = remainingTail.get(j);
+                    int[] tids = intersect(candidate.tids, other.tids);
+                    int support = getSupport(tids);
+
+                    if (support >= minOccurrences) {
+                        childTail.add(new Candidate(other.item, tids, support));
+                    }
+                }
+
+                traverse(extendedHead.add(candidate.item), candidate.support, childTail);
+            }
+
+            addMaximalItemSet(extendedHead, headSupport);
+        }
+
+    }
+
+    /**
+     * The SLF4J logger, which is used by the module.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(MaxMinerModule.class);
+
+    @NotNull
+    @Override
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
+            @NotNull final Iterator<Transaction<ItemType>> iterator, final double minSupport) {
+        ensureNotNull(iterator, "The iterator may not be null");
+        return findFrequentItemSets(TransactionSource.of(iterator), minSupport);
+    }
+
+    @NotNull
+    @Override
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source, final double minSupport) {
+        return mineFrequentItemSets(source, minSupport).getFrequentItemSets();
+    }
+
+    @NotNull
+    @Override
+    public final MiningResult<ItemType> mineFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source, final double minSupport) {
+        ensureNotNull(source, "The source may not be null");
+        ensureAtLeast(minSupport, 0, "The minimum support must be at least 0");
+        ensureAtMaximum(minSupport, 1, "The minimum support must be at maximum 1");
+        LOGGER.debug("Searching for maximal frequent item sets using MaxMiner");
+        EncodedTransactions<ItemType> data = EncodedTransactions.encode(source, minSupport);
+        int minOccurrences = data.calculateMinOccurrences(minSupport);
+        int itemCount = data.getDictionary().size();
+        int[][] transactions = data.getTransactions();
+        int[] sizes = new int[itemCount];
+
+        for (int[] transaction : transactions) {
+            for (int item : transaction) {
+                sizes[item]++;
+            }
+        }
+
+        int[][] tids = new int[itemCount][];
+
+        for (int i = 0; i < itemCount; i++) {
+            tids[i] = new int[sizes[i]];
+            sizes[i] = 0;
+        }
+
+        for (int tid = 0; tid < transactions.length; tid++) {
+            for (int item : transactions[tid]) {
+                tids[item][sizes[item]++] = tid;
+            }
+        }
+
+        List<Candidate> tail = new ArrayList<>(itemCount);
+
+        for (int i = 0; i < itemCount; i++) {
+            tail.add(new Candidate(i, tids[i], data.getDictionary().getFrequency(i)));
+        }
+
+        Search search = new Search(itemCount, data.getWeights(), minOccurrences);
+        search.traverse(EncodedItemSet.EMPTY, data.getTransactionCount(), tail);
+        Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> frequentItemSets = new HashMap<>();
+
+        for (int i = 0; i < search.maximalItemSets.size(); i++) {
+            TransactionalItemSet<ItemType> frequentItemSet =
+                    data.getDictionary().decode(search.maximalItemSets.get(i));
+            frequentItemSet.setSupport(data.calculateSupport(search.supports.get(i)));
+            frequentItemSets.put(frequentItemSet, frequentItemSet);
+        }
+
+        LOGGER.debug("Found {} maximal frequent item sets", frequentItemSets.size());
+        LOGGER.debug("Maximal frequent item sets = {}",
+                FrequentItemSets.formatFrequentItemSets(frequentItemSets.values()));
+        return new MiningResult<>(frequentItemSets, data.getTransactionCount());
+    }
+
+}
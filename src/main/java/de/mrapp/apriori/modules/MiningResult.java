@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.modules;
+
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+import static de.mrapp.util.Condition.ensureAtLeast;
+import static de.mrapp.util.Condition.ensureNotNull;
+
+/**
+ * The result of a single search for frequent item sets, which consists of the frequent item sets,
+ * which have been found, and the number of transactions, which have been processed. Returning the
+ * number of transactions together with the item sets allows to obtain the size of a data set,
+ * which does not know its size in advance, without traversing it again.
+ *
+ * @param <ItemType> The type of the items, the frequent item sets consist of
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public class MiningResult<ItemType extends Item> {
+
+    /**
+     * A map, which contains the frequent item sets, which have been found.
+     */
+    private final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> frequentItemSets;
+
+    /**
+     * The number of transactions, which have been processed, or -1, if the number is not known.
+     */
+    private final int transactionCount;
+
+    /**
+     * Creates a new result of a search for frequent item sets.
+     *
+     * @param frequentItemSets A map, which contains the frequent item sets, which have been found,
+     *                         as an instance of the type {@link Map}. The map may not be null
+     * @param transactionCount The number of transactions, which have been processed, as an {@link
+     *                         Integer} value or -1, if the number is not known
+     */
+    public MiningResult(
+            @NotNull final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> frequentItemSets,
+            final int transactionCount) {
+        ensureNotNull(frequentItemSets, "The frequent item sets may not be null");
+        ensureAtLeast(transactionCount, -1, "The transaction count must be at least -1");
+        this.frequentItemSets = frequentItemSets;
+        this.transactionCount = transactionCount;
+    }
+
+    /**
+     * Returns the frequent item sets, which have been found.
+     *
+     * @return A map, which contains the frequent item sets, which have been found, as an instance
+     * of the type {@link Map} or an empty map, if no frequent item sets have been found. The map
+     * stores instances of the class {@link ItemSet} as values and uses the same item sets as the
+     * corresponding keys
+     */
+    @NotNull
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> getFrequentItemSets() {
+        return frequentItemSets;
+    }
+
+    /**
+     * Returns the number of transactions, which have been processed.
+     *
+     * @return The number of transactions, which have been processed, as an {@link Integer} value
+     * or -1, if the number is not known
+     */
+    public final int getTransactionCount() {
+        return transactionCount;
+    }
+
+}
\ No newline at end of file
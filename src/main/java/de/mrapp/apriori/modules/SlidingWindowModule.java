@@ -0,0 +1,715 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.modules;
+
+import de.mrapp.apriori.FrequentItemSets;
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.RuleSet;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.datastructure.EncodedItemSet;
+import de.mrapp.apriori.datastructure.EncodedTransactions;
+import de.mrapp.apriori.modules.FrequentItemSetMinerModule.CandidateTrie;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+import static de.mrapp.util.Condition.*;
+
+/**
+ * A module, which maintains the frequent item sets of a stream of transactions over a sliding
+ * window, in the style of the Moment algorithm. The window either contains a specific number of
+ * the most recent transactions or the transactions, which have been added during a specific
+ * period of time, or both. The frequent item sets and association rules of the current window can
+ * be queried at any time, without mining the window again.
+ *
+ * The item sets are stored in an enumeration tree, whose nodes store the number of transactions
+ * of the window, the corresponding item sets occur in. The tree contains all frequent item sets
+ * and the infrequent item sets, which result from combining two frequent siblings, i.e. its
+ * negative border. When a transaction is added to or removed from the window, only the counts of
+ * the nodes, which are contained by the transaction, are updated. The tree must only be changed,
+ * if an item set becomes frequent or infrequent. In the first case, the new children of the
+ * corresponding node, as well as the item sets, which result from combining it with its frequent
+ * siblings, are counted in the window. In the latter case, these nodes are removed.
+ *
+ * The module is not thread-safe.
+ *
+ * @param <ItemType> The type of the items, which are processed by the algorithm
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public class SlidingWindowModule<ItemType extends Item> {
+
+    /**
+     * A node of the enumeration tree.
+     */
+    private static class Node {
+
+        /**
+         * The parent of the node or null, if the node is the root.
+         */
+        private final Node parent;
+
+        /**
+         * The item set, which corresponds to the node.
+         */
+        private final EncodedItemSet itemSet;
+
+        /**
+         * The number of transactions of the window, the item set occurs in.
+         */
+        private int count;
+
+        /**
+         * The children of the node in ascending order of their last items or null, if the node
+         * has not been expanded, because it is not frequent.
+         */
+        private List<Node> children;
+
+        /**
+         * True, if the node has been removed from the tree, false otherwise.
+         */
+        private boolean removed;
+
+        /**
+         * Creates a new node.
+         *
+         * @param parent  The parent of the node as an instance of the class {@link Node} or null,
+         *                if the node is the root
+         * @param itemSet The item set, which corresponds to the node, as an instance of the class
+         *                {@link EncodedItemSet}. The item set may not be null
+         * @param count   The number of transactions of the window, the item set occurs in, as an
+         *                {@link Integer} value
+         */
+        Node(@Nullable final Node parent, @NotNull final EncodedItemSet itemSet,
+             final int count) {
+            this.parent = parent;
+            this.itemSet = itemSet;
+            this.count = count;
+        }
+
+        /**
+         * Returns the last item of the node's item set.
+         *
+         * @return The id of the last item as an {@link Integer} value
+         */
+        int getItem() {
+            return itemSet.last();
+        }
+
+        /**
+         * Returns the index of the child, whose item set ends with a specific item.
+         *
+         * @param item The id of the item as an {@link Integer} value
+         * @return The index of the child as an {@link Integer} value or a negative value, which
+         * encodes the index, the child would have to be inserted at, if no such child exists
+         */
+        int indexOf(final int item) {
+            int low = 0;
+            int high = children.size() - 1;
+
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int midItem = children.get(mid).getItem();
+
+                if (midItem < item) {
+                    low = mid + 1;
+                } else if (midItem > item) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+
+            return -(low + 1);
+        }
+
+    }
+
+    /**
+     * A transaction of the window.
+     */
+    private static class Entry {
+
+        /**
+         * The ids of the transaction's items in ascending order.
+         */
+        private final int[] items;
+
+        /**
+         * The time, the transaction has been added to the window, in milliseconds.
+         */
+        private final long timestamp;
+
+        /**
+         * Creates a new transaction of the window.
+         *
+         * @param items     The ids of the transaction's items in ascending order as an {@link
+         *                  Integer} array. The array may not be null
+         * @param timestamp The time, the transaction has been added to the window, in
+         *                  milliseconds as a {@link Long} value
+         */
+        Entry(@NotNull final int[] items, final long timestamp) {
+            this.items = items;
+            this.timestamp = timestamp;
+        }
+
+    }
+
+    /**
+     * The SLF4J logger, which is used by the module.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(SlidingWindowModule.class);
+
+    /**
+     * The minimum support, which must at least be reached by an item set to be considered
+     * frequent.
+     */
+    private final double minSupport;
+
+    /**
+     * The maximum number of transactions of the window or 0, if the number is not restricted.
+     */
+    private final int windowSize;
+
+    /**
+     * The maximum period of time, which is covered by the window, in milliseconds or 0, if the
+     * period is not restricted.
+     */
+    private final long windowDuration;
+
+    /**
+     * The transactions of the window in the order they have been added.
+     */
+    private final Deque<Entry> window;
+
+    /**
+     * A map, which maps the items of the window to their ids.
+     */
+    private final Map<ItemType, Integer> ids;
+
+    /**
+     * A map, which maps the ids of the items of the window to the items.
+     */
+    private final Map<Integer, ItemType> items;
+
+    /**
+     * The root of the enumeration tree, which corresponds to the empty item set.
+     */
+    private final Node root;
+
+    /**
+     * The id, which is assigned to the next new item.
+     */
+    private int nextId;
+
+    /**
+     * The minimum number of transactions of the window, an item set must occur in to be
+     * considered frequent.
+     */
+    private int minOccurrences;
+
+    /**
+     * The time, the most recent transaction has been added, in milliseconds.
+     */
+    private long currentTime;
+
+    /**
+     * Creates a new module, which maintains the frequent item sets of a stream of transactions over
+     * a sliding window.
+     *
+     * @param minSupport     The minimum support, which must at least be reached by an item set to
+     *                       be considered frequent, as a {@link Double} value. The support must be
+     *                       at least 0 and at maximum 1
+     * @param windowSize     The maximum number of transactions of the window as an {@link Integer}
+     *                       value or 0, if the number should not be restricted. The number must be
+     *                       at least 0
+     * @param windowDuration The maximum period of time, which should be covered by the window, in
+     *                       milliseconds as a {@link Long} value or 0, if the period should not be
+     *                       restricted. The period must be at least 0 and either the period or the
+     *                       number of transactions must be restricted
+     */
+    public SlidingWindowModule(final double minSupport, final int windowSize,
+                               final long windowDuration) {
+        ensureAtLeast(minSupport, 0, "The minimum support must be at least 0");
+        ensureAtMaximum(minSupport, 1, "The minimum support must be at maximum 1");
+        ensureAtLeast(windowSize, 0, "The window size must be at least 0");
+        ensureAtLeast(windowDuration, 0, "The window duration must be at least 0");
+
+        if (windowSize == 0 && windowDuration == 0) {
+            throw new IllegalArgumentException(
+                    "Either the window size or the window duration must be greater than 0");
+        }
+
+        this.minSupport = minSupport;
+        this.windowSize = windowSize;
+        this.windowDuration = windowDuration;
+        this.window = new ArrayDeque<>();
+        this.ids = new HashMap<>();
+        this.items = new HashMap<>();
+        this.root = new Node(null, EncodedItemSet.EMPTY, 0);
+        this.root.children = new ArrayList<>();
+        this.nextId = 0;
+        this.minOccurrences = EncodedTransactions.calculateMinOccurrences(0, minSupport);
+        this.currentTime = Long.MIN_VALUE;
+    }
+
+    /**
+     * Returns, whether a node is frequent according to the current minimum number of
+     * occurrences.
+     *
+     * @param node The node as an instance of the class {@link Node}. The node may not be null
+     * @return True, if the node is frequent, false otherwise
+     */
+    private boolean isFrequent(@NotNull final Node node) {
+        return node.count >= minOccurrences;
+    }
+
+    /**
+     * Encodes a transaction by mapping its items to their ids. Items, which have not been
+     * encountered before, are assigned new ids and added to the enumeration tree as children of
+     * the root.
+     *
+     * @param transaction The transaction as an instance of the type {@link Transaction}. The
+     *                    transaction may not be null
+     * @return The ids of the transaction's distinct items in ascending order as an {@link Integer}
+     * array. The array may not be null
+     */
+    @NotNull
+    private int[] encode(@NotNull final Transaction<ItemType> transaction) {
+        int[] result = new int[8];
+        int size = 0;
+
+        for (ItemType item : transaction) {
+            Integer id = ids.get(item);
+
+            if (id == null) {
+                id = nextId++;
+                ids.put(item, id);
+                items.put(id, item);
+                root.children.add(new Node(root, new EncodedItemSet(id), 0));
+            }
+
+            if (size == result.length) {
+                result = Arrays.copyOf(result, size * 2);
+            }
+
+            result[size++] = id;
+        }
+
+        Arrays.sort(result, 0, size);
+        int distinct = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || result[distinct - 1] != result[i]) {
+                result[distinct++] = result[i];
+            }
+        }
+
+        return Arrays.copyOf(result, distinct);
+    }
+
+    /**
+     * Updates the counts of all nodes, which are contained by a transaction, in the subtree of a
+     * specific node. Nodes, whose frequency changes, are added to a list.
+     *
+     * @param node        The node as an instance of the class {@link Node}. The node must have
+     *                    been expanded. It may not be null
+     * @param transaction The ids of the transaction's items in ascending order as an {@link
+     *                    Integer} array. The array may not be null
+     * @param start       The index of the first item of the transaction, which should be taken
+     *                    into account, as an {@link Integer} value
+     * @param delta       The value, the counts should be changed by, as an {@link Integer} value
+     * @param changed     The list, the nodes, whose frequency changes, should be added to, as an
+     *                    instance of the type {@link List}. The list may not be null
+     */
+    private void count(@NotNull final Node node, @NotNull final int[] transaction,
+                       final int start, final int delta, @NotNull final List<Node> changed) {
+        int i = start;
+        int j = 0;
+
+        while (i < transaction.length && j < node.children.size()) {
+            Node child = node.children.get(j);
+            int item = transaction[i];
+
+            if (item == child.getItem()) {
+                boolean frequent = isFrequent(child);
+                child.count += delta;
+
+                if (frequent != isFrequent(child)) {
+                    changed.add(child);
+                }
+
+                if (child.children != null) {
+                    count(child, transaction, i + 1, delta, changed);
+                }
+
+                i++;
+                j++;
+            } else if (item < child.getItem()) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+    }
+
+    /**
+     * Counts the number of transactions of the window, several item sets of the same length occur
+     * in.
+     *
+     * @param candidates A list, which contains the item sets in lexicographic order, as an
+     *                   instance of the type {@link List}. The list may not be null
+     * @return An array, which contains the number of transactions, each item set occurs in, as an
+     * {@link Integer} array. The array may not be null
+     */
+    @NotNull
+    private int[] countInWindow(@NotNull final List<EncodedItemSet> candidates) {
+        int[] counts = new int[candidates.size()];
+
+        if (!candidates.isEmpty()) {
+            CandidateTrie trie = new CandidateTrie(candidates, candidates.get(0).size());
+
+            for (Entry entry : window) {
+                trie.count(entry.items, 1, counts);
+            }
+        }
+
+        return counts;
+    }
+
+    /**
+     * Expands a node, which has become frequent. Its children are created by combining it with
+     * its frequent right siblings and the node is combined with its frequent left siblings, which
+     * have already been expanded. All of the new nodes, which are frequent, are expanded
+     * recursively.
+     *
+     * @param node The node as an instance of the class {@link Node}. The node may not be null
+     */
+    private void becomeFrequent(@NotNull final Node node) {
+        List<Node> siblings = node.parent.children;
+        List<EncodedItemSet> candidates = new ArrayList<>();
+
+        for (int i = siblings.indexOf(node) + 1; i < siblings.size(); i++) {
+            Node sibling = siblings.get(i);
+
+            if (isFrequent(sibling)) {
+                candidates.add(node.itemSet.add(sibling.getItem()));
+            }
+        }
+
+        int[] counts = countInWindow(candidates);
+        node.children = new ArrayList<>(candidates.size());
+
+        for (int i = 0; i < candidates.size(); i++) {
+            node.children.add(new Node(node, candidates.get(i), counts[i]));
+        }
+
+        for (Node sibling : new ArrayList<>(siblings)) {
+            if (sibling == node) {
+                break;
+            }
+
+            if (!sibling.removed && sibling.children != null && isFrequent(sibling)) {
+                int index = sibling.indexOf(node.getItem());
+
+                if (index < 0) {
+                    EncodedItemSet itemSet = sibling.itemSet.add(node.getItem());
+                    Node child = new Node(sibling, itemSet,
+                            countInWindow(Collections.singletonList(itemSet))[0]);
+                    sibling.children.add(-(index + 1), child);
+                    validate(child);
+                }
+            }
+        }
+
+        for (Node child : new ArrayList<>(node.children)) {
+            validate(child);
+        }
+    }
+
+    /**
+     * Removes the children of a node, which has become infrequent, as well as the nodes, which
+     * result from combining it with its left siblings.
+     *
+     * @param node The node as an instance of the class {@link Node}. The node may not be null
+     */
+    private void becomeInfrequent(@NotNull final Node node) {
+        markRemoved(node.children);
+        node.children = null;
+        removeCombinations(node);
+    }
+
+    /**
+     * Removes the nodes, which result from combining a specific node with its left siblings.
+     *
+     * @param node The node as an instance of the class {@link Node}. The node may not be null
+     */
+    private void removeCombinations(@NotNull final Node node) {
+        for (Node sibling : new ArrayList<>(node.parent.children)) {
+            if (sibling.getItem() >= node.getItem()) {
+                break;
+            }
+
+            if (sibling.children != null) {
+                int index = sibling.indexOf(node.getItem());
+
+                if (index >= 0) {
+                    Node child = sibling.children.remove(index);
+                    child.removed = true;
+                    markRemoved(child.children);
+                    removeCombinations(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks several nodes, as well as their descendants, as removed.
+     *
+     * @param nodes A list, which contains the nodes, as an instance of the type {@link List} or
+     *              null, if no nodes should be marked
+     */
+    private void markRemoved(@Nullable final List<Node> nodes) {
+        if (nodes != null) {
+            for (Node node : nodes) {
+                node.removed = true;
+                markRemoved(node.children);
+            }
+        }
+    }
+
+    /**
+     * Expands a node, if it is frequent, or removes its children, if it is not frequent, unless
+     * it is already in the correct state.
+     *
+     * @param node The node as an instance of the class {@link Node}. The node may not be null
+     */
+    private void validate(@NotNull final Node node) {
+        if (!node.removed) {
+            if (isFrequent(node) && node.children == null) {
+                becomeFrequent(node);
+            } else if (!isFrequent(node) && node.children != null) {
+                becomeInfrequent(node);
+            }
+        }
+    }
+
+    /**
+     * Adds all nodes of the subtree of a specific node to a list in pre-order.
+     *
+     * @param node  The node as an instance of the class {@link Node}. The node may not be null
+     * @param nodes The list, the nodes should be added to, as an instance of the type {@link
+     *              List}. The list may not be null
+     */
+    private void collectNodes(@NotNull final Node node, @NotNull final List<Node> nodes) {
+        if (node.children != null) {
+            for (Node child : node.children) {
+                nodes.add(child);
+                collectNodes(child, nodes);
+            }
+        }
+    }
+
+    /**
+     * Restores the structure of the enumeration tree after the counts of nodes or the size of the
+     * window have changed. If the minimum number of occurrences has changed due to the window's
+     * new size, all nodes are validated, otherwise only the given ones.
+     *
+     * @param changed A list, which contains the nodes, whose frequency has changed, as an
+     *                instance of the type {@link List}. The list may not be null
+     */
+    private void restructure(@NotNull final List<Node> changed) {
+        for (Iterator<Node> iterator = root.children.iterator(); iterator.hasNext(); ) {
+            Node node = iterator.next();
+
+            if (node.count == 0) {
+                node.removed = true;
+                markRemoved(node.children);
+                removeCombinations(node);
+                iterator.remove();
+                ItemType item = items.remove(node.getItem());
+                ids.remove(item);
+            }
+        }
+
+        int newMinOccurrences =
+                EncodedTransactions.calculateMinOccurrences(window.size(), minSupport);
+        List<Node> nodes = changed;
+
+        if (newMinOccurrences != minOccurrences) {
+            minOccurrences = newMinOccurrences;
+            nodes = new ArrayList<>();
+            collectNodes(root, nodes);
+        }
+
+        nodes.forEach(this::validate);
+    }
+
+    /**
+     * Removes the oldest transactions from the window, as long as the window contains more
+     * transactions than allowed or transactions, which are older than allowed.
+     *
+     * @param changed The list, the nodes, whose frequency changes, should be added to, as an
+     *                instance of the type {@link List}. The list may not be null
+     */
+    private void removeExpiredTransactions(@NotNull final List<Node> changed) {
+        while (!window.isEmpty() && ((windowSize > 0 && window.size() > windowSize) ||
+                (windowDuration > 0 &&
+                        window.peekFirst().timestamp <= currentTime - windowDuration))) {
+            Entry entry = window.pollFirst();
+            count(root, entry.items, 0, -1, changed);
+        }
+    }
+
+    /**
+     * Returns the minimum support, which must at least be reached by an item set to be considered
+     * frequent.
+     *
+     * @return The minimum support as a {@link Double} value
+     */
+    public final double getMinSupport() {
+        return minSupport;
+    }
+
+    /**
+     * Returns the maximum number of transactions of the window.
+     *
+     * @return The maximum number of transactions of the window as an {@link Integer} value or 0,
+     * if the number is not restricted
+     */
+    public final int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Returns the maximum period of time, which is covered by the window.
+     *
+     * @return The maximum period of time in milliseconds as a {@link Long} value or 0, if the
+     * period is not restricted
+     */
+    public final long getWindowDuration() {
+        return windowDuration;
+    }
+
+    /**
+     * Returns the number of transactions, which are currently contained by the window.
+     *
+     * @return The number of transactions as an {@link Integer} value
+     */
+    public final int getTransactionCount() {
+        return window.size();
+    }
+
+    /**
+     * Adds a transaction to the window, using the current system time as its timestamp. The
+     * oldest transactions are removed from the window, if necessary.
+     *
+     * @param transaction The transaction, which should be added, as an instance of the type {@link
+     *                    Transaction}. The transaction may not be null
+     */
+    public final void add(@NotNull final Transaction<ItemType> transaction) {
+        add(transaction, Math.max(System.currentTimeMillis(), currentTime));
+    }
+
+    /**
+     * Adds a transaction, which has occurred at a specific time, to the window. The oldest
+     * transactions are removed from the window, if necessary.
+     *
+     * @param transaction The transaction, which should be added, as an instance of the type {@link
+     *                    Transaction}. The transaction may not be null
+     * @param timestamp   The time, the transaction has occurred, in milliseconds as a {@link Long}
+     *                    value. The time must be at least the time of the previous transaction
+     */
+    public final void add(@NotNull final Transaction<ItemType> transaction, final long timestamp) {
+        ensureNotNull(transaction, "The transaction may not be null");
+        ensureAtLeast(timestamp, currentTime,
+                "The timestamp must be at least " + currentTime);
+        currentTime = timestamp;
+        int[] encodedTransaction = encode(transaction);
+        window.addLast(new Entry(encodedTransaction, timestamp));
+        List<Node> changed = new ArrayList<>();
+        count(root, encodedTransaction, 0, 1, changed);
+        removeExpiredTransactions(changed);
+        restructure(changed);
+        LOGGER.trace("Added transaction to window, which contains {} transactions",
+                window.size());
+    }
+
+    /**
+     * Removes all transactions, which have become too old at a specific time, from the window.
+     *
+     * @param timestamp The time in milliseconds as a {@link Long} value. The time must be at least
+     *                  the time of the previous transaction
+     */
+    public final void expire(final long timestamp) {
+        ensureAtLeast(timestamp, currentTime, "The timestamp must be at least " + currentTime);
+        currentTime = timestamp;
+        List<Node> changed = new ArrayList<>();
+        removeExpiredTransactions(changed);
+        restructure(changed);
+    }
+
+    /**
+     * Returns the frequent item sets of the transactions, which are currently contained by the
+     * window.
+     *
+     * @return The frequent item sets as an instance of the class {@link FrequentItemSets}. The
+     * frequent item sets may not be null
+     */
+    @NotNull
+    public final FrequentItemSets<ItemType> getFrequentItemSets() {
+        List<Node> nodes = new ArrayList<>();
+        collectNodes(root, nodes);
+        FrequentItemSets<ItemType> frequentItemSets =
+                new FrequentItemSets<>(Comparator.reverseOrder());
+
+        for (Node node : nodes) {
+            if (isFrequent(node)) {
+                ItemSet<ItemType> itemSet = new ItemSet<>();
+
+                for (int i = 0; i < node.itemSet.size(); i++) {
+                    itemSet.add(items.get(node.itemSet.get(i)));
+                }
+
+                itemSet.setSupport((double) node.count / (double) window.size());
+                frequentItemSets.add(itemSet);
+            }
+        }
+
+        return frequentItemSets;
+    }
+
+    /**
+     * Generates association rules from the frequent item sets of the transactions, which are
+     * currently contained by the window.
+     *
+     * @param minConfidence The minimum confidence, which must at least be reached by association
+     *                      rules, as a {@link Double} value. The confidence must be at least 0 and
+     *                      at maximum 1
+     * @return A rule set, which contains the association rules, as an instance of the class {@link
+     * RuleSet}. The rule set may not be null
+     */
+    @NotNull
+    public final RuleSet<ItemType> getRuleSet(final double minConfidence) {
+        Map<ItemSet<ItemType>, ItemSet<ItemType>> frequentItemSets = new HashMap<>();
+        getFrequentItemSets().forEach(x -> frequentItemSets.put(x, x));
+        return new AssociationRuleGeneratorModule<ItemType>()
+                .generateAssociationRules(frequentItemSets, minConfidence);
+    }
+
+}
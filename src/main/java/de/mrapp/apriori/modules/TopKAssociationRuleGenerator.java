@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.modules;
+
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.Operator;
+import de.mrapp.apriori.RuleSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Defines the interface, a class, which allows to generate a specific number of the most
+ * "interesting" association rules according to an {@link Operator} in a single run, must
+ * implement.
+ *
+ * @param <ItemType> The type of the items, which are processed by the algorithm
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public interface TopKAssociationRuleGenerator<ItemType extends Item> {
+
+    /**
+     * Generates the k association rules, which are rated best by a specific operator. If multiple
+     * rules share the heuristic value of the k-th rule, only as many of them as needed to obtain k
+     * rules are returned.
+     *
+     * @param frequentItemSets A map, which contains all available frequent item sets, as an
+     *                         instance of the type {@link Map} or an empty map, if no frequent item
+     *                         sets are available. The map must store the frequent item sets as
+     *                         values and equal item sets as the corresponding keys
+     * @param k                The number of association rules, which should be generated, as an
+     *                         {@link Integer} value. The number must be at least 1
+     * @param operator         The operator, which should be used to rate the association rules, as
+     *                         an instance of the type {@link Operator}. The operator may not be
+     *                         null
+     * @param minConfidence    The minimum confidence, which must at least be reached by association
+     *                         rules, as a {@link Double} value. The confidence must be at least 0
+     *                         and at maximum 1
+     * @return A rule set, which contains the association rules, which have been generated, as an
+     * instance of the class {@link RuleSet}. The rule set contains exactly k rules, unless fewer
+     * rules reach the minimum confidence
+     */
+    @NotNull
+    RuleSet<ItemType> generateAssociationRules(
+            @NotNull Map<? extends ItemSet<ItemType>, ? extends ItemSet<ItemType>> frequentItemSets,
+            int k, @NotNull Operator operator, double minConfidence);
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.modules;
+
+import de.mrapp.apriori.Item;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Defines the interface, a class, which allows to find a specific number of the most frequent item
+ * sets in a single run, must implement.
+ *
+ * @param <ItemType> The type of the items, which are processed by the algorithm
+ * @author Michael Rapp
+ * @since 1.3.0
+ */
+public interface TopKFrequentItemSetMiner<ItemType extends Item> {
+
+    /**
+     * Searches for the k item sets with the greatest support. If multiple item sets share the
+     * support of the k-th item set, only as many of them as needed to obtain k item sets are
+     * returned.
+     *
+     * @param source     The source, which provides the transactions of the data set, which should
+     *                   be processed by the algorithm, as an instance of the type {@link
+     *                   TransactionSource}. The source may not be null
+     * @param k          The number of item sets, which should be found, as an {@link Integer}
+     *                   value. The number must be at least 1
+     * @param minSupport The minimum support, which must at least be reached by an item set to be
+     *                   returned, as a {@link Double} value. The support must be at least 0 and at
+     *                   maximum 1
+     * @return A map, which contains the item sets, which have been found, as an instance of the
+     * type {@link Map}. The map contains exactly k item sets, unless fewer item sets reach the
+     * minimum support. The map stores instances of the class {@link ItemSet} as values and uses the
+     * same item sets as the corresponding keys
+     */
+    @NotNull
+    Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
+            @NotNull TransactionSource<ItemType> source, int k, double minSupport);
+
+    /**
+     * Searches for the k item sets with the greatest support and returns them together with the
+     * number of transactions, which have been processed. By default, the item sets are searched by
+     * using the method {@link #findFrequentItemSets(TransactionSource, int, double)} and the number
+     * of transactions is not known.
+     *
+     * @param source     The source, which provides the transactions of the data set, which should
+     *                   be processed by the algorithm, as an instance of the type {@link
+     *                   TransactionSource}. The source may not be null
+     * @param k          The number of item sets, which should be found, as an {@link Integer}
+     *                   value. The number must be at least 1
+     * @param minSupport The minimum support, which must at least be reached by an item set to be
+     *                   returned, as a {@link Double} value. The support must be at least 0 and at
+     *                   maximum 1
+     * @return The result of the search as an instance of the class {@link MiningResult}. The
+     * result may not be null
+     */
+    @NotNull
+    default MiningResult<ItemType> mineFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source, final int k,
+            final double minSupport) {
+        return new MiningResult<>(findFrequentItemSets(source, k, minSupport), -1);
+    }
+
+}
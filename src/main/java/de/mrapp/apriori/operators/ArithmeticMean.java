@@ -16,11 +16,10 @@ package de.mrapp.apriori.operators;
 import de.mrapp.apriori.AssociationRule;
 import de.mrapp.apriori.Metric;
 import de.mrapp.apriori.Operator;
-import de.mrapp.util.datastructure.Pair;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collection;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.List;
 
 import static de.mrapp.util.Condition.*;
 
@@ -34,16 +33,27 @@ import static de.mrapp.util.Condition.*;
 public class ArithmeticMean implements Operator {
 
     /**
-     * A collection, which contains the metrics, which have been added to the arithmetic mean
-     * operator.
+     * The constant serial version UID.
      */
-    private final Collection<Pair<Metric, Double>> metrics;
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * A list, which contains the metrics, which have been added to the arithmetic mean operator.
+     */
+    private final List<Metric> metrics;
+
+    /**
+     * A list, which contains the weights of the metrics, which have been added to the arithmetic
+     * mean operator.
+     */
+    private final List<Double> weights;
 
     /**
      * Creates a new arithmetic mean operator.
      */
     public ArithmeticMean() {
-        this.metrics = new LinkedList<>();
+        this.metrics = new ArrayList<>();
+        this.weights = new ArrayList<>();
     }
 
     /**
@@ -73,7 +83,8 @@ public class ArithmeticMean implements Operator {
     public final ArithmeticMean add(@NotNull final Metric metric, final double weight) {
         ensureNotNull(metric, "The metric may not be null");
         ensureGreater(weight, 0, "The weight must be greater than 0");
-        metrics.add(Pair.create(metric, weight));
+        metrics.add(metric);
+        weights.add(weight);
         return this;
     }
 
@@ -82,16 +93,42 @@ public class ArithmeticMean implements Operator {
         ensureNotNull(rule, "The rule may not be null");
         ensureNotEmpty(metrics, "No metrics added", IllegalStateException.class);
         double result = 0;
-        double sumOfWeights = metrics.stream().mapToDouble(x -> x.second).sum();
+        double sumOfWeights = weights.stream().mapToDouble(x -> x).sum();
 
-        for (Pair<Metric, Double> pair : metrics) {
-            Metric metric = pair.first;
+        for (int i = 0; i < metrics.size(); i++) {
+            Metric metric = metrics.get(i);
             double heuristicValue = metric.evaluate(rule);
-            double weight = pair.second;
+            double weight = weights.get(i);
             result += heuristicValue * (weight / sumOfWeights);
         }
 
         return result;
     }
 
-}
\ No newline at end of file
+    @Override
+    public final boolean isAntiMonotone() {
+        return metrics.stream().allMatch(Metric::isAntiMonotone);
+    }
+
+    @Override
+    public final int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + metrics.hashCode();
+        result = prime * result + weights.hashCode();
+        return result;
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        ArithmeticMean other = (ArithmeticMean) obj;
+        return metrics.equals(other.metrics) && weights.equals(other.weights);
+    }
+
+}
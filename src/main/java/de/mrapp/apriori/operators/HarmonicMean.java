@@ -16,11 +16,10 @@ package de.mrapp.apriori.operators;
 import de.mrapp.apriori.AssociationRule;
 import de.mrapp.apriori.Metric;
 import de.mrapp.apriori.Operator;
-import de.mrapp.util.datastructure.Pair;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collection;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.List;
 
 import static de.mrapp.util.Condition.*;
 
@@ -34,16 +33,27 @@ import static de.mrapp.util.Condition.*;
 public class HarmonicMean implements Operator {
 
     /**
-     * A collection, which contains the metrics, which have been added to the harmonic mean
-     * operator.
+     * The constant serial version UID.
      */
-    private final Collection<Pair<Metric, Double>> metrics;
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * A list, which contains the metrics, which have been added to the harmonic mean operator.
+     */
+    private final List<Metric> metrics;
+
+    /**
+     * A list, which contains the weights of the metrics, which have been added to the harmonic
+     * mean operator.
+     */
+    private final List<Double> weights;
 
     /**
      * Creates a new harmonic mean operator.
      */
     public HarmonicMean() {
-        this.metrics = new LinkedList<>();
+        this.metrics = new ArrayList<>();
+        this.weights = new ArrayList<>();
     }
 
     /**
@@ -73,7 +83,8 @@ public class HarmonicMean implements Operator {
     public final HarmonicMean add(@NotNull final Metric metric, final double weight) {
         ensureNotNull(metric, "The metric may not be null");
         ensureGreater(weight, 0, "The weight must be greater than 0");
-        metrics.add(Pair.create(metric, weight));
+        metrics.add(metric);
+        weights.add(weight);
         return this;
     }
 
@@ -84,10 +95,10 @@ public class HarmonicMean implements Operator {
         double numerator = 0;
         double denominator = 0;
 
-        for (Pair<Metric, Double> pair : metrics) {
-            Metric metric = pair.first;
+        for (int i = 0; i < metrics.size(); i++) {
+            Metric metric = metrics.get(i);
             double heuristicValue = metric.evaluate(rule);
-            double weight = pair.second;
+            double weight = weights.get(i);
             numerator += weight;
             denominator += weight / heuristicValue;
         }
@@ -95,4 +106,34 @@ public class HarmonicMean implements Operator {
         return denominator > 0 ? numerator / denominator : 0;
     }
 
-}
\ No newline at end of file
+    /**
+     * {@inheritDoc} As the harmonic mean is only monotonic for non-negative values, this only
+     * applies, if all metrics are anti-monotone and do not calculate negative heuristic values.
+     */
+    @Override
+    public final boolean isAntiMonotone() {
+        return metrics.stream().allMatch(x -> x.isAntiMonotone() && x.minValue() >= 0);
+    }
+
+    @Override
+    public final int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + metrics.hashCode();
+        result = prime * result + weights.hashCode();
+        return result;
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        HarmonicMean other = (HarmonicMean) obj;
+        return metrics.equals(other.metrics) && weights.equals(other.weights);
+    }
+
+}
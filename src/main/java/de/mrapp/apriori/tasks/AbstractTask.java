@@ -46,6 +46,21 @@ public abstract class AbstractTask<ItemType extends Item> {
         this.configuration = configuration;
     }
 
+    /**
+     * Returns the number of threads, which should be used by the modules of a task according to a
+     * specific configuration.
+     *
+     * @param configuration The configuration as an instance of the class {@link Configuration}.
+     *                      The configuration may not be null
+     * @return The number of threads, which should be used, as an {@link Integer} value. The number
+     * is at least 1
+     */
+    protected static int getParallelism(@NotNull final Configuration configuration) {
+        ensureNotNull(configuration, "The configuration may not be null");
+        int parallelism = configuration.getParallelism();
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
     /**
      * Returns the configuration, which is used by the task.
      *
@@ -16,11 +16,15 @@ package de.mrapp.apriori.tasks;
 import de.mrapp.apriori.Apriori.Configuration;
 import de.mrapp.apriori.Item;
 import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.Operator;
 import de.mrapp.apriori.RuleSet;
 import de.mrapp.apriori.Sorting;
+import de.mrapp.apriori.metrics.Confidence;
 import de.mrapp.apriori.modules.AssociationRuleGenerator;
 import de.mrapp.apriori.modules.AssociationRuleGeneratorModule;
+import de.mrapp.apriori.modules.TopKAssociationRuleGenerator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Map;
 
@@ -41,6 +45,13 @@ public class AssociationRuleGeneratorTask<ItemType extends Item> extends
      */
     private final AssociationRuleGenerator<ItemType> associationRuleGenerator;
 
+    /**
+     * The generator, which is used by the task to generate a specific number of association rules
+     * in a single run, or null, if the number of association rules is approached by decreasing the
+     * minimum confidence step by step.
+     */
+    private final TopKAssociationRuleGenerator<ItemType> topKAssociationRuleGenerator;
+
     /**
      * Creates a new task, which tries to generate a specific number of association rules.
      *
@@ -48,7 +59,7 @@ public class AssociationRuleGeneratorTask<ItemType extends Item> extends
      *                      the class {@link Configuration}. The configuration may not be null
      */
     public AssociationRuleGeneratorTask(@NotNull final Configuration configuration) {
-        this(configuration, new AssociationRuleGeneratorModule<>());
+        this(configuration, new AssociationRuleGeneratorModule<>(getParallelism(configuration)));
     }
 
     /**
@@ -61,33 +72,72 @@ public class AssociationRuleGeneratorTask<ItemType extends Item> extends
      *                                 task, as an instance of the type {@link AssociationRuleGenerator}.
      *                                 The association rule generator may not be null
      */
+    @SuppressWarnings("unchecked")
     public AssociationRuleGeneratorTask(@NotNull final Configuration configuration,
                                         @NotNull final AssociationRuleGenerator<ItemType> associationRuleGenerator) {
+        this(configuration, associationRuleGenerator,
+                associationRuleGenerator instanceof TopKAssociationRuleGenerator ?
+                        (TopKAssociationRuleGenerator<ItemType>) associationRuleGenerator : null);
+    }
+
+    /**
+     * Creates a new task, which tries to generate a specific number of association rules.
+     *
+     * @param configuration                The configuration, which should be used by the task, as
+     *                                     an instance of the class {@link Configuration}. The
+     *                                     configuration may not be null
+     * @param associationRuleGenerator     The association rule generator, which should be used by
+     *                                     the task, as an instance of the type {@link
+     *                                     AssociationRuleGenerator}. The association rule
+     *                                     generator may not be null
+     * @param topKAssociationRuleGenerator The generator, which should be used by the task to
+     *                                     generate a specific number of association rules in a
+     *                                     single run, as an instance of the type {@link
+     *                                     TopKAssociationRuleGenerator} or null, if the number of
+     *                                     association rules should be approached by decreasing the
+     *                                     minimum confidence step by step
+     */
+    public AssociationRuleGeneratorTask(
+            @NotNull final Configuration configuration,
+            @NotNull final AssociationRuleGenerator<ItemType> associationRuleGenerator,
+            @Nullable final TopKAssociationRuleGenerator<ItemType> topKAssociationRuleGenerator) {
         super(configuration);
         ensureNotNull(associationRuleGenerator, "The association rule generator may not be null");
         this.associationRuleGenerator = associationRuleGenerator;
+        this.topKAssociationRuleGenerator = topKAssociationRuleGenerator;
     }
 
     /**
-     * Tries to generate a specific number of association rules from frequent item sets.
+     * Tries to generate a specific number of association rules from frequent item sets. If a
+     * specific number of association rules should be generated, the rules, which are rated best by
+     * the configured operator, are generated in a single run, if a generator, which supports this,
+     * is available. Otherwise, the minimum confidence is decreased step by step.
      *
      * @param frequentItemSets A map, which contains all available frequent item sets, as an
      *                         instance of the type {@link Map} or an empty map, if no frequent item
      *                         sets are available. The map must store the frequent item sets as
-     *                         values and their hash codes as the corresponding keys
+     *                         values and equal item sets as the corresponding keys
      * @return A rule set, which contains the association rules, which have been generated, as an
      * instance of the class {@link RuleSet} or an empty rule set, if no association rules have been
      * generated
      */
     @NotNull
     public final RuleSet<ItemType> generateAssociationRules(
-            @NotNull final Map<Integer, ? extends ItemSet<ItemType>> frequentItemSets) {
-        if (getConfiguration().getRuleCount() > 0) {
+            @NotNull final Map<? extends ItemSet<ItemType>, ? extends ItemSet<ItemType>>
+                    frequentItemSets) {
+        int ruleCount = getConfiguration().getRuleCount();
+
+        if (ruleCount > 0 && topKAssociationRuleGenerator != null) {
+            Operator operator = getConfiguration().getRuleOperator();
+            return topKAssociationRuleGenerator.generateAssociationRules(frequentItemSets,
+                    ruleCount, operator != null ? operator : new Confidence(),
+                    getConfiguration().getMinConfidence());
+        } else if (ruleCount > 0) {
             RuleSet<ItemType> result = null;
             double currentMinConfidence = getConfiguration().getMaxConfidence();
 
             while (currentMinConfidence >= getConfiguration().getMinConfidence() &&
-                    (result == null || result.size() < getConfiguration().getRuleCount())) {
+                    (result == null || result.size() < ruleCount)) {
                 RuleSet<ItemType> ruleSet = associationRuleGenerator
                         .generateAssociationRules(frequentItemSets, currentMinConfidence);
 
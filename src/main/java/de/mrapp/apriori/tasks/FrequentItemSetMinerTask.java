@@ -17,11 +17,20 @@ import de.mrapp.apriori.Apriori.Configuration;
 import de.mrapp.apriori.Item;
 import de.mrapp.apriori.ItemSet;
 import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
 import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import de.mrapp.apriori.modules.FpGrowthModule;
 import de.mrapp.apriori.modules.FrequentItemSetMiner;
 import de.mrapp.apriori.modules.FrequentItemSetMinerModule;
+import de.mrapp.apriori.modules.FupModule;
+import de.mrapp.apriori.modules.LcmModule;
+import de.mrapp.apriori.modules.MaxMinerModule;
+import de.mrapp.apriori.modules.MiningResult;
+import de.mrapp.apriori.modules.TopKFrequentItemSetMiner;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -43,13 +52,60 @@ public class FrequentItemSetMinerTask<ItemType extends Item> extends AbstractTas
     private final FrequentItemSetMiner<ItemType> frequentItemSetMiner;
 
     /**
-     * Creates a new task, which tries to find a specific number of frequent item sets.
+     * The miner, which is used by the task to find a specific number of frequent item sets in a
+     * single run, or null, if the number of frequent item sets is approached by decreasing the
+     * minimum support step by step.
+     */
+    private final TopKFrequentItemSetMiner<ItemType> topKFrequentItemSetMiner;
+
+    /**
+     * The module, which is used by the task to update frequent item sets, when new transactions are
+     * added to a data set.
+     */
+    private final FupModule<ItemType> fupModule;
+
+    /**
+     * Creates and returns the frequent item set miner, which should be used according to a
+     * specific configuration.
+     *
+     * @param <T>           The type of the items, which are processed by the miner
+     * @param configuration The configuration as an instance of the class {@link Configuration}.
+     *                      The configuration may not be null
+     * @return The frequent item set miner, which has been created, as an instance of the type
+     * {@link FrequentItemSetMiner}. The frequent item set miner may not be null
+     */
+    @NotNull
+    private static <T extends Item> FrequentItemSetMiner<T> createFrequentItemSetMiner(
+            @NotNull final Configuration configuration) {
+        ensureNotNull(configuration, "The configuration may not be null");
+
+        if (configuration.isMiningMaximalItemSets()) {
+            return new MaxMinerModule<>();
+        }
+
+        if (configuration.isMiningClosedItemSets()) {
+            return new LcmModule<>();
+        }
+
+        if (configuration.isUsingClassicApriori()) {
+            return new FrequentItemSetMinerModule<>(getParallelism(configuration));
+        }
+
+        return new FpGrowthModule<>(getParallelism(configuration));
+    }
+
+    /**
+     * Creates a new task, which tries to find a specific number of frequent item sets. If only
+     * maximal frequent item sets should be found, the MaxMiner algorithm is used. If only closed
+     * frequent item sets should be found, the LCM algorithm is used. Otherwise, either the classic
+     * Apriori algorithm or the FP-Growth algorithm is used with the number of threads, which is
+     * specified by the configuration.
      *
      * @param configuration The configuration, which is used by the taks, as an instance of the
      *                      class {@link Configuration}. The configuration may not be null
      */
     public FrequentItemSetMinerTask(@NotNull final Configuration configuration) {
-        this(configuration, new FrequentItemSetMinerModule<>());
+        this(configuration, createFrequentItemSetMiner(configuration));
     }
 
     /**
@@ -62,38 +118,167 @@ public class FrequentItemSetMinerTask<ItemType extends Item> extends AbstractTas
      *                             an instance of the class {@link FrequentItemSetMiner}. The
      *                             frequent item set miner may not be null
      */
+    @SuppressWarnings("unchecked")
     public FrequentItemSetMinerTask(@NotNull final Configuration configuration,
                                     @NotNull final FrequentItemSetMiner<ItemType> frequentItemSetMiner) {
+        this(configuration, frequentItemSetMiner,
+                frequentItemSetMiner instanceof TopKFrequentItemSetMiner ?
+                        (TopKFrequentItemSetMiner<ItemType>) frequentItemSetMiner : null);
+    }
+
+    /**
+     * Creates a new task, which tries to find a specific number of frequent item sets.
+     *
+     * @param configuration            The configuration, which is used by the taks, as an instance
+     *                                 of the class {@link Configuration}. The configuration may not
+     *                                 be null
+     * @param frequentItemSetMiner     The frequent item set miner, which should be used by the
+     *                                 task, as an instance of the class {@link
+     *                                 FrequentItemSetMiner}. The frequent item set miner may not be
+     *                                 null
+     * @param topKFrequentItemSetMiner The miner, which should be used by the task to find a
+     *                                 specific number of frequent item sets in a single run, as an
+     *                                 instance of the type {@link TopKFrequentItemSetMiner} or
+     *                                 null, if the number of frequent item sets should be
+     *                                 approached by decreasing the minimum support step by step
+     */
+    public FrequentItemSetMinerTask(
+            @NotNull final Configuration configuration,
+            @NotNull final FrequentItemSetMiner<ItemType> frequentItemSetMiner,
+            @Nullable final TopKFrequentItemSetMiner<ItemType> topKFrequentItemSetMiner) {
+        this(configuration, frequentItemSetMiner, topKFrequentItemSetMiner, new FupModule<>());
+    }
+
+    /**
+     * Creates a new task, which tries to find a specific number of frequent item sets.
+     *
+     * @param configuration            The configuration, which is used by the taks, as an instance
+     *                                 of the class {@link Configuration}. The configuration may not
+     *                                 be null
+     * @param frequentItemSetMiner     The frequent item set miner, which should be used by the
+     *                                 task, as an instance of the class {@link
+     *                                 FrequentItemSetMiner}. The frequent item set miner may not be
+     *                                 null
+     * @param topKFrequentItemSetMiner The miner, which should be used by the task to find a
+     *                                 specific number of frequent item sets in a single run, as an
+     *                                 instance of the type {@link TopKFrequentItemSetMiner} or
+     *                                 null, if the number of frequent item sets should be
+     *                                 approached by decreasing the minimum support step by step
+     * @param fupModule                The module, which should be used by the task to update
+     *                                 frequent item sets, when new transactions are added to a data
+     *                                 set, as an instance of the class {@link FupModule}. The
+     *                                 module may not be null
+     */
+    public FrequentItemSetMinerTask(
+            @NotNull final Configuration configuration,
+            @NotNull final FrequentItemSetMiner<ItemType> frequentItemSetMiner,
+            @Nullable final TopKFrequentItemSetMiner<ItemType> topKFrequentItemSetMiner,
+            @NotNull final FupModule<ItemType> fupModule) {
         super(configuration);
         ensureNotNull(frequentItemSetMiner, "The frequent item set miner may not be null");
+        ensureNotNull(fupModule, "The FUP module may not be null");
         this.frequentItemSetMiner = frequentItemSetMiner;
+        this.topKFrequentItemSetMiner = topKFrequentItemSetMiner;
+        this.fupModule = fupModule;
+    }
+
+    /**
+     * Returns the frequent item set miner, which is used by the task.
+     *
+     * @return The frequent item set miner, which is used by the task, as an instance of the type
+     * {@link FrequentItemSetMiner}. The frequent item set miner may not be null
+     */
+    @NotNull
+    public final FrequentItemSetMiner<ItemType> getFrequentItemSetMiner() {
+        return frequentItemSetMiner;
     }
 
     /**
-     * Tries to find a specific number of frequent item sets.
+     * Returns the module, which is used by the task to update frequent item sets, when new
+     * transactions are added to a data set.
+     *
+     * @return The module, which is used by the task to update frequent item sets, as an instance
+     * of the class {@link FupModule}. The module may not be null
+     */
+    @NotNull
+    public final FupModule<ItemType> getFupModule() {
+        return fupModule;
+    }
+
+    /**
+     * Tries to find a specific number of frequent item sets. The transactions, which are provided
+     * by the given iterator, are buffered, if the data set must be traversed multiple times.
      *
      * @param iterator An iterator, which allows to iterate the transactions of the data set, which
      *                 should be processed by the algorithm, as an instance of the type {@link
      *                 Iterator}. The iterator may not be null
      * @return A map, which contains the frequent item sets, which have been found, as an instance
      * of the type {@link Map} or an empty map, if no frequent item sets have been found. The map
-     * stores instances of the class {@link ItemSet} as values and their hash codes as the
+     * stores instances of the class {@link ItemSet} as values and uses the same item sets as the
      * corresponding keys
      */
     @NotNull
-    public final Map<Integer, TransactionalItemSet<ItemType>> findFrequentItemSets(
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
             @NotNull final Iterator<Transaction<ItemType>> iterator) {
-        if (getConfiguration().getFrequentItemSetCount() > 0) {
-            Map<Integer, TransactionalItemSet<ItemType>> result = new HashMap<>();
+        ensureNotNull(iterator, "The iterator may not be null");
+        return findFrequentItemSets(TransactionSource.of(iterator));
+    }
+
+    /**
+     * Tries to find a specific number of frequent item sets. If a specific number of frequent item
+     * sets should be found, they are found in a single run, if a miner, which supports this, is
+     * available. Otherwise, the minimum support is decreased step by step and the given source is
+     * traversed once per step.
+     *
+     * @param source The source, which provides the transactions of the data set, which should be
+     *               processed by the algorithm, as an instance of the type {@link
+     *               TransactionSource}. The source may not be null
+     * @return A map, which contains the frequent item sets, which have been found, as an instance
+     * of the type {@link Map} or an empty map, if no frequent item sets have been found. The map
+     * stores instances of the class {@link ItemSet} as values and uses the same item sets as the
+     * corresponding keys
+     */
+    @NotNull
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> findFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source) {
+        return mineFrequentItemSets(source).getFrequentItemSets();
+    }
+
+    /**
+     * Tries to find a specific number of frequent item sets and returns them together with the
+     * number of transactions, which have been processed, if known by the miner, which has been
+     * used. If a specific number of frequent item sets should be found, they are found in a single
+     * run, if a miner, which supports this, is available. Otherwise, the minimum support is
+     * decreased step by step and the given source is traversed once per step.
+     *
+     * @param source The source, which provides the transactions of the data set, which should be
+     *               processed by the algorithm, as an instance of the type {@link
+     *               TransactionSource}. The source may not be null
+     * @return The result of the search as an instance of the class {@link MiningResult}. The
+     * result may not be null
+     */
+    @NotNull
+    public final MiningResult<ItemType> mineFrequentItemSets(
+            @NotNull final TransactionSource<ItemType> source) {
+        ensureNotNull(source, "The source may not be null");
+
+        int frequentItemSetCount = getConfiguration().getFrequentItemSetCount();
+
+        if (frequentItemSetCount > 0 && topKFrequentItemSetMiner != null) {
+            return topKFrequentItemSetMiner.mineFrequentItemSets(source, frequentItemSetCount,
+                    getConfiguration().getMinSupport());
+        } else if (frequentItemSetCount > 0) {
+            MiningResult<ItemType> result = new MiningResult<>(new HashMap<>(), -1);
             double currentMinSupport = getConfiguration().getMaxSupport();
 
             while (currentMinSupport >= getConfiguration().getMinSupport() &&
-                    result.size() < getConfiguration().getFrequentItemSetCount()) {
-                Map<Integer, TransactionalItemSet<ItemType>> frequentItemSets = frequentItemSetMiner
-                        .findFrequentItemSets(iterator, currentMinSupport);
+                    result.getFrequentItemSets().size() < frequentItemSetCount) {
+                MiningResult<ItemType> currentResult =
+                        frequentItemSetMiner.mineFrequentItemSets(source, currentMinSupport);
 
-                if (frequentItemSets.size() >= result.size()) {
-                    result = frequentItemSets;
+                if (currentResult.getFrequentItemSets().size() >=
+                        result.getFrequentItemSets().size()) {
+                    result = currentResult;
                 }
 
                 currentMinSupport -= getConfiguration().getSupportDelta();
@@ -102,8 +287,66 @@ public class FrequentItemSetMinerTask<ItemType extends Item> extends AbstractTas
             return result;
         } else {
             return frequentItemSetMiner
-                    .findFrequentItemSets(iterator, getConfiguration().getMinSupport());
+                    .mineFrequentItemSets(source, getConfiguration().getMinSupport());
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Updates the frequent item sets, which have previously been found in a data set, when new
+     * transactions are added to the data set. The original data set is only traversed, if item sets,
+     * which have not been frequent before, may become frequent.
+     *
+     * @param frequentItemSets The frequent item sets, which have previously been found in the
+     *                         original data set, as an instance of the type {@link Collection}.
+     *                         The collection must contain all item sets, which reach the minimum
+     *                         support in the original data set. It may not be null
+     * @param transactionCount The number of transactions of the original data set as an {@link
+     *                         Integer} value. The number must be at least 0
+     * @param source           The source, which provides the transactions of the original data
+     *                         set, as an instance of the type {@link TransactionSource}. The source
+     *                         may not be null
+     * @param delta            The source, which provides the new transactions, as an instance of
+     *                         the type {@link TransactionSource}. The source may not be null
+     * @return A map, which contains the frequent item sets of the updated data set, as an instance
+     * of the type {@link Map} or an empty map, if no frequent item sets have been found. The map
+     * stores instances of the class {@link ItemSet} as values and uses the same item sets as the
+     * corresponding keys
+     */
+    @NotNull
+    public final Map<ItemSet<ItemType>, TransactionalItemSet<ItemType>> updateFrequentItemSets(
+            @NotNull final Collection<? extends ItemSet<ItemType>> frequentItemSets,
+            final int transactionCount, @NotNull final TransactionSource<ItemType> source,
+            @NotNull final TransactionSource<ItemType> delta) {
+        return mineUpdatedFrequentItemSets(frequentItemSets, transactionCount, source, delta)
+                .getFrequentItemSets();
+    }
+
+    /**
+     * Updates the frequent item sets, which have previously been found in a data set, when new
+     * transactions are added to the data set, and returns them together with the number of
+     * transactions of the updated data set.
+     *
+     * @param frequentItemSets The frequent item sets, which have previously been found in the
+     *                         original data set, as an instance of the type {@link Collection}.
+     *                         The collection must contain all item sets, which reach the minimum
+     *                         support in the original data set. It may not be null
+     * @param transactionCount The number of transactions of the original data set as an {@link
+     *                         Integer} value. The number must be at least 0
+     * @param source           The source, which provides the transactions of the original data
+     *                         set, as an instance of the type {@link TransactionSource}. The source
+     *                         may not be null
+     * @param delta            The source, which provides the new transactions, as an instance of
+     *                         the type {@link TransactionSource}. The source may not be null
+     * @return The result of the update as an instance of the class {@link MiningResult}. The
+     * result may not be null
+     */
+    @NotNull
+    public final MiningResult<ItemType> mineUpdatedFrequentItemSets(
+            @NotNull final Collection<? extends ItemSet<ItemType>> frequentItemSets,
+            final int transactionCount, @NotNull final TransactionSource<ItemType> source,
+            @NotNull final TransactionSource<ItemType> delta) {
+        return fupModule.mineUpdatedFrequentItemSets(frequentItemSets, transactionCount, source,
+                delta, getConfiguration().getMinSupport());
+    }
+
+}
@@ -41,6 +41,12 @@ public abstract class AbstractDataTest {
      */
     protected static final String INPUT_FILE_2 = "data2.txt";
 
+    /**
+     * The name of the third input file, which is used by the tests. It contains item sets, whose
+     * hash codes collide.
+     */
+    protected static final String INPUT_FILE_3 = "data3.txt";
+
     /**
      * The frequent item sets, which are contained by the first input file.
      */
@@ -61,6 +67,51 @@ public abstract class AbstractDataTest {
      */
     protected static final double[] SUPPORTS_2 = {0.5, 0.5, 0.25, 0.25, 0.25, 0.75, 0.5, 0.25, 0.5, 0.25};
 
+    /**
+     * The closed frequent item sets, which are contained by the first input file.
+     */
+    protected static final String[][] CLOSED_ITEM_SETS_1 = {{"coffee", "milk"}, {"sugar"},
+            {"coffee", "milk", "sugar"}, {"bread", "sugar"}};
+
+    /**
+     * The supports of the closed frequent item sets, which are contained by the first input file.
+     */
+    protected static final double[] CLOSED_SUPPORTS_1 = {0.75, 0.75, 0.5, 0.5};
+
+    /**
+     * The closed frequent item sets, which are contained by the second input file.
+     */
+    protected static final String[][] CLOSED_ITEM_SETS_2 = {{"chips"}, {"beer", "chips"},
+            {"wine"}, {"pizza"}, {"beer", "chips", "wine"}, {"chips", "pizza"}, {"pizza", "wine"}};
+
+    /**
+     * The supports of the closed frequent item sets, which are contained by the second input file.
+     */
+    protected static final double[] CLOSED_SUPPORTS_2 = {0.75, 0.5, 0.5, 0.5, 0.25, 0.25, 0.25};
+
+    /**
+     * The maximal frequent item sets, which are contained by the first input file.
+     */
+    protected static final String[][] MAXIMAL_ITEM_SETS_1 = {{"coffee", "milk", "sugar"},
+            {"bread", "sugar"}};
+
+    /**
+     * The supports of the maximal frequent item sets, which are contained by the first input file.
+     */
+    protected static final double[] MAXIMAL_SUPPORTS_1 = {0.5, 0.5};
+
+    /**
+     * The maximal frequent item sets, which are contained by the second input file.
+     */
+    protected static final String[][] MAXIMAL_ITEM_SETS_2 = {{"beer", "chips", "wine"},
+            {"chips", "pizza"}, {"pizza", "wine"}};
+
+    /**
+     * The supports of the maximal frequent item sets, which are contained by the second input
+     * file.
+     */
+    protected static final double[] MAXIMAL_SUPPORTS_2 = {0.25, 0.25, 0.25};
+
 
     /**
      * Returns the input file, which corresponds to a specific file name.
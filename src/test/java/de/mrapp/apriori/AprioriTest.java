@@ -15,12 +15,22 @@ package de.mrapp.apriori;
 
 import de.mrapp.apriori.Apriori.Configuration;
 import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import de.mrapp.apriori.metrics.Lift;
+import de.mrapp.apriori.modules.FrequentItemSetMiner;
+import de.mrapp.apriori.modules.FrequentItemSetMinerModule;
 import de.mrapp.apriori.tasks.AssociationRuleGeneratorTask;
 import de.mrapp.apriori.tasks.FrequentItemSetMinerTask;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 
@@ -48,6 +58,7 @@ public class AprioriTest extends AbstractDataTest {
         assertEquals(1.0, configuration.getMaxSupport());
         assertEquals(0.1, configuration.getSupportDelta());
         assertEquals(0, configuration.getFrequentItemSetCount());
+        assertFalse(configuration.isUsingClassicApriori());
         assertFalse(configuration.isGeneratingRules());
         assertEquals(0.0, configuration.getMinConfidence());
         assertEquals(1.0, configuration.getMaxConfidence());
@@ -178,32 +189,50 @@ public class AprioriTest extends AbstractDataTest {
         double maxSupport = 0.8;
         double supportDelta = 0.2;
         int frequentItemSetCount = 2;
+        boolean mineClosedItemSets = true;
+        boolean mineMaximalItemSets = true;
+        boolean useClassicApriori = true;
         boolean generateRules = true;
         double minConfidence = 0.8;
         double maxConfidence = 0.9;
         double confidenceDelta = 0.2;
         int ruleCount = 2;
+        Operator ruleOperator = new Lift();
+        int parallelism = 4;
         Configuration configuration1 = new Configuration();
         configuration1.setMinSupport(minSupport);
         configuration1.setMaxSupport(maxSupport);
         configuration1.setSupportDelta(supportDelta);
         configuration1.setFrequentItemSetCount(frequentItemSetCount);
+        configuration1.setMineClosedItemSets(mineClosedItemSets);
+        configuration1.setMineMaximalItemSets(mineMaximalItemSets);
+        configuration1.setUseClassicApriori(useClassicApriori);
         configuration1.setGenerateRules(generateRules);
         configuration1.setMinConfidence(minConfidence);
         configuration1.setMaxConfidence(maxConfidence);
         configuration1.setConfidenceDelta(confidenceDelta);
         configuration1.setRuleCount(ruleCount);
+        configuration1.setRuleOperator(ruleOperator);
+        configuration1.setParallelism(parallelism);
         Configuration configuration2 = configuration1.clone();
         assertEquals(configuration1.getMinSupport(), configuration2.getMinSupport());
         assertEquals(configuration1.getMaxSupport(), configuration2.getMaxSupport());
         assertEquals(configuration1.getSupportDelta(), configuration2.getSupportDelta());
         assertEquals(configuration1.getFrequentItemSetCount(),
                 configuration2.getFrequentItemSetCount());
+        assertEquals(configuration1.isMiningClosedItemSets(),
+                configuration2.isMiningClosedItemSets());
+        assertEquals(configuration1.isMiningMaximalItemSets(),
+                configuration2.isMiningMaximalItemSets());
+        assertEquals(configuration1.isUsingClassicApriori(),
+                configuration2.isUsingClassicApriori());
         assertEquals(configuration1.isGeneratingRules(), configuration2.isGeneratingRules());
         assertEquals(configuration1.getMinConfidence(), configuration2.getMinConfidence());
         assertEquals(configuration1.getMaxConfidence(), configuration2.getMaxConfidence());
         assertEquals(configuration1.getConfidenceDelta(), configuration2.getConfidenceDelta());
         assertEquals(configuration1.getRuleCount(), configuration2.getRuleCount());
+        assertEquals(configuration1.getRuleOperator(), configuration2.getRuleOperator());
+        assertEquals(configuration1.getParallelism(), configuration2.getParallelism());
     }
 
     /**
@@ -215,26 +244,40 @@ public class AprioriTest extends AbstractDataTest {
         double maxSupport = 0.8;
         double supportDelta = 0.2;
         int frequentItemSetCount = 2;
+        boolean mineClosedItemSets = true;
+        boolean mineMaximalItemSets = true;
+        boolean useClassicApriori = true;
         boolean generateRules = true;
         double minConfidence = 0.8;
         double maxConfidence = 0.9;
         double confidenceDelta = 0.2;
         int ruleCount = 2;
+        Operator ruleOperator = new Lift();
+        int parallelism = 4;
         Configuration configuration = new Configuration();
         configuration.setMinSupport(minSupport);
         configuration.setMaxSupport(maxSupport);
         configuration.setSupportDelta(supportDelta);
         configuration.setFrequentItemSetCount(frequentItemSetCount);
+        configuration.setMineClosedItemSets(mineClosedItemSets);
+        configuration.setMineMaximalItemSets(mineMaximalItemSets);
+        configuration.setUseClassicApriori(useClassicApriori);
         configuration.setGenerateRules(generateRules);
         configuration.setMinConfidence(minConfidence);
         configuration.setMaxConfidence(maxConfidence);
         configuration.setConfidenceDelta(confidenceDelta);
         configuration.setRuleCount(ruleCount);
+        configuration.setRuleOperator(ruleOperator);
+        configuration.setParallelism(parallelism);
         assertEquals("[minSupport=" + minSupport + ", maxSupport=" + maxSupport +
                 ", supportDelta=" + supportDelta + ", frequentItemSetCount=" +
-                frequentItemSetCount + ", generateRules=" + generateRules + ", minConfidence=" +
-                minConfidence + ", maxConfidence=" + maxConfidence + ", confidenceDelta=" +
-                confidenceDelta + ", ruleCount=" + ruleCount + "]", configuration.toString());
+                frequentItemSetCount + ", mineClosedItemSets=" + mineClosedItemSets +
+                ", mineMaximalItemSets=" + mineMaximalItemSets +
+                ", useClassicApriori=" + useClassicApriori +
+                ", generateRules=" + generateRules + ", minConfidence=" + minConfidence +
+                ", maxConfidence=" + maxConfidence + ", confidenceDelta=" + confidenceDelta +
+                ", ruleCount=" + ruleCount + ", ruleOperator=" + ruleOperator +
+                ", parallelism=" + parallelism + "]", configuration.toString());
     }
 
     /**
@@ -258,6 +301,15 @@ public class AprioriTest extends AbstractDataTest {
         configuration1.setFrequentItemSetCount(2);
         assertNotSame(configuration1.hashCode(), configuration2.hashCode());
         configuration2.setFrequentItemSetCount(configuration1.getFrequentItemSetCount());
+        configuration1.setMineClosedItemSets(true);
+        assertNotSame(configuration1.hashCode(), configuration2.hashCode());
+        configuration2.setMineClosedItemSets(configuration1.isMiningClosedItemSets());
+        configuration1.setMineMaximalItemSets(true);
+        assertNotSame(configuration1.hashCode(), configuration2.hashCode());
+        configuration2.setMineMaximalItemSets(configuration1.isMiningMaximalItemSets());
+        configuration1.setUseClassicApriori(true);
+        assertNotSame(configuration1.hashCode(), configuration2.hashCode());
+        configuration2.setUseClassicApriori(configuration1.isUsingClassicApriori());
         configuration1.setGenerateRules(true);
         assertNotSame(configuration1.hashCode(), configuration2.hashCode());
         configuration2.setGenerateRules(configuration1.isGeneratingRules());
@@ -272,6 +324,12 @@ public class AprioriTest extends AbstractDataTest {
         configuration2.setConfidenceDelta(configuration1.getConfidenceDelta());
         configuration1.setRuleCount(2);
         assertNotSame(configuration1.hashCode(), configuration2.hashCode());
+        configuration2.setRuleCount(configuration1.getRuleCount());
+        configuration1.setRuleOperator(new Lift());
+        assertNotSame(configuration1.hashCode(), configuration2.hashCode());
+        configuration2.setRuleOperator(configuration1.getRuleOperator());
+        configuration1.setParallelism(4);
+        assertNotSame(configuration1.hashCode(), configuration2.hashCode());
     }
 
     /**
@@ -297,6 +355,15 @@ public class AprioriTest extends AbstractDataTest {
         configuration1.setFrequentItemSetCount(2);
         assertFalse(configuration1.equals(configuration2));
         configuration2.setFrequentItemSetCount(configuration1.getFrequentItemSetCount());
+        configuration1.setMineClosedItemSets(true);
+        assertFalse(configuration1.equals(configuration2));
+        configuration2.setMineClosedItemSets(configuration1.isMiningClosedItemSets());
+        configuration1.setMineMaximalItemSets(true);
+        assertFalse(configuration1.equals(configuration2));
+        configuration2.setMineMaximalItemSets(configuration1.isMiningMaximalItemSets());
+        configuration1.setUseClassicApriori(true);
+        assertFalse(configuration1.equals(configuration2));
+        configuration2.setUseClassicApriori(configuration1.isUsingClassicApriori());
         configuration1.setGenerateRules(true);
         assertFalse(configuration1.equals(configuration2));
         configuration2.setGenerateRules(configuration1.isGeneratingRules());
@@ -311,6 +378,14 @@ public class AprioriTest extends AbstractDataTest {
         configuration2.setConfidenceDelta(configuration1.getConfidenceDelta());
         configuration1.setRuleCount(2);
         assertFalse(configuration1.equals(configuration2));
+        configuration2.setRuleCount(configuration1.getRuleCount());
+        configuration1.setRuleOperator(new Lift());
+        assertFalse(configuration1.equals(configuration2));
+        configuration2.setRuleOperator(configuration1.getRuleOperator());
+        configuration1.setParallelism(4);
+        assertFalse(configuration1.equals(configuration2));
+        configuration2.setParallelism(configuration1.getParallelism());
+        assertTrue(configuration1.equals(configuration2));
     }
 
     /**
@@ -323,18 +398,57 @@ public class AprioriTest extends AbstractDataTest {
         double maxSupport = 0.8;
         double supportDelta = 0.2;
         int frequentItemSetCount = 0;
+        int parallelism = 0;
         Apriori<NamedItem> apriori = new Apriori.Builder<NamedItem>(minSupport)
                 .maxSupport(maxSupport)
                 .supportDelta(supportDelta)
-                .frequentItemSetCount(frequentItemSetCount).create();
+                .frequentItemSetCount(frequentItemSetCount)
+                .parallelism(parallelism)
+                .mineClosedItemSets(true)
+                .mineMaximalItemSets(true).create();
         Configuration configuration = apriori.getConfiguration();
         assertEquals(minSupport, configuration.getMinSupport());
         assertEquals(maxSupport, configuration.getMaxSupport());
         assertEquals(supportDelta, configuration.getSupportDelta());
         assertEquals(frequentItemSetCount, configuration.getFrequentItemSetCount());
+        assertEquals(parallelism, configuration.getParallelism());
+        assertTrue(configuration.isMiningClosedItemSets());
+        assertTrue(configuration.isMiningMaximalItemSets());
         assertFalse(configuration.isGeneratingRules());
     }
 
+    /**
+     * Tests the functionality of the builder, when configuring the Apriori algorithm to use the
+     * classic, level-wise Apriori algorithm for finding frequent item sets.
+     */
+    @Test
+    public final void testBuilderWhenUsingClassicApriori() {
+        int parallelism = 2;
+        Apriori<NamedItem> apriori = new Apriori.Builder<NamedItem>(0.5)
+                .parallelism(parallelism)
+                .useClassicApriori(true).create();
+        Configuration configuration = apriori.getConfiguration();
+        assertTrue(configuration.isUsingClassicApriori());
+        FrequentItemSetMiner<NamedItem> frequentItemSetMiner =
+                new FrequentItemSetMinerTask<NamedItem>(configuration).getFrequentItemSetMiner();
+        assertTrue(frequentItemSetMiner instanceof FrequentItemSetMinerModule);
+        assertEquals(parallelism,
+                ((FrequentItemSetMinerModule<NamedItem>) frequentItemSetMiner).getParallelism());
+        Output<NamedItem> output = apriori.execute(new DataIterator(getInputFile(INPUT_FILE_1)));
+        Map<String, Double> supports = new HashMap<>();
+
+        for (ItemSet<NamedItem> itemSet : output.getFrequentItemSets()) {
+            supports.put(itemSet.toString(), itemSet.getSupport());
+        }
+
+        assertEquals(FREQUENT_ITEM_SETS_1.length, supports.size());
+
+        for (int i = 0; i < FREQUENT_ITEM_SETS_1.length; i++) {
+            String key = "[" + String.join(", ", FREQUENT_ITEM_SETS_1[i]) + "]";
+            assertEquals(SUPPORTS_1[i], supports.get(key), 0);
+        }
+    }
+
     /**
      * Tests the functionality of the builder, when configuring the Apriori algorithm to trying to
      * find a specific number of frequent item sets.
@@ -372,7 +486,8 @@ public class AprioriTest extends AbstractDataTest {
         double confidenceDelta = 0.2;
         int ruleCount = 0;
         Apriori<NamedItem> apriori = new Apriori.Builder<NamedItem>(frequentItemSetCount)
-                .generateRules(minConfidence).minSupport(minSupport).maxSupport(maxSupport)
+                .mineMaximalItemSets(true).generateRules(minConfidence).minSupport(minSupport)
+                .maxSupport(maxSupport)
                 .supportDelta(supportDelta).frequentItemSetCount(frequentItemSetCount)
                 .maxConfidence(maxConfidence).confidenceDelta(confidenceDelta).ruleCount(ruleCount)
                 .create();
@@ -382,6 +497,7 @@ public class AprioriTest extends AbstractDataTest {
         assertEquals(supportDelta, configuration.getSupportDelta());
         assertEquals(frequentItemSetCount, configuration.getFrequentItemSetCount());
         assertTrue(configuration.isGeneratingRules());
+        assertFalse(configuration.isMiningMaximalItemSets());
         assertEquals(minConfidence, configuration.getMinConfidence());
         assertEquals(maxConfidence, configuration.getMaxConfidence());
         assertEquals(confidenceDelta, configuration.getConfidenceDelta());
@@ -402,11 +518,14 @@ public class AprioriTest extends AbstractDataTest {
         double maxConfidence = 0.8;
         double confidenceDelta = 0.2;
         int ruleCount = 2;
+        Operator ruleOperator = new Lift();
+        int parallelism = 4;
         Apriori<NamedItem> apriori = new Apriori.Builder<NamedItem>(frequentItemSetCount)
                 .generateRules(ruleCount).minSupport(minSupport).maxSupport(maxSupport)
                 .supportDelta(supportDelta).frequentItemSetCount(frequentItemSetCount)
                 .minConfidence(minConfidence).maxConfidence(maxConfidence)
-                .confidenceDelta(confidenceDelta).create();
+                .confidenceDelta(confidenceDelta).ruleOperator(ruleOperator)
+                .parallelism(parallelism).mineClosedItemSets(true).create();
         Configuration configuration = apriori.getConfiguration();
         assertEquals(minSupport, configuration.getMinSupport());
         assertEquals(maxSupport, configuration.getMaxSupport());
@@ -417,6 +536,9 @@ public class AprioriTest extends AbstractDataTest {
         assertEquals(maxConfidence, configuration.getMaxConfidence());
         assertEquals(confidenceDelta, configuration.getConfidenceDelta());
         assertEquals(ruleCount, configuration.getRuleCount());
+        assertEquals(ruleOperator, configuration.getRuleOperator());
+        assertEquals(parallelism, configuration.getParallelism());
+        assertTrue(configuration.isMiningClosedItemSets());
     }
 
     /**
@@ -492,7 +614,7 @@ public class AprioriTest extends AbstractDataTest {
     public final void testExecuteWhenNotGeneratingRules() {
         Configuration configuration = mock(Configuration.class);
         when(configuration.isGeneratingRules()).thenReturn(false);
-        Map<Integer, TransactionalItemSet<NamedItem>> map = new HashMap<>();
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> map = new HashMap<>();
         TransactionalItemSet<NamedItem> itemSet1 = new TransactionalItemSet<>();
         NamedItem item1 = new NamedItem("a");
         itemSet1.add(item1);
@@ -501,8 +623,8 @@ public class AprioriTest extends AbstractDataTest {
         NamedItem item2 = new NamedItem("b");
         itemSet2.add(item2);
         itemSet2.setSupport(0.9);
-        map.put(itemSet1.hashCode(), itemSet1);
-        map.put(itemSet2.hashCode(), itemSet2);
+        map.put(itemSet1, itemSet1);
+        map.put(itemSet2, itemSet2);
         FrequentItemSetMinerTask<NamedItem> frequentItemSetMinerTask = new FrequentItemSetMinerTask<>(
                 configuration, (iterator, minSupport) -> map);
         AssociationRuleGeneratorTask<NamedItem> associationRuleGeneratorTask = new AssociationRuleGeneratorTask<>(
@@ -515,6 +637,7 @@ public class AprioriTest extends AbstractDataTest {
                 associationRuleGeneratorTask);
         Output<NamedItem> output = apriori.execute(dataIterator);
         assertEquals(configuration, output.getConfiguration());
+        assertEquals(4, output.getTransactionCount());
         assertNull(output.getRuleSet());
         SortedSet<ItemSet<NamedItem>> set = output.getFrequentItemSets();
         assertEquals(map.size(), set.size());
@@ -534,7 +657,7 @@ public class AprioriTest extends AbstractDataTest {
     public final void testExecuteWhenGeneratingRules() {
         Configuration configuration = mock(Configuration.class);
         when(configuration.isGeneratingRules()).thenReturn(true);
-        Map<Integer, TransactionalItemSet<NamedItem>> map = new HashMap<>();
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> map = new HashMap<>();
         TransactionalItemSet<NamedItem> itemSet1 = new TransactionalItemSet<>();
         NamedItem item1 = new NamedItem("a");
         itemSet1.add(item1);
@@ -543,8 +666,8 @@ public class AprioriTest extends AbstractDataTest {
         NamedItem item2 = new NamedItem("b");
         itemSet2.add(item2);
         itemSet2.setSupport(0.9);
-        map.put(itemSet1.hashCode(), itemSet1);
-        map.put(itemSet2.hashCode(), itemSet2);
+        map.put(itemSet1, itemSet1);
+        map.put(itemSet2, itemSet2);
         RuleSet<NamedItem> ruleSet = new RuleSet<>(null);
         AssociationRule<NamedItem> associationRule = new AssociationRule<>(new ItemSet<>(),
                 new ItemSet<>(), 0.5);
@@ -577,7 +700,116 @@ public class AprioriTest extends AbstractDataTest {
     @Test(expected = IllegalArgumentException.class)
     public final void testExecuteThrowsException() {
         Apriori<NamedItem> apriori = new Apriori<>(mock(Configuration.class));
-        apriori.execute(null);
+        apriori.execute((Iterator<Transaction<NamedItem>>) null);
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to update the output of the Apriori
+     * algorithm, when new transactions are added to the data set.
+     */
+    @Test
+    public final void testUpdate() {
+        List<Transaction<NamedItem>> transactions = new ArrayList<>();
+        DataIterator dataIterator = new DataIterator(getInputFile(INPUT_FILE_1));
+        Transaction<NamedItem> transaction;
+
+        while ((transaction = dataIterator.next()) != null) {
+            transactions.add(transaction);
+        }
+
+        List<Transaction<NamedItem>> originalTransactions = transactions.subList(0, 2);
+        List<Transaction<NamedItem>> delta = transactions.subList(2, transactions.size());
+        Apriori<NamedItem> apriori = new Apriori.Builder<NamedItem>(0.5).generateRules(0.5)
+                .create();
+        Output<NamedItem> output = apriori.execute(TransactionSource.of(originalTransactions));
+        assertEquals(2, output.getTransactionCount());
+        Output<NamedItem> updatedOutput = apriori.update(output,
+                TransactionSource.of(originalTransactions), TransactionSource.of(delta));
+        Output<NamedItem> expectedOutput = apriori.execute(TransactionSource.of(transactions));
+        assertEquals(4, updatedOutput.getTransactionCount());
+        assertEquals(expectedOutput.getFrequentItemSets(), updatedOutput.getFrequentItemSets());
+        assertEquals(expectedOutput.getRuleSet(), updatedOutput.getRuleSet());
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * update the output of the Apriori algorithm, if the number of transactions, which have been
+     * processed, is not known.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testUpdateThrowsExceptionWhenTransactionCountIsUnknown() {
+        Apriori<NamedItem> apriori = new Apriori.Builder<NamedItem>(0.5).create();
+        Output<NamedItem> output = new Output<>(new Configuration(), 0, 0,
+                new FrequentItemSets<>(null), null);
+        apriori.update(output, TransactionSource.of(new ArrayList<>()),
+                TransactionSource.of(new ArrayList<>()));
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * update the output of the Apriori algorithm, if the output only contains closed frequent item
+     * sets.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testUpdateThrowsExceptionWhenOutputContainsClosedItemSets() {
+        Apriori<NamedItem> apriori = new Apriori.Builder<NamedItem>(0.5).create();
+        Configuration configuration = new Configuration();
+        configuration.setMineClosedItemSets(true);
+        Output<NamedItem> output = new Output<>(configuration, 0, 0,
+                new FrequentItemSets<>(null), null, 0);
+        apriori.update(output, TransactionSource.of(new ArrayList<>()),
+                TransactionSource.of(new ArrayList<>()));
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * update the output of the Apriori algorithm, if the minimum support of the output is greater
+     * than the minimum support of the algorithm.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testUpdateThrowsExceptionWhenMinSupportOfOutputIsGreater() {
+        Apriori<NamedItem> apriori = new Apriori.Builder<NamedItem>(0.5).create();
+        Configuration configuration = new Configuration();
+        configuration.setMinSupport(0.6);
+        Output<NamedItem> output = new Output<>(configuration, 0, 0,
+                new FrequentItemSets<>(null), null, 0);
+        apriori.update(output, TransactionSource.of(new ArrayList<>()),
+                TransactionSource.of(new ArrayList<>()));
+    }
+
+    /**
+     * Tests, if the output of the Apriori algorithm can be serialized and deserialized, if an
+     * operator is used to select the best association rules.
+     *
+     * @throws Exception The exception, which is thrown, if the output cannot be serialized
+     */
+    @Test
+    public final void testSerializeOutputWhenUsingRuleOperator() throws Exception {
+        Apriori<NamedItem> apriori = new Apriori.Builder<NamedItem>(0.3).generateRules(0.1)
+                .ruleCount(2).ruleOperator(new Lift()).create();
+        Output<NamedItem> output =
+                apriori.execute(new DataIterator(getInputFile(INPUT_FILE_1)));
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream objectOutputStream =
+                     new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(output);
+        }
+
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(
+                new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            @SuppressWarnings("unchecked") Output<NamedItem> deserializedOutput =
+                    (Output<NamedItem>) objectInputStream.readObject();
+            assertEquals(output.getConfiguration(), deserializedOutput.getConfiguration());
+            assertEquals(new Lift(), deserializedOutput.getConfiguration().getRuleOperator());
+            assertEquals(output.getTransactionCount(), deserializedOutput.getTransactionCount());
+        }
+
+        Apriori<NamedItem> apriori2 = new Apriori.Builder<NamedItem>(0.3).generateRules(0.1)
+                .ruleCount(2).ruleOperator(new Lift()).create();
+        assertEquals(apriori.getConfiguration(), apriori2.getConfiguration());
+        assertEquals(apriori.getConfiguration().hashCode(),
+                apriori2.getConfiguration().hashCode());
     }
 
-}
\ No newline at end of file
+}
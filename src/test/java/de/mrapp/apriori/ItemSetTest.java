@@ -33,6 +33,7 @@ public class ItemSetTest {
     public final void testDefaultConstructor() {
         ItemSet<NamedItem> itemSet = new ItemSet<>();
         assertEquals(0, itemSet.getSupport(), 0);
+        assertEquals(0, itemSet.getError(), 0);
         assertTrue(itemSet.isEmpty());
     }
 
@@ -45,9 +46,11 @@ public class ItemSetTest {
         NamedItem item = new NamedItem("a");
         ItemSet<NamedItem> itemSet1 = new ItemSet<>();
         itemSet1.setSupport(0.5);
+        itemSet1.setError(0.1);
         itemSet1.add(item);
         ItemSet<NamedItem> itemSet2 = new ItemSet<>(itemSet1);
         assertEquals(itemSet1.getSupport(), itemSet2.getSupport(), 0);
+        assertEquals(itemSet1.getError(), itemSet2.getError(), 0);
         assertEquals(itemSet1.size(), itemSet2.size());
         assertEquals(item, itemSet2.first());
     }
@@ -92,6 +95,38 @@ public class ItemSetTest {
         itemSet.setSupport(1.1);
     }
 
+    /**
+     * Tests the functionality of the method, which allows to set the maximum error of an item
+     * set's support.
+     */
+    @Test
+    public final void testSetError() {
+        double error = 0.1;
+        ItemSet<NamedItem> itemSet = new ItemSet<>();
+        itemSet.setError(error);
+        assertEquals(error, itemSet.getError(), 0);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * set the maximum error of an item set's support, if the error is less than 0.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testSetErrorThrowsExceptionWhenErrorIsLessThanZero() {
+        ItemSet<NamedItem> itemSet = new ItemSet<>();
+        itemSet.setError(-1);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * set the maximum error of an item set's support, if the error is greater than 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testSetErrorThrowsExceptionWhenErrorIsGreaterThanOne() {
+        ItemSet<NamedItem> itemSet = new ItemSet<>();
+        itemSet.setError(1.1);
+    }
+
     /**
      * Tests the functionality of the method, which allows to add new items to an item set.
      */
@@ -179,9 +214,11 @@ public class ItemSetTest {
         NamedItem item = new NamedItem("a");
         ItemSet<NamedItem> itemSet1 = new ItemSet<>();
         itemSet1.setSupport(0.5);
+        itemSet1.setError(0.1);
         itemSet1.add(item);
         ItemSet<NamedItem> itemSet2 = itemSet1.clone();
         assertEquals(itemSet1.getSupport(), itemSet2.getSupport(), 0);
+        assertEquals(itemSet1.getError(), itemSet2.getError(), 0);
         assertEquals(itemSet1.size(), itemSet2.size());
         assertEquals(item, itemSet2.first());
     }
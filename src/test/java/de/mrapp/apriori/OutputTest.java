@@ -45,8 +45,31 @@ public class OutputTest {
         assertEquals(endTime - startTime, output.getRuntime());
         assertEquals(frequentItemSets, output.getFrequentItemSets());
         assertEquals(ruleSet, output.getRuleSet());
+        assertEquals(-1, output.getTransactionCount());
     }
 
+    /**
+     * Tests, if all class members are set correctly by the constructor, which expects the number
+     * of transactions as a parameter.
+     */
+    @Test
+    public final void testConstructorWithTransactionCountParameter() {
+        Configuration configuration = new Configuration();
+        FrequentItemSets<NamedItem> frequentItemSets = new FrequentItemSets<>(null);
+        Output<NamedItem> output = new Output<>(configuration, 0, 2, frequentItemSets, null, 4);
+        assertEquals(configuration, output.getConfiguration());
+        assertEquals(frequentItemSets, output.getFrequentItemSets());
+        assertEquals(4, output.getTransactionCount());
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown, if the number of transactions,
+     * which is passed to the constructor, is less than -1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionWhenTransactionCountIsLessThanMinusOne() {
+        new Output<>(new Configuration(), 0, 1, new FrequentItemSets<>(null), null, -2);
+    }
 
     /**
      * Ensures, that an {@link IllegalArgumentException} is thrown, if the configuration, which is
@@ -167,6 +190,8 @@ public class OutputTest {
         output1 = new Output<>(new Configuration(), 0, 2, new FrequentItemSets<>(null),
                 ruleSet);
         assertNotSame(output1.hashCode(), output2.hashCode());
+        output1 = new Output<>(new Configuration(), 0, 2, new FrequentItemSets<>(null), null, 4);
+        assertNotSame(output1.hashCode(), output2.hashCode());
     }
 
     /**
@@ -204,6 +229,8 @@ public class OutputTest {
         output1 = new Output<>(new Configuration(), 0, 2, new FrequentItemSets<>(null),
                 ruleSet);
         assertFalse(output1.equals(output2));
+        output1 = new Output<>(new Configuration(), 0, 2, new FrequentItemSets<>(null), null, 4);
+        assertFalse(output1.equals(output2));
     }
 
 }
\ No newline at end of file
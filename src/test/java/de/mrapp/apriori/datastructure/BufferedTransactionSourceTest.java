@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.datastructure;
+
+import de.mrapp.apriori.AbstractDataTest;
+import de.mrapp.apriori.DataIterator;
+import de.mrapp.apriori.NamedItem;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link BufferedTransactionSource}.
+ *
+ * @author Michael Rapp
+ */
+public class BufferedTransactionSourceTest extends AbstractDataTest {
+
+    /**
+     * Traverses all transactions, which are provided by an iterator.
+     *
+     * @param iterator The iterator
+     * @return A list, which contains the transactions
+     */
+    private List<Transaction<NamedItem>> readTransactions(
+            final Iterator<Transaction<NamedItem>> iterator) {
+        List<Transaction<NamedItem>> transactions = new ArrayList<>();
+        Transaction<NamedItem> transaction;
+
+        while ((transaction = iterator.next()) != null) {
+            transactions.add(transaction);
+        }
+
+        return transactions;
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if the
+     * iterator is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsException() {
+        new BufferedTransactionSource<NamedItem>(null);
+    }
+
+    /**
+     * Tests, if the transactions of an iterator, which can only be traversed once, are replayed
+     * by further passes.
+     */
+    @Test
+    public final void testOpen() {
+        List<Transaction<NamedItem>> transactions =
+                readTransactions(new DataIterator(getInputFile(INPUT_FILE_1)));
+        Iterator<Transaction<NamedItem>> iterator = TransactionSource.of(transactions).open();
+        TransactionSource<NamedItem> source = new BufferedTransactionSource<>(iterator);
+        assertEquals(-1, source.sizeHint());
+        assertEquals(1, source.split(2).size());
+        assertEquals(transactions, readTransactions(source.open()));
+        assertEquals(transactions.size(), source.sizeHint());
+        assertEquals(transactions, readTransactions(source.open()));
+        assertEquals(2, source.split(2).size());
+    }
+
+    /**
+     * Tests, if all transactions are provided by a further pass, if the first pass has not been
+     * completed.
+     */
+    @Test
+    public final void testOpenAfterIncompletePass() {
+        List<Transaction<NamedItem>> transactions =
+                readTransactions(new DataIterator(getInputFile(INPUT_FILE_1)));
+        Iterator<Transaction<NamedItem>> iterator = TransactionSource.of(transactions).open();
+        TransactionSource<NamedItem> source = new BufferedTransactionSource<>(iterator);
+        Iterator<Transaction<NamedItem>> firstPass = source.open();
+        assertTrue(firstPass.hasNext());
+        assertSame(transactions.get(0), firstPass.next());
+        assertEquals(transactions, readTransactions(source.open()));
+    }
+
+}
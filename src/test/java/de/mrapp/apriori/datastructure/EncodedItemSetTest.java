@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.datastructure;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link EncodedItemSet}.
+ *
+ * @author Michael Rapp
+ */
+public class EncodedItemSetTest {
+
+    /**
+     * Tests, if the items are sorted and duplicates are removed by the constructor.
+     */
+    @Test
+    public final void testConstructor() {
+        EncodedItemSet itemSet = new EncodedItemSet(3, 1, 3, 2);
+        assertEquals(3, itemSet.size());
+        assertFalse(itemSet.isEmpty());
+        assertArrayEquals(new int[]{1, 2, 3}, itemSet.toArray());
+        assertEquals(1, itemSet.get(0));
+        assertEquals(3, itemSet.last());
+        assertTrue(itemSet.contains(2));
+        assertFalse(itemSet.contains(0));
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if an id is
+     * less than 0.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsException() {
+        new EncodedItemSet(1, -1);
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to add and remove items.
+     */
+    @Test
+    public final void testAddAndRemove() {
+        EncodedItemSet itemSet = new EncodedItemSet(1, 3);
+        EncodedItemSet extended = itemSet.add(2);
+        assertArrayEquals(new int[]{1, 2, 3}, extended.toArray());
+        assertArrayEquals(new int[]{1, 3}, itemSet.toArray());
+        assertSame(extended, extended.add(2));
+        EncodedItemSet reduced = extended.remove(1);
+        assertArrayEquals(new int[]{2, 3}, reduced.toArray());
+        assertSame(reduced, reduced.remove(1));
+        assertEquals(new EncodedItemSet(2, 3), reduced);
+        assertEquals(new EncodedItemSet(2, 3).hashCode(), reduced.hashCode());
+        assertEquals(EncodedItemSet.EMPTY, new EncodedItemSet(4).remove(4));
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to remove all items, which are contained
+     * by another item set.
+     */
+    @Test
+    public final void testRemoveAll() {
+        EncodedItemSet itemSet = new EncodedItemSet(0, 2, 3, 5);
+        EncodedItemSet reduced = itemSet.removeAll(new EncodedItemSet(1, 2, 3));
+        assertArrayEquals(new int[]{0, 5}, reduced.toArray());
+        assertEquals(new EncodedItemSet(0, 5), reduced);
+        assertSame(itemSet, itemSet.removeAll(new EncodedItemSet(1, 4)));
+        assertEquals(EncodedItemSet.EMPTY, itemSet.removeAll(itemSet));
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to test for subsets.
+     */
+    @Test
+    public final void testIsSubsetOf() {
+        EncodedItemSet itemSet = new EncodedItemSet(1, 3);
+        assertTrue(itemSet.isSubsetOf(new EncodedItemSet(0, 1, 2, 3)));
+        assertTrue(itemSet.isSubsetOf(itemSet));
+        assertTrue(EncodedItemSet.EMPTY.isSubsetOf(itemSet));
+        assertFalse(itemSet.isSubsetOf(new EncodedItemSet(1, 2)));
+        assertFalse(itemSet.isSubsetOf(new EncodedItemSet(3)));
+        assertTrue(itemSet.isSubsetOf(new int[]{1, 3, 5}, 2));
+        assertFalse(itemSet.isSubsetOf(new int[]{1, 2, 3}, 2));
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to test for a common prefix.
+     */
+    @Test
+    public final void testHasCommonPrefix() {
+        EncodedItemSet itemSet = new EncodedItemSet(1, 2, 4);
+        assertTrue(itemSet.hasCommonPrefix(new EncodedItemSet(1, 2, 5), 2));
+        assertFalse(itemSet.hasCommonPrefix(new EncodedItemSet(1, 3, 4), 2));
+        assertTrue(itemSet.hasCommonPrefix(new EncodedItemSet(0, 3), 0));
+    }
+
+    /**
+     * Tests the functionality of the compareTo-method.
+     */
+    @Test
+    public final void testCompareTo() {
+        assertTrue(new EncodedItemSet(1, 2).compareTo(new EncodedItemSet(1, 3)) < 0);
+        assertTrue(new EncodedItemSet(2).compareTo(new EncodedItemSet(1, 3)) > 0);
+        assertTrue(new EncodedItemSet(1).compareTo(new EncodedItemSet(1, 3)) < 0);
+        assertEquals(0, new EncodedItemSet(1, 3).compareTo(new EncodedItemSet(3, 1)));
+    }
+
+}
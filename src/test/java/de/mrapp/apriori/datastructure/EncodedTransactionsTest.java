@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.datastructure;
+
+import de.mrapp.apriori.AbstractDataTest;
+import de.mrapp.apriori.DataIterator;
+import de.mrapp.apriori.NamedItem;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the class {@link EncodedTransactions}.
+ *
+ * @author Michael Rapp
+ */
+public class EncodedTransactionsTest extends AbstractDataTest {
+
+    /**
+     * Tests the functionality of the method, which allows to encode the transactions of a data
+     * set.
+     */
+    @Test
+    public final void testEncode() {
+        DataIterator dataIterator = new DataIterator(getInputFile(INPUT_FILE_2));
+        EncodedTransactions<NamedItem> data = EncodedTransactions.encode(dataIterator, 0.5);
+        ItemDictionary<NamedItem> dictionary = data.getDictionary();
+        assertEquals(4, data.getTransactionCount());
+        assertEquals(4, dictionary.size());
+        assertEquals("chips", dictionary.getItem(0).getName());
+        assertEquals("beer", dictionary.getItem(1).getName());
+        assertEquals("pizza", dictionary.getItem(2).getName());
+        assertEquals("wine", dictionary.getItem(3).getName());
+        int[][] transactions = data.getTransactions();
+        assertEquals(4, transactions.length);
+        assertArrayEquals(new int[]{0, 1, 3}, transactions[0]);
+        assertArrayEquals(new int[]{0, 1}, transactions[1]);
+        assertArrayEquals(new int[]{2, 3}, transactions[2]);
+        assertArrayEquals(new int[]{0, 2}, transactions[3]);
+    }
+
+    /**
+     * Tests, if infrequent items and transactions, which do not contain any frequent items, are
+     * omitted when encoding the transactions of a data set and if identical transactions are
+     * collapsed.
+     */
+    @Test
+    public final void testEncodeOmitsInfrequentItems() {
+        DataIterator dataIterator = new DataIterator(getInputFile(INPUT_FILE_2));
+        EncodedTransactions<NamedItem> data = EncodedTransactions.encode(dataIterator, 0.75);
+        assertEquals(4, data.getTransactionCount());
+        assertEquals(1, data.getDictionary().size());
+        assertEquals("chips", data.getDictionary().getItem(0).getName());
+        assertEquals(1, data.getTransactions().length);
+        assertArrayEquals(new int[]{3}, data.getWeights());
+        assertTrue(data.isWeighted());
+        assertEquals(0.75, data.calculateSupport(3), 0);
+        assertEquals(3, data.calculateMinOccurrences(0.75));
+        assertEquals(1, data.calculateMinOccurrences(0));
+    }
+
+    /**
+     * Tests, if identical transactions are collapsed into a single transaction, whose weight
+     * corresponds to the number of times it occurs, and if the first occurrences retain their
+     * order.
+     */
+    @Test
+    public final void testEncodeCollapsesIdenticalTransactions() {
+        List<Transaction<NamedItem>> transactions = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            Iterator<Transaction<NamedItem>> iterator =
+                    new DataIterator(getInputFile(INPUT_FILE_2));
+            Transaction<NamedItem> transaction;
+
+            while ((transaction = iterator.next()) != null) {
+                transactions.add(transaction);
+            }
+        }
+
+        EncodedTransactions<NamedItem> expectedData =
+                EncodedTransactions.encode(new DataIterator(getInputFile(INPUT_FILE_2)), 0);
+        EncodedTransactions<NamedItem> data =
+                EncodedTransactions.encode(TransactionSource.of(transactions), 0, 2);
+        assertEquals(12, data.getTransactionCount());
+        assertArrayEquals(expectedData.getTransactions(), data.getTransactions());
+        assertArrayEquals(new int[]{3, 3, 3, 3}, data.getWeights());
+        assertFalse(expectedData.isWeighted());
+        assertTrue(data.isWeighted());
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if a weight
+     * is less than 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionWhenWeightIsLessThanOne() {
+        new EncodedTransactions<>(new ItemDictionary<>(new ArrayList<NamedItem>()),
+                new int[][]{{}}, new int[]{0}, 1);
+    }
+
+    /**
+     * Tests, if the same transactions are encoded, when using multiple threads.
+     */
+    @Test
+    public final void testEncodeInParallel() {
+        List<Transaction<NamedItem>> transactions = new ArrayList<>();
+        Iterator<Transaction<NamedItem>> iterator = new DataIterator(getInputFile(INPUT_FILE_1));
+        Transaction<NamedItem> transaction;
+
+        while ((transaction = iterator.next()) != null) {
+            transactions.add(transaction);
+        }
+
+        EncodedTransactions<NamedItem> expectedData =
+                EncodedTransactions.encode(TransactionSource.of(transactions), 0.5);
+        EncodedTransactions<NamedItem> data =
+                EncodedTransactions.encode(TransactionSource.of(transactions), 0.5, 3);
+        assertEquals(expectedData.getTransactionCount(), data.getTransactionCount());
+        assertEquals(expectedData.getDictionary().size(), data.getDictionary().size());
+
+        for (int i = 0; i < data.getDictionary().size(); i++) {
+            assertEquals(expectedData.getDictionary().getItem(i), data.getDictionary().getItem(i));
+        }
+
+        assertArrayEquals(expectedData.getTransactions(), data.getTransactions());
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * encode the transactions of a data set by using multiple threads, if the parallelism is less
+     * than 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testEncodeThrowsExceptionWhenParallelismIsLessThanOne() {
+        EncodedTransactions.encode(TransactionSource.of(new ArrayList<Transaction<NamedItem>>()),
+                0.5, 0);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * encode the transactions of a data set, if the iterator is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testEncodeThrowsExceptionWhenIteratorIsNull() {
+        EncodedTransactions.<NamedItem>encode((Iterator<Transaction<NamedItem>>) null, 0.5);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * encode the transactions of a data set, if the minimum support is greater than 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testEncodeThrowsExceptionWhenMinSupportIsGreaterThanOne() {
+        DataIterator dataIterator = new DataIterator(getInputFile(INPUT_FILE_2));
+        EncodedTransactions.encode(dataIterator, 1.1);
+    }
+
+}
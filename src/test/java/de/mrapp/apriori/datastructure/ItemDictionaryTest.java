@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.datastructure;
+
+import de.mrapp.apriori.NamedItem;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the functionality of the class {@link ItemDictionary}.
+ *
+ * @author Michael Rapp
+ */
+public class ItemDictionaryTest {
+
+    /**
+     * Creates and returns a dictionary, which contains the items "a", "b", "c" and "d".
+     *
+     * @return The dictionary, which has been created, as an instance of the class {@link
+     * ItemDictionary}
+     */
+    private ItemDictionary<NamedItem> createDictionary() {
+        Map<NamedItem, Integer> frequencies = new HashMap<>();
+        frequencies.put(new NamedItem("a"), 1);
+        frequencies.put(new NamedItem("b"), 3);
+        frequencies.put(new NamedItem("c"), 2);
+        frequencies.put(new NamedItem("d"), 3);
+        return new ItemDictionary<>(frequencies);
+    }
+
+    /**
+     * Tests, if the ids are assigned in descending order of the items' frequencies.
+     */
+    @Test
+    public final void testConstructor() {
+        ItemDictionary<NamedItem> dictionary = createDictionary();
+        assertEquals(4, dictionary.size());
+        assertEquals("b", dictionary.getItem(0).getName());
+        assertEquals("d", dictionary.getItem(1).getName());
+        assertEquals("c", dictionary.getItem(2).getName());
+        assertEquals("a", dictionary.getItem(3).getName());
+        assertEquals(3, dictionary.getFrequency(0));
+        assertEquals(3, dictionary.getFrequency(1));
+        assertEquals(2, dictionary.getFrequency(2));
+        assertEquals(1, dictionary.getFrequency(3));
+        assertEquals(0, dictionary.getId(new NamedItem("b")));
+        assertEquals(3, dictionary.getId(new NamedItem("a")));
+        assertEquals(-1, dictionary.getId(new NamedItem("e")));
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if the map,
+     * which is passed as a parameter, is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsException() {
+        new ItemDictionary<NamedItem>((Map<NamedItem, Integer>) null);
+    }
+
+    /**
+     * Tests, if the ids are assigned according to the natural ordering of the items, if the
+     * constructor, which expects a collection as a parameter, is used.
+     */
+    @Test
+    public final void testConstructorWithCollectionParameter() {
+        ItemDictionary<NamedItem> dictionary = new ItemDictionary<>(
+                Arrays.asList(new NamedItem("c"), new NamedItem("a"), new NamedItem("b")));
+        assertEquals(3, dictionary.size());
+        assertEquals("a", dictionary.getItem(0).getName());
+        assertEquals("b", dictionary.getItem(1).getName());
+        assertEquals("c", dictionary.getItem(2).getName());
+        assertEquals(0, dictionary.getFrequency(0));
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to encode items.
+     */
+    @Test
+    public final void testEncode() {
+        ItemDictionary<NamedItem> dictionary = createDictionary();
+        int[] ids = dictionary.encode(Arrays.asList(new NamedItem("a"), new NamedItem("e"),
+                new NamedItem("b"), new NamedItem("a"), new NamedItem("c")));
+        assertArrayEquals(new int[]{0, 2, 3}, ids);
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to decode ids.
+     */
+    @Test
+    public final void testDecode() {
+        ItemDictionary<NamedItem> dictionary = createDictionary();
+        TransactionalItemSet<NamedItem> itemSet = dictionary.decode(new EncodedItemSet(3, 1));
+        assertEquals(2, itemSet.size());
+        Iterator<NamedItem> iterator = itemSet.iterator();
+        assertEquals("a", iterator.next().getName());
+        assertEquals("d", iterator.next().getName());
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * retrieve the item, which corresponds to a specific id, if the id is invalid.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testGetItemThrowsException() {
+        createDictionary().getItem(4);
+    }
+
+}
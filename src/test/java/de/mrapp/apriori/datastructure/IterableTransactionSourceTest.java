@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.datastructure;
+
+import de.mrapp.apriori.AbstractDataTest;
+import de.mrapp.apriori.DataIterator;
+import de.mrapp.apriori.NamedItem;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link IterableTransactionSource}.
+ *
+ * @author Michael Rapp
+ */
+public class IterableTransactionSourceTest extends AbstractDataTest {
+
+    /**
+     * Reads the transactions, which are contained by the first input file.
+     *
+     * @return A list, which contains the transactions
+     */
+    private List<Transaction<NamedItem>> readTransactions() {
+        DataIterator dataIterator = new DataIterator(getInputFile(INPUT_FILE_1));
+        List<Transaction<NamedItem>> transactions = new ArrayList<>();
+        Transaction<NamedItem> transaction;
+
+        while ((transaction = dataIterator.next()) != null) {
+            transactions.add(transaction);
+        }
+
+        return transactions;
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if the
+     * iterable is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsException() {
+        new IterableTransactionSource<NamedItem>(null);
+    }
+
+    /**
+     * Tests, if the transactions are provided once per pass.
+     */
+    @Test
+    public final void testOpen() {
+        List<Transaction<NamedItem>> transactions = readTransactions();
+        TransactionSource<NamedItem> source = new IterableTransactionSource<>(transactions);
+        assertEquals(transactions.size(), source.sizeHint());
+
+        for (int pass = 0; pass < 2; pass++) {
+            Iterator<Transaction<NamedItem>> iterator = source.open();
+
+            for (Transaction<NamedItem> transaction : transactions) {
+                assertSame(transaction, iterator.next());
+            }
+
+            assertFalse(iterator.hasNext());
+            assertNull(iterator.next());
+        }
+    }
+
+    /**
+     * Tests, if the source is split into disjoint sources.
+     */
+    @Test
+    public final void testSplit() {
+        List<Transaction<NamedItem>> transactions = readTransactions();
+        TransactionSource<NamedItem> source = new IterableTransactionSource<>(transactions);
+        List<TransactionSource<NamedItem>> sources = source.split(3);
+        assertEquals(3, sources.size());
+        List<Transaction<NamedItem>> result = new ArrayList<>();
+
+        for (TransactionSource<NamedItem> part : sources) {
+            Iterator<Transaction<NamedItem>> iterator = part.open();
+            Transaction<NamedItem> transaction;
+
+            while ((transaction = iterator.next()) != null) {
+                result.add(transaction);
+            }
+        }
+
+        assertEquals(transactions, result);
+        assertEquals(1, source.split(1).size());
+        assertEquals(transactions.size(), source.split(10).size());
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.datastructure;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link TidSet}.
+ *
+ * @author Michael Rapp
+ */
+public class TidSetTest {
+
+    /**
+     * The number of transaction ids, the tid-sets, which are used by the tests, are drawn from.
+     */
+    private static final int UNIVERSE = 200000;
+
+    /**
+     * Creates and returns a random, sorted array of transaction ids.
+     *
+     * @param random      The random number generator, which should be used
+     * @param probability The probability of each transaction id to be contained by the array
+     * @param runLength   The length of the runs of consecutive transaction ids
+     * @return The array, which has been created
+     */
+    private int[] createTids(final Random random, final double probability, final int runLength) {
+        int[] tids = new int[UNIVERSE];
+        int size = 0;
+
+        for (int tid = 0; tid < UNIVERSE; tid += runLength) {
+            if (random.nextDouble() < probability) {
+                for (int i = tid; i < Math.min(tid + runLength, UNIVERSE); i++) {
+                    tids[size++] = i;
+                }
+            }
+        }
+
+        return Arrays.copyOf(tids, size);
+    }
+
+    /**
+     * Returns the transaction ids, which are contained by two sorted arrays.
+     *
+     * @param tids1   The first array
+     * @param tids2   The second array
+     * @param inverse True, if the ids, which are contained by the first, but not by the second
+     *                array should be returned, false, if the ids, which are contained by both
+     *                arrays, should be returned
+     * @return An array, which contains the resulting ids
+     */
+    private int[] combine(final int[] tids1, final int[] tids2, final boolean inverse) {
+        return Arrays.stream(tids1)
+                .filter(tid -> (Arrays.binarySearch(tids2, tid) >= 0) != inverse).toArray();
+    }
+
+    /**
+     * Tests, if the transaction ids are sorted and duplicates are removed by the method
+     * <code>of</code>.
+     */
+    @Test
+    public final void testOf() {
+        TidSet tidSet = TidSet.of(70000, 3, 1, 3, 65536);
+        assertEquals(4, tidSet.getCardinality());
+        assertFalse(tidSet.isEmpty());
+        assertArrayEquals(new int[]{1, 3, 65536, 70000}, tidSet.toArray());
+        assertTrue(tidSet.contains(65536));
+        assertFalse(tidSet.contains(2));
+        assertFalse(tidSet.contains(-1));
+        assertTrue(TidSet.EMPTY.isEmpty());
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the builder, if the
+     * transaction ids are not added in ascending order.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testBuilderThrowsException() {
+        new TidSet.Builder().add(2).add(1);
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to combine tid-sets, for sparse, dense
+     * and run-length encoded tid-sets.
+     */
+    @Test
+    public final void testCombine() {
+        Random random = new Random(42);
+        int[][] tidArrays = {createTids(random, 0.01, 1), createTids(random, 0.5, 1),
+                createTids(random, 0.95, 1), createTids(random, 0.3, 1000),
+                createTids(random, 0.9, 5000), new int[0]};
+
+        for (int[] tids1 : tidArrays) {
+            TidSet tidSet1 = TidSet.of(tids1);
+            assertArrayEquals(tids1, tidSet1.toArray());
+            assertEquals(tids1.length, tidSet1.getCardinality());
+
+            for (int[] tids2 : tidArrays) {
+                TidSet tidSet2 = TidSet.of(tids2);
+                int[] intersection = combine(tids1, tids2, false);
+                assertArrayEquals(intersection, tidSet1.and(tidSet2).toArray());
+                assertEquals(intersection.length, tidSet1.and(tidSet2).getCardinality());
+                assertEquals(intersection.length, tidSet1.andCardinality(tidSet2));
+                int[] difference = combine(tids1, tids2, true);
+                assertArrayEquals(difference, tidSet1.andNot(tidSet2).toArray());
+                assertEquals(difference.length, tidSet1.andNot(tidSet2).getCardinality());
+            }
+        }
+    }
+
+    /**
+     * Tests the functionality of the equals- and hashCode-method.
+     */
+    @Test
+    public final void testEqualsAndHashCode() {
+        TidSet tidSet1 = TidSet.of(1, 2, 3);
+        TidSet tidSet2 = new TidSet.Builder().add(1).add(2).add(3).build();
+        TidSet tidSet3 = TidSet.of(1, 2);
+        assertEquals(tidSet1, tidSet2);
+        assertEquals(tidSet1.hashCode(), tidSet2.hashCode());
+        assertNotEquals(tidSet1, tidSet3);
+        assertNotEquals(tidSet1, null);
+        assertEquals("[1, 2, 3]", tidSet1.toString());
+    }
+
+}
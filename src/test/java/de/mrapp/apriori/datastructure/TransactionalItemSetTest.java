@@ -28,6 +28,7 @@ import static org.junit.Assert.*;
  *
  * @author Michael Rapp
  */
+@SuppressWarnings("deprecation")
 public class TransactionalItemSetTest {
 
     /**
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.io;
+
+import de.mrapp.apriori.AbstractDataTest;
+import de.mrapp.apriori.DataIterator;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.NamedItem;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.EncodedTransactions;
+import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import de.mrapp.apriori.modules.FpGrowthModule;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the classes {@link BinaryTransactionWriter} and {@link
+ * BinaryTransactionSource}.
+ *
+ * @author Michael Rapp
+ */
+public class BinaryTransactionSourceTest extends AbstractDataTest {
+
+    /**
+     * The codec, which is used to convert the names of items to instances of the class {@link
+     * NamedItem}.
+     */
+    private static final ItemCodec<NamedItem> CODEC = NamedItem::new;
+
+    /**
+     * Converts the transactions of a specific input file into a temporary binary file.
+     *
+     * @param fileName  The file name of the input file as a {@link String}. The file name may
+     *                  neither be null, nor empty
+     * @param blockSize The number of transactions per block as an {@link Integer} value
+     * @return The binary file, which has been written, as an instance of the class {@link File}
+     * @throws IOException The exception, which is thrown, if the file could not be created
+     */
+    private File convert(@NotNull final String fileName, final int blockSize) throws IOException {
+        File file = File.createTempFile("transactions", ".bin");
+        file.deleteOnExit();
+        TransactionSource<NamedItem> source =
+                TransactionSource.of(new DataIterator(getInputFile(fileName)));
+        new BinaryTransactionWriter(blockSize).write(source, file, CODEC);
+        return file;
+    }
+
+    /**
+     * Reads all transactions, which are provided by a source, during a single pass.
+     *
+     * @param source The source as an instance of the type {@link TransactionSource}. The source may
+     *               not be null
+     * @return A list, which contains the names of the items of the transactions, as an instance of
+     * the type {@link List}
+     */
+    private List<Set<String>> read(@NotNull final TransactionSource<NamedItem> source) {
+        List<Set<String>> result = new ArrayList<>();
+        Iterator<Transaction<NamedItem>> iterator = source.open();
+        Transaction<NamedItem> transaction;
+
+        while ((transaction = iterator.next()) != null) {
+            Set<String> names = new HashSet<>();
+
+            for (NamedItem item : transaction) {
+                names.add(item.getName());
+            }
+
+            result.add(names);
+        }
+
+        assertNull(iterator.next());
+        return result;
+    }
+
+    /**
+     * Tests, if the transactions, which are read from a binary file, correspond to the ones, which
+     * have been written.
+     *
+     * @throws IOException The exception, which is thrown, if the file could not be created
+     */
+    @Test
+    public final void testRead() throws IOException {
+        BinaryTransactionSource<NamedItem> source =
+                new BinaryTransactionSource<>(convert(INPUT_FILE_2, 1024), CODEC);
+        List<Set<String>> expectedTransactions = read(
+                TransactionSource.of(new DataIterator(getInputFile(INPUT_FILE_2))));
+        assertEquals(4, source.getTransactionCount());
+        assertEquals(4, source.sizeHint());
+        assertEquals(4, source.getItems().size());
+        assertEquals("chips", source.getItems().get(0).getName());
+        assertArrayEquals(new int[]{3, 2, 2, 2}, source.countFrequencies());
+        assertEquals(expectedTransactions, read(source));
+        assertEquals(expectedTransactions, read(source));
+    }
+
+    /**
+     * Tests, if the transactions are read correctly, if the file is mapped in multiple segments.
+     *
+     * @throws IOException The exception, which is thrown, if the file could not be created
+     */
+    @Test
+    public final void testReadWithMultipleSegments() throws IOException {
+        File file = convert(INPUT_FILE_1, 1);
+        List<Set<String>> expectedTransactions = read(new BinaryTransactionSource<>(file, CODEC));
+        assertEquals(expectedTransactions, read(new BinaryTransactionSource<>(file, CODEC, 4)));
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to split the source.
+     *
+     * @throws IOException The exception, which is thrown, if the file could not be created
+     */
+    @Test
+    public final void testSplit() throws IOException {
+        BinaryTransactionSource<NamedItem> source =
+                new BinaryTransactionSource<>(convert(INPUT_FILE_1, 1), CODEC);
+        List<Set<String>> expectedTransactions = read(source);
+
+        for (int parts = 1; parts <= 5; parts++) {
+            List<TransactionSource<NamedItem>> sources = source.split(parts);
+            List<Set<String>> transactions = new ArrayList<>();
+            int[] frequencies = new int[source.getItems().size()];
+            assertEquals(Math.min(parts, source.getTransactionCount()), sources.size());
+
+            for (TransactionSource<NamedItem> part : sources) {
+                transactions.addAll(read(part));
+                int[] partialFrequencies =
+                        ((BinaryTransactionSource<NamedItem>) part).countFrequencies();
+
+                for (int i = 0; i < frequencies.length; i++) {
+                    frequencies[i] += partialFrequencies[i];
+                }
+            }
+
+            assertEquals(expectedTransactions, transactions);
+            assertArrayEquals(source.countFrequencies(), frequencies);
+        }
+    }
+
+    /**
+     * Tests, if encoding the transactions of a binary file, which maps their ids to the ones of a
+     * new dictionary, yields the same result as encoding the original transactions.
+     *
+     * @throws IOException The exception, which is thrown, if the file could not be created
+     */
+    @Test
+    public final void testEncode() throws IOException {
+        BinaryTransactionSource<NamedItem> source =
+                new BinaryTransactionSource<>(convert(INPUT_FILE_1, 1), CODEC);
+
+        for (double minSupport : new double[]{0, 0.5, 0.75}) {
+            EncodedTransactions<NamedItem> expectedData = EncodedTransactions
+                    .encode(new DataIterator(getInputFile(INPUT_FILE_1)), minSupport);
+
+            for (int parallelism = 1; parallelism <= 3; parallelism++) {
+                EncodedTransactions<NamedItem> data =
+                        EncodedTransactions.encode(source, minSupport, parallelism);
+                assertEquals(expectedData.getTransactionCount(), data.getTransactionCount());
+                assertEquals(expectedData.getDictionary().size(), data.getDictionary().size());
+
+                for (int i = 0; i < data.getDictionary().size(); i++) {
+                    assertEquals(expectedData.getDictionary().getItem(i),
+                            data.getDictionary().getItem(i));
+                }
+
+                assertArrayEquals(expectedData.getTransactions(), data.getTransactions());
+            }
+        }
+    }
+
+    /**
+     * Tests, if the same frequent item sets are found in a binary file as in the original file.
+     *
+     * @throws IOException The exception, which is thrown, if the file could not be created
+     */
+    @Test
+    public final void testFindFrequentItemSets() throws IOException {
+        BinaryTransactionSource<NamedItem> source =
+                new BinaryTransactionSource<>(convert(INPUT_FILE_2, 2), CODEC);
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> expectedItemSets =
+                new FpGrowthModule<NamedItem>()
+                        .findFrequentItemSets(new DataIterator(getInputFile(INPUT_FILE_2)), 0.25);
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> frequentItemSets =
+                new FpGrowthModule<NamedItem>(2).findFrequentItemSets(source, 0.25);
+        assertEquals(expectedItemSets.size(), frequentItemSets.size());
+
+        for (TransactionalItemSet<NamedItem> itemSet : expectedItemSets.values()) {
+            assertEquals(itemSet.getSupport(), frequentItemSets.get(itemSet).getSupport(), 0);
+        }
+    }
+
+    /**
+     * Tests, if a binary file, which does not contain any transactions, can be read.
+     *
+     * @throws IOException The exception, which is thrown, if the file could not be created
+     */
+    @Test
+    public final void testReadEmptyFile() throws IOException {
+        File file = File.createTempFile("transactions", ".bin");
+        file.deleteOnExit();
+        new BinaryTransactionWriter()
+                .write(TransactionSource.of(new ArrayList<Transaction<NamedItem>>()), file);
+        BinaryTransactionSource<NamedItem> source = new BinaryTransactionSource<>(file, CODEC);
+        assertEquals(0, source.getTransactionCount());
+        assertTrue(source.getItems().isEmpty());
+        assertTrue(read(source).isEmpty());
+        assertEquals(1, source.split(4).size());
+    }
+
+    /**
+     * Tests, if the items of a binary file can be read as instances of the class {@link
+     * TokenItem}, if the file has been written without using a codec.
+     *
+     * @throws IOException The exception, which is thrown, if the file could not be created
+     */
+    @Test
+    public final void testReadTokenItems() throws IOException {
+        File file = File.createTempFile("transactions", ".bin");
+        file.deleteOnExit();
+        new BinaryTransactionWriter()
+                .write(TransactionSource.of(new DataIterator(getInputFile(INPUT_FILE_2))), file);
+        BinaryTransactionSource<TokenItem> source = BinaryTransactionSource.of(file);
+        List<Set<String>> expectedTransactions =
+                read(new BinaryTransactionSource<>(convert(INPUT_FILE_2, 1024), CODEC));
+        List<Set<String>> transactions = new ArrayList<>();
+        Iterator<Transaction<TokenItem>> iterator = source.open();
+        Transaction<TokenItem> transaction;
+
+        while ((transaction = iterator.next()) != null) {
+            Set<String> tokens = new HashSet<>();
+
+            for (TokenItem item : transaction) {
+                tokens.add(item.getToken());
+            }
+
+            transactions.add(tokens);
+        }
+
+        assertEquals("chips", source.getItems().get(0).getToken());
+        assertEquals(expectedTransactions, transactions);
+    }
+
+    /**
+     * Ensures, that a {@link RuntimeException} is thrown by the constructor, if the file is not a
+     * binary transaction file.
+     */
+    @Test(expected = RuntimeException.class)
+    public final void testConstructorThrowsExceptionWhenFileIsNotBinary() {
+        new BinaryTransactionSource<>(getInputFile(INPUT_FILE_1), CODEC);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if the file
+     * is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionWhenFileIsNull() {
+        new BinaryTransactionSource<>(null, CODEC);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if the codec
+     * is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionWhenCodecIsNull() {
+        new BinaryTransactionSource<NamedItem>(new File("x"), null);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor of the
+     * writer, if the block size is less than 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testWriterConstructorThrowsExceptionWhenBlockSizeIsLessThanOne() {
+        new BinaryTransactionWriter(0);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * write transactions to a binary file, if the source is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testWriteThrowsExceptionWhenSourceIsNull() {
+        new BinaryTransactionWriter().write((TransactionSource<NamedItem>) null, new File("x"));
+    }
+
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.io;
+
+import de.mrapp.apriori.AbstractDataTest;
+import de.mrapp.apriori.DataIterator;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.NamedItem;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import de.mrapp.apriori.modules.FpGrowthModule;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the class {@link TransactionFileSource}.
+ *
+ * @author Michael Rapp
+ */
+public class TransactionFileSourceTest extends AbstractDataTest {
+
+    /**
+     * Creates a temporary file, which contains a specific text.
+     *
+     * @param text The text as a {@link String}. The text may not be null
+     * @return The file, which has been created, as an instance of the class {@link File}
+     * @throws IOException The exception, which is thrown, if the file could not be written
+     */
+    private File createFile(@NotNull final String text) throws IOException {
+        File file = File.createTempFile("transactions", ".txt");
+        file.deleteOnExit();
+        Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /**
+     * Reads all transactions, which are provided by a source, during a single pass.
+     *
+     * @param source The source as an instance of the type {@link TransactionSource}. The source may
+     *               not be null
+     * @return A list, which contains the tokens of the transactions, as an instance of the type
+     * {@link List}
+     */
+    private List<List<String>> read(@NotNull final TransactionSource<TokenItem> source) {
+        List<List<String>> result = new ArrayList<>();
+        Iterator<Transaction<TokenItem>> iterator = source.open();
+        Transaction<TokenItem> transaction;
+
+        while ((transaction = iterator.next()) != null) {
+            List<String> tokens = new ArrayList<>();
+
+            for (TokenItem item : transaction) {
+                tokens.add(item.getToken());
+            }
+
+            result.add(tokens);
+        }
+
+        assertNull(iterator.next());
+        return result;
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to read the transactions of a file,
+     * which contains words.
+     */
+    @Test
+    public final void testOpen() {
+        TransactionFileSource source = new TransactionFileSource(getInputFile(INPUT_FILE_2));
+        List<List<String>> expectedTransactions = Arrays.asList(
+                Arrays.asList("beer", "chips", "wine"), Arrays.asList("beer", "chips"),
+                Arrays.asList("pizza", "wine"), Arrays.asList("chips", "pizza"));
+        assertEquals(-1, source.sizeHint());
+        assertEquals(expectedTransactions, read(source));
+        assertEquals(4, source.sizeHint());
+        assertEquals(expectedTransactions, read(source));
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to read the transactions of a file in
+     * the FIMI format, which contains comments, meta data and tokens, which are not canonical
+     * integers.
+     *
+     * @throws IOException The exception, which is thrown, if the file could not be written
+     */
+    @Test
+    public final void testOpenWithIntegerTokens() throws IOException {
+        File file = createFile("@CONVERTED_FROM_TEXT\n% comment\n1 2 3\r\n  \n07 7 -1\n" +
+                "\t10 1048576 2\n# comment\n3 1");
+        List<List<String>> transactions = read(new TransactionFileSource(file));
+        assertEquals(Arrays.asList(Arrays.asList("1", "2", "3"), Arrays.asList("07", "7", "-1"),
+                Arrays.asList("10", "1048576", "2"), Arrays.asList("3", "1")), transactions);
+    }
+
+    /**
+     * Tests, if only one item is created per distinct token.
+     *
+     * @throws IOException The exception, which is thrown, if the file could not be written
+     */
+    @Test
+    public final void testOpenCreatesOneItemPerToken() throws IOException {
+        File file = createFile("1 a\na 1\n");
+        TransactionFileSource source = new TransactionFileSource(file);
+        Iterator<Transaction<TokenItem>> iterator = source.open();
+        Iterator<TokenItem> first = iterator.next().iterator();
+        Iterator<TokenItem> second = iterator.next().iterator();
+        TokenItem number = first.next();
+        TokenItem word = first.next();
+        assertSame(word, second.next());
+        assertSame(number, second.next());
+    }
+
+    /**
+     * Tests, if the transactions are read correctly, if the file is mapped in multiple segments.
+     *
+     * @throws IOException The exception, which is thrown, if the file could not be written
+     */
+    @Test
+    public final void testOpenWithMultipleSegments() throws IOException {
+        File file = createFile("1 2 3\n4 5\n\n6 7 8 9\n10\n");
+        List<List<String>> expectedTransactions = read(new TransactionFileSource(file));
+        assertEquals(4, expectedTransactions.size());
+        assertEquals(expectedTransactions, read(new TransactionFileSource(file, 8)));
+    }
+
+    /**
+     * Ensures, that a {@link RuntimeException} is thrown, if a line exceeds the maximum segment
+     * size.
+     *
+     * @throws IOException The exception, which is thrown, if the file could not be written
+     */
+    @Test(expected = RuntimeException.class)
+    public final void testOpenThrowsExceptionWhenLineExceedsSegmentSize() throws IOException {
+        File file = createFile("1 2 3 4 5 6\n7\n");
+        read(new TransactionFileSource(file, 4));
+    }
+
+    /**
+     * Ensures, that a {@link RuntimeException} is thrown, if the file has been deleted after the
+     * source has been created.
+     *
+     * @throws IOException The exception, which is thrown, if the file could not be written
+     */
+    @Test(expected = RuntimeException.class)
+    public final void testOpenThrowsExceptionWhenFileDoesNotExist() throws IOException {
+        File file = createFile("1 2 3\n");
+        TransactionFileSource source = new TransactionFileSource(file);
+        assertTrue(file.delete());
+        read(source);
+    }
+
+    /**
+     * Tests, if the frequent item sets, which are found in a file by using multiple threads, are
+     * the same as the ones, which are found by using the test helper {@link DataIterator}.
+     */
+    @Test
+    public final void testFindFrequentItemSetsInParallel() {
+        File file = getInputFile(INPUT_FILE_1);
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> expectedItemSets =
+                new FpGrowthModule<NamedItem>().findFrequentItemSets(new DataIterator(file), 0);
+        Map<ItemSet<TokenItem>, TransactionalItemSet<TokenItem>> frequentItemSets =
+                new FpGrowthModule<TokenItem>(4)
+                        .findFrequentItemSets(new TransactionFileSource(file), 0);
+        Map<String, Double> supports = new HashMap<>();
+
+        for (TransactionalItemSet<TokenItem> itemSet : frequentItemSets.values()) {
+            supports.put(itemSet.toString(), itemSet.getSupport());
+        }
+
+        assertEquals(expectedItemSets.size(), supports.size());
+
+        for (TransactionalItemSet<NamedItem> itemSet : expectedItemSets.values()) {
+            assertEquals(itemSet.getSupport(), supports.get(itemSet.toString()), 0);
+        }
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to split the source.
+     *
+     * @throws IOException The exception, which is thrown, if the file could not be written
+     */
+    @Test
+    public final void testSplit() throws IOException {
+        StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < 100; i++) {
+            text.append(i).append(' ').append(i % 7).append(" item").append(i % 3).append('\n');
+        }
+
+        TransactionFileSource source = new TransactionFileSource(createFile(text.toString()));
+        List<List<String>> expectedTransactions = read(source);
+
+        for (int parts = 1; parts <= 8; parts++) {
+            List<TransactionSource<TokenItem>> sources = source.split(parts);
+            List<List<String>> transactions = new ArrayList<>();
+            assertTrue(sources.size() <= parts);
+
+            for (TransactionSource<TokenItem> part : sources) {
+                transactions.addAll(read(part));
+            }
+
+            assertEquals(expectedTransactions, transactions);
+        }
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * split the source, if the number of parts is less than 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testSplitThrowsExceptionWhenPartsIsLessThanOne() {
+        new TransactionFileSource(getInputFile(INPUT_FILE_2)).split(0);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if the file
+     * is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionWhenFileIsNull() {
+        new TransactionFileSource(null);
+    }
+
+}
@@ -14,17 +14,25 @@
 package de.mrapp.apriori.modules;
 
 import de.mrapp.apriori.*;
+import de.mrapp.apriori.datastructure.TransactionalItemSet;
 import de.mrapp.apriori.metrics.Confidence;
+import de.mrapp.apriori.metrics.Conviction;
 import de.mrapp.apriori.metrics.Leverage;
 import de.mrapp.apriori.metrics.Lift;
+import de.mrapp.apriori.metrics.Support;
+import de.mrapp.apriori.operators.ArithmeticMean;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests the functionality of the class {@link AssociationRuleGeneratorModule}.
@@ -106,9 +114,9 @@ public class AssociationRuleGeneratorModuleTest extends AbstractDataTest {
      * not be null
      */
     @NotNull
-    private Map<Integer, ItemSet<NamedItem>> createFrequentItemSets(
+    private Map<ItemSet<NamedItem>, ItemSet<NamedItem>> createFrequentItemSets(
             @NotNull final String[][] frequentItemSets, @NotNull final double[] supports) {
-        Map<Integer, ItemSet<NamedItem>> map = new HashMap<>();
+        Map<ItemSet<NamedItem>, ItemSet<NamedItem>> map = new HashMap<>();
         int index = 0;
 
         for (String[] frequentItemSet : frequentItemSets) {
@@ -121,7 +129,7 @@ public class AssociationRuleGeneratorModuleTest extends AbstractDataTest {
                 itemSet.add(namedItem);
             }
 
-            map.put(itemSet.hashCode(), itemSet);
+            map.put(itemSet, itemSet);
             index++;
         }
 
@@ -164,7 +172,7 @@ public class AssociationRuleGeneratorModuleTest extends AbstractDataTest {
                                               @NotNull final double[] actualLifts,
                                               @NotNull final double[] actualLeverages) {
         AssociationRuleGeneratorModule<NamedItem> associationRuleGenerator = new AssociationRuleGeneratorModule<>();
-        Map<Integer, ItemSet<NamedItem>> map = createFrequentItemSets(
+        Map<ItemSet<NamedItem>, ItemSet<NamedItem>> map = createFrequentItemSets(
                 frequentItemSets, supports);
         RuleSet<NamedItem> ruleSet = associationRuleGenerator
                 .generateAssociationRules(map, minConfidence);
@@ -204,6 +212,168 @@ public class AssociationRuleGeneratorModuleTest extends AbstractDataTest {
                 RULE_SUPPORTS_2, RULE_CONFIDENCES_2, RULE_LIFTS_2, RULE_LEVERAGES_2);
     }
 
+    /**
+     * Tests the functionality of the method, which allows to generate association rules, when only
+     * the closed frequent item sets, which are contained by the first input file, are given.
+     */
+    @Test
+    public final void testGenerateAssociationRulesFromClosedItemSets1() {
+        testGenerateAssociationRules(CLOSED_ITEM_SETS_1, CLOSED_SUPPORTS_1, 1.0, RULES_1,
+                RULE_SUPPORTS_1, RULE_CONFIDENCES_1, RULE_LIFTS_1, RULE_LEVERAGES_1);
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to generate association rules, when only
+     * the closed frequent item sets, which are contained by the second input file, are given.
+     */
+    @Test
+    public final void testGenerateAssociationRulesFromClosedItemSets2() {
+        testGenerateAssociationRules(CLOSED_ITEM_SETS_2, CLOSED_SUPPORTS_2, 0.75, RULES_2,
+                RULE_SUPPORTS_2, RULE_CONFIDENCES_2, RULE_LIFTS_2, RULE_LEVERAGES_2);
+    }
+
+    /**
+     * Tests, if item sets, whose hash codes collide, are distinguished by the method, which allows
+     * to generate association rules.
+     */
+    @Test
+    public final void testGenerateAssociationRulesWithHashCollisions() {
+        String[][] frequentItemSets = {{"i0"}, {"i1"}, {"i2"}, {"i3"}, {"i0", "i3"}, {"i1", "i2"}};
+        double[] supports = {0.5, 0.5, 0.5, 0.5, 0.5, 0.5};
+        Map<ItemSet<NamedItem>, ItemSet<NamedItem>> map = createFrequentItemSets(
+                frequentItemSets, supports);
+        assertEquals(6, map.size());
+        RuleSet<NamedItem> ruleSet = new AssociationRuleGeneratorModule<NamedItem>()
+                .generateAssociationRules(map, 1.0);
+        assertEquals(4, ruleSet.size());
+    }
+
+    /**
+     * Tests, if the same association rules are generated, when using multiple threads.
+     */
+    @Test
+    public final void testGenerateAssociationRulesInParallel() {
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> frequentItemSets =
+                new FpGrowthModule<NamedItem>().findFrequentItemSets(
+                        new DataIterator(getInputFile(INPUT_FILE_1)), 0);
+        RuleSet<NamedItem> expectedRules = new AssociationRuleGeneratorModule<NamedItem>()
+                .generateAssociationRules(frequentItemSets, 0.25);
+        AssociationRuleGeneratorModule<NamedItem> associationRuleGenerator =
+                new AssociationRuleGeneratorModule<>(4);
+        assertEquals(4, associationRuleGenerator.getParallelism());
+        RuleSet<NamedItem> rules =
+                associationRuleGenerator.generateAssociationRules(frequentItemSets, 0.25);
+        assertEquals(expectedRules.size(), rules.size());
+        assertTrue(rules.containsAll(expectedRules));
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, which allows
+     * to specify the parallelism, if the parallelism is less than 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionWhenParallelismIsLessThanOne() {
+        new AssociationRuleGeneratorModule<NamedItem>(0);
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to generate the k best association rules
+     * according to a specific operator, by comparing its results to all association rules.
+     *
+     * @param operator The operator, which should be used to rate the association rules, as an
+     *                 instance of the type {@link Operator}. The operator may not be null
+     */
+    private void testGenerateTopKAssociationRules(@NotNull final Operator operator) {
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> frequentItemSets =
+                new FpGrowthModule<NamedItem>().findFrequentItemSets(
+                        new DataIterator(getInputFile(INPUT_FILE_2)), 0);
+        AssociationRuleGeneratorModule<NamedItem> associationRuleGenerator =
+                new AssociationRuleGeneratorModule<>();
+        RuleSet<NamedItem> allRules =
+                associationRuleGenerator.generateAssociationRules(frequentItemSets, 0.5);
+        List<Double> values = new ArrayList<>();
+        allRules.forEach(rule -> values.add(operator.evaluate(rule)));
+        values.sort(Collections.reverseOrder());
+
+        for (int k = 1; k <= allRules.size() + 1; k++) {
+            RuleSet<NamedItem> ruleSet = associationRuleGenerator
+                    .generateAssociationRules(frequentItemSets, k, operator, 0.5);
+            assertEquals(Math.min(k, allRules.size()), ruleSet.size());
+            int index = 0;
+
+            for (AssociationRule<NamedItem> rule : ruleSet) {
+                assertTrue(allRules.contains(rule));
+                assertEquals(values.get(index), operator.evaluate(rule), 0);
+                index++;
+            }
+        }
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to generate the k best association rules,
+     * when using the confidence.
+     */
+    @Test
+    public final void testGenerateTopKAssociationRulesByConfidence() {
+        testGenerateTopKAssociationRules(new Confidence());
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to generate the k best association rules,
+     * when using the lift.
+     */
+    @Test
+    public final void testGenerateTopKAssociationRulesByLift() {
+        testGenerateTopKAssociationRules(new Lift());
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to generate the k best association rules,
+     * when using the leverage.
+     */
+    @Test
+    public final void testGenerateTopKAssociationRulesByLeverage() {
+        testGenerateTopKAssociationRules(new Leverage());
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to generate the k best association rules,
+     * when using the conviction, which does not allow to prune the search.
+     */
+    @Test
+    public final void testGenerateTopKAssociationRulesByConviction() {
+        testGenerateTopKAssociationRules(new Conviction());
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to generate the k best association rules,
+     * when using an arithmetic mean.
+     */
+    @Test
+    public final void testGenerateTopKAssociationRulesByArithmeticMean() {
+        testGenerateTopKAssociationRules(new ArithmeticMean().add(new Lift()).add(new Support()));
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * generate the k best association rules, if k is less than 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testGenerateTopKAssociationRulesThrowsExceptionWhenKIsLessThanOne() {
+        new AssociationRuleGeneratorModule<>()
+                .generateAssociationRules(new HashMap<>(), 0, new Confidence(), 0.5);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * generate the k best association rules, if the operator is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testGenerateTopKAssociationRulesThrowsExceptionWhenOperatorIsNull() {
+        new AssociationRuleGeneratorModule<>()
+                .generateAssociationRules(new HashMap<>(), 1, null, 0.5);
+    }
+
     /**
      * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
      * generate association rules, if the iterator, which is passed as a parameter, is null.
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.modules;
+
+import de.mrapp.apriori.AbstractDataTest;
+import de.mrapp.apriori.DataIterator;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.NamedItem;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the class {@link FpGrowthModule}.
+ *
+ * @author Michael Rapp
+ */
+public class FpGrowthModuleTest extends AbstractDataTest {
+
+    /**
+     * Tests the functionality of the method, which allows to find frequent item sets, when using a
+     * specific input file.
+     *
+     * @param fileName               The file name of the input file as a {@link String}. The file
+     *                               name may neither be null, nor empty
+     * @param minSupport             The support, which must at least be reached item sets to be
+     *                               considered frequent, as a {@link Double} value
+     * @param actualFrequentItemSets The frequent item sets, which are contained by the input file,
+     *                               as a two-dimensional {@link String} array. The array may not be
+     *                               null
+     * @param actualSupports         The supports of the frequent item sets, which are contained by
+     *                               the input file, as a {@link Double} array. The array may not be
+     *                               null
+     */
+    private void testFindFrequentItemSets(@NotNull final String fileName,
+                                          final double minSupport,
+                                          @NotNull final String[][] actualFrequentItemSets,
+                                          @NotNull double[] actualSupports) {
+        File inputFile = getInputFile(fileName);
+        DataIterator dataIterator = new DataIterator(inputFile);
+        FpGrowthModule<NamedItem> frequentItemSetMiner = new FpGrowthModule<>();
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> frequentItemSets =
+                frequentItemSetMiner.findFrequentItemSets(dataIterator, minSupport);
+        Map<String, Double> supports = new HashMap<>();
+
+        for (int i = 0; i < actualFrequentItemSets.length; i++) {
+            supports.put(String.join(",", actualFrequentItemSets[i]), actualSupports[i]);
+        }
+
+        for (Map.Entry<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> entry :
+                frequentItemSets.entrySet()) {
+            ItemSet<NamedItem> itemSet = entry.getValue();
+            StringBuilder key = new StringBuilder();
+
+            for (NamedItem item : itemSet) {
+                key.append(key.length() > 0 ? "," : "").append(item.getName());
+            }
+
+            Double support = supports.get(key.toString());
+            assertNotNull(support);
+            assertEquals(support, itemSet.getSupport(), 0);
+            assertEquals(itemSet, entry.getKey());
+        }
+
+        assertEquals(actualFrequentItemSets.length, frequentItemSets.size());
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to find frequent item sets, when using
+     * the first input file.
+     */
+    @Test
+    public final void testFindFrequentItemSets1() {
+        testFindFrequentItemSets(INPUT_FILE_1, 0.5, FREQUENT_ITEM_SETS_1, SUPPORTS_1);
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to find frequent item sets, when using
+     * the second input file.
+     */
+    @Test
+    public final void testFindFrequentItemSets2() {
+        testFindFrequentItemSets(INPUT_FILE_2, 0.25, FREQUENT_ITEM_SETS_2, SUPPORTS_2);
+    }
+
+    /**
+     * Tests, if the number of transactions, which have been processed, is returned together with
+     * the frequent item sets.
+     */
+    @Test
+    public final void testMineFrequentItemSets() {
+        List<Transaction<NamedItem>> transactions = new ArrayList<>();
+        DataIterator dataIterator = new DataIterator(getInputFile(INPUT_FILE_2));
+        Transaction<NamedItem> transaction;
+
+        while ((transaction = dataIterator.next()) != null) {
+            transactions.add(transaction);
+        }
+
+        FpGrowthModule<NamedItem> frequentItemSetMiner = new FpGrowthModule<>();
+        MiningResult<NamedItem> result =
+                frequentItemSetMiner.mineFrequentItemSets(TransactionSource.of(transactions), 0.25);
+        assertEquals(4, result.getTransactionCount());
+        assertEquals(frequentItemSetMiner.findFrequentItemSets(TransactionSource.of(transactions),
+                0.25), result.getFrequentItemSets());
+        transactions.add(transactions.get(0));
+        result = frequentItemSetMiner
+                .mineFrequentItemSets(TransactionSource.of(transactions), 3, 0);
+        assertEquals(5, result.getTransactionCount());
+        assertEquals(3, result.getFrequentItemSets().size());
+    }
+
+    /**
+     * Tests, if the same frequent item sets are found, when using multiple threads.
+     */
+    @Test
+    public final void testFindFrequentItemSetsInParallel() {
+        TransactionSource<NamedItem> source =
+                TransactionSource.of(new DataIterator(getInputFile(INPUT_FILE_2)));
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> expectedItemSets =
+                new FpGrowthModule<NamedItem>().findFrequentItemSets(source, 0);
+        FpGrowthModule<NamedItem> frequentItemSetMiner = new FpGrowthModule<>(4);
+        assertEquals(4, frequentItemSetMiner.getParallelism());
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> frequentItemSets =
+                frequentItemSetMiner.findFrequentItemSets(source, 0);
+        assertEquals(expectedItemSets.size(), frequentItemSets.size());
+
+        for (TransactionalItemSet<NamedItem> itemSet : expectedItemSets.values()) {
+            assertEquals(itemSet.getSupport(), frequentItemSets.get(itemSet).getSupport(), 0);
+        }
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, which allows
+     * to specify the parallelism, if the parallelism is less than 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionWhenParallelismIsLessThanOne() {
+        new FpGrowthModule<NamedItem>(0);
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to find the k most frequent item sets,
+     * by comparing its results to all frequent item sets.
+     */
+    @Test
+    public final void testFindTopKFrequentItemSets() {
+        FpGrowthModule<NamedItem> frequentItemSetMiner = new FpGrowthModule<>();
+        TransactionSource<NamedItem> source =
+                TransactionSource.of(new DataIterator(getInputFile(INPUT_FILE_2)));
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> allItemSets =
+                frequentItemSetMiner.findFrequentItemSets(source, 0);
+
+        for (int k = 1; k <= allItemSets.size() + 1; k++) {
+            Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> frequentItemSets =
+                    frequentItemSetMiner.findFrequentItemSets(source, k, 0);
+            assertEquals(Math.min(k, allItemSets.size()), frequentItemSets.size());
+            double minSupport = 1;
+
+            for (TransactionalItemSet<NamedItem> itemSet : frequentItemSets.values()) {
+                assertEquals(allItemSets.get(itemSet).getSupport(), itemSet.getSupport(), 0);
+                minSupport = Math.min(minSupport, itemSet.getSupport());
+            }
+
+            for (TransactionalItemSet<NamedItem> itemSet : allItemSets.values()) {
+                if (!frequentItemSets.containsKey(itemSet)) {
+                    assertTrue(itemSet.getSupport() <= minSupport);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests, if the minimum support is taken into account by the method, which allows to find the
+     * k most frequent item sets.
+     */
+    @Test
+    public final void testFindTopKFrequentItemSetsWithMinSupport() {
+        TransactionSource<NamedItem> source =
+                TransactionSource.of(new DataIterator(getInputFile(INPUT_FILE_2)));
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> frequentItemSets =
+                new FpGrowthModule<NamedItem>().findFrequentItemSets(source, 20, 0.5);
+        assertEquals(5, frequentItemSets.size());
+
+        for (TransactionalItemSet<NamedItem> itemSet : frequentItemSets.values()) {
+            assertTrue(itemSet.getSupport() >= 0.5);
+        }
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * find the k most frequent item sets, if k is less than 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testFindTopKFrequentItemSetsThrowsExceptionWhenKIsLessThanOne() {
+        TransactionSource<NamedItem> source =
+                TransactionSource.of(new DataIterator(getInputFile(INPUT_FILE_2)));
+        new FpGrowthModule<NamedItem>().findFrequentItemSets(source, 0, 0.5);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * find frequent item sets, if the iterator, which is passed as a parameter, is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testFindFrequentItemSetsThrowsExceptionWhenIteratorIsNull() {
+        new FpGrowthModule<NamedItem>().findFrequentItemSets(
+                (Iterator<Transaction<NamedItem>>) null, 0.5);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * find frequent item sets, if the minimum support, which is passed as a parameter, is less than
+     * 0.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testFindFrequentItemSetsThrowsExceptionWhenMinSupportIsLessThanZero() {
+        File inputFile = getInputFile(INPUT_FILE_1);
+        DataIterator dataIterator = new DataIterator(inputFile);
+        new FpGrowthModule<NamedItem>().findFrequentItemSets(dataIterator, -0.1);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * find frequent item sets, if the minimum support, which is passed as a parameter, is greater
+     * than 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testFindFrequentItemSetsThrowsExceptionWhenMinSupportIsGreaterThanOne() {
+        File inputFile = getInputFile(INPUT_FILE_1);
+        DataIterator dataIterator = new DataIterator(inputFile);
+        new FpGrowthModule<NamedItem>().findFrequentItemSets(dataIterator, 1.1);
+    }
+
+}
@@ -17,11 +17,16 @@ import de.mrapp.apriori.AbstractDataTest;
 import de.mrapp.apriori.DataIterator;
 import de.mrapp.apriori.ItemSet;
 import de.mrapp.apriori.NamedItem;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
 import de.mrapp.apriori.datastructure.TransactionalItemSet;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Test;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
@@ -55,13 +60,13 @@ public class FrequentItemSetMinerModuleTest extends AbstractDataTest {
         File inputFile = getInputFile(fileName);
         DataIterator dataIterator = new DataIterator(inputFile);
         FrequentItemSetMinerModule<NamedItem> frequentItemSetMiner = new FrequentItemSetMinerModule<>();
-        Map<Integer, TransactionalItemSet<NamedItem>> frequentItemSets = frequentItemSetMiner
-                .findFrequentItemSets(dataIterator, minSupport);
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> frequentItemSets =
+                frequentItemSetMiner.findFrequentItemSets(dataIterator, minSupport);
         int frequentItemSetCount = 0;
 
-        for (Map.Entry<Integer, TransactionalItemSet<NamedItem>> entry : frequentItemSets
-                .entrySet()) {
-            int key = entry.getKey();
+        for (Map.Entry<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> entry :
+                frequentItemSets.entrySet()) {
+            ItemSet<NamedItem> key = entry.getKey();
             ItemSet<NamedItem> itemSet = entry.getValue();
             int index = 0;
 
@@ -71,7 +76,7 @@ public class FrequentItemSetMinerModuleTest extends AbstractDataTest {
             }
 
             assertEquals(actualSupports[frequentItemSetCount], itemSet.getSupport(), 0);
-            assertEquals(itemSet.hashCode(), key);
+            assertEquals(itemSet, key);
             frequentItemSetCount++;
         }
 
@@ -96,13 +101,83 @@ public class FrequentItemSetMinerModuleTest extends AbstractDataTest {
         testFindFrequentItemSets(INPUT_FILE_2, 0.25, FREQUENT_ITEM_SETS_2, SUPPORTS_2);
     }
 
+    /**
+     * Tests, if item sets, whose hash codes collide, are not merged by the method, which allows to
+     * find frequent item sets.
+     */
+    @Test
+    public final void testFindFrequentItemSetsWithHashCollisions() {
+        ItemSet<NamedItem> itemSet1 = new ItemSet<>();
+        itemSet1.add(new NamedItem("i0"));
+        itemSet1.add(new NamedItem("i3"));
+        ItemSet<NamedItem> itemSet2 = new ItemSet<>();
+        itemSet2.add(new NamedItem("i1"));
+        itemSet2.add(new NamedItem("i2"));
+        assertEquals(itemSet1.hashCode(), itemSet2.hashCode());
+        DataIterator dataIterator = new DataIterator(getInputFile(INPUT_FILE_3));
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> frequentItemSets =
+                new FrequentItemSetMinerModule<NamedItem>()
+                        .findFrequentItemSets(dataIterator, 0.5);
+        assertEquals(6, frequentItemSets.size());
+        assertEquals(0.5, frequentItemSets.get(itemSet1).getSupport(), 0);
+        assertEquals(0.5, frequentItemSets.get(itemSet2).getSupport(), 0);
+    }
+
+    /**
+     * Tests, if the same frequent item sets are found, when counting the occurrences of candidates
+     * by using multiple threads. As identical transactions are collapsed when encoding a data set,
+     * a data set, which consists of all distinct non-empty subsets of twelve items, is used in
+     * order to obtain a data set, which is large enough to be partitioned into chunks.
+     */
+    @Test
+    public final void testFindFrequentItemSetsInParallel() {
+        List<Transaction<NamedItem>> transactions = new ArrayList<>();
+
+        for (int i = 1; i < 1 << 12; i++) {
+            StringBuilder line = new StringBuilder();
+
+            for (int j = 0; j < 12; j++) {
+                if ((i & (1 << j)) != 0) {
+                    line.append(" i").append(j);
+                }
+            }
+
+            transactions.add(new DataIterator.TransactionImplementation(line.toString()));
+        }
+
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> expectedItemSets =
+                new FrequentItemSetMinerModule<NamedItem>()
+                        .findFrequentItemSets(TransactionSource.of(transactions), 0.2);
+        FrequentItemSetMinerModule<NamedItem> frequentItemSetMiner =
+                new FrequentItemSetMinerModule<>(4);
+        assertEquals(4, frequentItemSetMiner.getParallelism());
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> frequentItemSets =
+                frequentItemSetMiner.findFrequentItemSets(TransactionSource.of(transactions), 0.2);
+        assertEquals(12 + 66, expectedItemSets.size());
+        assertEquals(expectedItemSets.size(), frequentItemSets.size());
+
+        for (TransactionalItemSet<NamedItem> itemSet : expectedItemSets.values()) {
+            assertEquals(itemSet.getSupport(), frequentItemSets.get(itemSet).getSupport(), 0);
+        }
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, which allows
+     * to specify the parallelism, if the parallelism is less than 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionWhenParallelismIsLessThanOne() {
+        new FrequentItemSetMinerModule<NamedItem>(0);
+    }
+
     /**
      * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
      * find frequent item sets, if the iterator, which is passed as a parameter, is null.
      */
     @Test(expected = IllegalArgumentException.class)
     public final void testFindFrequentItemSetsThrowsExceptionWhenIteratorIsNull() {
-        new FrequentItemSetMinerModule<>().findFrequentItemSets(null, 0.5);
+        new FrequentItemSetMinerModule<NamedItem>().findFrequentItemSets(
+                (Iterator<Transaction<NamedItem>>) null, 0.5);
     }
 
     /**
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.modules;
+
+import de.mrapp.apriori.AbstractDataTest;
+import de.mrapp.apriori.DataIterator;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.NamedItem;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Tests the functionality of the class {@link FupModule}.
+ *
+ * @author Michael Rapp
+ */
+public class FupModuleTest extends AbstractDataTest {
+
+    /**
+     * Reads the transactions of a specific input file.
+     *
+     * @param fileName The file name of the input file as a {@link String}. The file name may
+     *                 neither be null, nor empty
+     * @return A list, which contains the transactions, as an instance of the type {@link List}
+     */
+    private List<Transaction<NamedItem>> read(@NotNull final String fileName) {
+        List<Transaction<NamedItem>> transactions = new ArrayList<>();
+        DataIterator iterator = new DataIterator(getInputFile(fileName));
+        Transaction<NamedItem> transaction;
+
+        while ((transaction = iterator.next()) != null) {
+            transactions.add(transaction);
+        }
+
+        return transactions;
+    }
+
+    /**
+     * Returns the supports of specific item sets, using their string representations as keys.
+     *
+     * @param itemSets A map, which contains the item sets, as an instance of the type {@link Map}.
+     *                 The map may not be null
+     * @return A map, which contains the supports of the item sets, as an instance of the type
+     * {@link Map}
+     */
+    private Map<String, Double> getSupports(
+            @NotNull final Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> itemSets) {
+        Map<String, Double> supports = new HashMap<>();
+
+        for (Map.Entry<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> entry :
+                itemSets.entrySet()) {
+            assertEquals(entry.getKey(), entry.getValue());
+            supports.put(entry.getValue().toString(), entry.getValue().getSupport());
+        }
+
+        return supports;
+    }
+
+    /**
+     * Tests, if updating the frequent item sets of a data set yields the same item sets as mining
+     * the updated data set.
+     */
+    @Test
+    public final void testUpdateFrequentItemSets() {
+        List<Transaction<NamedItem>> transactions = read(INPUT_FILE_1);
+        List<Transaction<NamedItem>> delta = read(INPUT_FILE_2);
+        List<Transaction<NamedItem>> allTransactions = new ArrayList<>(transactions);
+        allTransactions.addAll(delta);
+
+        for (double minSupport : new double[]{0, 0.25, 0.5}) {
+            Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> frequentItemSets =
+                    new FpGrowthModule<NamedItem>()
+                            .findFrequentItemSets(TransactionSource.of(transactions), minSupport);
+            Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> updatedItemSets =
+                    new FupModule<NamedItem>().updateFrequentItemSets(frequentItemSets.values(),
+                            transactions.size(), TransactionSource.of(transactions),
+                            TransactionSource.of(delta), minSupport);
+            Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> expectedItemSets =
+                    new FpGrowthModule<NamedItem>().findFrequentItemSets(
+                            TransactionSource.of(allTransactions), minSupport);
+            assertEquals(getSupports(expectedItemSets), getSupports(updatedItemSets));
+        }
+    }
+
+    /**
+     * Tests, if the original data set is not traversed, if no item set, which has not been
+     * frequent before, can become frequent.
+     */
+    @Test
+    public final void testUpdateFrequentItemSetsDoesNotTraverseOriginalData() {
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> frequentItemSets =
+                new FpGrowthModule<NamedItem>()
+                        .findFrequentItemSets(new DataIterator(getInputFile(INPUT_FILE_1)), 0.5);
+        TransactionSource<NamedItem> source = () -> {
+            throw new RuntimeException();
+        };
+        List<Transaction<NamedItem>> delta = Collections.singletonList(
+                new DataIterator.TransactionImplementation("coffee milk"));
+        MiningResult<NamedItem> result = new FupModule<NamedItem>()
+                .mineUpdatedFrequentItemSets(frequentItemSets.values(), 4, source,
+                        TransactionSource.of(delta), 0.5);
+        Map<String, Double> supports = getSupports(result.getFrequentItemSets());
+        assertEquals(5, result.getTransactionCount());
+        assertEquals(4, supports.size());
+        assertEquals(0.8, supports.get("[coffee]"), 0);
+        assertEquals(0.8, supports.get("[milk]"), 0);
+        assertEquals(0.6, supports.get("[sugar]"), 0);
+        assertEquals(0.8, supports.get("[coffee, milk]"), 0);
+    }
+
+    /**
+     * Tests, if item sets, which have not been frequent before, are counted in the original data
+     * set, if they may become frequent.
+     */
+    @Test
+    public final void testUpdateFrequentItemSetsWhenItemSetsBecomeFrequent() {
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> frequentItemSets =
+                new FpGrowthModule<NamedItem>()
+                        .findFrequentItemSets(new DataIterator(getInputFile(INPUT_FILE_1)), 0.5);
+        List<Transaction<NamedItem>> delta = Arrays.asList(
+                new DataIterator.TransactionImplementation("bread butter"),
+                new DataIterator.TransactionImplementation("bread butter"));
+        Map<String, Double> supports = getSupports(new FupModule<NamedItem>()
+                .updateFrequentItemSets(frequentItemSets.values(), 4,
+                        TransactionSource.of(read(INPUT_FILE_1)), TransactionSource.of(delta),
+                        0.5));
+        assertNotNull(supports.get("[butter]"));
+        assertEquals(4 / 6d, supports.get("[bread]"), 0);
+        assertEquals(0.5, supports.get("[butter]"), 0);
+        assertEquals(0.5, supports.get("[bread, butter]"), 0);
+        assertEquals(0.5, supports.get("[coffee, milk]"), 0);
+        assertEquals(7, supports.size());
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * update frequent item sets, if the frequent item sets are null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testUpdateFrequentItemSetsThrowsExceptionWhenFrequentItemSetsAreNull() {
+        new FupModule<NamedItem>().updateFrequentItemSets(null, 0,
+                TransactionSource.of(read(INPUT_FILE_1)), TransactionSource.of(read(INPUT_FILE_2)),
+                0.5);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * update frequent item sets, if the transaction count is less than 0.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testUpdateFrequentItemSetsThrowsExceptionWhenTransactionCountIsLessThanZero() {
+        new FupModule<NamedItem>().updateFrequentItemSets(new ArrayList<>(), -1,
+                TransactionSource.of(read(INPUT_FILE_1)), TransactionSource.of(read(INPUT_FILE_2)),
+                0.5);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * update frequent item sets, if the source is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testUpdateFrequentItemSetsThrowsExceptionWhenSourceIsNull() {
+        new FupModule<NamedItem>().updateFrequentItemSets(new ArrayList<>(), 0, null,
+                TransactionSource.of(read(INPUT_FILE_2)), 0.5);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * update frequent item sets, if the delta is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testUpdateFrequentItemSetsThrowsExceptionWhenDeltaIsNull() {
+        new FupModule<NamedItem>().updateFrequentItemSets(new ArrayList<>(), 0,
+                TransactionSource.of(read(INPUT_FILE_1)), null, 0.5);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * update frequent item sets, if the minimum support is greater than 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testUpdateFrequentItemSetsThrowsExceptionWhenMinSupportIsGreaterThanOne() {
+        new FupModule<NamedItem>().updateFrequentItemSets(new ArrayList<>(), 0,
+                TransactionSource.of(read(INPUT_FILE_1)), TransactionSource.of(read(INPUT_FILE_2)),
+                1.1);
+    }
+
+}
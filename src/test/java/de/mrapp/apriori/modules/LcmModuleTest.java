@@ -0,0 +1,194 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.modules;
+
+import de.mrapp.apriori.AbstractDataTest;
+import de.mrapp.apriori.DataIterator;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.NamedItem;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Tests the functionality of the class {@link LcmModule}.
+ *
+ * @author Michael Rapp
+ */
+public class LcmModuleTest extends AbstractDataTest {
+
+    /**
+     * Tests the functionality of the method, which allows to find closed frequent item sets, when
+     * using a specific input file.
+     *
+     * @param fileName             The file name of the input file as a {@link String}. The file
+     *                             name may neither be null, nor empty
+     * @param minSupport           The support, which must at least be reached item sets to be
+     *                             considered frequent, as a {@link Double} value
+     * @param actualClosedItemSets The closed frequent item sets, which are contained by the input
+     *                             file, as a two-dimensional {@link String} array. The array may
+     *                             not be null
+     * @param actualSupports       The supports of the closed frequent item sets, which are
+     *                             contained by the input file, as a {@link Double} array. The
+     *                             array may not be null
+     */
+    private void testFindFrequentItemSets(@NotNull final String fileName, final double minSupport,
+                                          @NotNull final String[][] actualClosedItemSets,
+                                          @NotNull double[] actualSupports) {
+        File inputFile = getInputFile(fileName);
+        DataIterator dataIterator = new DataIterator(inputFile);
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> closedItemSets =
+                new LcmModule<NamedItem>().findFrequentItemSets(dataIterator, minSupport);
+        Map<String, Double> supports = new HashMap<>();
+
+        for (int i = 0; i < actualClosedItemSets.length; i++) {
+            supports.put(String.join(",", actualClosedItemSets[i]), actualSupports[i]);
+        }
+
+        for (Map.Entry<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> entry :
+                closedItemSets.entrySet()) {
+            ItemSet<NamedItem> itemSet = entry.getValue();
+            StringBuilder key = new StringBuilder();
+
+            for (NamedItem item : itemSet) {
+                key.append(key.length() > 0 ? "," : "").append(item.getName());
+            }
+
+            Double support = supports.get(key.toString());
+            assertNotNull(support);
+            assertEquals(support, itemSet.getSupport(), 0);
+            assertEquals(itemSet, entry.getKey());
+        }
+
+        assertEquals(actualClosedItemSets.length, closedItemSets.size());
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to find closed frequent item sets, when
+     * using the first input file.
+     */
+    @Test
+    public final void testFindFrequentItemSets1() {
+        testFindFrequentItemSets(INPUT_FILE_1, 0.5, CLOSED_ITEM_SETS_1, CLOSED_SUPPORTS_1);
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to find closed frequent item sets, when
+     * using the second input file.
+     */
+    @Test
+    public final void testFindFrequentItemSets2() {
+        testFindFrequentItemSets(INPUT_FILE_2, 0.25, CLOSED_ITEM_SETS_2, CLOSED_SUPPORTS_2);
+    }
+
+    /**
+     * Tests, if the supports of all frequent item sets can be derived from the closed frequent item
+     * sets, as the support of a frequent item set equals the maximum support of its closed
+     * supersets.
+     */
+    @Test
+    public final void testSupportsCanBeDerivedFromClosedItemSets() {
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> frequentItemSets =
+                new FpGrowthModule<NamedItem>()
+                        .findFrequentItemSets(new DataIterator(getInputFile(INPUT_FILE_1)), 0);
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> closedItemSets =
+                new LcmModule<NamedItem>()
+                        .findFrequentItemSets(new DataIterator(getInputFile(INPUT_FILE_1)), 0);
+
+        for (ItemSet<NamedItem> itemSet : frequentItemSets.values()) {
+            double support = 0;
+
+            for (ItemSet<NamedItem> closedItemSet : closedItemSets.values()) {
+                if (closedItemSet.containsAll(itemSet)) {
+                    support = Math.max(support, closedItemSet.getSupport());
+                }
+            }
+
+            assertEquals(itemSet.getSupport(), support, 0);
+        }
+    }
+
+    /**
+     * Tests, if the closure of the empty item set, i.e. the items, which occur in all transactions,
+     * is found.
+     */
+    @Test
+    public final void testFindFrequentItemSetsWhenItemsOccurInAllTransactions() {
+        List<Transaction<NamedItem>> transactions = Arrays.asList(
+                new DataIterator.TransactionImplementation("a b"),
+                new DataIterator.TransactionImplementation("a c"),
+                new DataIterator.TransactionImplementation("a b c"));
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> closedItemSets =
+                new LcmModule<NamedItem>()
+                        .findFrequentItemSets(TransactionSource.of(transactions), 0);
+        Map<String, Double> supports = new HashMap<>();
+
+        for (ItemSet<NamedItem> itemSet : closedItemSets.values()) {
+            supports.put(itemSet.toString(), itemSet.getSupport());
+        }
+
+        assertEquals(4, supports.size());
+        assertEquals(1, supports.get("[a]"), 0);
+        assertEquals(2 / 3d, supports.get("[a, b]"), 0);
+        assertEquals(2 / 3d, supports.get("[a, c]"), 0);
+        assertEquals(1 / 3d, supports.get("[a, b, c]"), 0);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * find closed frequent item sets, if the iterator, which is passed as a parameter, is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testFindFrequentItemSetsThrowsExceptionWhenIteratorIsNull() {
+        new LcmModule<NamedItem>().findFrequentItemSets(
+                (Iterator<Transaction<NamedItem>>) null, 0.5);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * find closed frequent item sets, if the minimum support, which is passed as a parameter, is
+     * less than 0.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testFindFrequentItemSetsThrowsExceptionWhenMinSupportIsLessThanZero() {
+        File inputFile = getInputFile(INPUT_FILE_1);
+        DataIterator dataIterator = new DataIterator(inputFile);
+        new LcmModule<NamedItem>().findFrequentItemSets(dataIterator, -0.1);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * find closed frequent item sets, if the minimum support, which is passed as a parameter, is
+     * greater than 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testFindFrequentItemSetsThrowsExceptionWhenMinSupportIsGreaterThanOne() {
+        File inputFile = getInputFile(INPUT_FILE_1);
+        DataIterator dataIterator = new DataIterator(inputFile);
+        new LcmModule<NamedItem>().findFrequentItemSets(dataIterator, 1.1);
+    }
+
+}
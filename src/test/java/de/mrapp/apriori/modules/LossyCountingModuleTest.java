@@ -0,0 +1,173 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.modules;
+
+import de.mrapp.apriori.AbstractDataTest;
+import de.mrapp.apriori.DataIterator;
+import de.mrapp.apriori.FrequentItemSets;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.NamedItem;
+import de.mrapp.apriori.TransactionSource;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link LossyCountingModule}.
+ *
+ * @author Michael Rapp
+ */
+public class LossyCountingModuleTest extends AbstractDataTest {
+
+    /**
+     * Returns a source, which provides the transactions of a specific input file.
+     *
+     * @param fileName The file name of the input file as a {@link String}. The file name may
+     *                 neither be null, nor empty
+     * @return The source as an instance of the type {@link TransactionSource}. The source may not
+     * be null
+     */
+    @NotNull
+    private TransactionSource<NamedItem> getSource(@NotNull final String fileName) {
+        return () -> new DataIterator(getInputFile(fileName));
+    }
+
+    /**
+     * Returns the exact supports of all item sets, which are contained by a specific input file,
+     * using their string representations as keys.
+     *
+     * @param fileName The file name of the input file as a {@link String}. The file name may
+     *                 neither be null, nor empty
+     * @return A map, which contains the supports, as an instance of the type {@link Map}
+     */
+    @NotNull
+    private Map<String, Double> getExactSupports(@NotNull final String fileName) {
+        Map<String, Double> supports = new HashMap<>();
+        new FpGrowthModule<NamedItem>().findFrequentItemSets(getSource(fileName), 0).values()
+                .forEach(x -> supports.put(x.toString(), x.getSupport()));
+        return supports;
+    }
+
+    /**
+     * Tests, if the supports are exact, if the error is small enough, compared to the number of
+     * transactions.
+     */
+    @Test
+    public final void testGetFrequentItemSetsWhenSupportsAreExact() {
+        LossyCountingModule<NamedItem> module = new LossyCountingModule<>(0.1);
+        module.addAll(getSource(INPUT_FILE_1));
+        assertEquals(4, module.getTransactionCount());
+        FrequentItemSets<NamedItem> frequentItemSets = module.getFrequentItemSets(0.5);
+        Map<String, Double> supports = new HashMap<>();
+
+        for (ItemSet<NamedItem> itemSet : frequentItemSets) {
+            assertEquals(0, itemSet.getError(), 0);
+            supports.put(itemSet.toString(), itemSet.getSupport());
+        }
+
+        Map<String, Double> expectedSupports = new HashMap<>();
+        new FpGrowthModule<NamedItem>().findFrequentItemSets(getSource(INPUT_FILE_1), 0.5)
+                .values().forEach(x -> expectedSupports.put(x.toString(), x.getSupport()));
+        assertEquals(expectedSupports, supports);
+    }
+
+    /**
+     * Tests, if the approximated supports comply with the error bounds, if the transactions are
+     * processed one by one.
+     */
+    @Test
+    public final void testGetFrequentItemSetsWhenSupportsAreApproximated() {
+        double maxError = 0.25;
+        double minSupport = 0.5;
+        LossyCountingModule<NamedItem> module = new LossyCountingModule<>(maxError, 1);
+        module.addAll(getSource(INPUT_FILE_1));
+        module.addAll(getSource(INPUT_FILE_2));
+        assertEquals(8, module.getTransactionCount());
+        Map<String, Double> exactSupports = new HashMap<>();
+        getExactSupports(INPUT_FILE_1).forEach((key, value) -> exactSupports.put(key, value / 2));
+        getExactSupports(INPUT_FILE_2).forEach((key, value) -> exactSupports.put(key, value / 2));
+        FrequentItemSets<NamedItem> frequentItemSets = module.getFrequentItemSets(minSupport);
+        Map<String, ItemSet<NamedItem>> itemSets = new HashMap<>();
+        frequentItemSets.forEach(x -> itemSets.put(x.toString(), x));
+
+        for (Map.Entry<String, Double> entry : exactSupports.entrySet()) {
+            double exactSupport = entry.getValue();
+            ItemSet<NamedItem> itemSet = itemSets.get(entry.getKey());
+
+            if (exactSupport >= minSupport) {
+                assertNotNull(itemSet);
+            }
+
+            if (itemSet != null) {
+                assertTrue(itemSet.getSupport() <= exactSupport);
+                assertTrue(itemSet.getSupport() + itemSet.getError() >= exactSupport);
+                assertTrue(itemSet.getError() <= maxError);
+                assertTrue(exactSupport >= minSupport - maxError);
+            }
+        }
+
+        assertTrue(exactSupports.keySet().containsAll(itemSets.keySet()));
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if the
+     * maximum error is 0.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionWhenMaxErrorIsZero() {
+        new LossyCountingModule<NamedItem>(0);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if the
+     * maximum error is 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionWhenMaxErrorIsOne() {
+        new LossyCountingModule<NamedItem>(1);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if the
+     * buffer size is less than 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionWhenBufferSizeIsLessThanOne() {
+        new LossyCountingModule<NamedItem>(0.1, 0);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * add a transaction, if the transaction is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testAddThrowsExceptionWhenTransactionIsNull() {
+        new LossyCountingModule<NamedItem>(0.1).add(null);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * retrieve the frequent item sets, if the minimum support is not greater than the maximum
+     * error.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testGetFrequentItemSetsThrowsExceptionWhenMinSupportIsTooSmall() {
+        new LossyCountingModule<NamedItem>(0.1).getFrequentItemSets(0.1);
+    }
+
+}
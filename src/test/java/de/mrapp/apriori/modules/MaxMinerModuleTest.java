@@ -0,0 +1,205 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.modules;
+
+import de.mrapp.apriori.AbstractDataTest;
+import de.mrapp.apriori.DataIterator;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.NamedItem;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
+import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the class {@link MaxMinerModule}.
+ *
+ * @author Michael Rapp
+ */
+public class MaxMinerModuleTest extends AbstractDataTest {
+
+    /**
+     * Tests the functionality of the method, which allows to find maximal frequent item sets, when
+     * using a specific input file.
+     *
+     * @param fileName              The file name of the input file as a {@link String}. The file
+     *                              name may neither be null, nor empty
+     * @param minSupport            The support, which must at least be reached item sets to be
+     *                              considered frequent, as a {@link Double} value
+     * @param actualMaximalItemSets The maximal frequent item sets, which are contained by the input
+     *                              file, as a two-dimensional {@link String} array. The array may
+     *                              not be null
+     * @param actualSupports        The supports of the maximal frequent item sets, which are
+     *                              contained by the input file, as a {@link Double} array. The
+     *                              array may not be null
+     */
+    private void testFindFrequentItemSets(@NotNull final String fileName, final double minSupport,
+                                          @NotNull final String[][] actualMaximalItemSets,
+                                          @NotNull double[] actualSupports) {
+        File inputFile = getInputFile(fileName);
+        DataIterator dataIterator = new DataIterator(inputFile);
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> maximalItemSets =
+                new MaxMinerModule<NamedItem>().findFrequentItemSets(dataIterator, minSupport);
+        Map<String, Double> supports = new HashMap<>();
+
+        for (int i = 0; i < actualMaximalItemSets.length; i++) {
+            supports.put(String.join(",", actualMaximalItemSets[i]), actualSupports[i]);
+        }
+
+        for (Map.Entry<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> entry :
+                maximalItemSets.entrySet()) {
+            ItemSet<NamedItem> itemSet = entry.getValue();
+            StringBuilder key = new StringBuilder();
+
+            for (NamedItem item : itemSet) {
+                key.append(key.length() > 0 ? "," : "").append(item.getName());
+            }
+
+            Double support = supports.get(key.toString());
+            assertNotNull(support);
+            assertEquals(support, itemSet.getSupport(), 0);
+            assertEquals(itemSet, entry.getKey());
+        }
+
+        assertEquals(actualMaximalItemSets.length, maximalItemSets.size());
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to find maximal frequent item sets, when
+     * using the first input file.
+     */
+    @Test
+    public final void testFindFrequentItemSets1() {
+        testFindFrequentItemSets(INPUT_FILE_1, 0.5, MAXIMAL_ITEM_SETS_1, MAXIMAL_SUPPORTS_1);
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to find maximal frequent item sets, when
+     * using the second input file.
+     */
+    @Test
+    public final void testFindFrequentItemSets2() {
+        testFindFrequentItemSets(INPUT_FILE_2, 0.25, MAXIMAL_ITEM_SETS_2, MAXIMAL_SUPPORTS_2);
+    }
+
+    /**
+     * Tests, if all frequent item sets are subsets of the maximal frequent item sets and if no
+     * maximal item set is a subset of another one.
+     */
+    @Test
+    public final void testFrequentItemSetsAreSubsetsOfMaximalItemSets() {
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> frequentItemSets =
+                new FpGrowthModule<NamedItem>()
+                        .findFrequentItemSets(new DataIterator(getInputFile(INPUT_FILE_2)), 0);
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> maximalItemSets =
+                new MaxMinerModule<NamedItem>()
+                        .findFrequentItemSets(new DataIterator(getInputFile(INPUT_FILE_2)), 0);
+
+        for (ItemSet<NamedItem> itemSet : frequentItemSets.values()) {
+            boolean subsumed = false;
+
+            for (ItemSet<NamedItem> maximalItemSet : maximalItemSets.values()) {
+                subsumed |= maximalItemSet.containsAll(itemSet);
+            }
+
+            assertTrue(subsumed);
+        }
+
+        for (ItemSet<NamedItem> maximalItemSet : maximalItemSets.values()) {
+            assertEquals(frequentItemSets.get(maximalItemSet).getSupport(),
+                    maximalItemSet.getSupport(), 0);
+
+            for (ItemSet<NamedItem> other : maximalItemSets.values()) {
+                assertTrue(other == maximalItemSet || !other.containsAll(maximalItemSet));
+            }
+        }
+    }
+
+    /**
+     * Tests, if a long maximal item set is found without enumerating its subsets.
+     */
+    @Test
+    public final void testFindFrequentItemSetsWithLongItemSet() {
+        StringBuilder items = new StringBuilder();
+
+        for (int i = 0; i < 64; i++) {
+            items.append(items.length() > 0 ? " " : "").append("item").append(i);
+        }
+
+        List<Transaction<NamedItem>> transactions = Arrays.asList(
+                new DataIterator.TransactionImplementation(items.toString()),
+                new DataIterator.TransactionImplementation(items + " a"),
+                new DataIterator.TransactionImplementation(items + " b"),
+                new DataIterator.TransactionImplementation("a b"));
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> maximalItemSets =
+                new MaxMinerModule<NamedItem>()
+                        .findFrequentItemSets(TransactionSource.of(transactions), 0.5);
+        Map<Integer, Double> supports = new HashMap<>();
+
+        for (ItemSet<NamedItem> itemSet : maximalItemSets.values()) {
+            supports.put(itemSet.size(), itemSet.getSupport());
+        }
+
+        assertEquals(3, maximalItemSets.size());
+        assertEquals(0.75, supports.get(64), 0);
+        assertEquals(0.5, supports.get(1), 0);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * find maximal frequent item sets, if the iterator, which is passed as a parameter, is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testFindFrequentItemSetsThrowsExceptionWhenIteratorIsNull() {
+        new MaxMinerModule<NamedItem>().findFrequentItemSets(
+                (Iterator<Transaction<NamedItem>>) null, 0.5);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * find maximal frequent item sets, if the minimum support, which is passed as a parameter, is
+     * less than 0.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testFindFrequentItemSetsThrowsExceptionWhenMinSupportIsLessThanZero() {
+        File inputFile = getInputFile(INPUT_FILE_1);
+        DataIterator dataIterator = new DataIterator(inputFile);
+        new MaxMinerModule<NamedItem>().findFrequentItemSets(dataIterator, -0.1);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * find maximal frequent item sets, if the minimum support, which is passed as a parameter, is
+     * greater than 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testFindFrequentItemSetsThrowsExceptionWhenMinSupportIsGreaterThanOne() {
+        File inputFile = getInputFile(INPUT_FILE_1);
+        DataIterator dataIterator = new DataIterator(inputFile);
+        new MaxMinerModule<NamedItem>().findFrequentItemSets(dataIterator, 1.1);
+    }
+
+}
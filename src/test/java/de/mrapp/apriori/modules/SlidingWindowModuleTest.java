@@ -0,0 +1,196 @@
+/*
+ * Copyright 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.apriori.modules;
+
+import de.mrapp.apriori.AbstractDataTest;
+import de.mrapp.apriori.AssociationRule;
+import de.mrapp.apriori.DataIterator;
+import de.mrapp.apriori.ItemSet;
+import de.mrapp.apriori.NamedItem;
+import de.mrapp.apriori.RuleSet;
+import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the class {@link SlidingWindowModule}.
+ *
+ * @author Michael Rapp
+ */
+public class SlidingWindowModuleTest extends AbstractDataTest {
+
+    /**
+     * Adds the transactions of a specific input file to a sliding window.
+     *
+     * @param module    The module, which maintains the sliding window, as an instance of the class
+     *                  {@link SlidingWindowModule}. The module may not be null
+     * @param fileName  The file name of the input file as a {@link String}. The file name may
+     *                  neither be null, nor empty
+     * @param timestamp The timestamp, which should be used for all transactions, as a {@link
+     *                  Long} value
+     */
+    private void add(@NotNull final SlidingWindowModule<NamedItem> module,
+                     @NotNull final String fileName, final long timestamp) {
+        DataIterator iterator = new DataIterator(getInputFile(fileName));
+        Transaction<NamedItem> transaction;
+
+        while ((transaction = iterator.next()) != null) {
+            module.add(transaction, timestamp);
+        }
+    }
+
+    /**
+     * Returns the supports of specific item sets, using their string representations as keys.
+     *
+     * @param itemSets A collection, which contains the item sets, as an instance of the type {@link
+     *                 Collection}. The collection may not be null
+     * @return A map, which contains the supports of the item sets, as an instance of the type
+     * {@link Map}
+     */
+    private Map<String, Double> getSupports(
+            @NotNull final Collection<? extends ItemSet<NamedItem>> itemSets) {
+        Map<String, Double> supports = new HashMap<>();
+        itemSets.forEach(x -> supports.put(x.toString(), x.getSupport()));
+        return supports;
+    }
+
+    /**
+     * Returns the supports of the frequent item sets, which are contained by a specific input
+     * file.
+     *
+     * @param fileName   The file name of the input file as a {@link String}. The file name may
+     *                   neither be null, nor empty
+     * @param minSupport The minimum support as a {@link Double} value
+     * @return A map, which contains the supports of the frequent item sets, as an instance of the
+     * type {@link Map}
+     */
+    private Map<String, Double> getExpectedSupports(@NotNull final String fileName,
+                                                    final double minSupport) {
+        return getSupports(new FpGrowthModule<NamedItem>()
+                .findFrequentItemSets(new DataIterator(getInputFile(fileName)), minSupport)
+                .values());
+    }
+
+    /**
+     * Tests, if the frequent item sets are updated, when the window slides over the transactions
+     * of two input files, if the window contains a specific number of transactions.
+     */
+    @Test
+    public final void testGetFrequentItemSetsWhenWindowSizeIsRestricted() {
+        SlidingWindowModule<NamedItem> module = new SlidingWindowModule<>(0.25, 4, 0);
+        assertTrue(module.getFrequentItemSets().isEmpty());
+        add(module, INPUT_FILE_1, 0);
+        assertEquals(4, module.getTransactionCount());
+        assertEquals(getExpectedSupports(INPUT_FILE_1, 0.25),
+                getSupports(module.getFrequentItemSets()));
+        add(module, INPUT_FILE_2, 0);
+        assertEquals(4, module.getTransactionCount());
+        assertEquals(getExpectedSupports(INPUT_FILE_2, 0.25),
+                getSupports(module.getFrequentItemSets()));
+    }
+
+    /**
+     * Tests, if transactions are removed from the window, once they have become too old, if the
+     * window covers a specific period of time.
+     */
+    @Test
+    public final void testGetFrequentItemSetsWhenWindowDurationIsRestricted() {
+        SlidingWindowModule<NamedItem> module = new SlidingWindowModule<>(0.375, 0, 1000);
+        add(module, INPUT_FILE_1, 0);
+        add(module, INPUT_FILE_2, 500);
+        assertEquals(8, module.getTransactionCount());
+        Map<String, Double> supports = getSupports(module.getFrequentItemSets());
+        assertEquals(0.375, supports.get("[coffee]"), 0);
+        assertEquals(0.375, supports.get("[chips]"), 0);
+        assertEquals(0.375, supports.get("[coffee, milk]"), 0);
+        module.expire(1000);
+        assertEquals(4, module.getTransactionCount());
+        assertEquals(getExpectedSupports(INPUT_FILE_2, 0.375),
+                getSupports(module.getFrequentItemSets()));
+        module.expire(1500);
+        assertEquals(0, module.getTransactionCount());
+        assertTrue(module.getFrequentItemSets().isEmpty());
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to generate association rules from the
+     * frequent item sets of the window.
+     */
+    @Test
+    public final void testGetRuleSet() {
+        SlidingWindowModule<NamedItem> module = new SlidingWindowModule<>(0.25, 4, 0);
+        add(module, INPUT_FILE_1, 0);
+        add(module, INPUT_FILE_2, 0);
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> frequentItemSets =
+                new FpGrowthModule<NamedItem>()
+                        .findFrequentItemSets(new DataIterator(getInputFile(INPUT_FILE_2)), 0.25);
+        RuleSet<NamedItem> expectedRuleSet = new AssociationRuleGeneratorModule<NamedItem>()
+                .generateAssociationRules(frequentItemSets, 0.75);
+        Set<String> expectedRules = new HashSet<>();
+        Set<String> rules = new HashSet<>();
+        expectedRuleSet.forEach(x -> expectedRules.add(x.toString()));
+
+        for (AssociationRule<NamedItem> rule : module.getRuleSet(0.75)) {
+            rules.add(rule.toString());
+        }
+
+        assertEquals(3, expectedRules.size());
+        assertEquals(expectedRules, rules);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if neither
+     * the window size, nor the window duration is restricted.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionWhenWindowIsNotRestricted() {
+        new SlidingWindowModule<NamedItem>(0.5, 0, 0);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if the
+     * minimum support is greater than 1.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionWhenMinSupportIsGreaterThanOne() {
+        new SlidingWindowModule<NamedItem>(1.1, 4, 0);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * add a transaction, if the timestamp is less than the timestamp of the previous transaction.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testAddThrowsExceptionWhenTimestampIsDecreasing() {
+        SlidingWindowModule<NamedItem> module = new SlidingWindowModule<>(0.5, 4, 0);
+        module.add(new DataIterator.TransactionImplementation("a b"), 2);
+        module.add(new DataIterator.TransactionImplementation("a c"), 1);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * add a transaction, if the transaction is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testAddThrowsExceptionWhenTransactionIsNull() {
+        new SlidingWindowModule<NamedItem>(0.5, 4, 0).add(null, 0);
+    }
+
+}
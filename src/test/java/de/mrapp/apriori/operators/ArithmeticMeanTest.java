@@ -15,9 +15,14 @@ package de.mrapp.apriori.operators;
 
 import de.mrapp.apriori.AssociationRule;
 import de.mrapp.apriori.Metric;
+import de.mrapp.apriori.metrics.Confidence;
+import de.mrapp.apriori.metrics.Conviction;
+import de.mrapp.apriori.metrics.Leverage;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -87,4 +92,15 @@ public class ArithmeticMeanTest {
         new ArithmeticMean().evaluate(mock(AssociationRule.class));
     }
 
-}
\ No newline at end of file
+    /**
+     * Tests the functionality of the method, which allows to check, whether the operator is
+     * anti-monotone.
+     */
+    @Test
+    public final void testIsAntiMonotone() {
+        assertTrue(new ArithmeticMean().add(new Confidence()).add(new Leverage()).isAntiMonotone());
+        assertFalse(
+                new ArithmeticMean().add(new Confidence()).add(new Conviction()).isAntiMonotone());
+    }
+
+}
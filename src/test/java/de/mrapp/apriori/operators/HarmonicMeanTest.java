@@ -15,9 +15,15 @@ package de.mrapp.apriori.operators;
 
 import de.mrapp.apriori.AssociationRule;
 import de.mrapp.apriori.Metric;
+import de.mrapp.apriori.metrics.Confidence;
+import de.mrapp.apriori.metrics.Conviction;
+import de.mrapp.apriori.metrics.Leverage;
+import de.mrapp.apriori.metrics.Lift;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -87,4 +93,16 @@ public class HarmonicMeanTest {
         new HarmonicMean().evaluate(mock(AssociationRule.class));
     }
 
+    /**
+     * Tests the functionality of the method, which allows to check, whether the operator is
+     * anti-monotone.
+     */
+    @Test
+    public final void testIsAntiMonotone() {
+        assertTrue(new HarmonicMean().add(new Confidence()).add(new Lift()).isAntiMonotone());
+        assertFalse(new HarmonicMean().add(new Confidence()).add(new Leverage()).isAntiMonotone());
+        assertFalse(
+                new HarmonicMean().add(new Confidence()).add(new Conviction()).isAntiMonotone());
+    }
+
 }
@@ -16,9 +16,12 @@ package de.mrapp.apriori.tasks;
 import de.mrapp.apriori.Apriori.Configuration;
 import de.mrapp.apriori.ItemSet;
 import de.mrapp.apriori.NamedItem;
+import de.mrapp.apriori.Operator;
 import de.mrapp.apriori.RuleSet;
+import de.mrapp.apriori.metrics.Lift;
 import de.mrapp.apriori.modules.AssociationRuleGenerator;
 import de.mrapp.apriori.modules.AssociationRuleGeneratorModule;
+import de.mrapp.apriori.modules.TopKAssociationRuleGenerator;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Test;
 
@@ -28,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -53,8 +57,8 @@ public class AssociationRuleGeneratorTaskTest {
         @NotNull
         @Override
         public RuleSet<NamedItem> generateAssociationRules(
-                @NotNull final Map<Integer, ? extends ItemSet<NamedItem>> frequentItemSets,
-                final double minConfidence) {
+                @NotNull final Map<? extends ItemSet<NamedItem>, ? extends ItemSet<NamedItem>>
+                        frequentItemSets, final double minConfidence) {
             minConfidences.add(minConfidence);
             return new RuleSet<>(null);
         }
@@ -117,6 +121,32 @@ public class AssociationRuleGeneratorTaskTest {
         }
     }
 
+    /**
+     * Tests, if a specific number of association rules is generated in a single run by using the
+     * configured operator, if a generator, which supports this, is available.
+     */
+    @Test
+    public final void testGenerateAssociationRulesInSingleRun() {
+        double minConfidence = 0.5;
+        Operator operator = new Lift();
+        Configuration configuration = mock(Configuration.class);
+        when(configuration.getRuleCount()).thenReturn(3);
+        when(configuration.getMinConfidence()).thenReturn(minConfidence);
+        when(configuration.getRuleOperator()).thenReturn(operator);
+        AssociationRuleGeneratorMock associationRuleGeneratorMock = new AssociationRuleGeneratorMock();
+        TopKAssociationRuleGenerator<NamedItem> topKAssociationRuleGenerator =
+                (frequentItemSets, k, ruleOperator, minConf) -> {
+                    assertEquals(3, k);
+                    assertEquals(operator, ruleOperator);
+                    assertEquals(minConfidence, minConf, 0);
+                    return new RuleSet<>(null);
+                };
+        AssociationRuleGeneratorTask<NamedItem> associationRuleGeneratorTask = new AssociationRuleGeneratorTask<>(
+                configuration, associationRuleGeneratorMock, topKAssociationRuleGenerator);
+        associationRuleGeneratorTask.generateAssociationRules(new HashMap<>());
+        assertTrue(associationRuleGeneratorMock.minConfidences.isEmpty());
+    }
+
     /**
      * Tests the functionality of the method, which allows to generate a specific number of
      * association rules, if no specific number of association rules should be found.
@@ -14,13 +14,18 @@
 package de.mrapp.apriori.tasks;
 
 import de.mrapp.apriori.AbstractDataTest;
+import de.mrapp.apriori.Apriori;
 import de.mrapp.apriori.Apriori.Configuration;
 import de.mrapp.apriori.DataIterator;
+import de.mrapp.apriori.ItemSet;
 import de.mrapp.apriori.NamedItem;
 import de.mrapp.apriori.Transaction;
+import de.mrapp.apriori.TransactionSource;
 import de.mrapp.apriori.datastructure.TransactionalItemSet;
+import de.mrapp.apriori.modules.FpGrowthModule;
 import de.mrapp.apriori.modules.FrequentItemSetMiner;
 import de.mrapp.apriori.modules.FrequentItemSetMinerModule;
+import de.mrapp.apriori.modules.FupModule;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Test;
 
@@ -28,6 +33,7 @@ import java.io.File;
 import java.util.*;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -49,11 +55,25 @@ public class FrequentItemSetMinerTaskTest extends AbstractDataTest {
          */
         private final List<Double> minSupports = new LinkedList<>();
 
+        /**
+         * A list, which contains the number of transactions, which have been traversed when
+         * invoking the {@link FrequentItemSetMinerMock#findFrequentItemSets(Iterator, double)}
+         * method.
+         */
+        private final List<Integer> transactionCounts = new LinkedList<>();
+
         @NotNull
         @Override
-        public Map<Integer, TransactionalItemSet<NamedItem>> findFrequentItemSets(
+        public Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> findFrequentItemSets(
                 @NotNull final Iterator<Transaction<NamedItem>> iterator, final double minSupport) {
             minSupports.add(minSupport);
+            int transactionCount = 0;
+
+            while (iterator.next() != null) {
+                transactionCount++;
+            }
+
+            transactionCounts.add(transactionCount);
             return new HashMap<>();
         }
 
@@ -88,6 +108,28 @@ public class FrequentItemSetMinerTaskTest extends AbstractDataTest {
         new FrequentItemSetMinerTask<>(mock(Configuration.class), null);
     }
 
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, which expects
+     * a FUP module as a parameter, if the module is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorWithFupModuleParameterThrowsExceptionWhenFupModuleIsNull() {
+        new FrequentItemSetMinerTask<>(mock(Configuration.class),
+                new FrequentItemSetMinerModule<NamedItem>(), null, null);
+    }
+
+    /**
+     * Tests, if the FUP module, which is passed to the constructor, is used by the task.
+     */
+    @Test
+    public final void testConstructorWithFupModuleParameter() {
+        FupModule<NamedItem> fupModule = new FupModule<>();
+        FrequentItemSetMinerTask<NamedItem> frequentItemSetMinerTask =
+                new FrequentItemSetMinerTask<>(new Apriori.Builder<NamedItem>(0.5).create()
+                        .getConfiguration(), new FrequentItemSetMinerModule<>(), null, fupModule);
+        assertSame(fupModule, frequentItemSetMinerTask.getFupModule());
+    }
+
     /**
      * Tests the functionality of the method, which allows to find a specific number of frequent
      * item sets.
@@ -137,4 +179,58 @@ public class FrequentItemSetMinerTaskTest extends AbstractDataTest {
         assertEquals(minSupport, frequentItemSetMinerMock.minSupports.get(0), 0);
     }
 
-}
\ No newline at end of file
+    /**
+     * Ensures, that all transactions are passed to the frequent item set miner once per support
+     * step, even if they are provided by an iterator, which can only be traversed once.
+     */
+    @Test
+    public final void testFindFrequentItemSetsTraversesAllTransactionsPerSupportStep() {
+        Configuration configuration = mock(Configuration.class);
+        when(configuration.getFrequentItemSetCount()).thenReturn(1);
+        when(configuration.getMinSupport()).thenReturn(0.5);
+        when(configuration.getMaxSupport()).thenReturn(0.8);
+        when(configuration.getSupportDelta()).thenReturn(0.1);
+        FrequentItemSetMinerMock frequentItemSetMinerMock = new FrequentItemSetMinerMock();
+        FrequentItemSetMinerTask<NamedItem> frequentItemSetMinerTask = new FrequentItemSetMinerTask<>(
+                configuration, frequentItemSetMinerMock);
+        DataIterator dataIterator = new DataIterator(getInputFile(INPUT_FILE_1));
+        List<Transaction<NamedItem>> transactions = new ArrayList<>();
+        Transaction<NamedItem> transaction;
+
+        while ((transaction = dataIterator.next()) != null) {
+            transactions.add(transaction);
+        }
+
+        Iterator<Transaction<NamedItem>> iterator = TransactionSource.of(transactions).open();
+        frequentItemSetMinerTask.findFrequentItemSets(iterator);
+        assertEquals(4, frequentItemSetMinerMock.transactionCounts.size());
+
+        for (int transactionCount : frequentItemSetMinerMock.transactionCounts) {
+            assertEquals(transactions.size(), transactionCount);
+        }
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to find a specific number of frequent
+     * item sets, if the frequent item set miner is able to find them in a single run.
+     */
+    @Test
+    public final void testFindFrequentItemSetsInSingleRun() {
+        Configuration configuration = mock(Configuration.class);
+        when(configuration.getFrequentItemSetCount()).thenReturn(3);
+        when(configuration.getMinSupport()).thenReturn(0.0);
+        when(configuration.getMaxSupport()).thenReturn(1.0);
+        when(configuration.getSupportDelta()).thenReturn(0.1);
+        FrequentItemSetMinerTask<NamedItem> frequentItemSetMinerTask = new FrequentItemSetMinerTask<>(
+                configuration, new FpGrowthModule<>());
+        DataIterator dataIterator = new DataIterator(getInputFile(INPUT_FILE_1));
+        Map<ItemSet<NamedItem>, TransactionalItemSet<NamedItem>> frequentItemSets =
+                frequentItemSetMinerTask.findFrequentItemSets(dataIterator);
+        assertEquals(3, frequentItemSets.size());
+
+        for (TransactionalItemSet<NamedItem> itemSet : frequentItemSets.values()) {
+            assertEquals(0.75, itemSet.getSupport(), 0);
+        }
+    }
+
+}